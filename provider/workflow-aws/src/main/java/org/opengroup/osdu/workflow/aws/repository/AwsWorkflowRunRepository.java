@@ -17,6 +17,8 @@
 package org.opengroup.osdu.workflow.aws.repository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,8 +34,11 @@ import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.aws.config.AwsServiceConfig;
 import org.opengroup.osdu.workflow.aws.util.dynamodb.converters.WorkflowRunDoc;
 import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -53,17 +58,24 @@ public class AwsWorkflowRunRepository implements IWorkflowRunRepository {
 
     private static final String WORKFLOWRUN_HASHKEY = "runId";
     private static final String GSI_INDEX_NAME = "workflowName-tenant-index";
+    // Separates the workflow being read from the index cursor in an active runs cursor
+    private static final String ACTIVE_RUNS_CURSOR_SEPARATOR = "|";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    // BatchWriteItem accepts at most 25 requests per call
+    private static final int BATCH_WRITE_LIMIT = 25;
 
     private final AwsServiceConfig config;
     private final DpsHeaders headers;
     private final DynamoDBQueryHelper<WorkflowRunDoc> queryHelper;
+    private final IWorkflowMetadataRepository workflowMetadataRepository;
 
     @Autowired
     public AwsWorkflowRunRepository(
             IDynamoDBQueryHelperFactory queryHelperFactory,
             @Value("${aws.dynamodb.workflowRunTable.ssm.relativePath}") String workflowRunTableParameterRelativePath,
-            DpsHeaders headers, AwsServiceConfig config) {
+            DpsHeaders headers, AwsServiceConfig config, IWorkflowMetadataRepository workflowMetadataRepository) {
         this.headers = headers;
+        this.workflowMetadataRepository = workflowMetadataRepository;
         this.queryHelper = queryHelperFactory.createQueryHelper(
                 headers,
                 workflowRunTableParameterRelativePath,
@@ -115,6 +127,28 @@ public class AwsWorkflowRunRepository implements IWorkflowRunRepository {
         return docOptional.get().convertToWorkflowRun();
     }
 
+    @Override
+    public List<WorkflowRun> getWorkflowRuns(String workflowName, List<String> runIds) {
+        String dataPartitionId = headers.getPartitionIdWithFallbackToAccountId();
+        List<WorkflowRun> runs = new ArrayList<>();
+
+        // Single read per distinct run id through the query helper, which has no batch read;
+        // runs belonging to another workflow are reported as missing
+        try {
+            for (String runId : new LinkedHashSet<>(runIds)) {
+                queryHelper.getItem(runId, dataPartitionId)
+                        .filter(doc -> workflowName.equals(doc.getWorkflowName()))
+                        .map(WorkflowRunDoc::convertToWorkflowRun)
+                        .ifPresent(runs::add);
+            }
+        } catch (DynamoDbException e) {
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                    "Failed to get workflow runs");
+        }
+
+        return runs;
+    }
 
     @Override
     public WorkflowRunsPage getWorkflowRunsByWorkflowName(String workflowName, Integer limit, String cursor) {
@@ -161,13 +195,91 @@ public class AwsWorkflowRunRepository implements IWorkflowRunRepository {
                                .build();
     }
 
+    @Override
+    public WorkflowRunsPage getActiveWorkflowRuns(Integer limit, String cursor) {
+        String dataPartitionId = headers.getPartitionIdWithFallbackToAccountId();
+        List<WorkflowStatusType> activeStatuses = WorkflowStatusType.getActiveStatusTypes();
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+
+        // Runs are indexed by workflow name and partition only, so the workflows of the partition
+        // are queried one after another and their active runs kept. The cursor names the workflow
+        // being read and the index cursor within it.
+        List<String> workflowNames = workflowMetadataRepository.getAllWorkflowForTenant(null).stream()
+                .map(WorkflowMetadata::getWorkflowName)
+                .distinct()
+                .sorted()
+                .toList();
+        int workflowIndex = 0;
+        String workflowCursor = null;
+        if (cursor != null) {
+            int separator = cursor.indexOf(ACTIVE_RUNS_CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new AppException(HttpStatus.BAD_REQUEST.value(),
+                                       HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                                       "Invalid cursor for active workflow runs");
+            }
+            workflowIndex = Collections.binarySearch(workflowNames, cursor.substring(0, separator));
+            if (workflowIndex < 0) {
+                // The workflow was deleted since the previous page, go on with the next one
+                workflowIndex = -workflowIndex - 1;
+            } else {
+                String indexCursor = cursor.substring(separator + ACTIVE_RUNS_CURSOR_SEPARATOR.length());
+                workflowCursor = indexCursor.isEmpty() ? null : indexCursor;
+            }
+        }
+
+        List<WorkflowRun> items = new ArrayList<>();
+        try {
+            while (workflowIndex < workflowNames.size() && items.size() < pageSize) {
+                WorkflowRunDoc queryDoc = WorkflowRunDoc.builder()
+                                                        .workflowName(workflowNames.get(workflowIndex))
+                                                        .dataPartitionId(dataPartitionId)
+                                                        .build();
+                GsiQueryRequest<WorkflowRunDoc> queryRequest =
+                    RequestBuilderUtil.QueryRequestBuilder.forQuery(queryDoc, GSI_INDEX_NAME, WorkflowRunDoc.class)
+                        .limit(pageSize - items.size())
+                        .cursor(workflowCursor)
+                        .buildGsiRequest();
+                QueryPageResult<WorkflowRunDoc> result = queryHelper.queryByGSI(queryRequest);
+
+                if (result.getItems() != null) {
+                    result.getItems().stream()
+                          .filter(doc -> activeStatuses.contains(doc.getStatus()))
+                          .map(WorkflowRunDoc::convertToWorkflowRun)
+                          .forEach(items::add);
+                }
+                workflowCursor = result.getNextCursor();
+                if (workflowCursor == null) {
+                    workflowIndex++;
+                }
+            }
+        } catch (IllegalArgumentException | DynamoDbException e) {
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                   HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                                   "Failed to query active workflow runs");
+        }
+
+        String nextCursor = workflowIndex < workflowNames.size()
+                ? workflowNames.get(workflowIndex) + ACTIVE_RUNS_CURSOR_SEPARATOR
+                        + (workflowCursor == null ? "" : workflowCursor)
+                : null;
+        return WorkflowRunsPage.builder()
+                               .cursor(nextCursor)
+                               .items(items)
+                               .build();
+    }
+
     @Override
     public void deleteWorkflowRuns(String workflowName, List<String> runIds) {
         String dataPartitionId = headers.getPartitionIdWithFallbackToAccountId();
 
         try {
-            for (String runId : runIds) {
-                queryHelper.deleteItem(runId, dataPartitionId);
+            for (int from = 0; from < runIds.size(); from += BATCH_WRITE_LIMIT) {
+                List<WorkflowRunDoc> batch = new ArrayList<>();
+                for (String runId : runIds.subList(from, Math.min(from + BATCH_WRITE_LIMIT, runIds.size()))) {
+                    batch.add(WorkflowRunDoc.builder().runId(runId).dataPartitionId(dataPartitionId).build());
+                }
+                queryHelper.batchDelete(batch);
             }
         } catch (DynamoDbException e) {
             throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -22,13 +22,15 @@ import jakarta.inject.Inject;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.MediaType;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
 
-import org.json.JSONObject;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.aws.config.AwsAirflowApiMode;
@@ -42,6 +44,7 @@ import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
@@ -83,7 +86,8 @@ public class AwsWorkflowEngineServiceImpl implements IWorkflowEngineService {
   @Inject
   private WorkflowRequestBodyFactory workflowRequestBodyFactory;
 
-  final ObjectMapper objectMapper = new ObjectMapper();
+  // the service is request scoped, so the mapper is shared rather than created per request
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   @Inject
   AwsWorkflowRunRepository awsWorkflowRunRepository;
@@ -131,8 +135,8 @@ public class AwsWorkflowEngineServiceImpl implements IWorkflowEngineService {
           case AwsAirflowApiMode.HTTP:
             ClientResponse clientResp = triggerWorkflowUsingApi(runId, workflowId, workflowName, inputData);
             try {
-              resp = objectMapper
-              .readValue(clientResp.getEntity(String.class), TriggerWorkflowResponse.class);
+              resp = AirflowResponseReaders.read(clientResp.getEntityInputStream(),
+                  AirflowResponseReaders.TRIGGER_WORKFLOW_RESPONSE::readValue);
             }
             catch (Exception e) {
               throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), "Failure parsing Airflow response");
@@ -183,13 +187,20 @@ public class AwsWorkflowEngineServiceImpl implements IWorkflowEngineService {
       String workflowName, final Map<String, Object> inputData) {
     String triggerDAGEndpoint = String.format("api/experimental/dags/%s/dag_runs", workflowName);
 
-    JSONObject requestBody = new JSONObject();
+    ObjectNode requestBody = OBJECT_MAPPER.createObjectNode();
     requestBody.put(AirflowConstants.RUN_ID_PARAMETER_NAME, runId);
-    JSONObject inputDataJson = new JSONObject(inputData);
-    requestBody.put(AirflowConstants.AIRFLOW_PAYLOAD_PARAMETER_NAME, inputDataJson);
+    requestBody.putPOJO(AirflowConstants.AIRFLOW_PAYLOAD_PARAMETER_NAME, inputData);
     requestBody.put(AirflowConstants.AIRFLOW_MICROSECONDS_FLAG, "false");
 
-    return callAirflowApi(triggerDAGEndpoint, HttpMethod.POST, requestBody.toString(),
+    String serializedBody;
+    try {
+      serializedBody = OBJECT_MAPPER.writeValueAsString(requestBody);
+    } catch (JsonProcessingException e) {
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+          HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), "Unable to serialize trigger request body", e);
+    }
+
+    return callAirflowApi(triggerDAGEndpoint, HttpMethod.POST, serializedBody,
         String.format(AirflowConstants.AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE, workflowId, workflowName));
   }
 
@@ -221,12 +232,20 @@ public class AwsWorkflowEngineServiceImpl implements IWorkflowEngineService {
     return null;
   }
 
+  // The execution context arrives as a JSON tree. Its top level fields are copied into a new
+  // node so the caller's tree is left untouched; nested values are shared, not copied.
   private void addUserIdToExecutionContext(Map<String, Object> inputData) {
-    ObjectMapper objMapper = new ObjectMapper();
-    Map<String, Object> executionContext = objMapper.convertValue(inputData.get("execution_context"), Map.class);
-    Object userId = dpsHeaders.getUserId();
+    Object context = inputData.get("execution_context");
+    JsonNode contextNode = context instanceof JsonNode
+        ? (JsonNode) context
+        : OBJECT_MAPPER.valueToTree(context);
+    if (contextNode == null || !contextNode.isObject()) {
+      throw new AppException(HttpStatus.BAD_REQUEST.value(),
+          HttpStatus.BAD_REQUEST.getReasonPhrase(), "execution_context must be a JSON object");
+    }
+    ObjectNode executionContext = OBJECT_MAPPER.createObjectNode().setAll((ObjectNode) contextNode);
 
-    executionContext.put("userId", userId);
+    executionContext.put("userId", dpsHeaders.getUserId());
     inputData.put("execution_context", executionContext);
   }
 }
@@ -47,6 +47,9 @@ public class WorkflowRunDoc {
     private WorkflowStatusType status;
     private String submittedBy;
     private String workflowEngineExecutionDate;
+    private Long lastStatusCheckTimestamp;
+    private Long statusCallbackTimestamp;
+    private Boolean dispatchPending;
 
     @DynamoDbPartitionKey
     @DynamoDbAttribute("runId")
@@ -97,6 +100,21 @@ public class WorkflowRunDoc {
         return workflowEngineExecutionDate;
     }
 
+    @DynamoDbAttribute("lastStatusCheckTimestamp")
+    public Long getLastStatusCheckTimestamp() {
+        return lastStatusCheckTimestamp;
+    }
+
+    @DynamoDbAttribute("statusCallbackTimestamp")
+    public Long getStatusCallbackTimestamp() {
+        return statusCallbackTimestamp;
+    }
+
+    @DynamoDbAttribute("dispatchPending")
+    public Boolean getDispatchPending() {
+        return dispatchPending;
+    }
+
     public static WorkflowRunDoc create(WorkflowRun workflowRun, String dataPartitionId) {
         return WorkflowRunDoc.builder()
             .runId(workflowRun.getRunId())    
@@ -108,6 +126,9 @@ public class WorkflowRunDoc {
             .status(workflowRun.getStatus())
             .submittedBy(workflowRun.getSubmittedBy())
             .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
+            .lastStatusCheckTimestamp(workflowRun.getLastStatusCheckTimestamp())
+            .statusCallbackTimestamp(workflowRun.getStatusCallbackTimestamp())
+            .dispatchPending(workflowRun.getDispatchPending())
             .build();
 
     }
@@ -122,6 +143,9 @@ public class WorkflowRunDoc {
             .status(status)
             .submittedBy(submittedBy)
             .workflowEngineExecutionDate(workflowEngineExecutionDate)
+            .lastStatusCheckTimestamp(lastStatusCheckTimestamp)
+            .statusCallbackTimestamp(statusCallbackTimestamp)
+            .dispatchPending(dispatchPending)
             .build();
     }
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -41,10 +42,13 @@ import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.aws.config.AwsServiceConfig;
 import org.opengroup.osdu.workflow.aws.util.dynamodb.converters.WorkflowRunDoc;
 import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
 
 
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
@@ -76,6 +80,9 @@ class AwsWorkflowRunRepositoryTest {
     @Mock
     private AwsServiceConfig awsServiceConfig;
 
+    @Mock
+    private IWorkflowMetadataRepository workflowMetadataRepository;
+
     @BeforeEach
     void setup() {
         when(headers.getPartitionIdWithFallbackToAccountId()).thenReturn(PARTITION);
@@ -83,7 +90,8 @@ class AwsWorkflowRunRepositoryTest {
                 headers, TABLEPARAMETERPATH, WorkflowRunDoc.class))
                 .thenReturn(queryHelper);
         
-        repo = new AwsWorkflowRunRepository(queryHelperFactory, TABLEPARAMETERPATH, headers, awsServiceConfig);
+        repo = new AwsWorkflowRunRepository(queryHelperFactory, TABLEPARAMETERPATH, headers, awsServiceConfig,
+                workflowMetadataRepository);
     }
 
 
@@ -129,7 +137,7 @@ class AwsWorkflowRunRepositoryTest {
     @Test
     void testGetWorkflowRun() {
         WorkflowRunDoc doc = new WorkflowRunDoc(RUNID, PARTITION, WORKFLOWNAME, WORKFLOWNAME,
-                                                1L, 1L, null, "", "");
+                                                1L, 1L, null, "", "", 1L, null, null);
 
         Mockito.when(queryHelper.getItem(any(), any()))
                .thenReturn(Optional.of(doc));
@@ -170,6 +178,43 @@ class AwsWorkflowRunRepositoryTest {
     }
 
 
+    @Test
+    void testGetWorkflowRunsSkipsMissingAndForeignRuns() {
+        WorkflowRunDoc doc = new WorkflowRunDoc(RUNID, PARTITION, WORKFLOWNAME, WORKFLOWNAME,
+                                                1L, 1L, null, "", "", 1L, null, null);
+        WorkflowRunDoc foreignDoc = new WorkflowRunDoc("foreignRunId", PARTITION, "otherWorkflow", "otherWorkflow",
+                                                1L, 1L, null, "", "", 1L, null, null);
+
+        when(queryHelper.getItem(Mockito.eq(RUNID), Mockito.eq(PARTITION))).thenReturn(Optional.of(doc));
+        when(queryHelper.getItem(Mockito.eq("foreignRunId"), Mockito.eq(PARTITION))).thenReturn(Optional.of(foreignDoc));
+        when(queryHelper.getItem(Mockito.eq("missingRunId"), Mockito.eq(PARTITION))).thenReturn(Optional.empty());
+
+        List<WorkflowRun> result = repo.getWorkflowRuns(WORKFLOWNAME, List.of(RUNID, "foreignRunId", "missingRunId"));
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(RUNID, result.get(0).getRunId());
+    }
+
+    @Test
+    void testGetWorkflowRunsReadsDuplicateRunIdOnce() {
+        WorkflowRunDoc doc = new WorkflowRunDoc(RUNID, PARTITION, WORKFLOWNAME, WORKFLOWNAME,
+                                                1L, 1L, null, "", "", 1L, null, null);
+        when(queryHelper.getItem(Mockito.eq(RUNID), Mockito.eq(PARTITION))).thenReturn(Optional.of(doc));
+
+        List<WorkflowRun> result = repo.getWorkflowRuns(WORKFLOWNAME, List.of(RUNID, RUNID));
+
+        Assertions.assertEquals(1, result.size());
+        verify(queryHelper, times(1)).getItem(RUNID, PARTITION);
+    }
+
+    @Test
+    void testGetWorkflowRunsException() {
+        when(queryHelper.getItem(anyString(), anyString()))
+                .thenThrow(DynamoDbException.builder().message("failed").build());
+
+        Assertions.assertThrows(AppException.class, () -> repo.getWorkflowRuns(WORKFLOWNAME, List.of(RUNID)));
+    }
+
     @Test
     void testGetWorkflowRunsByWorkflowName() {
         QueryPageResult<WorkflowRunDoc> result = mock(QueryPageResult.class);
@@ -213,17 +258,104 @@ class AwsWorkflowRunRepositoryTest {
     @Test
     void testDeleteWorkflowRuns() {
         List<String> list = new ArrayList<>();
-        list.add("id1");
-        list.add("id2");
+        for (int i = 0; i < 30; i++) {
+            list.add("id" + i);
+        }
+        ArgumentCaptor<List<WorkflowRunDoc>> batchCaptor = ArgumentCaptor.forClass(List.class);
 
         repo.deleteWorkflowRuns(WORKFLOWNAME, list);
 
-        verify(queryHelper, times(2)).deleteItem(anyString(), Mockito.eq(PARTITION));
+        verify(queryHelper, times(2)).batchDelete(batchCaptor.capture());
+        verify(queryHelper, times(0)).deleteItem(anyString(), any());
+        Assertions.assertEquals(25, batchCaptor.getAllValues().get(0).size());
+        Assertions.assertEquals(5, batchCaptor.getAllValues().get(1).size());
+        WorkflowRunDoc firstDoc = batchCaptor.getAllValues().get(0).get(0);
+        Assertions.assertEquals("id0", firstDoc.getRunId());
+        Assertions.assertEquals(PARTITION, firstDoc.getDataPartitionId());
+    }
+
+    @Test
+    void testGetActiveWorkflowRunsQueriesEachWorkflowOfPartition() {
+        when(workflowMetadataRepository.getAllWorkflowForTenant(null)).thenReturn(List.of(
+                WorkflowMetadata.builder().workflowName("secondWorkflow").build(),
+                WorkflowMetadata.builder().workflowName("firstWorkflow").build()));
+        WorkflowRunDoc finishedDoc = WorkflowRunDoc.builder().runId("finishedRunId").workflowName("firstWorkflow")
+                .dataPartitionId(PARTITION).status(WorkflowStatusType.FINISHED).build();
+        WorkflowRunDoc runningDoc = WorkflowRunDoc.builder().runId(RUNID).workflowName("firstWorkflow")
+                .dataPartitionId(PARTITION).status(WorkflowStatusType.RUNNING).build();
+        WorkflowRunDoc submittedDoc = WorkflowRunDoc.builder().runId("submittedRunId").workflowName("secondWorkflow")
+                .dataPartitionId(PARTITION).status(WorkflowStatusType.SUBMITTED).build();
+        QueryPageResult<WorkflowRunDoc> firstResult = mock(QueryPageResult.class);
+        when(firstResult.getItems()).thenReturn(List.of(finishedDoc, runningDoc));
+        QueryPageResult<WorkflowRunDoc> secondResult = mock(QueryPageResult.class);
+        when(secondResult.getItems()).thenReturn(List.of(submittedDoc));
+        when(queryHelper.queryByGSI(any(GsiQueryRequest.class)))
+                .thenReturn(firstResult)
+                .thenReturn(secondResult);
+
+        WorkflowRunsPage page = repo.getActiveWorkflowRuns(100, null);
+
+        verify(queryHelper, times(2)).queryByGSI(any(GsiQueryRequest.class));
+        Assertions.assertEquals(List.of(RUNID, "submittedRunId"),
+                page.getItems().stream().map(WorkflowRun::getRunId).toList());
+        Assertions.assertNull(page.getCursor());
+    }
+
+    @Test
+    void testGetActiveWorkflowRunsStopsAtLimitWithCursor() {
+        when(workflowMetadataRepository.getAllWorkflowForTenant(null))
+                .thenReturn(List.of(WorkflowMetadata.builder().workflowName(WORKFLOWNAME).build()));
+        WorkflowRunDoc doc = WorkflowRunDoc.builder().runId(RUNID).workflowName(WORKFLOWNAME)
+                .dataPartitionId(PARTITION).status(WorkflowStatusType.SUBMITTED).build();
+        QueryPageResult<WorkflowRunDoc> result = mock(QueryPageResult.class);
+        when(result.getItems()).thenReturn(List.of(doc));
+        when(result.getNextCursor()).thenReturn(CURSOR);
+        when(queryHelper.queryByGSI(any(GsiQueryRequest.class))).thenReturn(result);
+
+        WorkflowRunsPage page = repo.getActiveWorkflowRuns(1, null);
+        repo.getActiveWorkflowRuns(1, page.getCursor());
+
+        verify(queryHelper, times(2)).queryByGSI(any(GsiQueryRequest.class));
+        Assertions.assertEquals(1, page.getItems().size());
+        Assertions.assertEquals(WORKFLOWNAME + "|" + CURSOR, page.getCursor());
+    }
+
+    @Test
+    void testGetActiveWorkflowRunsContinuesAfterDeletedWorkflow() {
+        when(workflowMetadataRepository.getAllWorkflowForTenant(null))
+                .thenReturn(List.of(WorkflowMetadata.builder().workflowName(WORKFLOWNAME).build()));
+        WorkflowRunDoc doc = WorkflowRunDoc.builder().runId(RUNID).workflowName(WORKFLOWNAME)
+                .dataPartitionId(PARTITION).status(WorkflowStatusType.RUNNING).build();
+        QueryPageResult<WorkflowRunDoc> result = mock(QueryPageResult.class);
+        when(result.getItems()).thenReturn(List.of(doc));
+        when(queryHelper.queryByGSI(any(GsiQueryRequest.class))).thenReturn(result);
+
+        WorkflowRunsPage page = repo.getActiveWorkflowRuns(100, "deletedWorkflow|" + CURSOR);
+
+        Assertions.assertEquals(1, page.getItems().size());
+        Assertions.assertNull(page.getCursor());
+    }
+
+    @Test
+    void testGetActiveWorkflowRunsInvalidCursor() {
+        AppException exception = Assertions.assertThrows(AppException.class,
+                () -> repo.getActiveWorkflowRuns(100, CURSOR));
+
+        Assertions.assertEquals(400, exception.getError().getCode());
+    }
+
+    @Test
+    void testGetActiveWorkflowRunsException() {
+        when(workflowMetadataRepository.getAllWorkflowForTenant(null))
+                .thenReturn(List.of(WorkflowMetadata.builder().workflowName(WORKFLOWNAME).build()));
+        doThrow(DynamoDbException.class).when(queryHelper).queryByGSI(any(GsiQueryRequest.class));
+
+        Assertions.assertThrows(AppException.class, () -> repo.getActiveWorkflowRuns(100, null));
     }
 
     @Test
     void testDeleteWorkflowRunsException() {
-        doThrow(DynamoDbException.class).when(queryHelper).deleteItem(anyString(), any());
+        doThrow(DynamoDbException.class).when(queryHelper).batchDelete(any());
         List<String> list = List.of("id1", "id2");
 
         Assertions.assertThrows(AppException.class, () -> repo.deleteWorkflowRuns(WORKFLOWNAME, list));
@@ -42,6 +42,8 @@ import org.opengroup.osdu.workflow.config.AirflowConfig;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -166,7 +168,8 @@ public class AwsWorkflowEngineServiceImplTest {
 
         Mockito.when(response.getStatus()).thenReturn(200);
 
-        Mockito.when(response.getEntity(String.class)).thenReturn("{}");
+        Mockito.when(response.getEntityInputStream())
+            .thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
 
         Mockito.when(builder.method(Mockito.anyString(), Mockito.eq(ClientResponse.class), Mockito.any())).thenReturn(response);
 
@@ -0,0 +1,33 @@
+package org.opengroup.osdu.workflow.provider.azure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit/miss counters shared by the ActiveDagRuns cache implementations. Expirations happen inside
+ * the underlying VM/Redis cache and are not observable from here.
+ */
+class ActiveDagRunsCacheMetrics implements MeterBinder {
+  static final String CACHE_NAME = "activeDagRuns";
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  <V> V record(V value) {
+    (value == null ? misses : hits).incrementAndGet();
+    return value;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+        .tags("cache", CACHE_NAME, "result", "hit")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+        .tags("cache", CACHE_NAME, "result", "miss")
+        .register(registry);
+  }
+}
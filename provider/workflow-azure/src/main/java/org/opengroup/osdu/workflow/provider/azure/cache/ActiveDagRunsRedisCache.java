@@ -1,6 +1,13 @@
 package org.opengroup.osdu.workflow.provider.azure.cache;
 
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.RedisCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
 import org.opengroup.osdu.core.common.cache.JsonCodec;
 import org.opengroup.osdu.core.common.cache.RedisCache;
 import org.opengroup.osdu.workflow.provider.azure.config.RedisConfig;
@@ -10,10 +17,53 @@ import org.springframework.stereotype.Component;
 
 @Component("ActiveDagRunsCache")
 @ConditionalOnProperty(value = "runtime.env.local", havingValue = "false", matchIfMissing = true)
-public class ActiveDagRunsRedisCache extends RedisCache<String, Integer> implements IActiveDagRunsCache<String, Integer> {
+public class ActiveDagRunsRedisCache extends RedisCache<String, Integer> implements IActiveDagRunsCache<String, Integer>, MeterBinder {
+  // KEYS: count, ARGV: threshold; returns -1 if the count is not cached, 0 if it reached the threshold
+  // INCR keeps the time to live set when the count was put
+  private static final String RESERVE_SCRIPT = """
+      local count = tonumber(redis.call('GET', KEYS[1]))
+      if count == nil then
+        return -1
+      end
+      if count >= tonumber(ARGV[1]) then
+        return 0
+      end
+      redis.call('INCR', KEYS[1])
+      return 1
+      """;
+
+  // KEYS: count
+  private static final String RELEASE_SCRIPT = """
+      local count = tonumber(redis.call('GET', KEYS[1]))
+      if count ~= nil and count > 0 then
+        redis.call('DECR', KEYS[1])
+      end
+      return 0
+      """;
+
+  private final ActiveDagRunsCacheMetrics metrics = new ActiveDagRunsCacheMetrics();
+  private final RedisClient scriptClient;
+  // uses the codec of the cache so that scripts see the keys and values written by put
+  private final StatefulRedisConnection<String, Integer> scriptConnection;
 
   public ActiveDagRunsRedisCache(final RedisConfig redisConfig) {
     super(redisConfig.getRedisHost(), redisConfig.getRedisPort(), redisConfig.getRedisPassword(), redisConfig.getActiveDagRunsTtl(), String.class, Integer.class);
+    this.scriptClient = RedisClient.create(RedisURI.Builder
+        .redis(redisConfig.getRedisHost(), redisConfig.getRedisPort())
+        .withPassword(redisConfig.getRedisPassword().toCharArray())
+        .withSsl(true)
+        .build());
+    this.scriptConnection = scriptClient.connect(getCodec(String.class, Integer.class));
+  }
+
+  @Override
+  public Integer get(String key) {
+    return metrics.record(super.get(key));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
   }
 
   @Override
@@ -23,11 +73,32 @@ public class ActiveDagRunsRedisCache extends RedisCache<String, Integer> impleme
 
   @Override
   public void decrementKey(String key) {
-    this.decrement(key);
+    release(key);
+  }
+
+  @Override
+  public Reservation tryReserve(String key, int threshold) {
+    Long result = scriptConnection.sync().eval(RESERVE_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {key}, threshold);
+    if (metrics.record(result == -1 ? null : result) == null) {
+      return Reservation.NOT_CACHED;
+    }
+    return result == 1 ? Reservation.RESERVED : Reservation.THRESHOLD_REACHED;
+  }
+
+  @Override
+  public void release(String key) {
+    scriptConnection.sync().eval(RELEASE_SCRIPT, ScriptOutputType.INTEGER, new String[] {key});
   }
 
   @Override
   public RedisCodec<String, Integer> getCodec(Class<String> classOfK, Class<Integer> classOfV) {
     return new JsonCodec<>(classOfK, classOfV);
   }
+
+  @PreDestroy
+  public void closeScriptConnection() {
+    scriptConnection.close();
+    scriptClient.shutdown();
+  }
 }
@@ -1,29 +1,121 @@
 package org.opengroup.osdu.workflow.provider.azure.cache;
 
-import org.opengroup.osdu.core.common.cache.VmCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.opengroup.osdu.workflow.provider.azure.consts.CacheConstants.ACTIVE_DAG_RUNS_LOCAL_CACHE_EXPIRATION_SECONDS;
-import static org.opengroup.osdu.workflow.provider.azure.consts.CacheConstants.ACTIVE_DAG_RUNS_LOCAL_CACHE_MAXIMUM_SIZE;
 
+/**
+ * Keeps counts in atomic integers so that a reservation checks and increments a count with a
+ * single compare-and-set. Like the Redis cache, a count expires the given time after it was put,
+ * however often it is incremented or decremented since.
+ */
 @Component("ActiveDagRunsCache")
 @ConditionalOnProperty(value = "runtime.env.local", havingValue = "true")
-public class ActiveDagRunsVmCache extends VmCache<String, Integer> implements IActiveDagRunsCache<String, Integer> {
+public class ActiveDagRunsVmCache implements IActiveDagRunsCache<String, Integer>, MeterBinder {
+  private final ActiveDagRunsCacheMetrics metrics = new ActiveDagRunsCacheMetrics();
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final long expirationMillis;
+
   public ActiveDagRunsVmCache() {
-    super(ACTIVE_DAG_RUNS_LOCAL_CACHE_EXPIRATION_SECONDS, ACTIVE_DAG_RUNS_LOCAL_CACHE_MAXIMUM_SIZE);
+    this(TimeUnit.SECONDS.toMillis(ACTIVE_DAG_RUNS_LOCAL_CACHE_EXPIRATION_SECONDS));
+  }
+
+  ActiveDagRunsVmCache(long expirationMillis) {
+    this.expirationMillis = expirationMillis;
+  }
+
+  @Override
+  public void put(String key, Integer value) {
+    entries.put(key, new Entry(value, System.currentTimeMillis() + expirationMillis));
+  }
+
+  @Override
+  public Integer get(String key) {
+    AtomicInteger count = count(key);
+    return metrics.record(count == null ? null : count.get());
+  }
+
+  @Override
+  public void delete(String key) {
+    entries.remove(key);
+  }
+
+  @Override
+  public void clearAll() {
+    entries.clear();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    metrics.bindTo(registry);
   }
 
   @Override
   public void incrementKey(String key) {
-    Integer value = this.get(key);
-    this.put(key, value + 1);
+    AtomicInteger count = count(key);
+    if (count != null) {
+      count.incrementAndGet();
+    }
   }
 
   @Override
   public void decrementKey(String key) {
-    Integer value = this.get(key);
-    this.put(key, value - 1);
+    release(key);
+  }
+
+  @Override
+  public Reservation tryReserve(String key, int threshold) {
+    AtomicInteger count = count(key);
+    if (metrics.record(count) == null) {
+      return Reservation.NOT_CACHED;
+    }
+    while (true) {
+      int current = count.get();
+      if (current >= threshold) {
+        return Reservation.THRESHOLD_REACHED;
+      }
+      if (count.compareAndSet(current, current + 1)) {
+        return Reservation.RESERVED;
+      }
+    }
+  }
+
+  @Override
+  public void release(String key) {
+    AtomicInteger count = count(key);
+    if (count != null) {
+      count.getAndUpdate(current -> Math.max(0, current - 1));
+    }
+  }
+
+  private AtomicInteger count(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt <= System.currentTimeMillis()) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry.count;
+  }
+
+  private static final class Entry {
+    private final AtomicInteger count;
+    private final long expiresAt;
+
+    private Entry(int count, long expiresAt) {
+      this.count = new AtomicInteger(count);
+      this.expiresAt = expiresAt;
+    }
   }
 }
@@ -0,0 +1,177 @@
+package org.opengroup.osdu.workflow.provider.azure.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.opengroup.osdu.workflow.config.WorkflowAdmissionConfig;
+import org.opengroup.osdu.workflow.provider.azure.config.RedisConfig;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission state shared by all replicas through the service Redis. Each check and update is a
+ * single Lua script, so concurrent triggers on different replicas cannot both take the last
+ * token or slot. Times are taken from the Redis clock, so replicas need not agree on theirs.
+ * All keys share one hash tag and scripts only touch keys passed in KEYS, so they run on a
+ * single node of a Redis cluster.
+ */
+@Component
+@ConditionalOnProperty(value = "runtime.env.local", havingValue = "false", matchIfMissing = true)
+public class WorkflowAdmissionRedisState implements IWorkflowAdmissionState {
+
+  private static final String KEY_PREFIX = "{wf-admission}:";
+  private static final String PERMITS_KEY = KEY_PREFIX + "permits";
+  private static final String SLOTS_KEY = KEY_PREFIX + "slots";
+  private static final String WEIGHTS_KEY = KEY_PREFIX + "weights";
+
+  // KEYS: buckets, ARGV: capacity and tokens per second of each bucket; returns millis to wait
+  private static final String TAKE_TOKENS_SCRIPT = """
+      local time = redis.call('TIME')
+      local now = time[1] * 1000 + math.floor(time[2] / 1000)
+      local wait = 0
+      local available = {}
+      for i, key in ipairs(KEYS) do
+        local capacity = tonumber(ARGV[2 * i - 1])
+        local rate = tonumber(ARGV[2 * i])
+        local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+        local tokens = tonumber(bucket[1]) or capacity
+        local refilledAt = tonumber(bucket[2]) or now
+        tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * rate / 1000)
+        available[i] = tokens
+        if tokens < 1 then
+          wait = math.max(wait, math.ceil((1 - tokens) * 1000 / rate))
+        end
+      end
+      for i, key in ipairs(KEYS) do
+        local tokens = available[i]
+        if wait == 0 then
+          tokens = tokens - 1
+        end
+        local capacity = tonumber(ARGV[2 * i - 1])
+        local rate = tonumber(ARGV[2 * i])
+        redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+        redis.call('PEXPIRE', key, math.ceil(capacity * 1000 / rate) + 1000)
+      end
+      return wait
+      """;
+
+  // Permits are "<partition>:<permit id>" members scored by expiry; the slots hash holds the
+  // number of unexpired permits of each partition.
+  // KEYS: permits sorted set, slots hash, weights hash
+  // ARGV: partition, weight, global limit, permit, lease millis
+  private static final String ACQUIRE_SLOT_SCRIPT = """
+      local time = redis.call('TIME')
+      local now = time[1] * 1000 + math.floor(time[2] / 1000)
+      for _, expired in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now)) do
+        local owner = string.match(expired, '^(.*):[^:]*$')
+        if redis.call('HINCRBY', KEYS[2], owner, -1) <= 0 then
+          redis.call('HDEL', KEYS[2], owner)
+          redis.call('HDEL', KEYS[3], owner)
+        end
+      end
+      redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+      local partition = ARGV[1]
+      local weight = tonumber(ARGV[2])
+      local limit = tonumber(ARGV[3])
+      local inFlight = 0
+      local own = 0
+      local activeWeight = weight
+      local slots = redis.call('HGETALL', KEYS[2])
+      for i = 1, #slots, 2 do
+        local count = tonumber(slots[i + 1])
+        inFlight = inFlight + count
+        if slots[i] == partition then
+          own = count
+        else
+          activeWeight = activeWeight + (tonumber(redis.call('HGET', KEYS[3], slots[i])) or 1)
+        end
+      end
+      if inFlight >= limit then
+        return 0
+      end
+      if own >= math.max(1, math.floor(limit * weight / activeWeight)) then
+        return 0
+      end
+      redis.call('ZADD', KEYS[1], now + tonumber(ARGV[5]), ARGV[4])
+      redis.call('HINCRBY', KEYS[2], partition, 1)
+      redis.call('HSET', KEYS[3], partition, weight)
+      for i = 1, 3 do
+        redis.call('PEXPIRE', KEYS[i], ARGV[5])
+      end
+      return 1
+      """;
+
+  // KEYS: permits sorted set, slots hash, weights hash, ARGV: partition, permit
+  private static final String RELEASE_SLOT_SCRIPT = """
+      if redis.call('ZREM', KEYS[1], ARGV[2]) == 0 then
+        return 0
+      end
+      if redis.call('HINCRBY', KEYS[2], ARGV[1], -1) <= 0 then
+        redis.call('HDEL', KEYS[2], ARGV[1])
+        redis.call('HDEL', KEYS[3], ARGV[1])
+      end
+      return 1
+      """;
+
+  private final RedisClient client;
+  private final StatefulRedisConnection<String, String> connection;
+
+  public WorkflowAdmissionRedisState(final RedisConfig redisConfig,
+                                     final WorkflowAdmissionConfig admissionConfig) {
+    // a hung Redis fails the command quickly, so the trigger is admitted instead of waiting
+    this.client = RedisClient.create(RedisURI.Builder
+        .redis(redisConfig.getRedisHost(), redisConfig.getRedisPort())
+        .withPassword(redisConfig.getRedisPassword().toCharArray())
+        .withSsl(true)
+        .withTimeout(Duration.ofMillis(admissionConfig.getStateTimeoutMillis()))
+        .build());
+    this.connection = client.connect();
+  }
+
+  @Override
+  public long tryTakeTokens(List<TokenBucket> tokenBuckets) {
+    final String[] keys = new String[tokenBuckets.size()];
+    final List<String> args = new ArrayList<>();
+    for (int i = 0; i < keys.length; i++) {
+      final TokenBucket tokenBucket = tokenBuckets.get(i);
+      keys[i] = KEY_PREFIX + tokenBucket.key();
+      args.add(String.valueOf(tokenBucket.capacity()));
+      args.add(String.valueOf(tokenBucket.tokensPerSecond()));
+    }
+    final Long waitMillis = connection.sync()
+        .eval(TAKE_TOKENS_SCRIPT, ScriptOutputType.INTEGER, keys, args.toArray(new String[0]));
+    return waitMillis;
+  }
+
+  @Override
+  public boolean tryAcquireSlot(String partitionId, int weight, int globalLimit, String permitId,
+                                Duration lease) {
+    final Long acquired = connection.sync().eval(ACQUIRE_SLOT_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {PERMITS_KEY, SLOTS_KEY, WEIGHTS_KEY},
+        partitionId, String.valueOf(weight), String.valueOf(globalLimit),
+        permit(partitionId, permitId), String.valueOf(lease.toMillis()));
+    return acquired == 1;
+  }
+
+  @Override
+  public void releaseSlot(String partitionId, String permitId) {
+    connection.sync().eval(RELEASE_SLOT_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {PERMITS_KEY, SLOTS_KEY, WEIGHTS_KEY}, partitionId, permit(partitionId, permitId));
+  }
+
+  private static String permit(String partitionId, String permitId) {
+    return partitionId + ":" + permitId;
+  }
+
+  @PreDestroy
+  public void close() {
+    connection.close();
+    client.shutdown();
+  }
+}
@@ -0,0 +1,96 @@
+package org.opengroup.osdu.workflow.provider.azure.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import org.opengroup.osdu.workflow.provider.azure.config.RedisConfig;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sweep leases and sweep times shared by all replicas through the service Redis, so that one
+ * replica sweeps a partition and every replica serves its runs from the store after the sweep.
+ * Each script touches a single key.
+ */
+@Component
+@ConditionalOnProperty(value = "runtime.env.local", havingValue = "false", matchIfMissing = true)
+public class WorkflowRunSweepRedisCoordinator implements IWorkflowRunSweepCoordinator {
+
+  private static final String LEASE_KEY_PREFIX = "workflow-reconciler:lease:";
+  private static final String SWEEP_KEY_PREFIX = "workflow-reconciler:sweep:";
+
+  // KEYS: lease of the partition, ARGV: owner id, lease millis
+  private static final String ACQUIRE_LEASE_SCRIPT = """
+      local owner = redis.call('GET', KEYS[1])
+      if owner and owner ~= ARGV[1] then
+        return 0
+      end
+      redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+      return 1
+      """;
+
+  // KEYS: lease of the partition, ARGV: owner id
+  private static final String RELEASE_LEASE_SCRIPT = """
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """;
+
+  // KEYS: last sweep of the partition, ARGV: sweep start millis
+  private static final String RECORD_SWEEP_SCRIPT = """
+      local last = tonumber(redis.call('GET', KEYS[1]))
+      if last == nil or last < tonumber(ARGV[1]) then
+        redis.call('SET', KEYS[1], ARGV[1])
+      end
+      return 1
+      """;
+
+  private final RedisClient client;
+  private final StatefulRedisConnection<String, String> connection;
+
+  public WorkflowRunSweepRedisCoordinator(final RedisConfig redisConfig) {
+    this.client = RedisClient.create(RedisURI.Builder
+        .redis(redisConfig.getRedisHost(), redisConfig.getRedisPort())
+        .withPassword(redisConfig.getRedisPassword().toCharArray())
+        .withSsl(true)
+        .build());
+    this.connection = client.connect();
+  }
+
+  @Override
+  public boolean tryAcquireLease(String partitionId, String ownerId, Duration leaseDuration) {
+    final Long acquired = connection.sync().eval(ACQUIRE_LEASE_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {LEASE_KEY_PREFIX + partitionId}, ownerId,
+        String.valueOf(Math.max(1, leaseDuration.toMillis())));
+    return acquired == 1;
+  }
+
+  @Override
+  public void releaseLease(String partitionId, String ownerId) {
+    connection.sync().eval(RELEASE_LEASE_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {LEASE_KEY_PREFIX + partitionId}, ownerId);
+  }
+
+  @Override
+  public void recordCompletedSweep(String partitionId, long sweepStartTimestamp) {
+    connection.sync().eval(RECORD_SWEEP_SCRIPT, ScriptOutputType.INTEGER,
+        new String[] {SWEEP_KEY_PREFIX + partitionId}, String.valueOf(sweepStartTimestamp));
+  }
+
+  @Override
+  public Long getLastCompletedSweep(String partitionId) {
+    final String lastSweep = connection.sync().get(SWEEP_KEY_PREFIX + partitionId);
+    return lastSweep == null ? null : Long.valueOf(lastSweep);
+  }
+
+  @PreDestroy
+  public void close() {
+    connection.close();
+    client.shutdown();
+  }
+}
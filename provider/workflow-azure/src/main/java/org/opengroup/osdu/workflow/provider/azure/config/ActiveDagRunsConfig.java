@@ -11,4 +11,7 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class ActiveDagRunsConfig {
   private int threshold;
+  // Interval at which a cached count is replaced by the count of Airflow, 0 to disable.
+  // Shorter than the cache ttl, it also keeps the count from expiring while triggers come in.
+  private int reconcileIntervalSeconds = 10;
 }
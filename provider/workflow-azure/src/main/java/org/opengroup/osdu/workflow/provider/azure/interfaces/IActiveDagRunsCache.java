@@ -5,4 +5,23 @@ import org.opengroup.osdu.core.common.cache.ICache;
 public interface IActiveDagRunsCache<K, V> extends ICache<K, V> {
   void incrementKey(K key);
   void decrementKey(K key);
+
+  /**
+   * Counts a new dag run if the cached count is below the threshold. The check and the
+   * increment are a single atomic operation, so concurrent triggers cannot overshoot the
+   * threshold.
+   */
+  Reservation tryReserve(K key, int threshold);
+
+  /**
+   * Uncounts a dag run that finished or failed to start. The count does not drop below zero
+   * and is left alone if it is not cached.
+   */
+  void release(K key);
+
+  enum Reservation {
+    RESERVED,
+    THRESHOLD_REACHED,
+    NOT_CACHED
+  }
 }
@@ -17,4 +17,7 @@ public class WorkflowRunDoc {
   private String status;
   private String submittedBy;
   private String workflowEngineExecutionDate;
+  private Long lastStatusCheckTimestamp;
+  private Long statusCallbackTimestamp;
+  private Boolean dispatchPending;
 }
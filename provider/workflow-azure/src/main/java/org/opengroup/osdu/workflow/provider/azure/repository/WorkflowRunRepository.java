@@ -1,17 +1,26 @@
 package org.opengroup.osdu.workflow.provider.azure.repository;
 
+import com.azure.cosmos.CosmosContainer;
 import com.azure.cosmos.CosmosException;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosBulkOperations;
+import com.azure.cosmos.models.CosmosItemIdentity;
+import com.azure.cosmos.models.CosmosItemOperation;
+import com.azure.cosmos.models.PartitionKey;
 import com.azure.cosmos.models.SqlParameter;
 import com.azure.cosmos.models.SqlQuerySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpStatus;
 import org.opengroup.osdu.azure.cosmosdb.CosmosStore;
+import org.opengroup.osdu.azure.cosmosdb.ICosmosClientFactory;
 import org.opengroup.osdu.azure.query.CosmosStorePageRequest;
+import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.azure.config.CosmosConfig;
@@ -25,9 +34,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.opengroup.osdu.workflow.model.WorkflowStatusType.getCompletedStatusTypes;
 import static org.opengroup.osdu.workflow.provider.azure.consts.CacheConstants.ACTIVE_DAG_RUNS_COUNT_CACHE_KEY;
@@ -41,6 +53,8 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 
   private final CosmosStore cosmosStore;
 
+  private final ICosmosClientFactory cosmosClientFactory;
+
   private final DpsHeaders dpsHeaders;
 
   private final CursorUtils cursorUtils;
@@ -58,6 +72,69 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
     return buildWorkflowRun(workflowRunDoc);
   }
 
+  @Override
+  public List<WorkflowRunSaveResult> saveWorkflowRuns(final List<WorkflowRun> workflowRuns) {
+    final CosmosContainer container = cosmosClientFactory.getClient(dpsHeaders.getPartitionId())
+        .getDatabase(cosmosConfig.getDatabase())
+        .getContainer(cosmosConfig.getWorkflowRunCollection());
+    final Map<String, WorkflowRunDoc> workflowRunDocs = new HashMap<>();
+    final List<CosmosItemOperation> operations = new ArrayList<>();
+    for (WorkflowRun workflowRun : workflowRuns) {
+      final WorkflowRunDoc workflowRunDoc = buildWorkflowRunDoc(workflowRun);
+      workflowRunDocs.put(workflowRunDoc.getId(), workflowRunDoc);
+      operations.add(CosmosBulkOperations.getCreateItemOperation(workflowRunDoc,
+          new PartitionKey(workflowRunDoc.getPartitionKey())));
+    }
+
+    // Responses arrive in no particular order
+    final Map<String, AppError> failedRuns = new HashMap<>();
+    final Set<String> savedRunIds = new HashSet<>();
+    for (CosmosBulkOperationResponse<Object> response : container.executeBulkOperations(operations)) {
+      // Create operations carry no id of their own, only the item
+      final String runId = response.getOperation().<WorkflowRunDoc>getItem().getId();
+      if (response.getException() != null) {
+        log.error(String.format("Failed to save workflow run %s", runId), response.getException());
+        failedRuns.put(runId, buildSaveError(HttpStatus.SC_INTERNAL_SERVER_ERROR,
+            String.format("Workflow run %s failed to persist", runId)));
+      } else if (response.getResponse().isSuccessStatusCode()) {
+        savedRunIds.add(runId);
+      } else {
+        final int statusCode = response.getResponse().getStatusCode();
+        if (statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+          log.error(String.format("Failed to save workflow run %s, status %d", runId, statusCode));
+        }
+        failedRuns.put(runId, buildSaveError(
+            statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR ? statusCode : HttpStatus.SC_INTERNAL_SERVER_ERROR,
+            String.format("Workflow run %s was rejected with status %d", runId, statusCode)));
+      }
+    }
+
+    final List<WorkflowRunSaveResult> results = new ArrayList<>();
+    for (WorkflowRun workflowRun : workflowRuns) {
+      final String runId = workflowRun.getRunId();
+      final WorkflowRunSaveResult.WorkflowRunSaveResultBuilder result = WorkflowRunSaveResult.builder().runId(runId);
+      if (savedRunIds.contains(runId)) {
+        result.workflowRun(buildWorkflowRun(workflowRunDocs.get(runId)));
+      } else if (failedRuns.containsKey(runId)) {
+        result.error(failedRuns.get(runId));
+      } else {
+        log.error(String.format("No bulk response for workflow run %s", runId));
+        result.error(buildSaveError(HttpStatus.SC_INTERNAL_SERVER_ERROR,
+            String.format("Workflow run %s failed to persist", runId)));
+      }
+      results.add(result.build());
+    }
+    return results;
+  }
+
+  private AppError buildSaveError(final int code, final String message) {
+    return AppError.builder()
+        .code(code)
+        .reason("Failed to save workflow run")
+        .message(message)
+        .build();
+  }
+
   @Override
   public WorkflowRun getWorkflowRun(String workflowName, String runId) {
     final Optional<WorkflowRunDoc> workflowRunDoc =
@@ -77,6 +154,28 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
     }
   }
 
+  @Override
+  public List<WorkflowRun> getWorkflowRuns(final String workflowName, final List<String> runIds) {
+    final CosmosContainer container = cosmosClientFactory.getClient(dpsHeaders.getPartitionId())
+        .getDatabase(cosmosConfig.getDatabase())
+        .getContainer(cosmosConfig.getWorkflowRunCollection());
+    final PartitionKey partitionKey = new PartitionKey(workflowName);
+    final List<CosmosItemIdentity> identities = new ArrayList<>();
+    for (String runId : runIds) {
+      identities.add(new CosmosItemIdentity(partitionKey, runId));
+    }
+
+    try {
+      final List<WorkflowRun> workflowRuns = new ArrayList<>();
+      for (WorkflowRunDoc workflowRunDoc : container.readMany(identities, WorkflowRunDoc.class).getResults()) {
+        workflowRuns.add(buildWorkflowRun(workflowRunDoc));
+      }
+      return workflowRuns;
+    } catch (CosmosException e) {
+      throw new AppException(e.getStatusCode(), e.getMessage(), e.getMessage(), e);
+    }
+  }
+
   @Override
   public WorkflowRunsPage getWorkflowRunsByWorkflowName(String workflowName, Integer limit,
                                                         String cursor) {
@@ -99,6 +198,28 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
     }
   }
 
+  @Override
+  public WorkflowRunsPage getActiveWorkflowRuns(Integer limit, String cursor) {
+    if (cursor != null) {
+      cursor = cursorUtils.decodeCosmosCursor(cursor);
+    }
+
+    try {
+      List<String> activeStatuses = WorkflowStatusType.getActiveStatusTypes().stream()
+          .map(WorkflowStatusType::name).toList();
+      SqlQuerySpec sqlQuerySpec = new SqlQuerySpec(
+          "SELECT * from c where ARRAY_CONTAINS(@statuses, c.status)",
+          new SqlParameter("@statuses", activeStatuses));
+      final Page<WorkflowRunDoc> pagedWorkflowRunDoc =
+          cosmosStore.queryItemsPage(dpsHeaders.getPartitionId(), cosmosConfig.getDatabase(),
+              cosmosConfig.getWorkflowRunCollection(), sqlQuerySpec, WorkflowRunDoc.class,
+              limit, cursor);
+      return buildWorkflowRunsPage(pagedWorkflowRunDoc);
+    } catch (CosmosException e) {
+      throw new AppException(e.getStatusCode(), e.getMessage(), e.getMessage(), e);
+    }
+  }
+
   @Override
   public List<WorkflowRun> getAllRunInstancesOfWorkflow(String workflowName,
                                                         Map<String, Object> params) {
@@ -150,9 +271,27 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 
   @Override
   public void deleteWorkflowRuns(final String workflowName, final List<String> runIds) {
-    for(String runId: runIds) {
-      cosmosStore.deleteItem(dpsHeaders.getPartitionId(), cosmosConfig.getDatabase(),
-          cosmosConfig.getWorkflowRunCollection(), runId, workflowName);
+    final CosmosContainer container = cosmosClientFactory.getClient(dpsHeaders.getPartitionId())
+        .getDatabase(cosmosConfig.getDatabase())
+        .getContainer(cosmosConfig.getWorkflowRunCollection());
+    final PartitionKey partitionKey = new PartitionKey(workflowName);
+    final List<CosmosItemOperation> operations = new ArrayList<>();
+    for (String runId : runIds) {
+      operations.add(CosmosBulkOperations.getDeleteItemOperation(runId, partitionKey));
+    }
+
+    int failedCount = 0;
+    for (CosmosBulkOperationResponse<Object> response : container.executeBulkOperations(operations)) {
+      // Runs that are already gone count as deleted
+      if (response.getException() != null || (!response.getResponse().isSuccessStatusCode()
+          && response.getResponse().getStatusCode() != HttpStatus.SC_NOT_FOUND)) {
+        failedCount++;
+      }
+    }
+    if (failedCount > 0) {
+      throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Failed to delete workflow runs",
+          String.format("%d of %d workflow runs of %s could not be deleted", failedCount,
+              runIds.size(), workflowName));
     }
   }
 
@@ -182,12 +321,9 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
   }
 
   private void decrementActiveDagRunsCountInCache() {
-    Integer numberOfActiveDagRuns = activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
-    // Update the cache count: decrementing the count by 1
-    if (numberOfActiveDagRuns != null && numberOfActiveDagRuns != 0) {
-      log.info("Decrementing the number of active dag runs in cache to {}", numberOfActiveDagRuns - 1);
-      activeDagRunsCache.decrementKey(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
-    }
+    // Checks and decrements the count in one step, so that concurrent completions cannot take it below zero
+    log.info("Decrementing the number of active dag runs in cache");
+    activeDagRunsCache.release(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
   }
 
   private WorkflowRunDoc buildWorkflowRunDoc(final WorkflowRun workflowRun) {
@@ -199,6 +335,9 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
         .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
         .startTimeStamp(workflowRun.getStartTimeStamp())
         .endTimeStamp(workflowRun.getEndTimeStamp())
+        .lastStatusCheckTimestamp(workflowRun.getLastStatusCheckTimestamp())
+        .statusCallbackTimestamp(workflowRun.getStatusCallbackTimestamp())
+        .dispatchPending(workflowRun.getDispatchPending())
         .status(workflowRun.getStatus().name())
         .submittedBy(workflowRun.getSubmittedBy()).build();
   }
@@ -212,6 +351,9 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
         .workflowEngineExecutionDate(workflowRunDoc.getWorkflowEngineExecutionDate())
         .startTimeStamp(workflowRunDoc.getStartTimeStamp())
         .endTimeStamp(workflowRunDoc.getEndTimeStamp())
+        .lastStatusCheckTimestamp(workflowRunDoc.getLastStatusCheckTimestamp())
+        .statusCallbackTimestamp(workflowRunDoc.getStatusCallbackTimestamp())
+        .dispatchPending(workflowRunDoc.getDispatchPending())
         .submittedBy(workflowRunDoc.getSubmittedBy())
         .build();
   }
@@ -2,12 +2,13 @@ package org.opengroup.osdu.workflow.provider.azure.service;
 
 import com.azure.storage.file.share.models.ShareStorageException;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.opengroup.osdu.azure.partition.PartitionInfoAzure;
 import org.opengroup.osdu.azure.partition.PartitionServiceClient;
 import org.opengroup.osdu.core.common.model.http.AppException;
@@ -23,8 +24,11 @@ import org.opengroup.osdu.workflow.provider.azure.config.AzureWorkflowEngineConf
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareConfig;
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareStore;
 import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache;
+import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache.Reservation;
 import org.opengroup.osdu.workflow.provider.azure.utils.airflow.IAirflowWorkflowEngineUtil;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
+import org.opengroup.osdu.workflow.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,10 +37,15 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.MediaType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.opengroup.osdu.workflow.provider.azure.consts.CacheConstants.ACTIVE_DAG_RUNS_COUNT_CACHE_KEY;
 
@@ -45,6 +54,7 @@ import static org.opengroup.osdu.workflow.provider.azure.consts.CacheConstants.A
 @Primary
 public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEngineServiceImpl.class);
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private static final String AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE = "Failed to trigger workflow with id %s and name %s";
   private static final String AIRFLOW_DELETE_DAG_ERROR_MESSAGE = "Failed to delete workflow with name %s";
   private static final String AIRFLOW_GET_ACTIVE_DAG_RUNS_ERROR_MESSAGE = "Failed to get all active dag runs";
@@ -95,6 +105,39 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
   @Autowired
   private PartitionServiceClient partitionService;
 
+  @Autowired
+  private AirflowRetryPolicy retryPolicy;
+
+  // Concurrent triggers missing the cached count share a single Airflow call
+  private final SingleFlight<String, Integer> activeDagRunsRefresh = new SingleFlight<>();
+
+  private ScheduledExecutorService activeDagRunsReconciler;
+
+  // Airflow whose dag runs the cached count holds, the reconciler recounts against the same one
+  private volatile AirflowConfig activeDagRunsAirflowConfig;
+
+  @PostConstruct
+  public void startActiveDagRunsReconciler() {
+    int interval = activeDagRunsConfig.getReconcileIntervalSeconds();
+    if (interval <= 0) {
+      return;
+    }
+    activeDagRunsReconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "active-dag-runs-reconciler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    activeDagRunsReconciler.scheduleWithFixedDelay(this::reconcileActiveDagRunsCount,
+        interval, interval, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stopActiveDagRunsReconciler() {
+    if (activeDagRunsReconciler != null) {
+      activeDagRunsReconciler.shutdownNow();
+    }
+  }
+
   @Override
   public void createWorkflow(
       final WorkflowEngineRequest rq, final Map<String, Object> registrationInstruction) {
@@ -129,7 +172,7 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
         String deleteDAGEndpoint = String.format(engineUtil.getAirflowDagsUrl(), workflowName);
 
         callAirflowApi(getAirflowConfig(rq.isSystemWorkflow()), deleteDAGEndpoint, HttpMethod.DELETE,
-            null, String.format(AIRFLOW_DELETE_DAG_ERROR_MESSAGE, workflowName));
+            null, null, String.format(AIRFLOW_DELETE_DAG_ERROR_MESSAGE, workflowName));
       } catch (AppException e) {
         if (e.getError().getCode() != 404) {
           throw e;
@@ -162,18 +205,28 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
         fileShareConfig.getCustomOperatorsFolder(), fileName, customOperatorDefinition);
   }
 
+  // The payload map is written as is, including the execution context node
+  private String writeRequestBody(ObjectNode requestBody) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(requestBody);
+    } catch (JsonProcessingException e) {
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+          "Unable to Process(Parse, Generate) JSON value", e.getMessage());
+    }
+  }
+
   private ClientResponse triggerWorkflowBase(AirflowConfig airflowConfig, final String runId,
                                              final String workflowId, String workflowName,
                                              final Map<String, Object> inputData) {
     String triggerDAGEndpoint = String.format(engineUtil.getAirflowDagRunsUrl(), workflowName);
 
-    JSONObject requestBody = new JSONObject();
+    ObjectNode requestBody = OBJECT_MAPPER.createObjectNode();
     requestBody.put(engineUtil.getDagRunIdParameterName(), runId);
-    requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, inputData);
+    requestBody.putPOJO(AIRFLOW_PAYLOAD_PARAMETER_NAME, inputData);
     requestBody = engineUtil.addMicroSecParam(requestBody);
 
     return callAirflowApi(airflowConfig, triggerDAGEndpoint, HttpMethod.POST,
-        requestBody.toString(),
+        writeRequestBody(requestBody), runId,
         String.format(AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE, workflowId, workflowName));
   }
 
@@ -183,7 +236,7 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     String controllerId = getAirflowConfig(isSystemWorkflow).getControllerDagId();
     String triggerDAGEndpoint = String.format(engineUtil.getAirflowDagRunsUrl(), controllerId);
 
-    JSONObject requestBody = new JSONObject();
+    ObjectNode requestBody = OBJECT_MAPPER.createObjectNode();
     String parentRunId = "PARENT_" + runId;
     requestBody.put(engineUtil.getDagRunIdParameterName(), parentRunId);
 
@@ -192,11 +245,11 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     triggerParams.put(AIRFLOW_CONTROLLER_PAYLOAD_PARAMETER_WORKFLOW_RUN_ID, runId);
 
     inputData.put(AIRFLOW_CONTROLLER_PAYLOAD_PARAMETER_TRIGGER_CONFIGURATION, triggerParams);
-    requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, inputData);
+    requestBody.putPOJO(AIRFLOW_PAYLOAD_PARAMETER_NAME, inputData);
     requestBody = engineUtil.addMicroSecParam(requestBody);
 
     return callAirflowApi(airflowConfig, triggerDAGEndpoint, HttpMethod.POST,
-        requestBody.toString(),
+        writeRequestBody(requestBody), parentRunId,
         String.format(AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE, workflowId, workflowName));
   }
 
@@ -207,30 +260,32 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     PartitionInfoAzure pi = this.partitionService.getPartition(dpsHeaders.getPartitionId());
     Boolean isAirflowEnabled = pi.getAirflowEnabled();
     // NOTE: [aaljain] limiting trigger requests not supported for multi partition
-    if (!isAirflowEnabled) {
-      checkAndUpdateActiveDagRunsCache();
-    }
+    final boolean reserved = !isAirflowEnabled && reserveActiveDagRun();
     String workflowName = rq.getWorkflowName();
     String runId = rq.getRunId();
     String workflowId = rq.getWorkflowId();
     LOGGER.info("Submitting ingestion with Airflow with dagName: {}", workflowName);
     ClientResponse response;
-    AirflowConfig airflowConfig = getAirflowConfig(rq.isSystemWorkflow());
-    addUserIdToExecutionContext(inputData, rq);
-    if (airflowConfig.isDagRunAbstractionEnabled()) {
-      response = triggerWorkflowUsingController(airflowConfig, runId, workflowId,
-          workflowName, inputData, rq.isSystemWorkflow());
-    } else {
-      response = triggerWorkflowBase(airflowConfig, runId, workflowId, workflowName, inputData);
+    try {
+      AirflowConfig airflowConfig = getAirflowConfig(rq.isSystemWorkflow());
+      addUserIdToExecutionContext(inputData, rq);
+      if (airflowConfig.isDagRunAbstractionEnabled()) {
+        response = triggerWorkflowUsingController(airflowConfig, runId, workflowId,
+            workflowName, inputData, rq.isSystemWorkflow());
+      } else {
+        response = triggerWorkflowBase(airflowConfig, runId, workflowId, workflowName, inputData);
+      }
+    } catch (RuntimeException e) {
+      if (reserved) {
+        activeDagRunsCache.release(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
+      }
+      throw e;
     }
 
     try {
       final TriggerWorkflowResponse triggerWorkflowResponse = engineUtil.
           extractTriggerWorkflowResponse(response.getEntity(String.class));
       LOGGER.info("Airflow response: {}.", triggerWorkflowResponse);
-      if (!isAirflowEnabled) {
-        incrementActiveDagRunsCountInCache();
-      }
       return triggerWorkflowResponse;
     } catch (JsonProcessingException e) {
       final String error = "Unable to Process(Parse, Generate) JSON value";
@@ -238,36 +293,72 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     }
   }
 
-  private void checkAndUpdateActiveDagRunsCache() {
-    Integer numberOfActiveDagRuns = activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
-    if (numberOfActiveDagRuns == null) {
+  /**
+   * Counts the dag run against the threshold of active dag runs, checking and incrementing the
+   * cached count in one atomic step. A count that is not cached is first obtained from Airflow.
+   * @return true if the dag run was counted and has to be released if it does not start.
+   */
+  private boolean reserveActiveDagRun() {
+    int threshold = activeDagRunsConfig.getThreshold();
+    Reservation reservation = activeDagRunsCache.tryReserve(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY, threshold);
+    if (reservation == Reservation.NOT_CACHED) {
+      AirflowConfig airflowConfig = getAirflowConfig(false);
+      activeDagRunsAirflowConfig = airflowConfig;
+      if (refreshActiveDagRunsCount(airflowConfig) == null) {
+        return false;
+      }
+      reservation = activeDagRunsCache.tryReserve(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY, threshold);
+    }
+    if (reservation == Reservation.THRESHOLD_REACHED) {
+      throw new AppException(HttpStatus.TOO_MANY_REQUESTS.value(), "Triggering a new dag run is not allowed", "Maximum threshold for number of active dag runs reached");
+    }
+    return reservation == Reservation.RESERVED;
+  }
+
+  private Integer refreshActiveDagRunsCount(AirflowConfig airflowConfig) {
+    return activeDagRunsRefresh.execute(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY, () -> {
       LOGGER.info("Obtaining number of active dag runs from airflow postgresql db");
       try {
-        numberOfActiveDagRuns = getActiveDagRunsCount();
+        Integer numberOfActiveDagRuns = getActiveDagRunsCount(airflowConfig);
+        activeDagRunsCache.put(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY, numberOfActiveDagRuns);
+        LOGGER.info("Number of active dag runs present: {}", numberOfActiveDagRuns);
+        return numberOfActiveDagRuns;
       } catch (Exception e) {
         LOGGER.error("Unable to obtain active dag runs count from airflow database", e);
+        return null;
       }
-    }
+    });
+  }
 
-    if (numberOfActiveDagRuns != null) {
-      if (numberOfActiveDagRuns >= activeDagRunsConfig.getThreshold()) {
-        throw new AppException(HttpStatus.TOO_MANY_REQUESTS.value(), "Triggering a new dag run is not allowed", "Maximum threshold for number of active dag runs reached");
+  /**
+   * Replaces the cached count with the count of the Airflow the triggers counted against,
+   * correcting drift left by dag runs whose completion was never recorded. A count that is not
+   * cached, or was not obtained by this instance, is left to the next trigger.
+   */
+  void reconcileActiveDagRunsCount() {
+    try {
+      AirflowConfig airflowConfig = activeDagRunsAirflowConfig;
+      if (airflowConfig != null && activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY) != null) {
+        refreshActiveDagRunsCount(airflowConfig);
       }
-      activeDagRunsCache.put(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY, numberOfActiveDagRuns);
-      LOGGER.info("Number of active dag runs present: {}", numberOfActiveDagRuns);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to reconcile number of active dag runs", e);
     }
   }
 
-  private void incrementActiveDagRunsCountInCache() {
-    Integer numberOfActiveDagRuns = activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
-    if (numberOfActiveDagRuns != null) {
-      LOGGER.info("Incrementing the number of active dag runs in cache to {}", numberOfActiveDagRuns + 1);
-      activeDagRunsCache.incrementKey(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY);
-    }
+  /**
+   * Calls Airflow, retrying reads and triggers with an explicit {@code runId} as allowed by the
+   * shared {@link AirflowRetryPolicy}.
+   */
+  private ClientResponse callAirflowApi(AirflowConfig airflowConfig, String apiEndpoint,
+                                        String method, Object body, String runId,
+                                        String errorMessage) {
+    return retryPolicy.execute(method, apiEndpoint, runId,
+        () -> callAirflowApiOnce(airflowConfig, apiEndpoint, method, body, errorMessage));
   }
 
-  private ClientResponse callAirflowApi(AirflowConfig airflowConfig, String apiEndpoint,
-                                        String method, Object body, String errorMessage) {
+  private ClientResponse callAirflowApiOnce(AirflowConfig airflowConfig, String apiEndpoint,
+                                            String method, Object body, String errorMessage) {
     String url = String.format("%s/%s", airflowConfig.getUrl(), apiEndpoint);
     LOGGER.info("Calling airflow endpoint {} with method {}", url, method);
 
@@ -296,7 +387,7 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     String getDAGRunStatusEndpoint = String.format(engineUtil.getAirflowDagRunsStatusUrl(),
         workflowName, dagRunIdentificationParam);
     ClientResponse response = callAirflowApi(getAirflowConfig(rq.isSystemWorkflow()),
-        getDAGRunStatusEndpoint, HttpMethod.GET, null,
+        getDAGRunStatusEndpoint, HttpMethod.GET, null, null,
         String.format(AIRFLOW_WORKFLOW_RUN_NOT_FOUND, workflowName, dagRunIdentificationParam));
     try {
       final AirflowGetDAGRunStatus airflowResponse = om.readValue(response.getEntity(String.class),
@@ -322,11 +413,11 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     }
   }
 
-  private Integer getActiveDagRunsCount() throws Exception {
+  private Integer getActiveDagRunsCount(AirflowConfig airflowConfig) throws Exception {
     LOGGER.info("Obtaining active dag runs from Airflow");
     String endpoint = engineUtil.getAirflowActiveDagRunsCountUrl();
-    ClientResponse clientResponse = callAirflowApi(getAirflowConfig(false), endpoint, HttpMethod.GET,
-        null, AIRFLOW_GET_ACTIVE_DAG_RUNS_ERROR_MESSAGE);
+    ClientResponse clientResponse = callAirflowApi(airflowConfig, endpoint, HttpMethod.GET,
+        null, null, AIRFLOW_GET_ACTIVE_DAG_RUNS_ERROR_MESSAGE);
 
     Integer activeDagRuns = engineUtil.extractActiveDagRunsResponse(clientResponse.getEntity(String.class));
 
@@ -336,10 +427,19 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     throw new Exception("Failed to retrieve active dag runs, got null response");
   }
 
+  // Requests carry the execution context as a JSON tree. Its top level fields are copied into a
+  // new node, so the user id is not added to the caller's tree, and nested values are not copied.
   private void addUserIdToExecutionContext(Map<String, Object> inputData, WorkflowEngineRequest rq) {
-    ObjectMapper objectMapper = new ObjectMapper();
-    Map<String, Object> executionContext = objectMapper.convertValue(inputData.get(KEY_EXECUTION_CONTEXT), Map.class);
-    if (executionContext.containsKey(KEY_USER_ID)) {
+    final Object context = inputData.get(KEY_EXECUTION_CONTEXT);
+    final JsonNode contextNode = context instanceof JsonNode
+        ? (JsonNode) context
+        : OBJECT_MAPPER.valueToTree(context);
+    if (contextNode == null || !contextNode.isObject()) {
+      throw new AppException(HttpStatus.BAD_REQUEST.value(), "Failed to trigger workflow run",
+          "execution_context must be a JSON object");
+    }
+    final ObjectNode executionContext = OBJECT_MAPPER.createObjectNode().setAll((ObjectNode) contextNode);
+    if (executionContext.has(KEY_USER_ID)) {
       String errorMessage = String.format("Request to trigger workflow with name %s failed because execution context contains reserved key 'userId'", rq.getWorkflowName());
       throw new AppException(400, "Failed to trigger workflow run", errorMessage);
     }
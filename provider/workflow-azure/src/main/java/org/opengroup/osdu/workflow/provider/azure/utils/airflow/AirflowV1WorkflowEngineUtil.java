@@ -3,7 +3,7 @@ package org.opengroup.osdu.workflow.provider.azure.utils.airflow;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.json.JSONObject;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareConfig;
@@ -79,7 +79,7 @@ public class AirflowV1WorkflowEngineUtil implements IAirflowWorkflowEngineUtil {
   }
 
 
-  public JSONObject addMicroSecParam(JSONObject requestBody) {
+  public ObjectNode addMicroSecParam(ObjectNode requestBody) {
     requestBody.put(AIRFLOW_MICROSECONDS_FLAG, "false");
     return requestBody;
   }
@@ -1,7 +1,7 @@
 package org.opengroup.osdu.workflow.provider.azure.utils.airflow;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import org.json.JSONObject;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareConfig;
@@ -32,5 +32,5 @@ public interface IAirflowWorkflowEngineUtil {
 
   String getDagRunIdentificationParam(WorkflowEngineRequest rq);
 
-  JSONObject addMicroSecParam(JSONObject requestBody);
+  ObjectNode addMicroSecParam(ObjectNode requestBody);
 }
@@ -0,0 +1,82 @@
+package org.opengroup.osdu.workflow.provider.azure.cache;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache.Reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link ActiveDagRunsVmCache}
+ */
+public class ActiveDagRunsVmCacheTest {
+  private static final String KEY = "active-dag-runs-count";
+
+  @Test
+  public void testTryReserveWhenCountNotCached() {
+    ActiveDagRunsVmCache cache = new ActiveDagRunsVmCache();
+
+    assertEquals(Reservation.NOT_CACHED, cache.tryReserve(KEY, 10));
+    assertNull(cache.get(KEY));
+  }
+
+  @Test
+  public void testTryReserveStopsAtThreshold() {
+    ActiveDagRunsVmCache cache = new ActiveDagRunsVmCache();
+    cache.put(KEY, 8);
+
+    assertEquals(Reservation.RESERVED, cache.tryReserve(KEY, 10));
+    assertEquals(Reservation.RESERVED, cache.tryReserve(KEY, 10));
+    assertEquals(Reservation.THRESHOLD_REACHED, cache.tryReserve(KEY, 10));
+    assertEquals(10, cache.get(KEY));
+  }
+
+  @Test
+  public void testConcurrentReservationsDoNotOvershootThreshold() throws Exception {
+    ActiveDagRunsVmCache cache = new ActiveDagRunsVmCache();
+    cache.put(KEY, 0);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<Reservation>> reservations = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        reservations.add(() -> cache.tryReserve(KEY, 50));
+      }
+      int reserved = 0;
+      for (Future<Reservation> reservation : executor.invokeAll(reservations)) {
+        if (reservation.get() == Reservation.RESERVED) {
+          reserved++;
+        }
+      }
+      assertEquals(50, reserved);
+      assertEquals(50, cache.get(KEY));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testReleaseDoesNotGoBelowZero() {
+    ActiveDagRunsVmCache cache = new ActiveDagRunsVmCache();
+    cache.put(KEY, 1);
+
+    cache.release(KEY);
+    cache.release(KEY);
+
+    assertEquals(0, cache.get(KEY));
+  }
+
+  @Test
+  public void testCountExpiresAfterPut() {
+    ActiveDagRunsVmCache cache = new ActiveDagRunsVmCache(0);
+    cache.put(KEY, 1);
+
+    assertEquals(Reservation.NOT_CACHED, cache.tryReserve(KEY, 10));
+  }
+}
@@ -1,5 +1,15 @@
 package org.opengroup.osdu.workflow.provider.azure.repository;
 
+import com.azure.cosmos.CosmosClient;
+import com.azure.cosmos.CosmosContainer;
+import com.azure.cosmos.CosmosDatabase;
+import com.azure.cosmos.models.CosmosBulkItemResponse;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosItemIdentity;
+import com.azure.cosmos.models.CosmosItemOperation;
+import com.azure.cosmos.models.CosmosItemOperationType;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.PartitionKey;
 import com.azure.cosmos.models.SqlParameter;
 import com.azure.cosmos.models.SqlQuerySpec;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.cosmosdb.CosmosStore;
+import org.opengroup.osdu.azure.cosmosdb.ICosmosClientFactory;
 import org.opengroup.osdu.azure.query.CosmosStorePageRequest;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppError;
@@ -21,7 +32,9 @@ import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.azure.config.CosmosConfig;
 import org.opengroup.osdu.workflow.provider.azure.consts.WorkflowRunConstants;
 import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache;
@@ -47,6 +60,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -117,6 +131,9 @@ public class WorkflowRunRepositoryTest {
   @Mock
   private CosmosStore cosmosStore;
 
+  @Mock
+  private ICosmosClientFactory cosmosClientFactory;
+
   @Mock
   private DpsHeaders dpsHeaders;
 
@@ -202,7 +219,6 @@ public class WorkflowRunRepositoryTest {
         eq(WORKFLOW_RUN_COLLECTION), eq(RUN_ID), eq(WORKFLOW_NAME), workflowRunDocArgumentCaptor.capture());
     when(cosmosStore.findItem(eq(PARTITION_ID), eq(DATABASE_NAME), eq(WORKFLOW_RUN_COLLECTION),
         eq(RUN_ID), eq(WORKFLOW_NAME), eq(WorkflowRunDoc.class))).thenReturn(Optional.of(updatedWorkflowRunDoc));
-    when(activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY)).thenReturn(null);
     final WorkflowRun response = workflowRunRepository.updateWorkflowRun(updatedWorkflowRun);
     verify(cosmosStore).findItem(eq(PARTITION_ID), eq(DATABASE_NAME), eq(WORKFLOW_RUN_COLLECTION),
         eq(RUN_ID), eq(WORKFLOW_NAME), eq(WorkflowRunDoc.class));
@@ -212,7 +228,7 @@ public class WorkflowRunRepositoryTest {
     verify(cosmosConfig,times(2)).getDatabase();
     verify(cosmosConfig, times(2)).getWorkflowRunCollection();
     verify(dpsHeaders, times(3)).getPartitionId();
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY));
+    verify(activeDagRunsCache).release(eq(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY));
     assertThat(workflowRunDocArgumentCaptor.getValue().getStatus(), equalTo(response.getStatus().toString()));
     assertThat(workflowRunDocArgumentCaptor.getValue().getId(), equalTo(response.getRunId()));
     assertThat(workflowRunDocArgumentCaptor.getValue().getWorkflowName(), equalTo(response.getWorkflowId()));
@@ -232,7 +248,6 @@ public class WorkflowRunRepositoryTest {
         eq(WORKFLOW_RUN_COLLECTION), eq(RUN_ID), eq(WORKFLOW_NAME), workflowRunDocArgumentCaptor.capture());
     when(cosmosStore.findItem(eq(PARTITION_ID), eq(DATABASE_NAME), eq(WORKFLOW_RUN_COLLECTION),
         eq(RUN_ID), eq(WORKFLOW_NAME), eq(WorkflowRunDoc.class))).thenReturn(Optional.of(updatedWorkflowRunDoc));
-    when(activeDagRunsCache.get(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY)).thenReturn(1);
     final WorkflowRun response = workflowRunRepository.updateWorkflowRun(updatedWorkflowRun);
     verify(cosmosStore).findItem(eq(PARTITION_ID), eq(DATABASE_NAME), eq(WORKFLOW_RUN_COLLECTION),
         eq(RUN_ID), eq(WORKFLOW_NAME), eq(WorkflowRunDoc.class));
@@ -242,8 +257,7 @@ public class WorkflowRunRepositoryTest {
     verify(cosmosConfig,times(2)).getDatabase();
     verify(cosmosConfig, times(2)).getWorkflowRunCollection();
     verify(dpsHeaders, times(3)).getPartitionId();
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY));
-    verify(activeDagRunsCache).decrementKey(eq(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY));
+    verify(activeDagRunsCache).release(eq(ACTIVE_DAG_RUNS_COUNT_CACHE_KEY));
     assertThat(workflowRunDocArgumentCaptor.getValue().getStatus(), equalTo(response.getStatus().toString()));
     assertThat(workflowRunDocArgumentCaptor.getValue().getId(), equalTo(response.getRunId()));
     assertThat(workflowRunDocArgumentCaptor.getValue().getWorkflowName(), equalTo(response.getWorkflowId()));
@@ -285,25 +299,178 @@ public class WorkflowRunRepositoryTest {
   }
 
   @Test
-  public void testDeleteWorkflowRuns() throws Exception {
+  public void testGetActiveWorkflowRunsFiltersByStatusInQuery() throws Exception {
+    final WorkflowRunDoc workflowRunDoc = OBJECT_MAPPER.readValue(WORKFLOW_RUN_DOC,
+        WorkflowRunDoc.class);
+    when(cursorUtils.decodeCosmosCursor(eq(TEST_CURSOR))).thenReturn(TEST_CURSOR);
     when(cosmosConfig.getDatabase()).thenReturn(DATABASE_NAME);
     when(cosmosConfig.getWorkflowRunCollection()).thenReturn(WORKFLOW_RUN_COLLECTION);
     when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
-    ArgumentCaptor<String> runIdCaptor = ArgumentCaptor.forClass(String.class);
-    doNothing().when(cosmosStore).deleteItem(eq(PARTITION_ID), eq(DATABASE_NAME),
-        eq(WORKFLOW_RUN_COLLECTION), runIdCaptor.capture(), eq(WORKFLOW_NAME));
+    ArgumentCaptor<SqlQuerySpec> sqlQuerySpecArgumentCaptor =
+        ArgumentCaptor.forClass(SqlQuerySpec.class);
+    Page<WorkflowRunDoc> workflowRunDocPage = new PageImpl<>(Arrays.asList(workflowRunDoc),
+        CosmosStorePageRequest.of(1,1, null, Sort.unsorted()), 1);
+    when(cosmosStore.queryItemsPage(eq(PARTITION_ID), eq(DATABASE_NAME), eq(WORKFLOW_RUN_COLLECTION),
+        sqlQuerySpecArgumentCaptor.capture(), eq(WorkflowRunDoc.class), eq(TEST_LIMIT),
+        eq(TEST_CURSOR))).thenReturn(workflowRunDocPage);
+
+    WorkflowRunsPage workflowRunsPage =
+        workflowRunRepository.getActiveWorkflowRuns(TEST_LIMIT, TEST_CURSOR);
+
+    Assertions.assertEquals(1, workflowRunsPage.getItems().size());
+    SqlQuerySpec capturedSqlQuerySpec = sqlQuerySpecArgumentCaptor.getValue();
+    Assertions.assertEquals("SELECT * from c where ARRAY_CONTAINS(@statuses, c.status)",
+        capturedSqlQuerySpec.getQueryText());
+    Assertions.assertEquals("@statuses", capturedSqlQuerySpec.getParameters().get(0).getName());
+  }
+
+  @Test
+  public void testDeleteWorkflowRuns() throws Exception {
+    CosmosContainer container = mockWorkflowRunContainer();
+    CosmosBulkOperationResponse<Object> deleted = mockBulkResponse(HttpStatus.SC_NO_CONTENT);
+    CosmosBulkOperationResponse<Object> alreadyDeleted = mockBulkResponse(HttpStatus.SC_NOT_FOUND);
+    ArgumentCaptor<Iterable<CosmosItemOperation>> operationsCaptor = ArgumentCaptor.forClass(Iterable.class);
+    when(container.executeBulkOperations(operationsCaptor.capture()))
+        .thenReturn(Arrays.asList(deleted, alreadyDeleted));
 
     List<String> runIds = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString());
     workflowRunRepository.deleteWorkflowRuns(WORKFLOW_NAME, runIds);
-    verify(cosmosStore, times(runIds.size())).deleteItem(eq(PARTITION_ID), eq(DATABASE_NAME),
-        eq(WORKFLOW_RUN_COLLECTION), anyString(), eq(WORKFLOW_NAME));
-    List<String> capturedRunIds = runIdCaptor.getAllValues();
-    for(int i = 0; i < runIds.size(); i++) {
-      Assertions.assertEquals(runIds.get(i), capturedRunIds.get(i));
+
+    verify(container).executeBulkOperations(any());
+    verify(cosmosStore, times(0)).deleteItem(anyString(), anyString(), anyString(), anyString(), anyString());
+    List<CosmosItemOperation> operations = new ArrayList<>();
+    operationsCaptor.getValue().forEach(operations::add);
+    for (int i = 0; i < runIds.size(); i++) {
+      Assertions.assertEquals(CosmosItemOperationType.DELETE, operations.get(i).getOperationType());
+      Assertions.assertEquals(runIds.get(i), operations.get(i).getId());
+      Assertions.assertEquals(new PartitionKey(WORKFLOW_NAME), operations.get(i).getPartitionKeyValue());
     }
-    verify(cosmosConfig, times(runIds.size())).getDatabase();
-    verify(cosmosConfig, times(runIds.size())).getWorkflowRunCollection();
-    verify(dpsHeaders, times(runIds.size())).getPartitionId();
+  }
+
+  @Test
+  public void testDeleteWorkflowRunsWhenBulkDeleteFails() throws Exception {
+    CosmosContainer container = mockWorkflowRunContainer();
+    CosmosBulkOperationResponse<Object> deleted = mockBulkResponse(HttpStatus.SC_NO_CONTENT);
+    CosmosBulkOperationResponse<Object> throttled = mockBulkResponse(429);
+    when(container.executeBulkOperations(any())).thenReturn(Arrays.asList(deleted, throttled));
+
+    List<String> runIds = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    AppException exception = Assertions.assertThrows(AppException.class,
+        () -> workflowRunRepository.deleteWorkflowRuns(WORKFLOW_NAME, runIds));
+    Assertions.assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, exception.getError().getCode());
+  }
+
+  @Test
+  public void testSaveWorkflowRunsCreatesRunsInBulk() throws Exception {
+    CosmosContainer container = mockWorkflowRunContainer();
+    String savedRunId = UUID.randomUUID().toString();
+    String duplicateRunId = UUID.randomUUID().toString();
+    CosmosBulkOperationResponse<Object> created = mockBulkResponse(HttpStatus.SC_CREATED, savedRunId);
+    CosmosBulkOperationResponse<Object> conflict = mockBulkResponse(HttpStatus.SC_CONFLICT, duplicateRunId);
+    ArgumentCaptor<Iterable<CosmosItemOperation>> operationsCaptor = ArgumentCaptor.forClass(Iterable.class);
+    when(container.executeBulkOperations(operationsCaptor.capture()))
+        .thenReturn(Arrays.asList(conflict, created));
+
+    List<WorkflowRunSaveResult> results = workflowRunRepository.saveWorkflowRuns(
+        Arrays.asList(buildSubmittedRun(savedRunId), buildSubmittedRun(duplicateRunId)));
+
+    verify(cosmosStore, times(0)).createItem(anyString(), anyString(), anyString(), anyString(), any());
+    List<CosmosItemOperation> operations = new ArrayList<>();
+    operationsCaptor.getValue().forEach(operations::add);
+    Assertions.assertEquals(2, operations.size());
+    Assertions.assertEquals(CosmosItemOperationType.CREATE, operations.get(0).getOperationType());
+    Assertions.assertEquals(new PartitionKey(WORKFLOW_NAME), operations.get(0).getPartitionKeyValue());
+    Assertions.assertEquals(savedRunId, results.get(0).getWorkflowRun().getRunId());
+    Assertions.assertNull(results.get(0).getError());
+    Assertions.assertEquals(duplicateRunId, results.get(1).getRunId());
+    Assertions.assertNull(results.get(1).getWorkflowRun());
+    Assertions.assertEquals(HttpStatus.SC_CONFLICT, results.get(1).getError().getCode());
+  }
+
+  @Test
+  public void testSaveWorkflowRunsReportsServerErrorOfFailedRunOnly() throws Exception {
+    CosmosContainer container = mockWorkflowRunContainer();
+    String savedRunId = UUID.randomUUID().toString();
+    String failedRunId = UUID.randomUUID().toString();
+    CosmosBulkOperationResponse<Object> created = mockBulkResponse(HttpStatus.SC_CREATED, savedRunId);
+    CosmosBulkOperationResponse<Object> unavailable = mockBulkResponse(HttpStatus.SC_SERVICE_UNAVAILABLE, failedRunId);
+    when(container.executeBulkOperations(any())).thenReturn(Arrays.asList(unavailable, created));
+
+    List<WorkflowRunSaveResult> results = workflowRunRepository.saveWorkflowRuns(
+        Arrays.asList(buildSubmittedRun(savedRunId), buildSubmittedRun(failedRunId)));
+
+    Assertions.assertEquals(savedRunId, results.get(0).getWorkflowRun().getRunId());
+    Assertions.assertNull(results.get(0).getError());
+    Assertions.assertNull(results.get(1).getWorkflowRun());
+    Assertions.assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, results.get(1).getError().getCode());
+  }
+
+  @Test
+  public void testSaveWorkflowRunsWhenBulkCallFails() throws Exception {
+    CosmosContainer container = mockWorkflowRunContainer();
+    when(container.executeBulkOperations(any())).thenThrow(new IllegalStateException("Cosmos unavailable"));
+
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> workflowRunRepository.saveWorkflowRuns(Arrays.asList(buildSubmittedRun(UUID.randomUUID().toString()))));
+  }
+
+  @Test
+  public void testGetWorkflowRunsReadsManyFromWorkflowPartition() throws Exception {
+    final WorkflowRunDoc workflowRunDoc = OBJECT_MAPPER.readValue(WORKFLOW_RUN_DOC, WorkflowRunDoc.class);
+    CosmosContainer container = mockWorkflowRunContainer();
+    FeedResponse<WorkflowRunDoc> feedResponse = mock(FeedResponse.class);
+    when(feedResponse.getResults()).thenReturn(Arrays.asList(workflowRunDoc));
+    ArgumentCaptor<List<CosmosItemIdentity>> identitiesCaptor = ArgumentCaptor.forClass(List.class);
+    when(container.readMany(identitiesCaptor.capture(), eq(WorkflowRunDoc.class))).thenReturn(feedResponse);
+
+    List<WorkflowRun> workflowRuns = workflowRunRepository.getWorkflowRuns(WORKFLOW_NAME,
+        Arrays.asList(workflowRunDoc.getRunId(), UUID.randomUUID().toString()));
+
+    Assertions.assertEquals(1, workflowRuns.size());
+    Assertions.assertEquals(workflowRunDoc.getRunId(), workflowRuns.get(0).getRunId());
+    Assertions.assertEquals(2, identitiesCaptor.getValue().size());
+    for (CosmosItemIdentity identity : identitiesCaptor.getValue()) {
+      Assertions.assertEquals(new PartitionKey(WORKFLOW_NAME), identity.getPartitionKey());
+    }
+  }
+
+  private CosmosContainer mockWorkflowRunContainer() {
+    when(cosmosConfig.getDatabase()).thenReturn(DATABASE_NAME);
+    when(cosmosConfig.getWorkflowRunCollection()).thenReturn(WORKFLOW_RUN_COLLECTION);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    CosmosClient cosmosClient = mock(CosmosClient.class);
+    CosmosDatabase cosmosDatabase = mock(CosmosDatabase.class);
+    CosmosContainer container = mock(CosmosContainer.class);
+    when(cosmosClientFactory.getClient(PARTITION_ID)).thenReturn(cosmosClient);
+    when(cosmosClient.getDatabase(DATABASE_NAME)).thenReturn(cosmosDatabase);
+    when(cosmosDatabase.getContainer(WORKFLOW_RUN_COLLECTION)).thenReturn(container);
+    return container;
+  }
+
+  private CosmosBulkOperationResponse<Object> mockBulkResponse(int statusCode, String itemId) {
+    CosmosBulkOperationResponse<Object> response = mockBulkResponse(statusCode);
+    CosmosItemOperation operation = mock(CosmosItemOperation.class);
+    when(operation.<WorkflowRunDoc>getItem()).thenReturn(WorkflowRunDoc.builder().id(itemId).build());
+    when(response.getOperation()).thenReturn(operation);
+    return response;
+  }
+
+  private WorkflowRun buildSubmittedRun(String runId) {
+    return WorkflowRun.builder()
+        .runId(runId)
+        .workflowId(WORKFLOW_NAME)
+        .workflowName(WORKFLOW_NAME)
+        .status(WorkflowStatusType.SUBMITTED)
+        .build();
+  }
+
+  private CosmosBulkOperationResponse<Object> mockBulkResponse(int statusCode) {
+    CosmosBulkOperationResponse<Object> response = mock(CosmosBulkOperationResponse.class);
+    CosmosBulkItemResponse itemResponse = mock(CosmosBulkItemResponse.class);
+    when(response.getResponse()).thenReturn(itemResponse);
+    when(itemResponse.isSuccessStatusCode()).thenReturn(statusCode < 300);
+    lenient().when(itemResponse.getStatusCode()).thenReturn(statusCode);
+    return response;
   }
 
   @Test
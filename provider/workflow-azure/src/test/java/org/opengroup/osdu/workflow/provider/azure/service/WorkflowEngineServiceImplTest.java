@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.partition.PartitionInfoAzure;
 import org.opengroup.osdu.azure.partition.PartitionServiceClient;
@@ -20,6 +22,7 @@ import org.opengroup.osdu.core.common.cache.ICache;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowRetryConfig;
 import org.opengroup.osdu.workflow.model.AirflowGetDAGRunStatus;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
@@ -30,7 +33,9 @@ import org.opengroup.osdu.workflow.provider.azure.config.AzureWorkflowEngineConf
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareConfig;
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareStore;
 import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache;
+import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache.Reservation;
 import org.opengroup.osdu.workflow.provider.azure.utils.airflow.AirflowV1WorkflowEngineUtil;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import javax.ws.rs.core.MediaType;
@@ -41,13 +46,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -163,6 +171,10 @@ public class WorkflowEngineServiceImplTest {
   @Mock
   private PartitionServiceClient partitionService;
 
+  @Spy
+  private AirflowRetryPolicy retryPolicy =
+      new AirflowRetryPolicy(new AirflowRetryConfig(), new SimpleMeterRegistry());
+
   @InjectMocks
   private WorkflowEngineServiceImpl workflowEngineService;
 
@@ -255,7 +267,7 @@ public class WorkflowEngineServiceImplTest {
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null).thenReturn(0);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -296,9 +308,9 @@ public class WorkflowEngineServiceImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsCache, times(1)).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), numberOfActiveDagRunsCaptor.capture());
-    verify(activeDagRunsCache, times(1)).incrementKey(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(0)).release(any());
     verify(activeDagRunsConfig).getThreshold();
     assertEquals(10, numberOfActiveDagRunsCaptor.getAllValues().get(0));
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
@@ -342,7 +354,7 @@ public class WorkflowEngineServiceImplTest {
     verify(airflowConfig).getUrl();
     verify(airflowConfig).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(0)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(0)).tryReserve(any(), anyInt());
     verify(activeDagRunsConfig, times(0)).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
@@ -362,7 +374,7 @@ public class WorkflowEngineServiceImplTest {
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), anyInt())).thenReturn(Reservation.NOT_CACHED);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
     when(airflowConfig.getUrl()).thenReturn(AIRFLOW_URL);
@@ -402,9 +414,9 @@ public class WorkflowEngineServiceImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), anyInt());
     verify(activeDagRunsCache, times(0)).put(any(), any());
-    verify(activeDagRunsConfig, times(0)).getThreshold();
+    verify(activeDagRunsConfig).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
 
@@ -419,7 +431,8 @@ public class WorkflowEngineServiceImplTest {
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
     when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED)
+        .thenReturn(Reservation.THRESHOLD_REACHED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -443,8 +456,8 @@ public class WorkflowEngineServiceImplTest {
     });
 
     // Verify
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
-    verify(activeDagRunsCache, times(0)).put(any(), any());
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
+    verify(activeDagRunsCache).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsConfig).getThreshold();
 
     verify(airflowConfig, times(1)).getUrl();
@@ -459,7 +472,7 @@ public class WorkflowEngineServiceImplTest {
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
     when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.THRESHOLD_REACHED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
 
     Assertions.assertThrows(AppException.class, () -> {
@@ -470,6 +483,57 @@ public class WorkflowEngineServiceImplTest {
     verify(activeDagRunsConfig).getThreshold();
   }
 
+  @Test
+  public void testReconcileActiveDagRunsCountUsesAirflowOfCountingTrigger() {
+    PartitionInfoAzure partitionInfoAzure = mock(PartitionInfoAzure.class);
+    AirflowConfig systemAirflowConfig = mock(AirflowConfig.class);
+    Map<String, Object> INPUT_DATA = new HashMap<>();
+    INPUT_DATA.put("Hello", "World");
+
+    // Mock
+    when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
+    when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
+    when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED)
+        .thenReturn(Reservation.THRESHOLD_REACHED);
+    when(activeDagRunsCache.get(ACTIVE_DAG_RUNS_CACHE_KEY)).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
+    when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
+    when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
+    when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
+    lenient().when(airflowConfigResolver.getSystemAirflowConfig()).thenReturn(systemAirflowConfig);
+    lenient().when(systemAirflowConfig.getUrl()).thenReturn("https://system-airflow.com/airflow");
+    when(airflowConfig.getUrl()).thenReturn(AIRFLOW_URL);
+    when(airflowConfig.getAppKey()).thenReturn(AIRFLOW_APP_KEY);
+    when(restClient.resource(eq(AIRFLOW_DAG_RUN_URL))).thenReturn(webResource);
+    when(webResource.type(eq(MediaType.APPLICATION_JSON))).thenReturn(webResourceBuilder);
+    when(webResourceBuilder.header(eq(HEADER_AUTHORIZATION_NAME), eq(HEADER_AUTHORIZATION_VALUE)))
+        .thenReturn(webResourceBuilder);
+    when(webResourceBuilder.method(eq("GET"), eq(ClientResponse.class), any()))
+        .thenReturn(airflowActiveDagRunsResponse);
+    when(airflowActiveDagRunsResponse.getStatus()).thenReturn(SUCCESS_STATUS_CODE);
+    when(airflowActiveDagRunsResponse.getEntity(String.class)).thenReturn(AIRFLOW_ACTIVE_DAG_RUNS_RESPONSE);
+    when(engineUtil.extractActiveDagRunsResponse(any())).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
+
+    // ACT
+    Assertions.assertThrows(AppException.class, () -> {
+      workflowEngineService.triggerWorkflow(workflowEngineRequest(null, false, false), INPUT_DATA);
+    });
+    workflowEngineService.reconcileActiveDagRunsCount();
+
+    // Verify
+    verify(restClient, times(2)).resource(eq(AIRFLOW_DAG_RUN_URL));
+    verify(activeDagRunsCache, times(2)).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
+    verify(airflowConfigResolver, never()).getSystemAirflowConfig();
+  }
+
+  @Test
+  public void testReconcileActiveDagRunsCountSkipsCountNotObtainedHere() {
+    workflowEngineService.reconcileActiveDagRunsCount();
+
+    verify(activeDagRunsCache, never()).put(any(), any());
+    verify(restClient, never()).resource(anyString());
+  }
+
   @Test
   public void testTriggerWorkflowWithExceptionFromAirflow() throws JsonProcessingException, JSONException {
     PartitionInfoAzure partitionInfoAzure = mock(PartitionInfoAzure.class);
@@ -485,7 +549,7 @@ public class WorkflowEngineServiceImplTest {
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -518,7 +582,8 @@ public class WorkflowEngineServiceImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig, times(1)).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
+    verify(activeDagRunsCache).release(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
     verify(activeDagRunsConfig).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
@@ -539,7 +604,7 @@ public class WorkflowEngineServiceImplTest {
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -581,7 +646,7 @@ public class WorkflowEngineServiceImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig, times(1)).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsCache).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), numberOfActiveDagRunsCaptor.capture());
     verify(activeDagRunsConfig).getThreshold();
     assertEquals(10, numberOfActiveDagRunsCaptor.getValue());
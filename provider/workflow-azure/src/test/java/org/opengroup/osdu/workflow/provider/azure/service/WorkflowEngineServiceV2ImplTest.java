@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.partition.PartitionInfoAzure;
 import org.opengroup.osdu.azure.partition.PartitionServiceClient;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowRetryConfig;
 import org.opengroup.osdu.workflow.model.AirflowGetDAGRunStatus;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
@@ -29,7 +32,9 @@ import org.opengroup.osdu.workflow.provider.azure.config.AzureWorkflowEngineConf
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareConfig;
 import org.opengroup.osdu.workflow.provider.azure.fileshare.FileShareStore;
 import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache;
+import org.opengroup.osdu.workflow.provider.azure.interfaces.IActiveDagRunsCache.Reservation;
 import org.opengroup.osdu.workflow.provider.azure.utils.airflow.AirflowV2WorkflowEngineUtil;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import javax.ws.rs.core.MediaType;
@@ -154,6 +159,10 @@ public class WorkflowEngineServiceV2ImplTest {
   @Mock
   private PartitionServiceClient partitionService;
 
+  @Spy
+  private AirflowRetryPolicy retryPolicy =
+      new AirflowRetryPolicy(new AirflowRetryConfig(), new SimpleMeterRegistry());
+
   @InjectMocks
   private WorkflowEngineServiceImpl workflowEngineService;
 
@@ -234,7 +243,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null).thenReturn(0);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -276,7 +285,7 @@ public class WorkflowEngineServiceV2ImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsCache, times(1)).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), numberOfActiveDagRunsCaptor.capture());
     verify(activeDagRunsConfig).getThreshold();
     assertEquals(10, numberOfActiveDagRunsCaptor.getAllValues().get(0));
@@ -321,7 +330,7 @@ public class WorkflowEngineServiceV2ImplTest {
     verify(airflowConfig).getUrl();
     verify(airflowConfig).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(0)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(0)).tryReserve(any(), anyInt());
     verify(activeDagRunsConfig, times(0)).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
@@ -335,7 +344,8 @@ public class WorkflowEngineServiceV2ImplTest {
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
     when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED)
+        .thenReturn(Reservation.THRESHOLD_REACHED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -357,8 +367,8 @@ public class WorkflowEngineServiceV2ImplTest {
       workflowEngineService.triggerWorkflow(workflowEngineRequest(null, false), INPUT_DATA);
     });
 
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
-    verify(activeDagRunsCache, times(0)).put(any(), any());
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
+    verify(activeDagRunsCache).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsConfig).getThreshold();
     verify(airflowConfig, times(1)).getUrl();
     verify(airflowConfig, times(1)).getAppKey();
@@ -377,7 +387,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), anyInt())).thenReturn(Reservation.NOT_CACHED);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
     when(airflowConfig.getUrl()).thenReturn(AIRFLOW_URL);
@@ -412,9 +422,9 @@ public class WorkflowEngineServiceV2ImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), anyInt());
     verify(activeDagRunsCache, times(0)).put(any(), any());
-    verify(activeDagRunsConfig, times(0)).getThreshold();
+    verify(activeDagRunsConfig).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
 
@@ -426,7 +436,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
     when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.THRESHOLD_REACHED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
 
     Assertions.assertThrows(AppException.class, () -> {
@@ -452,7 +462,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -486,7 +496,8 @@ public class WorkflowEngineServiceV2ImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig, times(1)).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
+    verify(activeDagRunsCache).release(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
     verify(activeDagRunsConfig).getThreshold();
     JSONAssert.assertEquals(AIRFLOW_INPUT, airflowInputCaptor.getValue(), true);
   }
@@ -505,7 +516,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(engineUtil.getAirflowDagRunsUrl()).thenReturn(P_AIRFLOW_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -541,7 +552,7 @@ public class WorkflowEngineServiceV2ImplTest {
     verify(airflowConfig, times(2)).getUrl();
     verify(airflowConfig, times(2)).getAppKey();
     verify(airflowConfig, times(1)).isDagRunAbstractionEnabled();
-    verify(activeDagRunsCache, times(2)).get(eq(ACTIVE_DAG_RUNS_CACHE_KEY));
+    verify(activeDagRunsCache, times(2)).tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD));
     verify(activeDagRunsCache).put(eq(ACTIVE_DAG_RUNS_CACHE_KEY), numberOfActiveDagRunsCaptor.capture());
     verify(activeDagRunsConfig).getThreshold();
     assertEquals(10, numberOfActiveDagRunsCaptor.getValue());
@@ -738,7 +749,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
     when(engineUtil.getDagRunIdParameterName()).thenReturn(RUN_ID_PARAMETER_NAME);
     doCallRealMethod().when(engineUtil).addMicroSecParam(any());
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null).thenReturn(0);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -779,7 +790,7 @@ public class WorkflowEngineServiceV2ImplTest {
     when(partitionService.getPartition(eq(TEST_PARTITION))).thenReturn(partitionInfoAzure);
     when(partitionInfoAzure.getAirflowEnabled()).thenReturn(false);
     when(engineUtil.getAirflowActiveDagRunsCountUrl()).thenReturn(P_AIRFLOW_ACTIVE_DAG_RUNS_URL);
-    when(activeDagRunsCache.get(eq(ACTIVE_DAG_RUNS_CACHE_KEY))).thenReturn(null).thenReturn(0);
+    when(activeDagRunsCache.tryReserve(eq(ACTIVE_DAG_RUNS_CACHE_KEY), eq(ACTIVE_DAG_RUNS_THRESHOLD))).thenReturn(Reservation.NOT_CACHED).thenReturn(Reservation.RESERVED);
     when(activeDagRunsConfig.getThreshold()).thenReturn(ACTIVE_DAG_RUNS_THRESHOLD);
     when(dpsHeaders.getPartitionId()).thenReturn(TEST_PARTITION);
     when(airflowConfigResolver.getAirflowConfig(TEST_PARTITION)).thenReturn(airflowConfig);
@@ -2,8 +2,7 @@ package org.opengroup.osdu.workflow.provider.azure.utils.airflow;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.json.JSONException;
-import org.json.JSONObject;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -100,11 +99,11 @@ public class AirflowV1WorkflowEngineUtilTest {
   }
 
   @Test
-  public void testAddMicroSecParam() throws JSONException {
-    JSONObject requestBody = mock(JSONObject.class);
-    JSONObject requestBodyObtained = airflowV1WorkflowEngineUtil.addMicroSecParam(requestBody);
+  public void testAddMicroSecParam() {
+    ObjectNode requestBody = new ObjectMapper().createObjectNode();
+    ObjectNode requestBodyObtained = airflowV1WorkflowEngineUtil.addMicroSecParam(requestBody);
 
-    verify(requestBody).put(eq(AIRFLOW_MICROSECONDS_FLAG), eq("false"));
+    assertEquals("false", requestBody.get(AIRFLOW_MICROSECONDS_FLAG).asText());
     assertEquals(requestBody, requestBodyObtained);
   }
 }
@@ -54,12 +54,20 @@ public class ComposerIaapClient implements ComposerClient {
         "Calling airflow endpoint with Google API. Http method: {}, Endpoint: {}, request body: {}",
         httpMethod, url, getTruncatedData(stringData));
     String airflowUrl = this.airflowConfig.getUrl();
-    String iapClientId = this.googleIapHelper.getIapClientId(airflowUrl);
 
     try {
-      HttpRequest httpRequest =
-          this.googleIapHelper.buildIapRequest(url, iapClientId, httpMethod, stringData);
-      HttpResponse response = httpRequest.execute();
+      HttpResponse response;
+      try {
+        response = execute(airflowUrl, httpMethod, url, stringData);
+      } catch (HttpResponseException e) {
+        if (!isAuthFailure(e.getStatusCode())) {
+          throw e;
+        }
+        log.warn("Airflow rejected IAP credentials with status {}, refreshing them",
+            e.getStatusCode());
+        this.googleIapHelper.invalidate(airflowUrl);
+        response = execute(airflowUrl, httpMethod, url, stringData);
+      }
       String content = IOUtils.toString(response.getContent(), UTF_8);
 
       return ClientResponse.builder()
@@ -82,4 +90,16 @@ public class ComposerIaapClient implements ComposerClient {
     }
   }
 
+  private HttpResponse execute(
+      String airflowUrl, String httpMethod, String url, String stringData) throws IOException {
+    String iapClientId = this.googleIapHelper.getIapClientId(airflowUrl);
+    HttpRequest httpRequest =
+        this.googleIapHelper.buildIapRequest(url, iapClientId, httpMethod, stringData);
+    return httpRequest.execute();
+  }
+
+  private boolean isAuthFailure(int statusCode) {
+    return statusCode == HttpStatus.UNAUTHORIZED.value()
+        || statusCode == HttpStatus.FORBIDDEN.value();
+  }
 }
@@ -20,7 +20,7 @@ package org.opengroup.osdu.workflow.provider.gcp.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpRequest;
-import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.InputStreamContent;
 import com.google.api.client.http.javanet.NetHttpTransport;
@@ -35,9 +35,12 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URLEncodedUtils;
 import org.jsoup.Jsoup;
@@ -47,6 +50,7 @@ import org.opengroup.osdu.workflow.exception.RuntimeException;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @ConditionalOnBean(ComposerIaapClient.class)
 @RequiredArgsConstructor
@@ -56,13 +60,39 @@ public class GoogleIapHelper {
   final HttpTransport httpTransport = new NetHttpTransport();
   private final ObjectMapper objectMapper;
 
+  // IAP client id per service URL, discovered once and dropped only on auth failures
+  private final Map<String, String> iapClientIds = new ConcurrentHashMap<>();
+  // Request factory per IAP client id; its IdTokenCredentials cache the ID token
+  // and refresh it before it expires
+  private final Map<String, HttpRequestFactory> requestFactories = new ConcurrentHashMap<>();
+  private volatile IdTokenProvider idTokenProvider;
+
   /**
-   * Fetch Google IAP client ID
+   * Fetch Google IAP client ID. The value is discovered once per URL and then served from
+   * memory until {@link #invalidate(String)} is called.
    *
    * @param url service URL
    * @return IAP client ID
    */
   public String getIapClientId(String url) {
+    return iapClientIds.computeIfAbsent(url, this::fetchIapClientId);
+  }
+
+  /**
+   * Forget the cached IAP client ID of the URL and the credentials built for it, so the next
+   * request discovers the client ID and obtains a new ID token.
+   *
+   * @param url service URL
+   */
+  public void invalidate(String url) {
+    String iapClientId = iapClientIds.remove(url);
+    if (Objects.nonNull(iapClientId)) {
+      requestFactories.remove(iapClientId);
+    }
+    log.info("Invalidated cached IAP client id and credentials of {}", url);
+  }
+
+  private String fetchIapClientId(String url) {
     try {
       Document doc = Jsoup.connect(url).get();
 
@@ -90,18 +120,26 @@ public class GoogleIapHelper {
         inputStreamContent =
             new InputStreamContent("application/json", new ByteArrayInputStream(data.getBytes()));
       }
-      IdTokenProvider idTokenProvider = getIdTokenProvider();
-      IdTokenCredentials credentials = getIdTokenCredentials(idTokenProvider, iapClientId);
-      HttpRequestInitializer httpRequestInitializer = new HttpCredentialsAdapter(credentials);
-
-      return httpTransport
-          .createRequestFactory(httpRequestInitializer)
+      return getRequestFactory(iapClientId)
           .buildRequest(httpMethod, new GenericUrl(webServerUrl), inputStreamContent);
     } catch (IOException e) {
       throw new GoogleIamException("Exception when build authorized request", e);
     }
   }
 
+  private HttpRequestFactory getRequestFactory(String iapClientId) throws IOException {
+    HttpRequestFactory requestFactory = requestFactories.get(iapClientId);
+    if (Objects.isNull(requestFactory)) {
+      IdTokenCredentials credentials = getIdTokenCredentials(getIdTokenProvider(), iapClientId);
+      requestFactory = httpTransport.createRequestFactory(new HttpCredentialsAdapter(credentials));
+      HttpRequestFactory existing = requestFactories.putIfAbsent(iapClientId, requestFactory);
+      if (Objects.nonNull(existing)) {
+        requestFactory = existing;
+      }
+    }
+    return requestFactory;
+  }
+
   private IdTokenCredentials getIdTokenCredentials(IdTokenProvider idTokenProvider,
       String iapClientId) {
     return IdTokenCredentials.newBuilder()
@@ -111,6 +149,9 @@ public class GoogleIapHelper {
   }
 
   private IdTokenProvider getIdTokenProvider() throws IOException {
+    if (Objects.nonNull(idTokenProvider)) {
+      return idTokenProvider;
+    }
     GoogleCredentials credentials =
         GoogleCredentials.getApplicationDefault().createScoped(Collections.singleton(IAM_SCOPE));
     // service account credentials are required to sign the jwt token
@@ -118,7 +159,8 @@ public class GoogleIapHelper {
       throw new GoogleIamException(
           "Google credentials : credentials that can provide id tokens expected");
     }
-    return (IdTokenProvider) credentials;
+    idTokenProvider = (IdTokenProvider) credentials;
+    return idTokenProvider;
   }
 
 }
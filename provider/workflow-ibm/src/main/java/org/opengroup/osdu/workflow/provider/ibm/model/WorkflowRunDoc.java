@@ -24,6 +24,9 @@ public class WorkflowRunDoc {
 	private WorkflowStatusType status;
 	private String submittedBy;
 	private String workflowEngineExecutionDate;
+	private Long lastStatusCheckTimestamp;
+	private Long statusCallbackTimestamp;
+	private Boolean dispatchPending;
 	
 	public WorkflowRunDoc(WorkflowRun workflowRun) {
 		super();
@@ -35,6 +38,9 @@ public class WorkflowRunDoc {
 		this.status = workflowRun.getStatus();
 		this.submittedBy = workflowRun.getSubmittedBy();
 		this.workflowEngineExecutionDate = workflowRun.getWorkflowEngineExecutionDate();
+		this.lastStatusCheckTimestamp = workflowRun.getLastStatusCheckTimestamp();
+		this.statusCallbackTimestamp = workflowRun.getStatusCallbackTimestamp();
+		this.dispatchPending = workflowRun.getDispatchPending();
 	}
 	
 	public WorkflowRun getWorkflowRun() {
@@ -47,6 +53,9 @@ public class WorkflowRunDoc {
 				.status(getStatus())
 				.submittedBy(getSubmittedBy())
 				.workflowEngineExecutionDate(getWorkflowEngineExecutionDate())
+				.lastStatusCheckTimestamp(getLastStatusCheckTimestamp())
+				.statusCallbackTimestamp(getStatusCallbackTimestamp())
+				.dispatchPending(getDispatchPending())
 				.build();			
 	}
 
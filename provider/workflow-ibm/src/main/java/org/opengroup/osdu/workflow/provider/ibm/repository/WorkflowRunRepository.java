@@ -6,8 +6,10 @@ package org.opengroup.osdu.workflow.provider.ibm.repository;
 
 import static com.cloudant.client.api.query.Expression.eq;
 import static com.cloudant.client.api.query.Expression.gte;
+import static com.cloudant.client.api.query.Expression.in;
 import static com.cloudant.client.api.query.Operation.and;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -15,10 +17,13 @@ import java.util.stream.Collectors;
 import jakarta.inject.Inject;
 
 import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.tenant.TenantInfo;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.ibm.config.IBMCouchDB;
 import org.opengroup.osdu.workflow.provider.ibm.model.WorkflowRunDoc;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
@@ -26,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.cloudant.client.api.Database;
+import com.cloudant.client.api.model.Response;
 import com.cloudant.client.api.query.QueryBuilder;
 import com.cloudant.client.api.query.QueryResult;
 import com.cloudant.client.api.query.Sort;
@@ -64,6 +70,44 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 		}
 	}
 
+	@Override
+	public List<WorkflowRunSaveResult> saveWorkflowRuns(List<WorkflowRun> workflowRuns) {
+		Database db = getDatabase();
+		List<WorkflowRunDoc> workflowRunDocs = workflowRuns.stream().map(WorkflowRunDoc::new).collect(Collectors.toList());
+		Map<String, Response> responses;
+		try {
+			responses = db.bulk(workflowRunDocs).stream()
+					.collect(Collectors.toMap(Response::getId, response -> response, (first, second) -> first));
+		} catch (Exception e) {
+			log.error("Bulk save operation failed", e);
+			throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "data save operation failed", "Workflow details failed to persist in database", e);
+		}
+
+		List<WorkflowRunSaveResult> results = new ArrayList<>();
+		for (WorkflowRun workflowRun : workflowRuns) {
+			Response response = responses.get(workflowRun.getRunId());
+			WorkflowRunSaveResult.WorkflowRunSaveResultBuilder result = WorkflowRunSaveResult.builder().runId(workflowRun.getRunId());
+			if (response != null && response.getError() == null) {
+				results.add(result.workflowRun(workflowRun).build());
+			} else if (response != null && "conflict".equals(response.getError())) {
+				results.add(result.error(AppError.builder()
+						.code(HttpStatus.SC_CONFLICT)
+						.reason("Conflict")
+						.message("WorkflowRun exists with runId " + workflowRun.getRunId())
+						.build()).build());
+			} else {
+				log.error("Bulk save failed for workflow run {}: {}", workflowRun.getRunId(),
+						response == null ? "no response" : response.getReason());
+				results.add(result.error(AppError.builder()
+						.code(HttpStatus.SC_INTERNAL_SERVER_ERROR)
+						.reason("data save operation failed")
+						.message("Workflow details failed to persist in database")
+						.build()).build());
+			}
+		}
+		return results;
+	}
+
 	private Database getDatabase() {
 	return ibmCouchDB.getDatabase(tenantInfo.getDataPartitionId(), COLLECTION_NAME);
 }
@@ -78,6 +122,16 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 			throw new AppException(HttpStatus.SC_NOT_FOUND, "Not Found", String.format("WorkflowRun: %s for Workflow: %s doesn't exist", runId, workflowName));
 	}
 
+	@Override
+	public List<WorkflowRun> getWorkflowRuns(String workflowName, List<String> runIds) {
+		Database db = getDatabase();
+		QueryResult<WorkflowRunDoc> results = db.query(new QueryBuilder(
+				and(eq("workflowName", workflowName), in("_id", runIds.toArray())))
+				.limit(runIds.size())
+				.build(), WorkflowRunDoc.class);
+		return results.getDocs().stream().map(WorkflowRunDoc::getWorkflowRun).collect(Collectors.toList());
+	}
+
 	@Override
 	public WorkflowRunsPage getWorkflowRunsByWorkflowName(String workflowName, Integer limit, String cursor) {
 		Database db = getDatabase();
@@ -111,6 +165,33 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 		return page;
 	}
 
+	@Override
+	public WorkflowRunsPage getActiveWorkflowRuns(Integer limit, String cursor) {
+		Database db = getDatabase();
+		int numRecords = limit != null && limit > 0 ? limit : WORKFLOW_RUN_LIMIT;
+		String initialId = validateCursor(cursor, db);
+		Object[] activeStatuses = WorkflowStatusType.getActiveStatusTypes().stream()
+				.map(WorkflowStatusType::name).toArray();
+
+		QueryResult<WorkflowRunDoc> results = db.query(new QueryBuilder(
+				and(in("status", activeStatuses), gte("_id", initialId)))
+				.limit(numRecords+1)
+				.sort(Sort.asc("_id"))
+				.build(), WorkflowRunDoc.class);
+		List<WorkflowRunDoc> workflowRunDocList = results.getDocs();
+		List<WorkflowRun> workflowRunList = workflowRunDocList.stream().map(WorkflowRunDoc::getWorkflowRun).collect(Collectors.toList());
+
+		WorkflowRunsPage page = new WorkflowRunsPage();
+		if (workflowRunDocList.size() > numRecords) {
+			page.setCursor(workflowRunDocList.get(numRecords).get_id());
+			workflowRunList.remove(numRecords);
+		} else {
+			page.setCursor(null);
+		}
+		page.setItems(workflowRunList);
+		return page;
+	}
+
 	private String validateCursor(String cursor, Database db) {
 		if (cursor != null && !cursor.isEmpty()) {
 			if (db.contains(cursor)) {
@@ -128,16 +209,26 @@ public class WorkflowRunRepository implements IWorkflowRunRepository {
 	public void deleteWorkflowRuns(String workflowName, List<String> runIds) {
 		Database db = getDatabase();
 		QueryResult<WorkflowRunDoc> results = db.query(new QueryBuilder(
-				eq("workflowName", workflowName))
+				and(eq("workflowName", workflowName), in("_id", runIds.toArray())))
+				.fields("_id", "_rev")
+				.limit(runIds.size())
 				.build(), WorkflowRunDoc.class);
 		if(results.getDocs().isEmpty()) {
 			throw new AppException(HttpStatus.SC_NOT_FOUND, "NOT_FOUND", String.format("WorkflowRun %s does not exists", workflowName));
 		}
 
-		for(WorkflowRunDoc workflowRunDoc:results.getDocs()) {
-			db.remove(workflowRunDoc);
+		// _bulk_docs removes every document marked as deleted in one request
+		List<Map<String, Object>> deletions = results.getDocs().stream()
+				.map(doc -> Map.<String, Object>of("_id", doc.get_id(), "_rev", doc.get_rev(), "_deleted", true))
+				.collect(Collectors.toList());
+		List<Response> failed = db.bulk(deletions).stream()
+				.filter(response -> response.getError() != null)
+				.collect(Collectors.toList());
+		if (!failed.isEmpty()) {
+			log.error("Bulk delete removed {} of {} workflow runs", deletions.size() - failed.size(), deletions.size());
+			throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Failed to delete workflow runs",
+					String.format("%d workflow runs of %s could not be deleted", failed.size(), workflowName));
 		}
-
 	}
 
 	@Override
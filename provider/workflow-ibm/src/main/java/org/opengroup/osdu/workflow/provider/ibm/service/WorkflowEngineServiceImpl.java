@@ -1,13 +1,17 @@
 package org.opengroup.osdu.workflow.provider.ibm.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.MediaType;
@@ -15,11 +19,12 @@ import javax.ws.rs.core.MediaType;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.WebResource;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
 import org.opengroup.osdu.workflow.model.*;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -45,6 +50,8 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
   private static final String AIRFLOW_WORKFLOW_RUN_NOT_FOUND =
       "No WorkflowRun executed for Workflow: %s on %s ";
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final Client restClient;
   private final AirflowConfig airflowConfig;
 
@@ -72,29 +79,32 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
   public TriggerWorkflowResponse triggerWorkflow(WorkflowEngineRequest rq, Map<String, Object> context) {
     log.info("Submitting ingestion with Airflow with dagName: {}", rq.getDagName());
     final String url = format(TRIGGER_AIRFLOW_ENDPOINT, rq.getDagName());
-    final JSONObject requestBody = new JSONObject();
+    final ObjectNode requestBody = OBJECT_MAPPER.createObjectNode();
     requestBody.put(RUN_ID_PARAMETER_NAME, rq.getRunId());
-    requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, context);
+    // the execution context arrives as a JSON tree and is written as is
+    requestBody.putPOJO(AIRFLOW_PAYLOAD_PARAMETER_NAME, context);
     requestBody.put(AIRFLOW_MICROSECONDS_FLAG, "false");
 
     requestBody.put(EXECUTION_DATE_PARAMETER_NAME, executionDate(rq.getExecutionTimeStamp()));
     
     final String errMsg = format(AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE, rq.getWorkflowId(), rq.getWorkflowName());
-    ClientResponse airflowRs = callAirflow(
+    return callAirflow(
         HttpMethod.POST,
         url,
-        requestBody.toString(),
+        writeRequestBody(requestBody),
         rq,
-        errMsg
+        errMsg,
+        AirflowResponseReaders.TRIGGER_WORKFLOW_RESPONSE::readValue
     );
+  }
+
+  private String writeRequestBody(ObjectNode requestBody) {
     try {
-      ObjectMapper om = new ObjectMapper();
-      String body = airflowRs.getResponseBody().toString();
-      return om.readValue(body, TriggerWorkflowResponse.class);
+      return OBJECT_MAPPER.writeValueAsString(requestBody);
     } catch (JsonProcessingException e) {
-      log.info("Airflow response: {}.", airflowRs);
-      final String error = "Unable to Process(Parse, Generate) JSON value";
-      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
+      final String errorMessage = format("Unable to Process Json. %s", e.getMessage());
+      log.error(errorMessage, e);
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to trigger workflow", errorMessage);
     }
   }
 
@@ -107,18 +117,19 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
 
     final String url = format(AIRFLOW_RUN_ENDPOINT, rq.getWorkflowName(), executionDate);
     final String errMsg = String.format(AIRFLOW_WORKFLOW_RUN_NOT_FOUND, rq.getWorkflowName(), executionDate);
-    final ClientResponse response = callAirflow(
+    final AirflowGetDAGRunStatus airflowResponse = callAirflow(
         HttpMethod.GET,
         url,
         null,
         rq,
-        errMsg);
+        errMsg,
+        this::readDagRunStatus);
+    return airflowResponse.getStatusType();
+  }
+
+  private AirflowGetDAGRunStatus readDagRunStatus(JsonParser parser) throws IOException {
     try {
-      final ObjectMapper objectMapper = new ObjectMapper();
-      final AirflowGetDAGRunStatus airflowResponse =
-          objectMapper.readValue(response.getResponseBody().toString(),
-              AirflowGetDAGRunStatus.class);
-      return airflowResponse.getStatusType();
+      return AirflowResponseReaders.DAG_RUN_STATUS.readValue(parser);
     } catch (JsonProcessingException e) {
       final String errorMessage = format("Unable to Process Json Received. %s", e.getMessage());
       log.error(errorMessage, e);
@@ -126,8 +137,8 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
     }
   }
 
-  protected ClientResponse callAirflow(String httpMethod, String apiEndpoint, String body,
-      WorkflowEngineRequest rq, String errorMessage) {
+  protected <T> T callAirflow(String httpMethod, String apiEndpoint, String body,
+      WorkflowEngineRequest rq, String errorMessage, IAirflowResponseReader<T> reader) {
     String url = format("%s/%s", airflowConfig.getUrl(), apiEndpoint);
     log.info("Calling airflow endpoint {} with method {}", url, httpMethod);
 
@@ -145,13 +156,11 @@ public class WorkflowEngineServiceImpl implements IWorkflowEngineService {
       throw new AppException(status, responseBody, errorMessage);
     }
 
-    return ClientResponse.builder()
-        .contentType(String.valueOf(response.getType()))
-        .responseBody(response.getEntity(String.class))
-        .status(HttpStatus.OK)
-        .statusCode(response.getStatus())
-        .statusMessage(response.getStatusInfo().getReasonPhrase())
-        .build();
+    try (InputStream entity = response.getEntityInputStream()) {
+      return AirflowResponseReaders.read(entity, reader);
+    } catch (IOException e) {
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Error calling airflow", e.getMessage());
+    }
   }
 
   protected String executionDate(final Long executionTimeStamp){
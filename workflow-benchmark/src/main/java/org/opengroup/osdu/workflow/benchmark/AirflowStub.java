@@ -0,0 +1,253 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process stand-in for the Airflow 2 stable REST API, limited to the endpoints used by
+ * {@code AirflowV2WorkflowEngineServiceImpl} and {@code AirflowV2WorkflowEngineExtension}:
+ * version, trigger, run status, run list, task instances and XCom entries. Runs are kept in
+ * memory and report {@code success} once {@code runCompletionMillis} passed since the trigger.
+ * Every response is delayed by the configured latency and fails with the configured error rate.
+ */
+@Slf4j
+public class AirflowStub implements AutoCloseable {
+
+  static final String API_PREFIX = "/api/v1/";
+  private static final String DAGS = "dags";
+  private static final String DAG_RUNS = "dagRuns";
+  private static final String TASK_INSTANCES = "taskInstances";
+  private static final String XCOM_ENTRIES = "xcomEntries";
+  private static final String LATEST_TASK_ID = "end";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BenchmarkProperties properties;
+  private final Map<String, DagRun> dagRuns = new ConcurrentHashMap<>();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong injectedErrors = new AtomicLong();
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  public AirflowStub(BenchmarkProperties properties) throws IOException {
+    this.properties = properties;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // responses are delayed with sleep, so each in-flight request holds a thread like in Airflow
+    this.executor = Executors.newCachedThreadPool();
+    this.server.setExecutor(executor);
+    this.server.createContext(API_PREFIX, this::handle);
+  }
+
+  public AirflowStub start() {
+    server.start();
+    log.info("Airflow stand-in listening on {}", getUrl());
+    return this;
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public long getRequests() {
+    return requests.get();
+  }
+
+  public long getInjectedErrors() {
+    return injectedErrors.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requests.incrementAndGet();
+      delay();
+      if (ThreadLocalRandom.current().nextDouble() < properties.getAirflowErrorRate()) {
+        injectedErrors.incrementAndGet();
+        respond(exchange, 500, error(500, "Injected error"));
+        return;
+      }
+      String[] path = exchange.getRequestURI().getPath().substring(API_PREFIX.length()).split("/");
+      Response response = route(exchange.getRequestMethod(), path, exchange.getRequestBody());
+      respond(exchange, response.status(), response.body());
+    } catch (RuntimeException e) {
+      log.warn("Airflow stand-in failed to handle {}", exchange.getRequestURI(), e);
+      respond(exchange, 500, error(500, e.getMessage()));
+    }
+  }
+
+  private Response route(String method, String[] path, InputStream body) throws IOException {
+    if (path.length == 1 && "version".equals(path[0]) && "GET".equals(method)) {
+      return ok(objectMapper.createObjectNode().put("version", "2.6.3"));
+    }
+    if (path.length < 3 || !DAGS.equals(path[0]) || !DAG_RUNS.equals(path[2])) {
+      return new Response(404, error(404, "Unknown endpoint"));
+    }
+    String dagId = path[1];
+    if (path.length == 3 && "POST".equals(method)) {
+      return triggerDagRun(dagId, objectMapper.readTree(body));
+    }
+    if (path.length == 4 && "list".equals(path[3]) && "POST".equals(method)) {
+      return listDagRuns(objectMapper.readTree(body));
+    }
+    DagRun dagRun = dagRuns.get(dagRunKey(dagId, path[3]));
+    if (dagRun == null) {
+      return new Response(404, error(404, "DAGRun not found"));
+    }
+    if (path.length == 4) {
+      return ok(toJson(dagRun));
+    }
+    if (path.length == 5 && TASK_INSTANCES.equals(path[4])) {
+      return ok(taskInstances(dagRun));
+    }
+    if (path.length == 7 && XCOM_ENTRIES.equals(path[6])) {
+      return ok(xcomEntries());
+    }
+    if (path.length == 8 && XCOM_ENTRIES.equals(path[6])) {
+      return ok(objectMapper.createObjectNode().put("key", path[7]).put("value", "value-of-" + path[7]));
+    }
+    return new Response(404, error(404, "Unknown endpoint"));
+  }
+
+  private Response triggerDagRun(String dagId, JsonNode request) {
+    String runId = request.path("dag_run_id").asText();
+    DagRun dagRun = new DagRun(dagId, runId, Instant.now());
+    if (dagRuns.putIfAbsent(dagRunKey(dagId, runId), dagRun) != null) {
+      return new Response(409, error(409, "DAGRun already exists"));
+    }
+    return ok(toJson(dagRun));
+  }
+
+  private Response listDagRuns(JsonNode request) {
+    List<String> dagIds = new ArrayList<>();
+    request.path("dag_ids").forEach(dagId -> dagIds.add(dagId.asText()));
+    int offset = request.path("page_offset").asInt(0);
+    int limit = request.path("page_limit").asInt(100);
+    List<DagRun> matching = dagRuns.values().stream()
+        .filter(dagRun -> dagIds.isEmpty() || dagIds.contains(dagRun.dagId()))
+        .toList();
+    ArrayNode page = objectMapper.createArrayNode();
+    matching.stream().skip(offset).limit(limit).forEach(dagRun -> page.add(toJson(dagRun)));
+    ObjectNode response = objectMapper.createObjectNode();
+    response.set("dag_runs", page);
+    response.put("total_entries", matching.size());
+    return ok(response);
+  }
+
+  private ObjectNode taskInstances(DagRun dagRun) {
+    String state = isCompleted(dagRun) ? "success" : "running";
+    ArrayNode tasks = objectMapper.createArrayNode();
+    tasks.addObject().put("task_id", "start").put("state", "success")
+        .put("end_date", dagRun.executionDate().plusMillis(1).atOffset(ZoneOffset.UTC).toString());
+    tasks.addObject().put("task_id", LATEST_TASK_ID).put("state", state)
+        .put("end_date", Instant.now().atOffset(ZoneOffset.UTC).toString());
+    ObjectNode response = objectMapper.createObjectNode();
+    response.set("task_instances", tasks);
+    response.put("total_entries", tasks.size());
+    return response;
+  }
+
+  private ObjectNode xcomEntries() {
+    ArrayNode entries = objectMapper.createArrayNode();
+    for (int i = 0; i < properties.getXcomEntries(); i++) {
+      entries.addObject().put("key", "key-" + i);
+    }
+    ObjectNode response = objectMapper.createObjectNode();
+    response.set("xcom_entries", entries);
+    response.put("total_entries", entries.size());
+    return response;
+  }
+
+  private ObjectNode toJson(DagRun dagRun) {
+    return objectMapper.createObjectNode()
+        .put("dag_id", dagRun.dagId())
+        .put("dag_run_id", dagRun.runId())
+        .put("execution_date", dagRun.executionDate().atOffset(ZoneOffset.UTC).toString())
+        .put("state", isCompleted(dagRun) ? "success" : "running");
+  }
+
+  private boolean isCompleted(DagRun dagRun) {
+    return dagRun.executionDate().plusMillis(properties.getRunCompletionMillis()).isBefore(Instant.now());
+  }
+
+  private void delay() {
+    long jitter = properties.getAirflowLatencyJitterMillis();
+    long millis = properties.getAirflowLatencyMillis()
+        + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Response ok(JsonNode body) {
+    return new Response(200, body);
+  }
+
+  private ObjectNode error(int status, String detail) {
+    return objectMapper.createObjectNode().put("title", detail).put("status", status);
+  }
+
+  private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+    byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static String dagRunKey(String dagId, String runId) {
+    return dagId + "/" + runId;
+  }
+
+  private record DagRun(String dagId, String runId, Instant executionDate) {
+  }
+
+  private record Response(int status, JsonNode body) {
+  }
+}
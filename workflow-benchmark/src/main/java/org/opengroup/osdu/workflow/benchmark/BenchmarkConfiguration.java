@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.opengroup.osdu.core.common.feature.IFeatureFlag;
+import org.opengroup.osdu.core.common.model.entitlements.AuthorizationResponse;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.provider.interfaces.IAuthorizationService;
+import org.opengroup.osdu.core.common.status.IEventPublisher;
+import org.opengroup.osdu.workflow.provider.interfaces.IAdminAuthorizationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Replaces the cloud services of a provider with local ones: every caller is authorized as
+ * {@value #BENCHMARK_USER}, status events are dropped and headers are read from the request.
+ * The service code between the API and the Airflow client is the one that runs in production.
+ */
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+public class BenchmarkConfiguration {
+
+  public static final String BENCHMARK_USER = "benchmark@example.com";
+
+  @Bean
+  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    http
+        .cors(AbstractHttpConfigurer::disable)
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll());
+    return http.build();
+  }
+
+  @Bean
+  @RequestScope
+  public DpsHeaders dpsHeaders(HttpServletRequest request) {
+    Map<String, String> headers = new HashMap<>();
+    Collections.list(request.getHeaderNames())
+        .forEach(name -> headers.put(name, request.getHeader(name)));
+    return DpsHeaders.createFromMap(headers);
+  }
+
+  @Bean
+  public IAuthorizationService authorizationService() {
+    return (headers, roles) -> new AuthorizationResponse(BENCHMARK_USER);
+  }
+
+  @Bean
+  public IAdminAuthorizationService adminAuthorizationService() {
+    return () -> true;
+  }
+
+  @Bean
+  public IFeatureFlag featureFlag() {
+    return feature -> true;
+  }
+
+  // the default publisher of workflow-core logs a warning for every event
+  @Bean
+  @Primary
+  public IEventPublisher benchmarkEventPublisher() {
+    return (messages, attributes) -> {
+    };
+  }
+}
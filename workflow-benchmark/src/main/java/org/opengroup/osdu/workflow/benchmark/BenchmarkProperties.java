@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of a benchmark run, bound from {@code benchmark.*} arguments before the service starts
+ * because the Airflow stand-in has to be listening when the service resolves its Airflow url.
+ */
+@Getter
+@Setter
+public class BenchmarkProperties {
+  /** Fixed latency added to every Airflow stand-in response. */
+  private long airflowLatencyMillis = 20;
+  /** Upper bound of the random latency added on top of {@code airflowLatencyMillis}. */
+  private long airflowLatencyJitterMillis = 10;
+  /** Share of Airflow stand-in responses that fail with 500, between 0 and 1. */
+  private double airflowErrorRate = 0.0;
+  /** Time after which a triggered DAG run reports success instead of running. */
+  private long runCompletionMillis = 5000;
+  /** Number of XCom entries of the latest task of every run. */
+  private int xcomEntries = 3;
+
+  private String workflowName = "benchmark_workflow";
+  /** Number of clients that send requests back to back. */
+  private int concurrency = 16;
+  private long warmupSeconds = 10;
+  private long durationSeconds = 60;
+  /** Share of requests that trigger a run, the rest read a triggered run. */
+  private double triggerRatio = 0.2;
+  /** Share of run reads that ask for the latest task details instead of the run. */
+  private double latestInfoRatio = 0.1;
+  private long requestTimeoutMillis = 30000;
+  /** Directory that receives the JSON report of every run and the CSV history. */
+  private String outputDirectory = "target/benchmark-results";
+}
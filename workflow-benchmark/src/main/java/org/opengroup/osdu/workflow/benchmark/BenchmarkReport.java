@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a benchmark run: a table on the console, a JSON file with the settings
+ * and results of the run, and one line per endpoint appended to {@code benchmark-history.csv} so
+ * that runs can be compared over time.
+ */
+public class BenchmarkReport {
+
+  static final String HISTORY_FILE = "benchmark-history.csv";
+  static final String HISTORY_HEADER = "timestamp,gitCommit,endpoint,concurrency,airflowLatencyMillis,"
+      + "airflowErrorRate,requests,errors,throughputPerSecond,p50Millis,p90Millis,p99Millis,maxMillis";
+
+  private static final DateTimeFormatter FILE_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+  private final BenchmarkProperties properties;
+  private final Instant timestamp;
+  private final List<EndpointResult> results;
+  private final Map<String, Long> airflow;
+
+  public BenchmarkReport(BenchmarkProperties properties, Instant timestamp,
+                         List<EndpointResult> results, AirflowStub airflowStub) {
+    this.properties = properties;
+    this.timestamp = timestamp;
+    this.results = results;
+    this.airflow = new LinkedHashMap<>();
+    this.airflow.put("requests", airflowStub.getRequests());
+    this.airflow.put("injectedErrors", airflowStub.getInjectedErrors());
+  }
+
+  public void print(PrintStream out) {
+    out.printf(Locale.ROOT, "%-36s %10s %8s %10s %10s %10s %10s %10s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+    for (EndpointResult result : results) {
+      out.printf(Locale.ROOT, "%-36s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+          result.endpoint(), result.requests(), result.errors(), result.throughputPerSecond(),
+          result.p50Millis(), result.p90Millis(), result.p99Millis(), result.maxMillis());
+    }
+    out.printf(Locale.ROOT, "Airflow stand-in: %d requests, %d injected errors%n",
+        airflow.get("requests"), airflow.get("injectedErrors"));
+  }
+
+  /**
+   * Writes the JSON report and appends to the CSV history in the output directory.
+   *
+   * @return the path of the JSON report
+   */
+  public Path write() throws IOException {
+    Path directory = Path.of(properties.getOutputDirectory());
+    Files.createDirectories(directory);
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("timestamp", timestamp.toString());
+    report.put("gitCommit", gitCommit());
+    report.put("settings", properties);
+    report.put("airflow", airflow);
+    report.put("results", results);
+    Path json = directory.resolve("benchmark-" + FILE_TIMESTAMP.format(timestamp) + ".json");
+    objectMapper.writeValue(json.toFile(), report);
+
+    Path history = directory.resolve(HISTORY_FILE);
+    StringBuilder lines = new StringBuilder();
+    if (!Files.exists(history)) {
+      lines.append(HISTORY_HEADER).append('\n');
+    }
+    for (EndpointResult result : results) {
+      lines.append(toCsv(result)).append('\n');
+    }
+    Files.writeString(history, lines, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    return json;
+  }
+
+  String toCsv(EndpointResult result) {
+    return String.format(Locale.ROOT, "%s,%s,\"%s\",%d,%d,%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+        timestamp, gitCommit(), result.endpoint(), properties.getConcurrency(),
+        properties.getAirflowLatencyMillis(), properties.getAirflowErrorRate(),
+        result.requests(), result.errors(), result.throughputPerSecond(),
+        result.p50Millis(), result.p90Millis(), result.p99Millis(), result.maxMillis());
+  }
+
+  /**
+   * Commit the benchmark was built from, as set by CI, so that regressions can be bisected.
+   */
+  private static String gitCommit() {
+    String commit = System.getenv("GIT_COMMIT");
+    if (commit == null) {
+      commit = System.getenv("CI_COMMIT_SHA");
+    }
+    return commit == null ? "" : commit;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+/**
+ * Throughput and latency of one endpoint over the measured part of a benchmark run.
+ */
+public record EndpointResult(
+    String endpoint,
+    long requests,
+    long errors,
+    double throughputPerSecond,
+    double p50Millis,
+    double p90Millis,
+    double p99Millis,
+    double maxMillis) {
+}
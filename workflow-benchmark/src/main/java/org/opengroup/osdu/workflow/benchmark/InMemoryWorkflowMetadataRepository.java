@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opengroup.osdu.workflow.exception.ResourceConflictException;
+import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Workflow definitions of a single data partition kept in memory.
+ */
+@Repository
+public class InMemoryWorkflowMetadataRepository implements IWorkflowMetadataRepository {
+
+  private final ConcurrentMap<String, WorkflowMetadata> workflows = new ConcurrentHashMap<>();
+
+  @Override
+  public WorkflowMetadata createWorkflow(WorkflowMetadata workflowMetadata) {
+    if (workflows.putIfAbsent(workflowMetadata.getWorkflowName(), workflowMetadata) != null) {
+      throw new ResourceConflictException(workflowMetadata.getWorkflowName(),
+          "Workflow with same name already exists");
+    }
+    return workflowMetadata;
+  }
+
+  @Override
+  public WorkflowMetadata getWorkflow(String workflowName) {
+    WorkflowMetadata workflowMetadata = workflows.get(workflowName);
+    if (Objects.isNull(workflowMetadata)) {
+      throw new WorkflowNotFoundException(
+          String.format("Workflow entity for workflow name: %s not found.", workflowName));
+    }
+    return workflowMetadata;
+  }
+
+  @Override
+  public void deleteWorkflow(String workflowName) {
+    if (Objects.isNull(workflows.remove(workflowName))) {
+      throw new WorkflowNotFoundException(
+          String.format("Workflow entity for workflow name: %s not found.", workflowName));
+    }
+  }
+
+  @Override
+  public List<WorkflowMetadata> getAllWorkflowForTenant(String prefix) {
+    return workflows.values().stream()
+        .filter(workflow -> Objects.isNull(prefix) || workflow.getWorkflowName().startsWith(prefix))
+        .toList();
+  }
+}
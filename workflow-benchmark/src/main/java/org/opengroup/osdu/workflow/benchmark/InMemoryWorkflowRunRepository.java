@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Workflow runs of a single data partition kept in memory. Runs are copied on the way in and
+ * out, like a store that serializes them, so callers cannot change stored runs in place.
+ */
+@Repository
+public class InMemoryWorkflowRunRepository implements IWorkflowRunRepository {
+
+  private final ConcurrentMap<String, ConcurrentMap<String, WorkflowRun>> runsByWorkflow =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public WorkflowRun saveWorkflowRun(WorkflowRun workflowRun) {
+    runs(workflowRun.getWorkflowName()).put(workflowRun.getRunId(), copy(workflowRun));
+    return workflowRun;
+  }
+
+  @Override
+  public WorkflowRun getWorkflowRun(String workflowName, String runId) {
+    WorkflowRun workflowRun = runs(workflowName).get(runId);
+    if (Objects.isNull(workflowRun)) {
+      throw new WorkflowNotFoundException(String.format(
+          "Workflow entity for workflow name: %s and run id: %s not found.", workflowName, runId));
+    }
+    return copy(workflowRun);
+  }
+
+  @Override
+  public WorkflowRunsPage getWorkflowRunsByWorkflowName(String workflowName, Integer limit,
+                                                        String cursor) {
+    int offset = Objects.isNull(cursor) ? 0 : Integer.parseInt(cursor);
+    int pageSize = Objects.isNull(limit) ? 100 : limit;
+    List<WorkflowRun> sorted = sortedRuns(workflowName);
+    List<WorkflowRun> items = sorted.stream().skip(offset).limit(pageSize)
+        .map(InMemoryWorkflowRunRepository::copy).toList();
+    String nextCursor = offset + items.size() < sorted.size()
+        ? String.valueOf(offset + items.size()) : null;
+    return new WorkflowRunsPage(items, nextCursor);
+  }
+
+  @Override
+  public WorkflowRunsPage getActiveWorkflowRuns(Integer limit, String cursor) {
+    int offset = Objects.isNull(cursor) ? 0 : Integer.parseInt(cursor);
+    int pageSize = Objects.isNull(limit) ? 100 : limit;
+    List<WorkflowStatusType> activeStatusTypes = WorkflowStatusType.getActiveStatusTypes();
+    List<WorkflowRun> active = runsByWorkflow.values().stream()
+        .flatMap(runs -> runs.values().stream())
+        .filter(workflowRun -> activeStatusTypes.contains(workflowRun.getStatus()))
+        .sorted(Comparator.comparing(WorkflowRun::getRunId))
+        .toList();
+    List<WorkflowRun> items = active.stream().skip(offset).limit(pageSize)
+        .map(InMemoryWorkflowRunRepository::copy).toList();
+    String nextCursor = offset + items.size() < active.size()
+        ? String.valueOf(offset + items.size()) : null;
+    return new WorkflowRunsPage(items, nextCursor);
+  }
+
+  @Override
+  public void deleteWorkflowRuns(String workflowName, List<String> runIds) {
+    runIds.forEach(runs(workflowName)::remove);
+  }
+
+  @Override
+  public WorkflowRun updateWorkflowRun(WorkflowRun workflowRun) {
+    getWorkflowRun(workflowRun.getWorkflowName(), workflowRun.getRunId());
+    return saveWorkflowRun(workflowRun);
+  }
+
+  @Override
+  public List<WorkflowRun> getAllRunInstancesOfWorkflow(String workflowName,
+                                                        Map<String, Object> params) {
+    Object limit = params.get("limit");
+    return sortedRuns(workflowName).stream()
+        .limit(Objects.isNull(limit) ? Long.MAX_VALUE : Long.parseLong(limit.toString()))
+        .map(InMemoryWorkflowRunRepository::copy)
+        .toList();
+  }
+
+  private ConcurrentMap<String, WorkflowRun> runs(String workflowName) {
+    return runsByWorkflow.computeIfAbsent(workflowName, name -> new ConcurrentHashMap<>());
+  }
+
+  private List<WorkflowRun> sortedRuns(String workflowName) {
+    return runs(workflowName).values().stream()
+        .sorted(Comparator.comparing(WorkflowRun::getStartTimeStamp,
+            Comparator.nullsLast(Comparator.reverseOrder())))
+        .toList();
+  }
+
+  private static WorkflowRun copy(WorkflowRun workflowRun) {
+    return WorkflowRun.builder()
+        .workflowId(workflowRun.getWorkflowId())
+        .workflowName(workflowRun.getWorkflowName())
+        .runId(workflowRun.getRunId())
+        .startTimeStamp(workflowRun.getStartTimeStamp())
+        .endTimeStamp(workflowRun.getEndTimeStamp())
+        .status(workflowRun.getStatus())
+        .submittedBy(workflowRun.getSubmittedBy())
+        .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
+        .lastStatusCheckTimestamp(workflowRun.getLastStatusCheckTimestamp())
+        .statusCallbackTimestamp(workflowRun.getStatusCallbackTimestamp())
+        .dispatchPending(workflowRun.getDispatchPending())
+        .build();
+  }
+}
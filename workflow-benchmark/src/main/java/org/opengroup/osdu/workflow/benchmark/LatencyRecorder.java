@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and errors of one endpoint as seen by one client thread. Recorders of all threads
+ * are merged after the run, so recording needs no synchronization.
+ */
+public class LatencyRecorder {
+
+  private long[] latencies = new long[1024];
+  private int count;
+  private long errors;
+
+  public void record(long latencyNanos, boolean error) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = latencyNanos;
+    if (error) {
+      errors++;
+    }
+  }
+
+  public void merge(LatencyRecorder other) {
+    if (count + other.count > latencies.length) {
+      latencies = Arrays.copyOf(latencies, count + other.count);
+    }
+    System.arraycopy(other.latencies, 0, latencies, count, other.count);
+    count += other.count;
+    errors += other.errors;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public long getErrors() {
+    return errors;
+  }
+
+  /**
+   * Summarizes the recorded requests, using the nearest-rank method for percentiles.
+   */
+  public EndpointResult summarize(String endpoint, double durationSeconds) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    return new EndpointResult(
+        endpoint,
+        count,
+        errors,
+        durationSeconds > 0 ? count / durationSeconds : 0,
+        toMillis(percentile(sorted, 50)),
+        toMillis(percentile(sorted, 90)),
+        toMillis(percentile(sorted, 99)),
+        toMillis(count == 0 ? 0 : sorted[count - 1]));
+  }
+
+  static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 1_000.0) / 1_000.0;
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+
+/**
+ * Closed-loop load against a running Workflow service: {@code concurrency} clients each send the
+ * next request as soon as the previous one returned. A client triggers a run with probability
+ * {@code triggerRatio}, otherwise it reads one of the recently triggered runs, asking for the
+ * latest task details with probability {@code latestInfoRatio}. Requests that finish during
+ * warm-up are not recorded.
+ */
+@Slf4j
+public class LoadDriver {
+
+  public static final String TRIGGER = "POST workflowRun";
+  public static final String GET_RUN = "GET workflowRun/{runId}";
+  public static final String LATEST_INFO = "GET workflowRun/{runId}/latestInfo";
+  static final String PARTITION_ID = "benchmark";
+
+  private static final int TRIGGERED_RUNS_CAPACITY = 4096;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BenchmarkProperties properties;
+  private final String workflowUrl;
+  private final HttpClient httpClient;
+  private final AtomicReferenceArray<String> triggeredRuns =
+      new AtomicReferenceArray<>(TRIGGERED_RUNS_CAPACITY);
+  private final AtomicLong triggeredRunCount = new AtomicLong();
+
+  public LoadDriver(BenchmarkProperties properties, String serviceUrl) {
+    this.properties = properties;
+    this.workflowUrl = serviceUrl + "/v1/workflow";
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  /**
+   * Registers the benchmark workflow, unless it exists already.
+   */
+  public void createWorkflow() throws IOException, InterruptedException {
+    Map<String, Object> request = new LinkedHashMap<>();
+    request.put("workflowName", properties.getWorkflowName());
+    request.put("description", "Workflow used by the throughput benchmark");
+    request.put("registrationInstructions", Map.of("dagName", properties.getWorkflowName()));
+    HttpResponse<String> response =
+        httpClient.send(post(workflowUrl, request), HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200 && response.statusCode() != 409) {
+      throw new IllegalStateException(
+          "Unable to create benchmark workflow: " + response.statusCode() + " " + response.body());
+    }
+  }
+
+  /**
+   * Runs the load profile and returns the results per endpoint.
+   */
+  public List<EndpointResult> run() throws InterruptedException {
+    long start = System.nanoTime();
+    long measureFrom = start + TimeUnit.SECONDS.toNanos(properties.getWarmupSeconds());
+    long end = measureFrom + TimeUnit.SECONDS.toNanos(properties.getDurationSeconds());
+    ExecutorService clients = Executors.newFixedThreadPool(properties.getConcurrency());
+    List<Future<Map<String, LatencyRecorder>>> results = new ArrayList<>();
+    for (int i = 0; i < properties.getConcurrency(); i++) {
+      results.add(clients.submit(() -> runClient(measureFrom, end)));
+    }
+    clients.shutdown();
+
+    Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+    merged.put(TRIGGER, new LatencyRecorder());
+    merged.put(GET_RUN, new LatencyRecorder());
+    merged.put(LATEST_INFO, new LatencyRecorder());
+    for (Future<Map<String, LatencyRecorder>> result : results) {
+      try {
+        result.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Benchmark client failed", e.getCause());
+      }
+    }
+    double durationSeconds = properties.getDurationSeconds();
+    List<EndpointResult> endpointResults = new ArrayList<>();
+    merged.forEach((endpoint, recorder) ->
+        endpointResults.add(recorder.summarize(endpoint, durationSeconds)));
+    return endpointResults;
+  }
+
+  private Map<String, LatencyRecorder> runClient(long measureFrom, long end) {
+    Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long now = System.nanoTime();
+    while (now < end) {
+      long count = triggeredRunCount.get();
+      String endpoint;
+      HttpRequest request;
+      String runId = null;
+      if (count == 0 || random.nextDouble() < properties.getTriggerRatio()) {
+        endpoint = TRIGGER;
+        runId = UUID.randomUUID().toString();
+        request = post(workflowUrl + "/" + properties.getWorkflowName() + "/workflowRun",
+            Map.of("runId", runId, "executionContext", Map.of("source", "benchmark")));
+      } else {
+        String readRunId = triggeredRuns.get(
+            (int) random.nextLong(Math.min(count, TRIGGERED_RUNS_CAPACITY)));
+        String runUrl = workflowUrl + "/" + properties.getWorkflowName() + "/workflowRun/" + readRunId;
+        boolean latestInfo = random.nextDouble() < properties.getLatestInfoRatio();
+        endpoint = latestInfo ? LATEST_INFO : GET_RUN;
+        request = get(latestInfo ? runUrl + "/latestInfo" : runUrl);
+      }
+
+      int status = send(request);
+      long finished = System.nanoTime();
+      if (finished >= measureFrom && finished < end) {
+        recorders.computeIfAbsent(endpoint, e -> new LatencyRecorder())
+            .record(finished - now, status >= 400 || status < 0);
+      }
+      if (runId != null && status == 200) {
+        long index = triggeredRunCount.getAndIncrement();
+        triggeredRuns.set((int) (index % TRIGGERED_RUNS_CAPACITY), runId);
+      }
+      now = finished;
+    }
+    return recorders;
+  }
+
+  private int send(HttpRequest request) {
+    try {
+      return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException e) {
+      log.debug("Request {} failed: {}", request.uri(), e.getMessage());
+      return -1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return -1;
+    }
+  }
+
+  private HttpRequest post(String url, Object body) {
+    try {
+      return request(url)
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+          .build();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private HttpRequest get(String url) {
+    return request(url).GET().build();
+  }
+
+  private HttpRequest.Builder request(String url) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .timeout(Duration.ofMillis(properties.getRequestTimeoutMillis()))
+        .header(DpsHeaders.AUTHORIZATION, "Bearer benchmark")
+        .header(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID);
+  }
+}
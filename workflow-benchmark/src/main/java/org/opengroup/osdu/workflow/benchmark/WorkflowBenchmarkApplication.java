@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Boots the Workflow service against in-memory repositories and a local Airflow stand-in, runs
+ * the load profile against it and writes the report. Like the Workflow application, the
+ * os-core-common components are scanned too, which provide the request scoped logger, the
+ * version info and the entitlements client.
+ */
+@Slf4j
+@SpringBootApplication(scanBasePackages = "org.opengroup")
+@PropertySource("classpath:swagger.properties")
+public class WorkflowBenchmarkApplication {
+
+  public static void main(String[] args) throws Exception {
+    BenchmarkProperties properties = bind(args);
+    try (AirflowStub airflowStub = new AirflowStub(properties).start()) {
+      String[] serviceArgs = Arrays.copyOf(args, args.length + 1);
+      serviceArgs[args.length] = "--osdu.airflow.url=" + airflowStub.getUrl();
+      try (ConfigurableApplicationContext context =
+               SpringApplication.run(WorkflowBenchmarkApplication.class, serviceArgs)) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        LoadDriver loadDriver = new LoadDriver(properties, "http://localhost:" + port);
+        loadDriver.createWorkflow();
+        log.warn("Running {} clients for {}s after {}s warm-up against Airflow stand-in {}",
+            properties.getConcurrency(), properties.getDurationSeconds(),
+            properties.getWarmupSeconds(), airflowStub.getUrl());
+        Instant timestamp = Instant.now();
+        List<EndpointResult> results = loadDriver.run();
+
+        BenchmarkReport report = new BenchmarkReport(properties, timestamp, results, airflowStub);
+        report.print(System.out);
+        Path json = report.write();
+        log.warn("Benchmark report written to {}", json.toAbsolutePath());
+      }
+    }
+  }
+
+  static BenchmarkProperties bind(String[] args) {
+    StandardEnvironment environment = new StandardEnvironment();
+    environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+    return Binder.get(environment)
+        .bind("benchmark", Bindable.of(BenchmarkProperties.class))
+        .orElseGet(BenchmarkProperties::new);
+  }
+}
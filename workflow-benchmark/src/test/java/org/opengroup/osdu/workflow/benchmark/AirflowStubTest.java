@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AirflowStubTest {
+
+  private static final String TRIGGER_BODY = "{\"dag_run_id\":\"run-1\",\"conf\":{}}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private AirflowStub airflowStub;
+
+  @AfterEach
+  void tearDown() {
+    if (airflowStub != null) {
+      airflowStub.close();
+    }
+  }
+
+  @Test
+  void shouldTriggerDagRunAndReportItsState() throws Exception {
+    BenchmarkProperties properties = properties(0.0);
+    properties.setRunCompletionMillis(60_000);
+    airflowStub = new AirflowStub(properties).start();
+
+    HttpResponse<String> trigger = send("POST", "dags/dag/dagRuns", TRIGGER_BODY);
+    HttpResponse<String> duplicate = send("POST", "dags/dag/dagRuns", TRIGGER_BODY);
+    HttpResponse<String> status = send("GET", "dags/dag/dagRuns/run-1", null);
+    HttpResponse<String> missing = send("GET", "dags/dag/dagRuns/run-2", null);
+
+    assertEquals(200, trigger.statusCode());
+    assertEquals(409, duplicate.statusCode());
+    assertEquals(200, status.statusCode());
+    assertEquals("running", objectMapper.readTree(status.body()).get("state").asText());
+    assertEquals(404, missing.statusCode());
+    assertEquals(4, airflowStub.getRequests());
+  }
+
+  @Test
+  void shouldReportLatestTaskAndXcomEntriesOfCompletedRun() throws Exception {
+    BenchmarkProperties properties = properties(0.0);
+    properties.setRunCompletionMillis(0);
+    properties.setXcomEntries(2);
+    airflowStub = new AirflowStub(properties).start();
+    send("POST", "dags/dag/dagRuns", TRIGGER_BODY);
+    Thread.sleep(5);
+
+    JsonNode tasks = objectMapper.readTree(
+        send("GET", "dags/dag/dagRuns/run-1/taskInstances", null).body());
+    JsonNode xcomEntries = objectMapper.readTree(
+        send("GET", "dags/dag/dagRuns/run-1/taskInstances/end/xcomEntries", null).body());
+    JsonNode list = objectMapper.readTree(
+        send("POST", "dags/~/dagRuns/list", "{\"dag_ids\":[\"dag\"]}").body());
+
+    assertEquals("success", tasks.get("task_instances").get(1).get("state").asText());
+    assertEquals(2, xcomEntries.get("xcom_entries").size());
+    assertEquals(1, list.get("total_entries").asInt());
+  }
+
+  @Test
+  void shouldInjectErrors() throws Exception {
+    airflowStub = new AirflowStub(properties(1.0)).start();
+
+    HttpResponse<String> response = send("GET", "version", null);
+
+    assertEquals(500, response.statusCode());
+    assertEquals(1, airflowStub.getInjectedErrors());
+  }
+
+  private BenchmarkProperties properties(double errorRate) {
+    BenchmarkProperties properties = new BenchmarkProperties();
+    properties.setAirflowLatencyMillis(0);
+    properties.setAirflowLatencyJitterMillis(0);
+    properties.setAirflowErrorRate(errorRate);
+    return properties;
+  }
+
+  private HttpResponse<String> send(String method, String path, String body) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(
+            URI.create(airflowStub.getUrl() + AirflowStub.API_PREFIX + path))
+        .method(method, body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofString(body))
+        .header("Content-Type", "application/json")
+        .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+  @Test
+  void shouldSummarizeWithNearestRankPercentiles() {
+    LatencyRecorder recorder = new LatencyRecorder();
+    for (int i = 1; i <= 100; i++) {
+      recorder.record(i * 1_000_000L, i % 25 == 0);
+    }
+
+    EndpointResult result = recorder.summarize("endpoint", 10);
+
+    assertEquals(100, result.requests());
+    assertEquals(4, result.errors());
+    assertEquals(10.0, result.throughputPerSecond());
+    assertEquals(50.0, result.p50Millis());
+    assertEquals(90.0, result.p90Millis());
+    assertEquals(99.0, result.p99Millis());
+    assertEquals(100.0, result.maxMillis());
+  }
+
+  @Test
+  void shouldMergeRecordersOfAllClients() {
+    LatencyRecorder first = new LatencyRecorder();
+    LatencyRecorder second = new LatencyRecorder();
+    for (int i = 0; i < 1500; i++) {
+      first.record(1_000_000L, false);
+      second.record(3_000_000L, true);
+    }
+
+    first.merge(second);
+    EndpointResult result = first.summarize("endpoint", 1);
+
+    assertEquals(3000, result.requests());
+    assertEquals(1500, result.errors());
+    assertEquals(1.0, result.p50Millis());
+    assertEquals(3.0, result.p99Millis());
+  }
+
+  @Test
+  void shouldSummarizeEmptyRecorder() {
+    EndpointResult result = new LatencyRecorder().summarize("endpoint", 0);
+
+    assertEquals(0, result.requests());
+    assertEquals(0.0, result.throughputPerSecond());
+    assertEquals(0.0, result.p99Millis());
+  }
+}
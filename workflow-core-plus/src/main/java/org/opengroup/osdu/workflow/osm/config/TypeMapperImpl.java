@@ -53,7 +53,9 @@ public class TypeMapperImpl extends TypeMapper {
             Collections.emptyMap(),
             ImmutableMap.of(
                 "startTimeStamp", Timestamp.class,
-                "endTimeStamp", Timestamp.class
+                "endTimeStamp", Timestamp.class,
+                "lastStatusCheckTimestamp", Timestamp.class,
+                "statusCallbackTimestamp", Timestamp.class
             ),
             new IdentityTranslator<>(
                 WorkflowRun::getRunId,
@@ -19,9 +19,11 @@ package org.opengroup.osdu.workflow.osm.repository;
 
 import static org.opengroup.osdu.core.osm.core.model.where.condition.And.and;
 import static org.opengroup.osdu.core.osm.core.model.where.predicate.Eq.eq;
+import static org.opengroup.osdu.core.osm.core.model.where.predicate.In.in;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_SINGLETON;
 
 import com.google.api.client.http.HttpStatusCodes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,7 +39,9 @@ import org.opengroup.osdu.core.osm.core.service.Results;
 import org.opengroup.osdu.core.osm.core.translate.TranslatorException;
 import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.config.WorkflowPropertiesConfiguration;
 import org.opengroup.osdu.workflow.osm.config.IDestinationProvider;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
@@ -53,11 +57,14 @@ public class GcpOsmWorkflowRunRepository implements IWorkflowRunRepository {
   private static final String INCORRECT_RUN_ID_PREFIX = "backfill";
   public static final String WORKFLOW_NAME = "workflowName";
   public static final String RUN_ID = "runId";
+  public static final String STATUS = "status";
   public static final String LIMIT_PARAM = "limit";
   public static final String CURSOR_PARAM = "cursor";
   public static final String PREFIX_PARAM = "prefix";
   public static final String START_DATE_PARAM = "startDate";
   public static final String END_DATE_PARAM = "endDate";
+  // Datastore limits the number of values in an IN filter to 30
+  private static final int IN_FILTER_BATCH_SIZE = 30;
   private final WorkflowPropertiesConfiguration workflowConfig;
   private final IDestinationProvider destinationProvider;
   private final Context context;
@@ -71,6 +78,20 @@ public class GcpOsmWorkflowRunRepository implements IWorkflowRunRepository {
             workflowConfig.getWorkflowRunKind()));
   }
 
+  @Override
+  public List<WorkflowRunSaveResult> saveWorkflowRuns(List<WorkflowRun> workflowRuns) {
+    log.info("Saving {} workflow runs.", workflowRuns.size());
+    // The upsert is one call for all runs and throws if any of them fails
+    context.upsert(this.destinationProvider.getDestination(this.tenantInfo,
+        workflowConfig.getWorkflowRunKind()), workflowRuns.toArray());
+    return workflowRuns.stream()
+        .map(workflowRun -> WorkflowRunSaveResult.builder()
+            .runId(workflowRun.getRunId())
+            .workflowRun(workflowRun)
+            .build())
+        .collect(Collectors.toList());
+  }
+
   @Override
   public WorkflowRun getWorkflowRun(String workflowName, String runId) {
     log.info(
@@ -87,6 +108,20 @@ public class GcpOsmWorkflowRunRepository implements IWorkflowRunRepository {
                 runId)));
   }
 
+  @Override
+  public List<WorkflowRun> getWorkflowRuns(String workflowName, List<String> runIds) {
+    log.info("Get {} workflow runs. Workflow name : {}", runIds.size(), workflowName);
+    List<WorkflowRun> workflowRuns = new ArrayList<>();
+    for (int from = 0; from < runIds.size(); from += IN_FILTER_BATCH_SIZE) {
+      List<String> batch = runIds.subList(from, Math.min(from + IN_FILTER_BATCH_SIZE, runIds.size()));
+      GetQuery<WorkflowRun> getQuery =
+          new GetQuery<>(WorkflowRun.class, this.destinationProvider.getDestination(this.tenantInfo,
+              workflowConfig.getWorkflowRunKind()), and(eq(WORKFLOW_NAME, workflowName), in(RUN_ID, batch)));
+      workflowRuns.addAll(context.getResultsAsList(getQuery));
+    }
+    return workflowRuns;
+  }
+
   @Override
   public WorkflowRunsPage getWorkflowRunsByWorkflowName(String workflowName, Integer limit,
       String cursor) {
@@ -100,14 +135,27 @@ public class GcpOsmWorkflowRunRepository implements IWorkflowRunRepository {
     return new WorkflowRunsPage(results.outcome().getList(), results.outcome().getPointer());
   }
 
+  @Override
+  public WorkflowRunsPage getActiveWorkflowRuns(Integer limit, String cursor) {
+    GetQuery<WorkflowRun> getQuery =
+        new GetQuery<>(WorkflowRun.class, this.destinationProvider.getDestination(this.tenantInfo,
+            workflowConfig.getWorkflowRunKind()), in(STATUS, WorkflowStatusType.getActiveStatusTypes()));
+    Results<WorkflowRun, WorkflowRun> results = context.getResults(getQuery, null, limit, cursor);
+    if (limit != 0 && results.outcome().getList().size() < limit) {
+      return new WorkflowRunsPage(results.outcome().getList(), null);
+    }
+    return new WorkflowRunsPage(results.outcome().getList(), results.outcome().getPointer());
+  }
+
   @Override
   public void deleteWorkflowRuns(String workflowName, List<String> runIds) {
-    log.info("Delete workflow run with id's. Workflow name : {}", workflowName);
-    for (String runId : runIds) {
+    log.info("Delete {} workflow runs. Workflow name : {}", runIds.size(), workflowName);
+    for (int from = 0; from < runIds.size(); from += IN_FILTER_BATCH_SIZE) {
+      List<String> batch = runIds.subList(from, Math.min(from + IN_FILTER_BATCH_SIZE, runIds.size()));
       try {
         context.delete(WorkflowRun.class, this.destinationProvider.getDestination(this.tenantInfo,
                 workflowConfig.getWorkflowRunKind()),
-            and(eq(WORKFLOW_NAME, workflowName), eq(RUN_ID, runId)));
+            and(eq(WORKFLOW_NAME, workflowName), in(RUN_ID, batch)));
       } catch (TranslatorException ex) {
         throw new PersistenceException(HttpStatusCodes.STATUS_CODE_SERVER_ERROR,
             "Internal server error", ex.getMessage());
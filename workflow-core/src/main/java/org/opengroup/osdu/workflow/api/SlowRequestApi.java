@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.opengroup.osdu.core.common.model.http.AppError;
+import org.opengroup.osdu.workflow.logging.SlowRequestLog;
+import org.opengroup.osdu.workflow.model.SlowRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/workflow/system/slow-requests")
+@Tag(name = "slow-request-api", description = "Slow request diagnostics endpoint")
+public class SlowRequestApi {
+  @Autowired
+  private SlowRequestLog slowRequestLog;
+
+  /**
+   * Lists the requests captured by the slow request log.
+   * @return Captured requests, the most recent first.
+   */
+  @Operation(summary = "${slowRequestApi.getSlowRequests.summary}", description = "${slowRequestApi.getSlowRequests.description}",
+      security = {@SecurityRequirement(name = "Authorization")})
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Slow requests", content = { @Content(array = @ArraySchema(schema = @Schema(implementation = SlowRequest.class))) }),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class ))})
+  })
+  @GetMapping
+  @PreAuthorize("@authorizationFilter.hasRootPermission()")
+  public List<SlowRequest> getSlowRequests() {
+    return slowRequestLog.getRequests();
+  }
+}
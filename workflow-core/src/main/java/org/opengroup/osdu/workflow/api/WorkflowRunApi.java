@@ -1,16 +1,30 @@
 package org.opengroup.osdu.workflow.api;
 
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchRequest;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
 import org.opengroup.osdu.workflow.model.WorkflowRole;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetResponse;
 import org.opengroup.osdu.workflow.model.UpdateWorkflowRunRequest;
 import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.opengroup.osdu.workflow.service.CompletedWorkflowRunETags;
+import org.opengroup.osdu.workflow.service.WorkflowRunStatusWatcher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.MediaType;
@@ -21,24 +35,39 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.opengroup.osdu.core.common.model.http.AppError;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 
 @RestController
 @RequestMapping("/v1/workflow")
 @Tag(name = "workflow-run-api", description = "WorkflowRun related endpoints")
 public class WorkflowRunApi {
+  // Completed runs never change, clients may keep them without revalidation
+  private static final String COMPLETED_RUN_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
   @Autowired
   private IWorkflowRunService workflowRunService;
 
+  @Autowired
+  private WorkflowRunStatusWatcher workflowRunStatusWatcher;
+
+  @Autowired
+  private CompletedWorkflowRunETags completedWorkflowRunETags;
+
+  @Autowired
+  private DpsHeaders dpsHeaders;
+
   /**
    * API to trigger a workflow.
    * @param workflowName Workflow to trigger.
    * @param request Request object which has information to trigger workflow.
+   * @param async Persist the run and trigger it in background, returning 202 Accepted.
    * @return Information about workflow run.
    */
   @Operation(summary = "${workflowRunApi.workflowRun.summary}", description = "${workflowRunApi.workflowRun.description}",
       security = {@SecurityRequirement(name = "Authorization")})
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Workflow successully triggered", content = { @Content(schema = @Schema(implementation = WorkflowRunResponse.class)) }),
+      @ApiResponse(responseCode = "202", description = "Workflow run accepted for asynchronous trigger", content = { @Content(schema = @Schema(implementation = WorkflowRunResponse.class)) }),
       @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
       @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
       @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
@@ -50,21 +79,111 @@ public class WorkflowRunApi {
   })
   @PostMapping(value = "/{workflow_name}/workflowRun", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
   @PreAuthorize("@authorizationFilter.hasPermission('" + WorkflowRole.CREATOR + "', '" + WorkflowRole.ADMIN + "')")
-  public WorkflowRunResponse triggerWorkflow(@PathVariable("workflow_name") String workflowName,
-      @RequestBody TriggerWorkflowRequest request) {
-    return workflowRunService.triggerWorkflow(workflowName, request);
+  public CompletableFuture<ResponseEntity<WorkflowRunResponse>> triggerWorkflow(@PathVariable("workflow_name") String workflowName,
+      @RequestBody TriggerWorkflowRequest request,
+      @RequestParam(value = "async", required = false, defaultValue = "false") boolean async) {
+    if (async) {
+      return CompletableFuture.completedFuture(
+          ResponseEntity.accepted().body(workflowRunService.submitWorkflow(workflowName, request)));
+    }
+    return workflowRunService.triggerWorkflowAsync(workflowName, request).thenApply(ResponseEntity::ok);
+  }
+
+  /**
+   * API to trigger many runs of a workflow.
+   * @param workflowName Workflow to trigger.
+   * @param request Request object which has information to trigger every workflow run.
+   * @return Result of every workflow run in the batch.
+   */
+  @Operation(summary = "${workflowRunApi.workflowRunBatch.summary}", description = "${workflowRunApi.workflowRunBatch.description}",
+      security = {@SecurityRequirement(name = "Authorization")})
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Batch processed, see result of every item", content = { @Content(schema = @Schema(implementation = TriggerWorkflowBatchResponse.class)) }),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class ))})
+  })
+  @PostMapping(value = "/{workflow_name}/workflowRun:batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@authorizationFilter.hasPermission('" + WorkflowRole.CREATOR + "', '" + WorkflowRole.ADMIN + "')")
+  public TriggerWorkflowBatchResponse triggerWorkflows(@PathVariable("workflow_name") String workflowName,
+      @RequestBody TriggerWorkflowBatchRequest request) {
+    return workflowRunService.triggerWorkflows(workflowName, request);
+  }
+
+  /**
+   * Returns information about many runs of a workflow.
+   * @param workflowName Name of the workflow the runs belong to.
+   * @param request Run ids to return.
+   * @param refresh Whether statuses of active runs are refreshed from the workflow engine.
+   * @return Found workflow runs and the run ids not found.
+   */
+  @Operation(summary = "${workflowRunApi.workflowRunBatchGet.summary}", description = "${workflowRunApi.workflowRunBatchGet.description}",
+      security = {@SecurityRequirement(name = "Authorization")})
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Workflow runs found", content = { @Content(schema = @Schema(implementation = WorkflowRunBatchGetResponse.class)) }),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class ))})
+  })
+  @PostMapping(value = "/{workflow_name}/workflowRun:batchGet", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@authorizationFilter.hasPermission('" + WorkflowRole.VIEWER + "', '" + WorkflowRole.CREATOR + "', '" + WorkflowRole.ADMIN + "')")
+  public WorkflowRunBatchGetResponse getWorkflowRuns(@PathVariable("workflow_name") String workflowName,
+      @RequestBody WorkflowRunBatchGetRequest request,
+      @RequestParam(value = "refresh", required = false, defaultValue = "false") boolean refresh) {
+    return workflowRunService.getWorkflowRuns(workflowName, request, refresh);
+  }
+
+  /**
+   * Applies statuses reported by the workflow engine, e.g. from DAG callbacks, for many runs.
+   * Only the platform service account the engine runs with may report statuses.
+   * @param workflowName Name of the workflow the runs belong to.
+   * @param request Reported statuses of the runs.
+   * @return Result of every reported status in the order of the request.
+   */
+  @Operation(summary = "${workflowRunApi.workflowRunStatusCallback.summary}", description = "${workflowRunApi.workflowRunStatusCallback.description}",
+      security = {@SecurityRequirement(name = "Authorization")})
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Statuses applied, see the result of every item", content = { @Content(schema = @Schema(implementation = WorkflowRunStatusCallbackResponse.class)) }),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class ))})
+  })
+  @PostMapping(value = "/{workflow_name}/workflowRun:statusCallback", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@authorizationFilter.hasServicePermission('" + WorkflowRole.ADMIN + "')")
+  public WorkflowRunStatusCallbackResponse updateWorkflowRunStatuses(@PathVariable("workflow_name") String workflowName,
+      @RequestBody WorkflowRunStatusCallbackRequest request) {
+    return workflowRunService.updateWorkflowRunStatuses(workflowName, request);
   }
 
   /**
    * Returns Information about workflow run. based on workflowName, runId
    * @param workflowName Name of the workflow for which workflowRun should be checked.
    * @param runId Id of the workflowRun for which metadata should be retrieved.
-   * @return Information about workflow run.
+   * @param maxStaleness Accepted age of the stored status in seconds, server default if absent.
+   * @param waitFor Status class to wait for, {@code terminal} or {@code started}, no wait if absent.
+   * @param timeout Longest wait such as {@code 30s}, server default if absent.
+   * @param ifNoneMatch ETags of the completed run already held by the client.
+   * @return Information about workflow run. Completed runs carry a strong ETag and are cacheable
+   * by the client, a matching If-None-Match gives 304 Not Modified, without reading the run
+   * when it is in the completed-run cache.
    */
   @Operation(summary = "${workflowRunApi.workflowRunById.summary}", description = "${workflowRunApi.workflowRunById.description}",
       security = {@SecurityRequirement(name = "Authorization")})
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Workflow execution detail", content = { @Content(schema = @Schema(implementation = WorkflowRunResponse.class)) }),
+      @ApiResponse(responseCode = "304", description = "Completed workflow run matches the If-None-Match ETag"),
       @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
       @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
       @ApiResponse(responseCode = "403", description = "User not authorized to perform the action.",  content = {@Content(schema = @Schema(implementation = AppError.class ))}),
@@ -76,9 +195,40 @@ public class WorkflowRunApi {
   })
   @GetMapping(value = "/{workflow_name}/workflowRun/{runId}", produces = MediaType.APPLICATION_JSON_VALUE)
   @PreAuthorize("@authorizationFilter.hasPermission('" + WorkflowRole.VIEWER + "', '" + WorkflowRole.CREATOR + "', '" + WorkflowRole.ADMIN + "')")
-  public WorkflowRunResponse getWorkflowRunById(@PathVariable("workflow_name") final String workflowName,
-      @PathVariable("runId") final String runId) {
-    return workflowRunService.getWorkflowRunByName(workflowName, runId);
+  public CompletableFuture<ResponseEntity<WorkflowRunResponse>> getWorkflowRunById(@PathVariable("workflow_name") final String workflowName,
+      @PathVariable("runId") final String runId,
+      @RequestParam(value = "maxStaleness", required = false) final Long maxStaleness,
+      @RequestParam(value = "waitFor", required = false) final String waitFor,
+      @RequestParam(value = "timeout", required = false) final String timeout,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+      final HttpServletResponse servletResponse) {
+    // The callbacks below may run off the request thread, so the partition is read here
+    final String partitionId = dpsHeaders.getPartitionId();
+    final String cachedETag = completedWorkflowRunETags.getCachedETag(workflowName, runId).orElse(null);
+    if (cachedETag != null && CompletedWorkflowRunETags.matches(ifNoneMatch, cachedETag)) {
+      servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, COMPLETED_RUN_CACHE_CONTROL);
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(cachedETag)
+          .build());
+    }
+    final CompletableFuture<WorkflowRunResponse> response = waitFor == null
+        ? workflowRunService.getWorkflowRunByNameAsync(workflowName, runId, maxStaleness)
+        : workflowRunStatusWatcher.waitForWorkflowRun(workflowName, runId, waitFor, timeout, maxStaleness);
+    return response.thenApply(workflowRunResponse ->
+        toWorkflowRunEntity(partitionId, workflowName, workflowRunResponse, servletResponse));
+  }
+
+  private ResponseEntity<WorkflowRunResponse> toWorkflowRunEntity(final String partitionId, final String workflowName,
+      final WorkflowRunResponse response, final HttpServletResponse servletResponse) {
+    if (!WorkflowStatusType.getCompletedStatusTypes().contains(response.getStatus())) {
+      return ResponseEntity.ok(response);
+    }
+    // Spring Security has already written its no-cache defaults when the run is read
+    // asynchronously, and response entity headers are added next to them, so replace them here
+    servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, COMPLETED_RUN_CACHE_CONTROL);
+    return ResponseEntity.ok()
+        .eTag(completedWorkflowRunETags.getETag(partitionId, workflowName, response))
+        .body(response);
   }
 
   /**
@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Isolation of external Airflow instances. After {@code failureThreshold} consecutive server or
+ * transport errors calls to an instance are rejected with 503 for {@code openDurationMillis},
+ * then a single trial call decides whether it is used again. At most
+ * {@code maxConcurrentCalls} calls run against one instance at a time, excess calls get 503.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.airflow.circuit-breaker")
+public class AirflowCircuitBreakerConfig {
+  private boolean enabled = true;
+  private int failureThreshold = 5;
+  private long openDurationMillis = 30000;
+  private int maxConcurrentCalls = 32;
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Connection settings of the HTTP clients talking to Airflow. Timeouts apply to the shared
+ * Jersey client as well as to the pooled clients; {@code maxConcurrentRequests} bounds the
+ * in-flight requests of a single pooled client (one per Airflow instance). Setting
+ * {@code pooled} makes the internal Airflow use a pooled client too.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.airflow.http-client")
+public class AirflowHttpClientConfig {
+  private boolean pooled;
+  private int connectTimeoutMillis = 5000;
+  private int requestTimeoutMillis = 60000;
+  private int maxConcurrentRequests = 64;
+  private boolean http2 = true;
+}
@@ -1,13 +1,26 @@
 package org.opengroup.osdu.workflow.config;
 
 import com.sun.jersey.api.client.Client;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.service.PooledAirflowApiClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class AirflowHttpClientProvider {
   @Bean
-  public Client createClient() {
-    return Client.create();
+  public Client createClient(AirflowHttpClientConfig httpClientConfig) {
+    Client client = Client.create();
+    client.setConnectTimeout(httpClientConfig.getConnectTimeoutMillis());
+    client.setReadTimeout(httpClientConfig.getRequestTimeoutMillis());
+    return client;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "osdu.airflow.http-client.pooled", havingValue = "true")
+  public IAirflowApiClient pooledAirflowApiClient(
+      AirflowConfig airflowConfig, AirflowHttpClientConfig httpClientConfig) {
+    return new PooledAirflowApiClient(airflowConfig, httpClientConfig);
   }
 }
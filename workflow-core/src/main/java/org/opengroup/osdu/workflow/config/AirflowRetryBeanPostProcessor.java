@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.RequiredArgsConstructor;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
+import org.opengroup.osdu.workflow.service.RetryingAirflowApiClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the internal Airflow client in a {@link RetryingAirflowApiClient}. Clients of external
+ * Airflow instances are wrapped by the factory creating them.
+ */
+@Component
+@RequiredArgsConstructor
+public class AirflowRetryBeanPostProcessor implements BeanPostProcessor, Ordered {
+
+  public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+  private final ObjectProvider<AirflowRetryPolicy> retryPolicyProvider;
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof IAirflowApiClient airflowApiClient
+        && !(bean instanceof RetryingAirflowApiClient)) {
+      final AirflowRetryPolicy retryPolicy = retryPolicyProvider.getIfAvailable();
+      if (retryPolicy != null && retryPolicy.isEnabled()) {
+        return new RetryingAirflowApiClient(airflowApiClient, retryPolicy);
+      }
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Retries of Airflow calls that failed with an overload or transport error. The delay before
+ * attempt {@code n} is drawn at random between zero and
+ * {@code min(maxBackoffMillis, initialBackoffMillis * 2^(n - 1))}. Retries of all Airflow
+ * instances share one budget of {@code budgetMaxTokens} tokens: every retryable failure takes a
+ * token, every other response gives back {@code budgetTokenRatio}, and no retry is made while
+ * half of the budget or less is left.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.airflow.retry")
+public class AirflowRetryConfig {
+  private boolean enabled = true;
+  private int maxAttempts = 3;
+  private long initialBackoffMillis = 100;
+  private long maxBackoffMillis = 2000;
+  private int budgetMaxTokens = 100;
+  private double budgetTokenRatio = 0.1;
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the latest task details lookup. XCom values of all lookups are fetched on one
+ * pool, so {@code xcomParallelism} bounds the number of concurrent XCom calls per replica.
+ * Details of runs whose tasks all reached a terminal state are cached for {@code cacheTtlSeconds}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.airflow.task-details")
+public class AirflowTaskDetailsConfig {
+  private int xcomParallelism = 8;
+  private boolean cacheEnabled = true;
+  private long cacheTtlSeconds = 3600;
+  private long cacheMaximumSize = 1000;
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService airflowXcomExecutor() {
+    return Executors.newFixedThreadPool(xcomParallelism,
+        new ThreadFactoryBuilder().setNameFormat("airflow-xcom-%d").setDaemon(true).build());
+  }
+}
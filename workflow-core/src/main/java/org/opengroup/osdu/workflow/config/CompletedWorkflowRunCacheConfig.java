@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the per-replica cache of completed workflow runs. Runs deleted through another
+ * replica stay visible here for at most {@code ttlSeconds}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.completed-run-cache")
+public class CompletedWorkflowRunCacheConfig {
+  private boolean enabled = true;
+  private long ttlSeconds = 3600;
+  private long maximumSize = 10000;
+}
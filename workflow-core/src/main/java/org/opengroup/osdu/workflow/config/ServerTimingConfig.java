@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.opengroup.osdu.workflow.logging.ServerTimingFilter;
+import org.opengroup.osdu.workflow.logging.SlowRequestLog;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Settings of per-request timing. The {@code Server-Timing} header is added to every response
+ * when {@code enabled} is set, otherwise only to requests that send {@code headerToken} in the
+ * {@value ServerTimingFilter#TOKEN_HEADER} header. Requests slower than
+ * {@code slowRequestThresholdMillis} are kept in a ring buffer of {@code slowRequestCapacity}
+ * entries, a threshold of 0 disables the capture. Airflow and repository timings come from the
+ * metered clients, so they require {@code osdu.workflow.metrics.enabled}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.server-timing")
+public class ServerTimingConfig {
+  private boolean enabled = false;
+  private String headerToken = "";
+  private long slowRequestThresholdMillis = 2000;
+  private int slowRequestCapacity = 100;
+  private int maxEntries = 64;
+
+  @Bean
+  public SlowRequestLog slowRequestLog() {
+    return new SlowRequestLog(slowRequestCapacity);
+  }
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(SlowRequestLog slowRequestLog) {
+    FilterRegistrationBean<ServerTimingFilter> registration =
+        new FilterRegistrationBean<>(new ServerTimingFilter(this, slowRequestLog));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Admission control of workflow triggers. Each partition and each workflow of a partition has
+ * a token bucket refilled at the configured rate; the burst is the bucket capacity. Triggers
+ * running at the same time are limited to {@code maxConcurrentTriggers}, shared by the
+ * partitions triggering in proportion to their {@code partitionWeights} (1 when not listed).
+ * A slot whose trigger never finished is freed after {@code slotLeaseMillis}. A shared
+ * admission state that does not answer within {@code stateTimeoutMillis} is treated as
+ * unreachable and the trigger is admitted.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.admission")
+public class WorkflowAdmissionConfig {
+  private boolean enabled;
+  private double partitionRatePerSecond = 20;
+  private int partitionBurst = 40;
+  private double workflowRatePerSecond = 10;
+  private int workflowBurst = 20;
+  private int maxConcurrentTriggers = 64;
+  private Map<String, Integer> partitionWeights = new HashMap<>();
+  private long slotLeaseMillis = 120000;
+  private long stateTimeoutMillis = 200;
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState;
+import org.opengroup.osdu.workflow.service.LocalWorkflowAdmissionState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Falls back to the local admission state when the provider does not register a shared one.
+ */
+@Configuration
+public class WorkflowAdmissionStateConfig {
+  @Bean
+  @ConditionalOnMissingBean(IWorkflowAdmissionState.class)
+  public IWorkflowAdmissionState localWorkflowAdmissionState() {
+    return new LocalWorkflowAdmissionState();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the per-replica workflow metadata cache. Workflows that do not exist are
+ * remembered for {@code notFoundTtlSeconds} only, so a newly created workflow becomes visible
+ * on other replicas quickly.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.metadata-cache")
+public class WorkflowMetadataCacheConfig {
+  private boolean enabled = true;
+  private long ttlSeconds = 60;
+  private long notFoundTtlSeconds = 5;
+  private long maximumSize = 1000;
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.opengroup.osdu.workflow.logging.RequestTimings;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+import org.opengroup.osdu.workflow.service.MeteredAirflowApiClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Adds latency metrics to the provider beans every request goes through. The internal Airflow
+ * client is wrapped in a {@link MeteredAirflowApiClient}, workflow run and metadata repositories
+ * in a proxy of their interfaces that records {@value #REPOSITORY_LATENCY_TIMER} per method.
+ * The same calls are added to the {@link RequestTimings} of the current request. Runs before
+ * {@link AirflowRetryBeanPostProcessor}, so each retried attempt is recorded.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "osdu.workflow.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class WorkflowMetricsBeanPostProcessor implements BeanPostProcessor, Ordered {
+
+  public static final String REPOSITORY_LATENCY_TIMER = "workflow.repository.latency";
+
+  private static final List<Class<?>> TIMED_REPOSITORIES = List.of(
+      IWorkflowRunRepository.class, IWorkflowMetadataRepository.class,
+      IWorkflowSystemMetadataRepository.class);
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  private final ObjectProvider<AirflowConfig> airflowConfigProvider;
+
+  @Override
+  public int getOrder() {
+    return AirflowRetryBeanPostProcessor.ORDER - 1;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof IAirflowApiClient airflowApiClient
+        && !(bean instanceof MeteredAirflowApiClient)) {
+      return new MeteredAirflowApiClient(
+          airflowApiClient, getMeterRegistry(), airflowConfigProvider.getIfAvailable());
+    }
+    for (Class<?> repository : TIMED_REPOSITORIES) {
+      if (repository.isInstance(bean)) {
+        return timed(bean, repository.getSimpleName(), repository == IWorkflowRunRepository.class
+            ? RequestTimings.Phase.REPOSITORY : RequestTimings.Phase.METADATA);
+      }
+    }
+    return bean;
+  }
+
+  private Object timed(Object target, String repository, RequestTimings.Phase phase) {
+    final MeterRegistry meterRegistry = getMeterRegistry();
+    final ClassLoader classLoader = target.getClass().getClassLoader();
+    return Proxy.newProxyInstance(classLoader,
+        ClassUtils.getAllInterfacesForClass(target.getClass(), classLoader),
+        (proxy, method, args) -> {
+          if (method.getDeclaringClass() == Object.class) {
+            return invoke(method, target, args);
+          }
+          final long start = System.nanoTime();
+          String outcome = "error";
+          try {
+            final Object result = invoke(method, target, args);
+            outcome = "success";
+            return result;
+          } finally {
+            Timer.builder(REPOSITORY_LATENCY_TIMER)
+                .description("Latency of workflow repository calls")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            RequestTimings.record(phase, repository + "." + method.getName(), start);
+          }
+        });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  private MeterRegistry getMeterRegistry() {
+    return meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the batch trigger and batch get endpoints. Airflow calls of all batches share one
+ * pool, so {@code triggerParallelism} bounds the number of concurrent Airflow calls per replica;
+ * at most {@code queueCapacity} calls wait for a thread, further ones are rejected.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.batch")
+public class WorkflowRunBatchConfig {
+  private int maxSize = 100;
+  private int triggerParallelism = 8;
+  private int queueCapacity = 1000;
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService workflowRunBatchExecutor() {
+    return new ThreadPoolExecutor(triggerParallelism, triggerParallelism,
+        0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+        new ThreadFactoryBuilder().setNameFormat("workflow-run-batch-%d").setDaemon(true).build());
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the asynchronous trigger mode. When enabled, triggers requested with
+ * {@code async=true} are persisted as SUBMITTED and sent to the workflow engine by
+ * {@code workers} background threads; at most {@code queueCapacity} runs wait for a worker.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.dispatch")
+public class WorkflowRunDispatchConfig {
+  private boolean enabled;
+  private int workers = 4;
+  private int queueCapacity = 1000;
+  private int maxAttempts = 3;
+  private long retryBackoffMillis = 1000;
+  private long shutdownTimeoutSeconds = 30;
+}
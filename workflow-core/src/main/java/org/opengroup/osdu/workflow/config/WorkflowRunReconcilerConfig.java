@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the background workflow run status reconciler.
+ *
+ * <p>When enabled, active runs of the configured partitions are refreshed from the workflow engine
+ * every {@code sweepIntervalSeconds}, and run status reads within {@code stalenessSeconds} of the
+ * last completed sweep are served from the store instead of calling the engine inline.
+ *
+ * <p>Replicas agree on sweep leases and sweep times through the
+ * {@link org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator} bean.
+ * Providers without a shared implementation fall back to an in-memory one, and must keep the
+ * reconciler disabled when the service runs more than one replica.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.reconciler")
+public class WorkflowRunReconcilerConfig {
+  private boolean enabled;
+  private List<String> partitions = new ArrayList<>();
+  private long sweepIntervalSeconds = 60;
+  private long stalenessSeconds = 120;
+  private long leaseSeconds = 180;
+  private int maxConcurrency = 4;
+  private int pageSize = 100;
+}
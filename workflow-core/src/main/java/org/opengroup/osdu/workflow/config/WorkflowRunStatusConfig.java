@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Freshness of workflow run statuses served by the run read API. A run whose status was last
+ * checked against the workflow engine within {@code defaultMaxStalenessSeconds} is returned as
+ * stored; requests may override the budget with the {@code maxStaleness} query parameter.
+ * A status reported through the status callback is trusted without any engine check for
+ * {@code callbackTrustSeconds}, after which reads fall back to the engine in case the
+ * callback of a later transition was lost. Zero disables the trust, so reported statuses are
+ * checked like any other, and -1 trusts them indefinitely.
+ *
+ * <p>Reads with {@code waitFor} are held for {@code defaultWaitSeconds} unless the request sets
+ * a timeout, which is capped at {@code maxWaitSeconds}. Waiters on one run share a watcher that
+ * checks the status every {@code waitInitialIntervalMillis}, backing off up to
+ * {@code waitMaxIntervalMillis} while the status does not change.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("osdu.workflow.status")
+public class WorkflowRunStatusConfig {
+  private long defaultMaxStalenessSeconds;
+  private long callbackTrustSeconds = 3600;
+  private long defaultWaitSeconds = 30;
+  private long maxWaitSeconds = 60;
+  private long waitInitialIntervalMillis = 1000;
+  private long waitMaxIntervalMillis = 10000;
+  private int waitWatcherThreads = 2;
+}
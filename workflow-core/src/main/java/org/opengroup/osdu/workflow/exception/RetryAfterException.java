@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.exception;
+
+import lombok.Getter;
+import org.opengroup.osdu.core.common.model.http.AppException;
+
+/**
+ * Rejects a request the service cannot take right now. The response carries a
+ * {@code Retry-After} header telling the client when to try again.
+ */
+@Getter
+public class RetryAfterException extends AppException {
+
+  private final long retryAfterSeconds;
+
+  public RetryAfterException(int status, String reason, String message, long retryAfterSeconds) {
+    super(status, reason, message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
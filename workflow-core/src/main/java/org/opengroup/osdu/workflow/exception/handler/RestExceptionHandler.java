@@ -29,6 +29,7 @@ import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.exception.IntegrationException;
 import org.opengroup.osdu.workflow.exception.ResourceConflictException;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.*;
@@ -117,12 +118,18 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
       this.log.warning(exceptionMsg, e);
     }
 
+    HttpHeaders headers = new HttpHeaders();
+    if (e instanceof RetryAfterException retryAfterException) {
+      headers.set(HttpHeaders.RETRY_AFTER,
+          String.valueOf(retryAfterException.getRetryAfterSeconds()));
+    }
+
     // Support for non standard HttpStatus Codes
     HttpStatus httpStatus = HttpStatus.resolve(e.getError().getCode());
     if (httpStatus == null) {
-      return ResponseEntity.status(e.getError().getCode()).body(e);
+      return ResponseEntity.status(e.getError().getCode()).headers(headers).body(e);
     } else {
-      return new ResponseEntity<>(e.getError(), httpStatus);
+      return new ResponseEntity<>(e.getError(), headers, httpStatus);
     }
   }
 
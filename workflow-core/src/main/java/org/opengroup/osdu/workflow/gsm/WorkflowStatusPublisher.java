@@ -1,6 +1,10 @@
 package org.opengroup.osdu.workflow.gsm;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.opengroup.osdu.core.common.exception.CoreException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -9,11 +13,12 @@ import org.opengroup.osdu.core.common.model.status.Status;
 import org.opengroup.osdu.core.common.model.status.StatusDetails;
 import org.opengroup.osdu.core.common.status.AttributesBuilder;
 import org.opengroup.osdu.core.common.status.IEventPublisher;
+import org.opengroup.osdu.workflow.logging.RequestTimings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WorkflowStatusPublisher {
 
   public static final String WORKFLOW_SUBMITTED = "Workflow run submitted. ";
@@ -34,8 +39,28 @@ public class WorkflowStatusPublisher {
 
   private static final String LOG_TEMPLATE = "Going to publish GMS update for workflow with id='%s' and status='%s'. ";
 
+  private static final String PUBLISH_LATENCY_TIMER = "workflow.status.publish.latency";
+
   private final IEventPublisher statusEventPublisher;
 
+  private final Timer publishLatency;
+
+  private final Timer failedPublishLatency;
+
+  public WorkflowStatusPublisher(IEventPublisher statusEventPublisher,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this.statusEventPublisher = statusEventPublisher;
+    MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    this.publishLatency = Timer.builder(PUBLISH_LATENCY_TIMER)
+        .description("Latency of publishing workflow status events")
+        .tag("outcome", "success")
+        .register(meterRegistry);
+    this.failedPublishLatency = Timer.builder(PUBLISH_LATENCY_TIMER)
+        .description("Latency of publishing workflow status events")
+        .tag("outcome", "error")
+        .register(meterRegistry);
+  }
+
   public void publishStatusWithNoErrors(String runId, DpsHeaders dpsHeaders, String msg, Status status) {
     StatusDetails statusDetails = createStatusDetails(msg, runId, status, NO_ERRORS, dpsHeaders);
     log.debug(String.format(LOG_TEMPLATE, runId, status));
@@ -50,6 +75,18 @@ public class WorkflowStatusPublisher {
     publish(statusDetails, dpsHeaders);
   }
 
+  public void publishStatusesWithNoErrors(List<String> runIds, DpsHeaders dpsHeaders, String msg, Status status) {
+    if (runIds.isEmpty()) {
+      return;
+    }
+    Message[] messages = runIds.stream()
+        .map(runId -> createStatusDetails(msg, runId, status, NO_ERRORS, dpsHeaders))
+        .toArray(StatusDetails[]::new);
+    log.debug(String.format("Going to publish GMS update for %d workflow runs with status='%s'. ", runIds.size(), status));
+
+    publish(messages, dpsHeaders);
+  }
+
   private StatusDetails createStatusDetails(String msg, String recordId,
                                             Status status,
                                             int errorCode, DpsHeaders dpsHeaders) {
@@ -79,12 +116,21 @@ public class WorkflowStatusPublisher {
   }
 
   private void publish(StatusDetails statusDetails, DpsHeaders dpsHeaders) {
+    publish(new StatusDetails[]{statusDetails}, dpsHeaders);
+  }
+
+  private void publish(Message[] messages, DpsHeaders dpsHeaders) {
+    long start = System.nanoTime();
+    Timer latency = failedPublishLatency;
     try {
-      Message[] messages = new StatusDetails[]{statusDetails};
       AttributesBuilder attributesBuilder = new AttributesBuilder(dpsHeaders);
       statusEventPublisher.publish(messages, attributesBuilder.createAttributesMap());
+      latency = publishLatency;
     } catch (CoreException e) {
       log.warn(FAILED_TO_PUBLISH_STATUS + e.getMessage());
+    } finally {
+      latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      RequestTimings.record(RequestTimings.Phase.PUBLISH, "publishStatus", start);
     }
   }
 }
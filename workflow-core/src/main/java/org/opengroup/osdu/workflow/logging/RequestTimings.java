@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.opengroup.osdu.workflow.model.RequestTimingEntry;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Time spent by one request per phase, collected for the {@code Server-Timing} header and the
+ * slow request log. The collector lives in a request attribute set by
+ * {@link ServerTimingFilter}; when it is absent {@link #record} only costs a thread-local lookup.
+ */
+public final class RequestTimings {
+
+  public static final String ATTRIBUTE = RequestTimings.class.getName();
+
+  public enum Phase {
+    AUTHORIZATION("auth"),
+    METADATA("metadata"),
+    AIRFLOW("airflow"),
+    REPOSITORY("repository"),
+    PUBLISH("publish");
+
+    private final String metricName;
+
+    Phase(String metricName) {
+      this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+      return metricName;
+    }
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final long startNanos;
+  private final int maxEntries;
+  private final long[] phaseNanos = new long[PHASES.length];
+  private final int[] phaseCalls = new int[PHASES.length];
+  private final List<RequestTimingEntry> entries = new ArrayList<>();
+  private int droppedEntries;
+
+  public RequestTimings(long startNanos, int maxEntries) {
+    this.startNanos = startNanos;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the collector of the request bound to the current thread, or null when timings are
+   * not collected for it.
+   */
+  public static RequestTimings current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    return (RequestTimings) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+  }
+
+  /**
+   * Records an operation of the current request that started at {@code operationStartNanos}
+   * and ends now.
+   */
+  public static void record(Phase phase, String operation, long operationStartNanos) {
+    RequestTimings timings = current();
+    if (timings != null) {
+      timings.add(phase, operation, operationStartNanos, System.nanoTime());
+    }
+  }
+
+  public synchronized void add(Phase phase, String operation, long operationStartNanos,
+                               long operationEndNanos) {
+    long duration = operationEndNanos - operationStartNanos;
+    phaseNanos[phase.ordinal()] += duration;
+    phaseCalls[phase.ordinal()]++;
+    if (entries.size() < maxEntries) {
+      entries.add(RequestTimingEntry.builder()
+          .phase(phase.getMetricName())
+          .operation(operation)
+          .offsetMillis(toMillis(operationStartNanos - startNanos))
+          .durationMillis(toMillis(duration))
+          .build());
+    } else {
+      droppedEntries++;
+    }
+  }
+
+  public long getStartNanos() {
+    return startNanos;
+  }
+
+  /**
+   * Formats the phases recorded so far and the elapsed time as a {@code Server-Timing} value,
+   * for example {@code auth;dur=3.1, airflow;dur=120.4;desc="2 calls", total;dur=130.2}.
+   */
+  public synchronized String toServerTimingHeader(long nowNanos) {
+    StringBuilder header = new StringBuilder();
+    for (Phase phase : PHASES) {
+      int calls = phaseCalls[phase.ordinal()];
+      if (calls > 0) {
+        header.append(phase.getMetricName()).append(";dur=")
+            .append(format(toMillis(phaseNanos[phase.ordinal()])));
+        if (calls > 1) {
+          header.append(";desc=\"").append(calls).append(" calls\"");
+        }
+        header.append(", ");
+      }
+    }
+    return header.append("total;dur=").append(format(toMillis(nowNanos - startNanos))).toString();
+  }
+
+  public synchronized Map<String, Double> getPhases() {
+    Map<String, Double> phases = new LinkedHashMap<>();
+    for (Phase phase : PHASES) {
+      if (phaseCalls[phase.ordinal()] > 0) {
+        phases.put(phase.getMetricName(), toMillis(phaseNanos[phase.ordinal()]));
+      }
+    }
+    return phases;
+  }
+
+  public synchronized List<RequestTimingEntry> getEntries() {
+    return new ArrayList<>(entries);
+  }
+
+  public synchronized int getDroppedEntries() {
+    return droppedEntries;
+  }
+
+  static double toMillis(long nanos) {
+    return Math.round(nanos / 10_000.0) / 100.0;
+  }
+
+  private static String format(double millis) {
+    return String.format(Locale.ROOT, "%.2f", millis);
+  }
+}
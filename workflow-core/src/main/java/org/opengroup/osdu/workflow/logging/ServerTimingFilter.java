@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.ServerTimingConfig;
+import org.opengroup.osdu.workflow.model.SlowRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Binds a {@link RequestTimings} collector to each request, adds the {@code Server-Timing}
+ * header to the response when it is requested and captures requests slower than the configured
+ * threshold in the {@link SlowRequestLog}. Asynchronous requests are captured when they complete.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+  public static final String TOKEN_HEADER = "x-server-timing-token";
+
+  private final ServerTimingConfig config;
+
+  private final SlowRequestLog slowRequestLog;
+
+  public ServerTimingFilter(ServerTimingConfig config, SlowRequestLog slowRequestLog) {
+    this.config = config;
+    this.slowRequestLog = slowRequestLog;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    boolean exposeHeader = config.isEnabled() || isPrivileged(request);
+    if (!exposeHeader && config.getSlowRequestThresholdMillis() <= 0) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    long startTimeStamp = System.currentTimeMillis();
+    RequestTimings timings = new RequestTimings(System.nanoTime(), config.getMaxEntries());
+    request.setAttribute(RequestTimings.ATTRIBUTE, timings);
+    ServerTimingResponse timedResponse = exposeHeader ? new ServerTimingResponse(response, timings) : null;
+    try {
+      chain.doFilter(request, timedResponse != null ? timedResponse : response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new AsyncListener() {
+          @Override
+          public void onComplete(AsyncEvent event) {
+            captureIfSlow(request, response, timings, startTimeStamp);
+          }
+
+          @Override
+          public void onTimeout(AsyncEvent event) {
+          }
+
+          @Override
+          public void onError(AsyncEvent event) {
+          }
+
+          @Override
+          public void onStartAsync(AsyncEvent event) {
+          }
+        });
+      } else {
+        if (timedResponse != null) {
+          timedResponse.writeServerTiming();
+        }
+        captureIfSlow(request, response, timings, startTimeStamp);
+      }
+    }
+  }
+
+  private boolean isPrivileged(HttpServletRequest request) {
+    String token = request.getHeader(TOKEN_HEADER);
+    return StringUtils.isNotEmpty(config.getHeaderToken()) && token != null
+        && MessageDigest.isEqual(config.getHeaderToken().getBytes(StandardCharsets.UTF_8),
+            token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void captureIfSlow(HttpServletRequest request, HttpServletResponse response,
+                             RequestTimings timings, long startTimeStamp) {
+    long threshold = config.getSlowRequestThresholdMillis();
+    long durationNanos = System.nanoTime() - timings.getStartNanos();
+    if (threshold <= 0 || durationNanos < TimeUnit.MILLISECONDS.toNanos(threshold)) {
+      return;
+    }
+    slowRequestLog.add(SlowRequest.builder()
+        .startTimeStamp(startTimeStamp)
+        .method(request.getMethod())
+        .uri(request.getRequestURI())
+        .status(response.getStatus())
+        .correlationId(response.getHeader(DpsHeaders.CORRELATION_ID))
+        .durationMillis(RequestTimings.toMillis(durationNanos))
+        .phases(timings.getPhases())
+        .entries(timings.getEntries())
+        .droppedEntries(timings.getDroppedEntries())
+        .build());
+  }
+
+  /**
+   * Adds the header right before the response is committed, when the timings of everything that
+   * produced the body are known.
+   */
+  private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+    private final RequestTimings timings;
+
+    private boolean written;
+
+    ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+      super(response);
+      this.timings = timings;
+    }
+
+    void writeServerTiming() {
+      if (!written && !isCommitted()) {
+        written = true;
+        setHeader(SERVER_TIMING_HEADER, timings.toServerTimingHeader(System.nanoTime()));
+      }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeServerTiming();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeServerTiming();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeServerTiming();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      writeServerTiming();
+      super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      writeServerTiming();
+      super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      writeServerTiming();
+      super.sendRedirect(location);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.opengroup.osdu.workflow.model.SlowRequest;
+
+/**
+ * Bounded in-memory log of the slowest recent requests. When full, the oldest request is
+ * dropped, so memory use does not depend on traffic.
+ */
+public class SlowRequestLog {
+
+  private final int capacity;
+
+  private final Deque<SlowRequest> requests;
+
+  public SlowRequestLog(int capacity) {
+    this.capacity = Math.max(capacity, 1);
+    this.requests = new ArrayDeque<>(this.capacity);
+  }
+
+  public synchronized void add(SlowRequest request) {
+    if (requests.size() == capacity) {
+      requests.removeLast();
+    }
+    requests.addFirst(request);
+  }
+
+  /**
+   * Returns the captured requests, the most recent first.
+   */
+  public synchronized List<SlowRequest> getRequests() {
+    return new ArrayList<>(requests);
+  }
+}
@@ -0,0 +1,24 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opengroup.osdu.core.common.model.info.ConnectedOuterService;
+
+@Getter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class AirflowConnectedOuterService extends ConnectedOuterService {
+  @Schema(description = "Circuit breaker state of the Airflow instance: CLOSED, OPEN or HALF_OPEN")
+  private final String circuitBreakerState;
+  @Schema(description = "Calls rejected by the circuit breaker or the concurrency limit")
+  private final long rejectedCalls;
+
+  public AirflowConnectedOuterService(String name, String version, String circuitBreakerState,
+                                      long rejectedCalls) {
+    super(name, version);
+    this.circuitBreakerState = circuitBreakerState;
+    this.rejectedCalls = rejectedCalls;
+  }
+}
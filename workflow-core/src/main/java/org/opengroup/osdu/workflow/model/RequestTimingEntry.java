@@ -0,0 +1,22 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RequestTimingEntry {
+  @Schema(description = "Phase of the request: auth, metadata, airflow, repository or publish")
+  private String phase;
+  @Schema(description = "Timed operation, for example the repository method or Airflow endpoint")
+  private String operation;
+  @Schema(description = "Start of the operation relative to the start of the request, in milliseconds")
+  private double offsetMillis;
+  @Schema(description = "Duration of the operation in milliseconds")
+  private double durationMillis;
+}
@@ -0,0 +1,30 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SlowRequest {
+  @Schema(description = "Time the request was received, epoch milliseconds")
+  private long startTimeStamp;
+  private String method;
+  private String uri;
+  private int status;
+  private String correlationId;
+  @Schema(description = "Total duration of the request in milliseconds")
+  private double durationMillis;
+  @Schema(description = "Time spent per phase in milliseconds")
+  private Map<String, Double> phases;
+  @Schema(description = "Timed operations in the order they finished")
+  private List<RequestTimingEntry> entries;
+  @Schema(description = "Operations that were timed but not kept because the request exceeded the entry limit")
+  private int droppedEntries;
+}
@@ -0,0 +1,26 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class TriggerWorkflowBatchItemResponse {
+  @Schema(description = "Position of the item in the batch request", type = "integer")
+  private Integer index;
+  @Schema(description = "Run id for the workflow", type = "string")
+  private String runId;
+  @Schema(description = "HTTP status code of the item", type = "integer")
+  private Integer code;
+  @Schema(description = "Triggered workflow run. Present only if the item succeeded")
+  private WorkflowRunResponse workflowRun;
+  @Schema(description = "Failure reason. Present only if the item failed", type = "string")
+  private String reason;
+  @Schema(description = "Failure details. Present only if the item failed", type = "string")
+  private String message;
+}
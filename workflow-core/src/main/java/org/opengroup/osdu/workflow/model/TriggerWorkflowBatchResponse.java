@@ -0,0 +1,21 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class TriggerWorkflowBatchResponse {
+  @Schema(description = "Number of workflow runs triggered", type = "integer")
+  private int succeeded;
+  @Schema(description = "Number of workflow runs that failed to trigger", type = "integer")
+  private int failed;
+  @Schema(description = "Result of every item in the order of the batch request")
+  private List<TriggerWorkflowBatchItemResponse> results;
+}
@@ -1,8 +1,7 @@
 package org.opengroup.osdu.workflow.model;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,6 +13,7 @@ import lombok.ToString;
 public class TriggerWorkflowRequest {
   @Schema(description = "Optional. Explicit setting up workflow run id.", type = "string")
   private String runId;
-  @Schema(description = "Map to configure workflow speciffic key value pairs")
-  private Map<String, Object> executionContext = new HashMap<>();
+  // Kept as the parsed JSON tree, it is written to the workflow engine without conversion.
+  @Schema(description = "Map to configure workflow speciffic key value pairs", type = "object")
+  private ObjectNode executionContext = JsonNodeFactory.instance.objectNode();
 }
@@ -1,5 +1,6 @@
 package org.opengroup.osdu.workflow.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,8 @@ public class TriggerWorkflowResponse {
   @JsonProperty("message")
   private String message;
 
+  // Airflow 2 names the run id dag_run_id
   @JsonProperty("run_id")
+  @JsonAlias("dag_run_id")
   private String runId;
 }
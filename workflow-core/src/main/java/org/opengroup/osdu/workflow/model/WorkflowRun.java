@@ -31,4 +31,10 @@ public class WorkflowRun {
   @Schema(description = "System captured user details which triggered the run.", type = "string")
   private String submittedBy;
   private String workflowEngineExecutionDate;
+  @Schema(description = "Timestamp of the last status check against the workflow engine.Epoch timestamp", type = "integer", format = "int64")
+  private Long lastStatusCheckTimestamp;
+  @Schema(description = "Timestamp of the last status reported by the workflow engine through the status callback.Epoch timestamp", type = "integer", format = "int64")
+  private Long statusCallbackTimestamp;
+  @Schema(description = "True while the run waits in the dispatch queue and has not been sent to the workflow engine yet")
+  private Boolean dispatchPending;
 }
@@ -0,0 +1,16 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class WorkflowRunBatchGetRequest {
+  @Schema(description = "Run ids of the workflow runs to return.")
+  private List<String> runIds = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class WorkflowRunBatchGetResponse {
+  @Schema(description = "Found workflow runs in the order of the request")
+  private List<WorkflowRunResponse> workflowRuns;
+  @Schema(description = "Requested run ids that do not exist for the workflow")
+  private List<String> notFound;
+}
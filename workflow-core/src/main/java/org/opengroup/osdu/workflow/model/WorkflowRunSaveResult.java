@@ -0,0 +1,19 @@
+package org.opengroup.osdu.workflow.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.opengroup.osdu.core.common.model.http.AppError;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WorkflowRunSaveResult {
+  private String runId;
+  // Saved workflow run, null if the store rejected it
+  private WorkflowRun workflowRun;
+  // Reason the store rejected the workflow run, null if it was saved
+  private AppError error;
+}
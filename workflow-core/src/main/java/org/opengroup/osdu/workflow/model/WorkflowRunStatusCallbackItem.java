@@ -0,0 +1,22 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class WorkflowRunStatusCallbackItem {
+  @Schema(description = "Run id for the workflow", type = "string")
+  private String runId;
+  @Schema(description = "Status reported by the workflow engine")
+  private WorkflowStatusType status;
+  @Schema(description = "End timestamp reported by the workflow engine for completed runs, the time of the callback if absent.Epoch timestamp", type = "integer", format = "int64")
+  private Long endTimeStamp;
+}
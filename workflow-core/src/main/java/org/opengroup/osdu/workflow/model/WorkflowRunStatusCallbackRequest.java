@@ -0,0 +1,20 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class WorkflowRunStatusCallbackRequest {
+  @Schema(description = "Statuses of the workflow runs reported by the workflow engine.")
+  private List<WorkflowRunStatusCallbackItem> workflowRuns = new ArrayList<>();
+}
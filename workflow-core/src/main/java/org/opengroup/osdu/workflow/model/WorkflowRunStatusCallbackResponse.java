@@ -0,0 +1,21 @@
+package org.opengroup.osdu.workflow.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Builder
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class WorkflowRunStatusCallbackResponse {
+  @Schema(description = "Number of workflow runs updated", type = "integer")
+  private int succeeded;
+  @Schema(description = "Number of workflow runs that failed to update", type = "integer")
+  private int failed;
+  @Schema(description = "Result of every item in the order of the callback request")
+  private List<WorkflowRunStatusCallbackItemResponse> results;
+}
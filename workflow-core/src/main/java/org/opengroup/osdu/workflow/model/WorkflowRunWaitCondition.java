@@ -0,0 +1,39 @@
+package org.opengroup.osdu.workflow.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Class of workflow run statuses a long-polling read waits for.
+ */
+public enum WorkflowRunWaitCondition {
+
+  /** The run has completed. */
+  TERMINAL("terminal"),
+
+  /** The run is running or has already completed. */
+  STARTED("started");
+
+  private final String value;
+
+  WorkflowRunWaitCondition(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public boolean isMetBy(WorkflowStatusType status) {
+    if (WorkflowStatusType.getCompletedStatusTypes().contains(status)) {
+      return true;
+    }
+    return this == STARTED && status == WorkflowStatusType.RUNNING;
+  }
+
+  public static Optional<WorkflowRunWaitCondition> fromValue(String value) {
+    return Arrays.stream(values())
+        .filter(condition -> condition.value.equalsIgnoreCase(value))
+        .findFirst();
+  }
+}
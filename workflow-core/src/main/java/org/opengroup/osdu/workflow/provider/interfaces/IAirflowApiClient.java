@@ -17,8 +17,11 @@
 
 package org.opengroup.osdu.workflow.provider.interfaces;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 
 public interface IAirflowApiClient {
 
@@ -28,4 +31,59 @@ public interface IAirflowApiClient {
       String body,
       WorkflowEngineRequest workflowEngineRequest,
       String errorMessage);
+
+  /**
+   * Whether {@link #callAirflowAsync} returns without waiting for Airflow. Callers use the
+   * blocking methods of clients that do not, instead of waiting on a completed future.
+   * @return true if the client has an asynchronous transport.
+   */
+  default boolean supportsAsync() {
+    return false;
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #callAirflow}. Clients without an asynchronous transport
+   * complete the returned future on the calling thread.
+   */
+  default CompletableFuture<ClientResponse> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage) {
+    try {
+      return CompletableFuture.completedFuture(
+          callAirflow(httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Calls Airflow and decodes a successful response with {@code reader}. Clients that can
+   * stream the body decode it as it is received; the body is only buffered to report an error
+   * status. Clients without a streaming transport decode the body they already buffered.
+   */
+  default <T> T callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    return AirflowResponseReaders.read(
+        callAirflow(httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage), reader);
+  }
+
+  /** Non-blocking counterpart of the decoding {@link #callAirflow}. */
+  default <T> CompletableFuture<T> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    return callAirflowAsync(httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage)
+        .thenApply(response -> AirflowResponseReaders.read(response, reader));
+  }
 }
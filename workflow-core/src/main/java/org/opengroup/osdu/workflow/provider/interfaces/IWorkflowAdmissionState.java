@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.provider.interfaces;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * State of workflow trigger admission control. Implementations backed by a shared store make
+ * the limits hold across replicas; every method must be atomic in that store.
+ */
+public interface IWorkflowAdmissionState {
+
+  /**
+   * Token bucket holding up to {@code capacity} tokens, refilled at {@code tokensPerSecond}.
+   * @param key Unique key of the bucket.
+   * @param capacity Maximum number of tokens, the allowed burst.
+   * @param tokensPerSecond Refill rate of the bucket.
+   */
+  record TokenBucket(String key, int capacity, double tokensPerSecond) {
+  }
+
+  /**
+   * Takes one token from each bucket, or none if any of them is empty.
+   * @param buckets Buckets to take a token from.
+   * @return 0 if the tokens were taken, otherwise the milliseconds until every bucket has one.
+   */
+  long tryTakeTokens(final List<TokenBucket> buckets);
+
+  /**
+   * Acquires a concurrency slot for a partition. A partition gets a share of
+   * {@code globalLimit} proportional to its weight among the partitions holding slots, and at
+   * least one slot while the global limit is not reached.
+   * @param partitionId Partition asking for a slot.
+   * @param weight Weight of the partition.
+   * @param globalLimit Number of slots shared by all partitions.
+   * @param permitId Unique id of the slot, used to release it.
+   * @param lease Time after which the slot is released if it was not released before.
+   * @return true if the slot was acquired.
+   */
+  boolean tryAcquireSlot(final String partitionId, final int weight, final int globalLimit,
+                         final String permitId, final Duration lease);
+
+  /**
+   * Releases a slot acquired with {@link #tryAcquireSlot}.
+   * @param partitionId Partition holding the slot.
+   * @param permitId Id the slot was acquired with.
+   */
+  void releaseSlot(final String partitionId, final String permitId);
+}
@@ -17,8 +17,11 @@
 
 package org.opengroup.osdu.workflow.provider.interfaces;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
@@ -60,6 +63,56 @@ public interface IWorkflowEngineService {
    */
   WorkflowStatusType getWorkflowRunStatus(WorkflowEngineRequest rq);
 
+  /**
+   * Whether the asynchronous methods of the engine return without waiting for it.
+   * @return true if the engine is called through an asynchronous client.
+   */
+  default boolean supportsAsync() {
+    return false;
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #triggerWorkflow(WorkflowEngineRequest, Map)}.
+   * Engines without an asynchronous client complete the returned future on the calling thread.
+   * @param rq request parameters required to make a call to Workflow Engine.
+   * @param context context data object used by Workflow.
+   * @return future of the engine's trigger response
+   */
+  default CompletableFuture<TriggerWorkflowResponse> triggerWorkflowAsync(
+      WorkflowEngineRequest rq, Map<String, Object> context) {
+    try {
+      return CompletableFuture.completedFuture(triggerWorkflow(rq, context));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #getWorkflowRunStatus(WorkflowEngineRequest)}.
+   * Engines without an asynchronous client complete the returned future on the calling thread.
+   * @param rq request parameters required to make a call to Workflow Engine.
+   * @return future of the status of the particular workflowRun
+   */
+  default CompletableFuture<WorkflowStatusType> getWorkflowRunStatusAsync(
+      WorkflowEngineRequest rq) {
+    try {
+      return CompletableFuture.completedFuture(getWorkflowRunStatus(rq));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Gets statuses of many runs of one workflow with as few engine calls as possible.
+   * Runs the engine cannot resolve in bulk are left out of the result, callers look them up
+   * with {@link #getWorkflowRunStatus(WorkflowEngineRequest)}.
+   * @param rqs request parameters of every workflowRun.
+   * @return Status of the resolved workflowRuns by run id
+   */
+  default Map<String, WorkflowStatusType> getWorkflowRunStatuses(List<WorkflowEngineRequest> rqs) {
+    return Collections.emptyMap();
+  }
+
   /**
    * Gets Airflow version
    *
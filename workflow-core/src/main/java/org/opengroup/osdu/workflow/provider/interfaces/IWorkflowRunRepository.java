@@ -1,8 +1,14 @@
 package org.opengroup.osdu.workflow.provider.interfaces;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import org.opengroup.osdu.core.common.model.http.AppError;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
+import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
 
 public interface IWorkflowRunRepository {
@@ -13,6 +19,34 @@ public interface IWorkflowRunRepository {
    */
   WorkflowRun saveWorkflowRun(final WorkflowRun workflowRun);
 
+  /**
+   * Saves workflow runs in persistence store, in bulk where the store supports it.
+   * A run that fails to save, whether the store rejects it (for example a duplicate run id) or
+   * fails on the server side, is returned with that error, and the other runs are still saved.
+   * Only a failure of the bulk call as a whole is thrown.
+   * @param workflowRuns Workflow runs to save.
+   * @return One result per workflow run, in the order of workflowRuns.
+   */
+  default List<WorkflowRunSaveResult> saveWorkflowRuns(final List<WorkflowRun> workflowRuns) {
+    List<WorkflowRunSaveResult> results = new ArrayList<>();
+    for (WorkflowRun workflowRun : workflowRuns) {
+      WorkflowRunSaveResult.WorkflowRunSaveResultBuilder result =
+          WorkflowRunSaveResult.builder().runId(workflowRun.getRunId());
+      try {
+        results.add(result.workflowRun(saveWorkflowRun(workflowRun)).build());
+      } catch (AppException e) {
+        results.add(result.error(e.getError()).build());
+      } catch (RuntimeException e) {
+        results.add(result.error(AppError.builder()
+            .code(500)
+            .reason("Failed to save workflow run")
+            .message(e.getMessage())
+            .build()).build());
+      }
+    }
+    return results;
+  }
+
   /**
    * Returns Information about workflow run. based on workflowName, runId
    * @param workflowName Name of the workflow for which workflowRun should be checked.
@@ -21,6 +55,29 @@ public interface IWorkflowRunRepository {
    */
   WorkflowRun getWorkflowRun(final String workflowName, final String runId);
 
+  /**
+   * Returns workflow runs of workflowName with the given run ids, in bulk where the store
+   * supports it. Run ids that do not exist are left out of the result.
+   * @param workflowName Name of the workflow the runs belong to.
+   * @param runIds Run ids to read.
+   * @return Found workflow runs in no particular order.
+   */
+  default List<WorkflowRun> getWorkflowRuns(final String workflowName, final List<String> runIds) {
+    List<WorkflowRun> workflowRuns = new ArrayList<>();
+    for (String runId : runIds) {
+      try {
+        workflowRuns.add(getWorkflowRun(workflowName, runId));
+      } catch (WorkflowRunNotFoundException | WorkflowNotFoundException e) {
+        // reported to the caller as not found
+      } catch (AppException e) {
+        if (e.getError().getCode() != 404) {
+          throw e;
+        }
+      }
+    }
+    return workflowRuns;
+  }
+
   /**
    * Returns information about workflow runs based on workflowName
    * @param workflowName Name of the workflow for which workflowRun should be checked.
@@ -30,7 +87,18 @@ public interface IWorkflowRunRepository {
                                                final String cursor);
 
   /**
-   * Deletes all workflow runs associated with workflowName.
+   * Returns workflow runs of the current partition that are in one of the active statuses
+   * ({@link org.opengroup.osdu.workflow.model.WorkflowStatusType#getActiveStatusTypes()}),
+   * filtered by the store rather than in memory.
+   * @param limit Maximum number of runs in the page.
+   * @param cursor Cursor returned with the previous page, null for the first page.
+   * @return Page of active workflow runs across all workflows.
+   */
+  WorkflowRunsPage getActiveWorkflowRuns(final Integer limit, final String cursor);
+
+  /**
+   * Deletes workflow runs of workflowName, in bulk where the store supports it.
+   * Called with one page of run ids at a time.
    * @param runIds Run ids to delete
    */
   void deleteWorkflowRuns(final String workflowName, final List<String> runIds);
@@ -2,9 +2,16 @@ package org.opengroup.osdu.workflow.provider.interfaces;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchRequest;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackResponse;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 
 public interface IWorkflowRunService {
@@ -16,6 +23,35 @@ public interface IWorkflowRunService {
    */
   WorkflowRunResponse triggerWorkflow(final String workflowName, TriggerWorkflowRequest request);
 
+  /**
+   * Non-blocking variant of {@link #triggerWorkflow}. The workflow engine is called without
+   * holding the calling thread, the run is persisted when the engine has accepted it.
+   * Engines without an asynchronous client are triggered as {@link #triggerWorkflow} does,
+   * and the returned future is already complete.
+   * @param workflowName Workflow to trigger
+   * @param request Request object which has information to trigger workflow.
+   * @return Future of information about workflow run.
+   */
+  CompletableFuture<WorkflowRunResponse> triggerWorkflowAsync(final String workflowName,
+                                                              TriggerWorkflowRequest request);
+
+  /**
+   * Persists a workflow run as submitted and triggers it in background when asynchronous
+   * dispatch is enabled, otherwise triggers it like {@link #triggerWorkflow}.
+   * @param workflowName Workflow to trigger
+   * @param request Request object which has information to trigger workflow.
+   * @return Information about workflow run.
+   */
+  WorkflowRunResponse submitWorkflow(final String workflowName, TriggerWorkflowRequest request);
+
+  /**
+   * Triggers many runs of a workflow. Items fail independently of each other.
+   * @param workflowName Workflow to trigger
+   * @param request Request objects which have information to trigger each workflow run.
+   * @return Result of every item of the batch.
+   */
+  TriggerWorkflowBatchResponse triggerWorkflows(final String workflowName, TriggerWorkflowBatchRequest request);
+
   /**
    * Returns Information about workflow run. based on workflowId, runId
    * @param workflowName Name of the workflow for which workflowRun should be checked.
@@ -24,6 +60,55 @@ public interface IWorkflowRunService {
    */
   WorkflowRunResponse getWorkflowRunByName(final String workflowName, final String runId);
 
+  /**
+   * Returns Information about workflow run, calling the workflow engine only when the stored
+   * status of an active run was checked longer ago than the staleness budget.
+   * @param workflowName Name of the workflow for which workflowRun should be checked.
+   * @param runId Id of the workflowRun for which metadata should be retrieved.
+   * @param maxStalenessSeconds Accepted age of the stored status in seconds, or null for the
+   *                            server default.
+   * @return Information about workflow run.
+   */
+  WorkflowRunResponse getWorkflowRunByName(final String workflowName, final String runId,
+                                           final Long maxStalenessSeconds);
+
+  /**
+   * Non-blocking variant of {@link #getWorkflowRunByName(String, String, Long)}. The stored run
+   * is read on the calling thread, the workflow engine is called without holding it.
+   * @param workflowName Name of the workflow for which workflowRun should be checked.
+   * @param runId Id of the workflowRun for which metadata should be retrieved.
+   * @param maxStalenessSeconds Accepted age of the stored status in seconds, or null for the
+   *                            server default.
+   * @return Future of information about workflow run.
+   */
+  CompletableFuture<WorkflowRunResponse> getWorkflowRunByNameAsync(final String workflowName,
+                                                                   final String runId,
+                                                                   final Long maxStalenessSeconds);
+
+  /**
+   * Variant of {@link #getWorkflowRunByNameAsync(String, String, Long)} for callers that poll a
+   * run. A status checked against the workflow engine within the budget is returned as stored,
+   * so the engine is called at most once per budget no matter how many pollers share the run.
+   * @param workflowName Name of the workflow for which workflowRun should be checked.
+   * @param runId Id of the workflowRun for which metadata should be retrieved.
+   * @param stalenessBudgetMillis Accepted age of the stored status in milliseconds.
+   * @return Future of information about workflow run.
+   */
+  CompletableFuture<WorkflowRunResponse> pollWorkflowRunAsync(final String workflowName,
+                                                              final String runId,
+                                                              final long stalenessBudgetMillis);
+
+  /**
+   * Returns information about many runs of a workflow.
+   * @param workflowName Name of the workflow the runs belong to.
+   * @param request Run ids to return.
+   * @param refresh Whether statuses of active runs are refreshed from the workflow engine.
+   * @return Found workflow runs in the order of the request and the run ids not found.
+   */
+  WorkflowRunBatchGetResponse getWorkflowRuns(final String workflowName,
+                                              final WorkflowRunBatchGetRequest request,
+                                              final boolean refresh);
+
   /**
    * Deletes all workflow runs information for a workflowId
    * @param workflowName Id of the workflow for which workflowRuns need to be deleted.
@@ -45,4 +130,21 @@ public interface IWorkflowRunService {
    */
   WorkflowRunResponse updateWorkflowRunStatus(final String workflowName, final String runId,
       WorkflowStatusType status);
+
+  /**
+   * Applies statuses reported by the workflow engine for many runs of a workflow. Reported
+   * statuses are trusted, reads of these runs do not check them against the workflow engine.
+   * @param workflowName Name of the workflow the runs belong to.
+   * @param request Reported run statuses.
+   * @return Result of every reported status in the order of the request.
+   */
+  WorkflowRunStatusCallbackResponse updateWorkflowRunStatuses(final String workflowName,
+      final WorkflowRunStatusCallbackRequest request);
+
+  /**
+   * Refreshes status of an active workflow run from the workflow engine and persists it if changed.
+   * @param workflowRun Stored workflow run.
+   * @return Updated workflow run, or the given one if it is completed or unchanged.
+   */
+  WorkflowRun refreshWorkflowRunStatus(final WorkflowRun workflowRun);
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.provider.interfaces;
+
+import java.time.Duration;
+
+public interface IWorkflowRunSweepCoordinator {
+  /**
+   * Acquires or renews the lease that allows the owner to sweep active runs of a partition.
+   * The lease expires on its own so that a stopped replica does not block the partition.
+   * @param partitionId Partition to sweep.
+   * @param ownerId Unique id of the replica asking for the lease.
+   * @param leaseDuration Time after which the lease may be taken over by another replica.
+   * @return true if the owner holds the lease.
+   */
+  boolean tryAcquireLease(final String partitionId, final String ownerId, final Duration leaseDuration);
+
+  /**
+   * Releases the lease if it is held by the owner.
+   * @param partitionId Partition that was swept.
+   * @param ownerId Unique id of the replica holding the lease.
+   */
+  void releaseLease(final String partitionId, final String ownerId);
+
+  /**
+   * Records a sweep in which every active run of the partition was refreshed.
+   * @param partitionId Partition that was swept.
+   * @param sweepStartTimestamp Epoch millis at which the sweep started.
+   */
+  void recordCompletedSweep(final String partitionId, final long sweepStartTimestamp);
+
+  /**
+   * Returns start time of the last completed sweep of a partition.
+   * @param partitionId Partition to check.
+   * @return Epoch millis or null if the partition was never swept.
+   */
+  Long getLastCompletedSweep(final String partitionId);
+}
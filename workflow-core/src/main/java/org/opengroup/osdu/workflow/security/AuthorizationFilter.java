@@ -22,9 +22,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.exception.BadRequestException;
 import org.opengroup.osdu.core.common.exception.UnauthorizedException;
 import org.opengroup.osdu.core.common.model.entitlements.AuthorizationResponse;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.provider.interfaces.IAuthorizationService;
+import org.opengroup.osdu.workflow.logging.RequestTimings;
 import org.opengroup.osdu.workflow.provider.interfaces.IAdminAuthorizationService;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
@@ -48,22 +51,58 @@ public class AuthorizationFilter {
    * false
    */
   public boolean hasPermission(String... requiredRoles) {
-    validateMandatoryHeaders();
-    if (StringUtils.isEmpty(this.headers.getPartitionId())) {
-      throw new BadRequestException("data-partition-id header is mandatory");
+    long start = System.nanoTime();
+    try {
+      validateMandatoryHeaders();
+      if (StringUtils.isEmpty(this.headers.getPartitionId())) {
+        throw new BadRequestException("data-partition-id header is mandatory");
+      }
+      AuthorizationResponse authResponse = authorizationService.authorizeAny(headers, requiredRoles);
+      headers.put(DpsHeaders.USER_EMAIL, authResponse.getUser());
+      return true;
+    } finally {
+      RequestTimings.record(RequestTimings.Phase.AUTHORIZATION, "hasPermission", start);
+    }
+  }
+
+  /**
+   * Check that the caller is the platform service account, as used by workflow engine callbacks,
+   * and has any of the required roles in the data partition of the request.
+   *
+   * @param requiredRoles required roles
+   * @return true if the caller is the service account and has any required roles
+   */
+  public boolean hasServicePermission(String... requiredRoles) {
+    hasPermission(requiredRoles);
+    // Some providers resolve the service account against the shared tenant through the headers
+    final String partitionId = this.headers.getPartitionId();
+    final String userEmail = this.headers.getUserEmail();
+    final boolean serviceAccount;
+    try {
+      serviceAccount = adminAuthorizationService.isDomainAdminServiceAccount();
+    } finally {
+      headers.put(DpsHeaders.DATA_PARTITION_ID, partitionId);
+      headers.put(DpsHeaders.USER_EMAIL, userEmail);
+    }
+    if (!serviceAccount) {
+      throw new AppException(HttpStatus.FORBIDDEN.value(), "Access denied",
+          "The caller must be the service account of the workflow engine");
     }
-    AuthorizationResponse authResponse = authorizationService.authorizeAny(headers, requiredRoles);
-    headers.put(DpsHeaders.USER_EMAIL, authResponse.getUser());
     return true;
   }
 
   public boolean hasRootPermission() {
-    validateMandatoryHeaders();
-    if (!StringUtils.isEmpty(this.headers.getPartitionId())) {
-      throw new BadRequestException("data-partition-id header should not be passed");
+    long start = System.nanoTime();
+    try {
+      validateMandatoryHeaders();
+      if (!StringUtils.isEmpty(this.headers.getPartitionId())) {
+        throw new BadRequestException("data-partition-id header should not be passed");
+      }
+      headers.put(DpsHeaders.USER_EMAIL, "RootUser");
+      return adminAuthorizationService.isDomainAdminServiceAccount();
+    } finally {
+      RequestTimings.record(RequestTimings.Phase.AUTHORIZATION, "hasRootPermission", start);
     }
-    headers.put(DpsHeaders.USER_EMAIL, "RootUser");
-    return adminAuthorizationService.isDomainAdminServiceAccount();
   }
 
   private void validateMandatoryHeaders() {
@@ -19,30 +19,31 @@ package org.opengroup.osdu.workflow.service;
 
 import static java.lang.String.format;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.ws.rs.HttpMethod;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.model.*;
 import org.opengroup.osdu.workflow.model.AirflowGetDAGRunStatus;
-import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.http.HttpStatus;
 
 @RequiredArgsConstructor
@@ -55,6 +56,9 @@ public abstract class AbstractAirflowWorkflowEngineService implements IWorkflowE
   protected static final String AIRFLOW_WORKFLOW_RUN_NOT_FOUND =
       "No WorkflowRun executed for Workflow: %s on %s ";
 
+  // Shared by the engines to write request bodies, an ObjectMapper is thread-safe once configured
+  protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   @Getter(AccessLevel.PROTECTED)
   private final IAirflowApiClient airflowApiClient;
 
@@ -78,17 +82,35 @@ public abstract class AbstractAirflowWorkflowEngineService implements IWorkflowE
   public TriggerWorkflowResponse triggerWorkflow(
       WorkflowEngineRequest rq, Map<String, Object> context) {
     log.info("Submitting ingestion with dagName: {}", rq.getDagName());
-    ClientResponse airflowResponse =
-        airflowApiClient.callAirflow(
+    return airflowApiClient.callAirflow(
+        HttpMethod.POST,
+        getTriggerWorkflowUrl(rq),
+        getTriggerWorkflowRequestBody(rq, context),
+        rq,
+        getTriggerWorkflowErrorMessage(rq),
+        this::getTriggerWorkflowResponse);
+  }
+
+  @Override
+  public boolean supportsAsync() {
+    return airflowApiClient.supportsAsync();
+  }
+
+  @Override
+  public CompletableFuture<TriggerWorkflowResponse> triggerWorkflowAsync(
+      WorkflowEngineRequest rq, Map<String, Object> context) {
+    log.info("Submitting ingestion with dagName: {}", rq.getDagName());
+    return airflowApiClient
+        .callAirflowAsync(
             HttpMethod.POST,
             getTriggerWorkflowUrl(rq),
-            getTriggerWorkflowRequestBody(rq, context).toString(),
+            getTriggerWorkflowRequestBody(rq, context),
             rq,
-            getTriggerWorkflowErrorMessage(rq));
-    return getTriggerWorkflowResponse(airflowResponse);
+            getTriggerWorkflowErrorMessage(rq),
+            this::getTriggerWorkflowResponse);
   }
 
-  protected abstract JSONObject getTriggerWorkflowRequestBody(
+  protected abstract String getTriggerWorkflowRequestBody(
       WorkflowEngineRequest rq, Map<String, Object> context);
 
   protected abstract String getTriggerWorkflowUrl(WorkflowEngineRequest rq);
@@ -97,26 +119,39 @@ public abstract class AbstractAirflowWorkflowEngineService implements IWorkflowE
     return format(AIRFLOW_TRIGGER_DAG_ERROR_MESSAGE, rq.getWorkflowId(), rq.getWorkflowName());
   }
 
-  protected abstract TriggerWorkflowResponse getTriggerWorkflowResponse(
-      ClientResponse airflowResponse);
+  protected abstract TriggerWorkflowResponse getTriggerWorkflowResponse(JsonParser airflowResponse)
+      throws IOException;
 
   @Override
   public WorkflowStatusType getWorkflowRunStatus(WorkflowEngineRequest rq) {
     log.info(
         rq.getWorkflowName(),
         rq.getExecutionTimeStamp());
-    final ClientResponse response =
+    final AirflowGetDAGRunStatus airflowResponse =
         airflowApiClient.callAirflow(
             HttpMethod.GET,
             getWorkflowRunStatusUrl(rq),
             null,
             rq,
-            getWorkflowRunStatusErrorMessage(rq));
-
-    AirflowGetDAGRunStatus airflowResponse = getAirflowGetDAGRunStatus(response);
+            getWorkflowRunStatusErrorMessage(rq),
+            this::getAirflowGetDAGRunStatus);
     return airflowResponse.getStatusType();
   }
 
+  @Override
+  public CompletableFuture<WorkflowStatusType> getWorkflowRunStatusAsync(
+      WorkflowEngineRequest rq) {
+    return airflowApiClient
+        .callAirflowAsync(
+            HttpMethod.GET,
+            getWorkflowRunStatusUrl(rq),
+            null,
+            rq,
+            getWorkflowRunStatusErrorMessage(rq),
+            this::getAirflowGetDAGRunStatus)
+        .thenApply(AirflowGetDAGRunStatus::getStatusType);
+  }
+
   protected abstract String getWorkflowRunStatusUrl(WorkflowEngineRequest rq);
 
   protected String getWorkflowRunStatusErrorMessage(WorkflowEngineRequest rq) {
@@ -124,12 +159,10 @@ public abstract class AbstractAirflowWorkflowEngineService implements IWorkflowE
     return String.format(AIRFLOW_WORKFLOW_RUN_NOT_FOUND, rq.getWorkflowName(), executionDate);
   }
 
-  protected AirflowGetDAGRunStatus getAirflowGetDAGRunStatus(ClientResponse response) {
+  protected AirflowGetDAGRunStatus getAirflowGetDAGRunStatus(JsonParser response)
+      throws IOException {
     try {
-      ObjectMapper objectMapper = new ObjectMapper();
-      objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-      return objectMapper.readValue(
-          response.getResponseBody().toString(), AirflowGetDAGRunStatus.class);
+      return AirflowResponseReaders.DAG_RUN_STATUS.readValue(response);
     } catch (JsonProcessingException e) {
       final String errorMessage = format("Unable to Process Json Received. %s", e.getMessage());
       log.error(errorMessage, e);
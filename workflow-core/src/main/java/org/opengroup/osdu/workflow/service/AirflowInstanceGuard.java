@@ -0,0 +1,221 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowCircuitBreakerConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Circuit breaker and bulkhead of one Airflow instance. Server and transport errors count as
+ * failures; any other outcome, a 404 or 409 included, shows the instance is up. Rejected calls
+ * fail with a {@link RetryAfterException}. The state is published in {@value #STATE_GAUGE}
+ * (0 closed, 1 open, 2 half-open) and rejections in {@value #REJECTIONS_COUNTER}.
+ */
+@Slf4j
+public class AirflowInstanceGuard {
+
+  public static final String STATE_GAUGE = "workflow.airflow.circuit.state";
+  public static final String REJECTIONS_COUNTER = "workflow.airflow.circuit.rejections";
+
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final String instance;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final Semaphore bulkhead;
+  private final Counter openRejections;
+  private final Counter busyRejections;
+  private final AtomicLong rejectedCalls = new AtomicLong();
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean trialInFlight;
+
+  public AirflowInstanceGuard(String instance, AirflowCircuitBreakerConfig config,
+                              MeterRegistry meterRegistry) {
+    this.instance = instance;
+    this.failureThreshold = config.getFailureThreshold();
+    this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMillis());
+    this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+    Gauge.builder(STATE_GAUGE, this, guard -> guard.getState().ordinal())
+        .description("Circuit breaker state of an Airflow instance")
+        .tag("instance", instance)
+        .register(meterRegistry);
+    this.openRejections = rejections(meterRegistry, "open");
+    this.busyRejections = rejections(meterRegistry, "busy");
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public long getRejectedCalls() {
+    return rejectedCalls.get();
+  }
+
+  public <T> T call(Supplier<T> call) {
+    enter();
+    Throwable failure = null;
+    try {
+      return call.get();
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      bulkhead.release();
+      onOutcome(failure);
+    }
+  }
+
+  /** Holds the instance's permit until the returned future completes. */
+  public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+    try {
+      enter();
+    } catch (RetryAfterException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    } catch (Error e) {
+      bulkhead.release();
+      onOutcome(e);
+      throw e;
+    }
+    return future.whenComplete((result, e) -> {
+      bulkhead.release();
+      onOutcome(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+    });
+  }
+
+  private void enter() {
+    if (!bulkhead.tryAcquire()) {
+      throw reject(busyRejections, "Airflow instance is busy",
+          "Too many concurrent calls to airflow instance %s".formatted(instance), 1);
+    }
+    final long retryAfterNanos = tryEnterCircuit();
+    if (retryAfterNanos > 0) {
+      bulkhead.release();
+      throw reject(openRejections, "Airflow instance is unavailable",
+          "Calls to airflow instance %s are suspended after repeated failures".formatted(instance),
+          Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L)));
+    }
+  }
+
+  /** Returns zero if the call may go ahead, otherwise the time until it could. */
+  private synchronized long tryEnterCircuit() {
+    if (state == State.OPEN) {
+      final long remaining = openDurationNanos - (System.nanoTime() - openedAt);
+      if (remaining > 0) {
+        return remaining;
+      }
+      log.info("Probing airflow instance {} after the circuit was open", instance);
+      state = State.HALF_OPEN;
+      trialInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (trialInFlight) {
+        return TimeUnit.SECONDS.toNanos(1);
+      }
+      trialInFlight = true;
+    }
+    return 0;
+  }
+
+  /** Records how a call ended, {@code null} meaning it succeeded. */
+  private void onOutcome(Throwable e) {
+    if (e instanceof Error) {
+      // says nothing about the instance, but a trial call must not stay in flight forever
+      onAbandoned();
+    } else if (e != null && isFailure(e)) {
+      onFailure();
+    } else {
+      onSuccess();
+    }
+  }
+
+  private synchronized void onAbandoned() {
+    trialInFlight = false;
+  }
+
+  private synchronized void onSuccess() {
+    if (state != State.CLOSED) {
+      log.info("Closing circuit of airflow instance {}", instance);
+    }
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  private synchronized void onFailure() {
+    if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+      if (state != State.OPEN) {
+        log.warn("Opening circuit of airflow instance {} after {} failed calls",
+            instance, Math.max(consecutiveFailures, 1));
+      }
+      state = State.OPEN;
+      openedAt = System.nanoTime();
+      consecutiveFailures = 0;
+    }
+    trialInFlight = false;
+  }
+
+  private RetryAfterException reject(Counter counter, String reason, String message,
+                                     long retryAfterSeconds) {
+    counter.increment();
+    rejectedCalls.incrementAndGet();
+    return new RetryAfterException(
+        HttpStatus.SERVICE_UNAVAILABLE.value(), reason, message, retryAfterSeconds);
+  }
+
+  private Counter rejections(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder(REJECTIONS_COUNTER)
+        .description("Calls to an Airflow instance rejected by its circuit breaker or bulkhead")
+        .tag("instance", instance)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  private static boolean isFailure(Throwable e) {
+    if (e instanceof AppException appException) {
+      return appException.getError().getCode() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
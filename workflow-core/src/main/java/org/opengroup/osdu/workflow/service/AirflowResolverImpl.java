@@ -17,6 +17,8 @@
 
 package org.opengroup.osdu.workflow.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +27,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opengroup.osdu.core.common.model.info.ConnectedOuterService;
+import org.opengroup.osdu.workflow.config.AirflowCircuitBreakerConfig;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.model.AirflowConnectedOuterService;
 import org.opengroup.osdu.workflow.model.ExternalAirflowConfig;
 import org.opengroup.osdu.workflow.model.WorkflowMetadata;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
@@ -37,6 +41,7 @@ import org.opengroup.osdu.workflow.service.factory.AirflowApiClientFactory;
 import org.opengroup.osdu.workflow.service.factory.ExternalAirflowConfigFactory;
 import org.opengroup.osdu.workflow.service.factory.WorkflowEngineExtensionServiceFactory;
 import org.opengroup.osdu.workflow.service.factory.WorkflowEngineServiceFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -53,12 +58,15 @@ public class AirflowResolverImpl implements IAirflowResolver {
   private final IWorkflowEngineExtension internalWorkflowEngineExtension;
   private final Map<String, IWorkflowEngineService> externalAirflowMap = new ConcurrentHashMap<>();
   private final Map<String, IWorkflowEngineExtension> externalAirflowExtensionMap = new ConcurrentHashMap<>();
+  private final Map<String, AirflowInstanceGuard> externalAirflowGuards = new ConcurrentHashMap<>();
 
   private final WorkflowEngineServiceFactory workflowEngineServiceFactory;
   private final WorkflowEngineExtensionServiceFactory workflowEngineExtensionServiceFactory;
   private final AirflowApiClientFactory airflowApiClientFactory;
   private final ExternalAirflowConfigFactory externalAirflowConfigFactory;
   private final IExternalAirflowConfigService externalAirflowConfigService;
+  private final AirflowCircuitBreakerConfig circuitBreakerConfig;
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
 
   @Override
   public List<ConnectedOuterService> getConnectedWorkflowEngineServicesVersions() {
@@ -69,12 +77,7 @@ public class AirflowResolverImpl implements IAirflowResolver {
             .version(internalWorkflowEngineService.getVersion().orElse(N_A))
             .build());
     externalAirflowMap.entrySet().stream()
-        .map(
-            e ->
-                ConnectedOuterService.builder()
-                    .name(EXTERNAL_AIRFLOW + e.getKey())
-                    .version(e.getValue().getVersion().orElse(N_A))
-                    .build())
+        .map(e -> getConnectedOuterService(e.getKey(), e.getValue()))
         .forEach(connectedOuterServices::add);
     return connectedOuterServices;
   }
@@ -93,9 +96,13 @@ public class AirflowResolverImpl implements IAirflowResolver {
             AirflowVersionAndAirflowApiClient airflowVersionAndAirflowApiClient =
                 getAirflowVersionAndApiClientFromSecret(s);
 
-            return workflowEngineServiceFactory.createWorkflowEngineService(
-                airflowVersionAndAirflowApiClient.airflowVersion(),
-                airflowVersionAndAirflowApiClient.airflowApiClient());
+            IWorkflowEngineService workflowEngineService =
+                workflowEngineServiceFactory.createWorkflowEngineService(
+                    airflowVersionAndAirflowApiClient.airflowVersion(),
+                    airflowVersionAndAirflowApiClient.airflowApiClient());
+            return circuitBreakerConfig.isEnabled()
+                ? new GuardedWorkflowEngineService(workflowEngineService, getInstanceGuard(s))
+                : workflowEngineService;
           });
     }
     log.debug("Using internal airflow engine");
@@ -116,15 +123,39 @@ public class AirflowResolverImpl implements IAirflowResolver {
             AirflowVersionAndAirflowApiClient airflowVersionAndAirflowApiClient =
                 getAirflowVersionAndApiClientFromSecret(s);
 
-            return workflowEngineExtensionServiceFactory.createWorkflowEngineExtension(
-                airflowVersionAndAirflowApiClient.airflowVersion(),
-                airflowVersionAndAirflowApiClient.airflowApiClient());
+            IWorkflowEngineExtension workflowEngineExtension =
+                workflowEngineExtensionServiceFactory.createWorkflowEngineExtension(
+                    airflowVersionAndAirflowApiClient.airflowVersion(),
+                    airflowVersionAndAirflowApiClient.airflowApiClient());
+            return circuitBreakerConfig.isEnabled()
+                ? new GuardedWorkflowEngineExtension(workflowEngineExtension, getInstanceGuard(s))
+                : workflowEngineExtension;
           });
     }
     log.debug("Using internal airflow engine extension");
     return internalWorkflowEngineExtension;
   }
 
+  private ConnectedOuterService getConnectedOuterService(
+      String secretId, IWorkflowEngineService workflowEngineService) {
+    String name = EXTERNAL_AIRFLOW + secretId;
+    String version = workflowEngineService.getVersion().orElse(N_A);
+    AirflowInstanceGuard guard = externalAirflowGuards.get(secretId);
+    if (guard == null) {
+      return ConnectedOuterService.builder().name(name).version(version).build();
+    }
+    return new AirflowConnectedOuterService(
+        name, version, guard.getState().name(), guard.getRejectedCalls());
+  }
+
+  // the engine service and extension of an instance share one breaker and bulkhead
+  private AirflowInstanceGuard getInstanceGuard(String secretId) {
+    return externalAirflowGuards.computeIfAbsent(
+        secretId,
+        s -> new AirflowInstanceGuard(s, circuitBreakerConfig,
+            meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry)));
+  }
+
   private Optional<String> getExternalAirflowSecretId(WorkflowMetadata workflowMetadata) {
     log.debug(
         "Getting external airflow secret id for workflow: {}", workflowMetadata.getWorkflowName());
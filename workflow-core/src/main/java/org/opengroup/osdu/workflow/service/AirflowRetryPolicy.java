@@ -0,0 +1,230 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowRetryConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retries Airflow calls that are safe to repeat: reads (GETs and the {@code dagRuns/list}
+ * query) and triggers that carry their own run id, which Airflow refuses to create twice.
+ * Reads are retried on 429, 502, 503, 504 and transport errors. Triggers are only retried on
+ * 429 and 503, which Airflow or its proxy send before handling the request; after a 502, a
+ * timeout or a broken connection the run may exist, so a retry could only end in a 409. All
+ * other calls are made once.
+ *
+ * <p>One budget is shared by the retries of all Airflow instances, see
+ * {@link AirflowRetryConfig}. When Airflow is down, retries stop after a burst and resume once
+ * calls succeed again, so the service never sends more than a fraction of extra load to an
+ * instance that is already struggling.
+ */
+@Slf4j
+@Component
+public class AirflowRetryPolicy {
+
+  public static final String RETRY_COUNTER = "workflow.airflow.retries";
+
+  private static final Set<Integer> READ_RETRY_STATUSES = Set.of(
+      HttpStatus.TOO_MANY_REQUESTS.value(),
+      HttpStatus.BAD_GATEWAY.value(),
+      HttpStatus.SERVICE_UNAVAILABLE.value(),
+      HttpStatus.GATEWAY_TIMEOUT.value());
+  private static final Set<Integer> TRIGGER_RETRY_STATUSES = Set.of(
+      HttpStatus.TOO_MANY_REQUESTS.value(),
+      HttpStatus.SERVICE_UNAVAILABLE.value());
+  // budget is kept in thousandths of a token
+  private static final int TOKEN = 1000;
+
+  private enum Call { READ, TRIGGER, OTHER }
+
+  private final AirflowRetryConfig config;
+  private final MeterRegistry meterRegistry;
+  private final int maxTokens;
+  private final int tokenRatio;
+  private final AtomicInteger tokens;
+
+  @Autowired
+  public AirflowRetryPolicy(AirflowRetryConfig config,
+                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this(config, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public AirflowRetryPolicy(AirflowRetryConfig config, MeterRegistry meterRegistry) {
+    this.config = config;
+    this.meterRegistry = meterRegistry;
+    this.maxTokens = config.getBudgetMaxTokens() * TOKEN;
+    this.tokenRatio = (int) (config.getBudgetTokenRatio() * TOKEN);
+    this.tokens = new AtomicInteger(maxTokens);
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled() && config.getMaxAttempts() > 1;
+  }
+
+  /**
+   * Makes {@code call} and repeats it while it fails with a retryable error, the attempts are
+   * not used up and the budget allows. {@code runId} is the run id sent with a trigger, if any.
+   */
+  public <T> T execute(String httpMethod, String apiEndpoint, String runId, Supplier<T> call) {
+    final Call kind = classify(httpMethod, apiEndpoint, runId);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        final T result = call.get();
+        onSuccess();
+        return result;
+      } catch (RuntimeException e) {
+        if (!shouldRetry(kind, e, attempt, httpMethod, apiEndpoint) || !sleep(backoff(attempt))) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /** Non-blocking counterpart of {@link #execute}, waiting for the next attempt off-thread. */
+  public <T> CompletableFuture<T> executeAsync(
+      String httpMethod, String apiEndpoint, String runId, Supplier<CompletableFuture<T>> call) {
+    return attempt(classify(httpMethod, apiEndpoint, runId), httpMethod, apiEndpoint, call, 1);
+  }
+
+  private <T> CompletableFuture<T> attempt(Call kind, String httpMethod, String apiEndpoint,
+                                           Supplier<CompletableFuture<T>> call, int attempt) {
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    return future.handle((result, e) -> {
+      if (e == null) {
+        onSuccess();
+        return CompletableFuture.completedFuture(result);
+      }
+      final Throwable failure =
+          e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      if (!shouldRetry(kind, failure, attempt, httpMethod, apiEndpoint)) {
+        return CompletableFuture.<T>failedFuture(failure);
+      }
+      final Executor delayed =
+          CompletableFuture.delayedExecutor(backoff(attempt), TimeUnit.MILLISECONDS);
+      return CompletableFuture.runAsync(() -> { }, delayed)
+          .thenCompose(ignored -> attempt(kind, httpMethod, apiEndpoint, call, attempt + 1));
+    }).thenCompose(Function.identity());
+  }
+
+  private boolean shouldRetry(Call kind, Throwable e, int attempt,
+                              String httpMethod, String apiEndpoint) {
+    if (!isEnabled() || kind == Call.OTHER || !isRetryable(kind, e)) {
+      return false;
+    }
+    // every retryable failure counts against the budget, whether it is retried or not
+    final boolean withinBudget = tokens.updateAndGet(t -> Math.max(0, t - TOKEN)) > maxTokens / 2;
+    if (attempt >= config.getMaxAttempts()) {
+      return false;
+    }
+    if (!withinBudget) {
+      count("throttled");
+      log.warn("Retry budget exhausted, not retrying {} {}", httpMethod, apiEndpoint);
+      return false;
+    }
+    count("retried");
+    log.warn("Retrying {} {} after attempt {} failed: {}",
+        httpMethod, apiEndpoint, attempt, e.getMessage());
+    return true;
+  }
+
+  private void onSuccess() {
+    tokens.updateAndGet(t -> Math.min(maxTokens, t + tokenRatio));
+  }
+
+  private long backoff(int attempt) {
+    final long ceiling = Math.min(config.getMaxBackoffMillis(),
+        config.getInitialBackoffMillis() << Math.min(attempt - 1, 30));
+    return ThreadLocalRandom.current().nextLong(Math.max(ceiling, 0) + 1);
+  }
+
+  private void count(String result) {
+    Counter.builder(RETRY_COUNTER)
+        .description("Retries of Airflow calls, made or refused by the retry budget")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Call classify(String httpMethod, String apiEndpoint, String runId) {
+    if (HttpMethod.GET.name().equalsIgnoreCase(httpMethod)
+        || HttpMethod.HEAD.name().equalsIgnoreCase(httpMethod)) {
+      return Call.READ;
+    }
+    if (HttpMethod.POST.name().equalsIgnoreCase(httpMethod)) {
+      if (StringUtils.endsWith(apiEndpoint, "/list")) {
+        return Call.READ;
+      }
+      return StringUtils.isNotBlank(runId) ? Call.TRIGGER : Call.OTHER;
+    }
+    return Call.OTHER;
+  }
+
+  private static boolean isRetryable(Call kind, Throwable e) {
+    if (e instanceof AppException appException) {
+      final int status = appException.getError().getCode();
+      if ((kind == Call.READ ? READ_RETRY_STATUSES : TRIGGER_RETRY_STATUSES).contains(status)) {
+        return true;
+      }
+    }
+    return kind == Call.READ && isTransportFailure(e);
+  }
+
+  private static boolean isTransportFailure(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -19,33 +19,45 @@ package org.opengroup.osdu.workflow.service;
 
 import static java.lang.String.format;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.ws.rs.HttpMethod;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.model.http.AppException;
-import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.AirflowTaskDetailsConfig;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineExtension;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
+import org.opengroup.osdu.workflow.util.BackgroundRequestContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AirflowV2WorkflowEngineExtension implements IWorkflowEngineExtension {
   public static final String GET_RUN_TASKS_ERROR_MESSAGE =
       "Failed to fetch run tasks with id %s and name %s";
@@ -59,123 +71,222 @@ public class AirflowV2WorkflowEngineExtension implements IWorkflowEngineExtensio
   public static final String TASK_INSTANCES_ELEMENT = "task_instances";
   public static final String END_DATE_ELEMENT = "end_date";
   public static final String TASK_ID_ELEMENT = "task_id";
+  public static final String STATE_ELEMENT = "state";
   public static final String XCOM_ENTRIES_ELEMENT = "xcom_entries";
   public static final String KEY_ELEMENT = "key";
   public static final String XCOM_VALUE = "value";
   public static final String XCOM_RESP = "xcom";
+  // Task instances in these states are not rescheduled, so their XCom values no longer change
+  private static final Set<String> TERMINAL_TASK_STATES =
+      Set.of("success", "failed", "skipped", "upstream_failed", "removed");
 
+  // Only writes the XCom values into the response, Airflow responses are decoded by the client
   private final ObjectMapper om = new ObjectMapper();
   private final IAirflowApiClient airflowApiClient;
+  private final ExecutorService airflowXcomExecutor;
+  private final DpsHeaders dpsHeaders;
+  private final Cache<RunKey, ObjectNode> completedRunDetails;
+
+  public AirflowV2WorkflowEngineExtension(IAirflowApiClient airflowApiClient,
+                                          AirflowTaskDetailsConfig taskDetailsConfig,
+                                          ExecutorService airflowXcomExecutor,
+                                          DpsHeaders dpsHeaders) {
+    this.airflowApiClient = airflowApiClient;
+    this.airflowXcomExecutor = airflowXcomExecutor;
+    this.dpsHeaders = dpsHeaders;
+    this.completedRunDetails = taskDetailsConfig.isCacheEnabled()
+        ? CacheBuilder.newBuilder()
+            .maximumSize(taskDetailsConfig.getCacheMaximumSize())
+            .expireAfterWrite(taskDetailsConfig.getCacheTtlSeconds(), TimeUnit.SECONDS)
+            .build()
+        : null;
+  }
 
   @Override
   public Object getLatestTaskDetails(String dagName, String runId) {
-    try {
-      List<Map<String, String>> tasksMap = getDagRunTasks(dagName, runId);
+    RunKey key = new RunKey(dagName, runId);
+    ObjectNode cached = completedRunDetails == null ? null : completedRunDetails.getIfPresent(key);
+    if (cached != null) {
+      return cached.deepCopy();
+    }
+    List<ObjectNode> tasks = getDagRunTasks(dagName, runId);
 
-      Map<String, String> latestTask = findLatestTask(tasksMap);
+    ObjectNode latestTask = findLatestTask(tasks);
 
-      if (Objects.isNull(latestTask) || latestTask.isEmpty()) {
-        log.info("Task instances not found for DAG: {} with runId: {}", dagName, runId);
-        throw new AppException(HttpStatus.NOT_FOUND.value(), "Tasks not found", "Empty response.");
-      }
-      String latestTaskId = latestTask.get(TASK_ID_ELEMENT);
-
-      List<String> xcomKeys = getTaskXcomKeys(dagName, runId, latestTaskId);
-
-      Map<String, String> xcomKeyVal =
-          getXcomKeyValues(dagName, runId, latestTaskId, xcomKeys);
-      ObjectNode xcomKeyValJson = om.convertValue(xcomKeyVal, ObjectNode.class);
-      ObjectNode taskJson = om.convertValue(latestTask, ObjectNode.class);
-      taskJson.set(XCOM_RESP, xcomKeyValJson);
-      return taskJson;
-    } catch (JsonProcessingException e) {
-      log.error("Unable to process Airflow response.", e);
-      final String error = "Unable to Process(Parse, Generate) JSON value";
-      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
+    if (Objects.isNull(latestTask) || latestTask.isEmpty()) {
+      log.info("Task instances not found for DAG: {} with runId: {}", dagName, runId);
+      throw new AppException(HttpStatus.NOT_FOUND.value(), "Tasks not found", "Empty response.");
     }
+    String latestTaskId = latestTask.path(TASK_ID_ELEMENT).asText();
+
+    List<String> xcomKeys = getTaskXcomKeys(dagName, runId, latestTaskId);
+
+    Map<String, String> xcomKeyVal =
+        getXcomKeyValues(dagName, runId, latestTaskId, xcomKeys);
+    ObjectNode taskJson = latestTask.deepCopy();
+    taskJson.set(XCOM_RESP, om.valueToTree(xcomKeyVal));
+    if (completedRunDetails != null && isCompleted(tasks)) {
+      completedRunDetails.put(key, taskJson.deepCopy());
+    }
+    return taskJson;
   }
 
-  private List<Map<String, String>> getDagRunTasks(String dagName, String runId)
-      throws JsonProcessingException {
+  private List<ObjectNode> getDagRunTasks(String dagName, String runId) {
     String taskInstancesEndpoint = format(TASK_INSTANCES, dagName, runId);
     String tasksErrMsg = format(GET_RUN_TASKS_ERROR_MESSAGE, runId, dagName);
 
-    ClientResponse taskListResponse =
-        airflowApiClient.callAirflow(
-            HttpMethod.GET, taskInstancesEndpoint, null, null, tasksErrMsg);
-
-    JsonNode taskInstancesJson =
-        om.readValue(taskListResponse.getResponseBody().toString(), JsonNode.class)
-            .get(TASK_INSTANCES_ELEMENT);
+    return airflowApiClient.callAirflow(
+        HttpMethod.GET, taskInstancesEndpoint, null, null, tasksErrMsg,
+        parser -> readTasks(parser, taskInstancesEndpoint));
+  }
 
-    if (!taskInstancesJson.isArray()) {
+  private static List<ObjectNode> readTasks(JsonParser parser, String endpoint)
+      throws IOException {
+    if (!moveToField(parser, TASK_INSTANCES_ELEMENT) || parser.nextToken() != JsonToken.START_ARRAY) {
       throw new AppException(
           HttpStatus.INTERNAL_SERVER_ERROR.value(),
           "Unexpected response format for Task list request.",
-          "Airflow response:" + taskListResponse);
+          "Airflow response of " + endpoint);
     }
-    List<Map<String, String>> tasksMap = new ArrayList<>();
-    for (JsonNode jsonNode : taskInstancesJson) {
-      tasksMap.add(om.convertValue(jsonNode, Map.class));
+    List<ObjectNode> tasks = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      tasks.add(AirflowResponseReaders.TASK_INSTANCE.readValue(parser));
     }
-    return tasksMap;
+    return tasks;
   }
 
-  private List<String> getTaskXcomKeys(String dagName, String runId, String latestTaskId)
-      throws JsonProcessingException {
+  private List<String> getTaskXcomKeys(String dagName, String runId, String latestTaskId) {
     String taskXcomEntriesEndpoint = format(XCOM_ENTRIES, dagName, runId, latestTaskId);
     String xcomEntriesErrMsg = format(GET_TASKS_XCOM_ERROR_MESSAGE, latestTaskId);
 
-    ClientResponse entriesResponse =
-        airflowApiClient.callAirflow(
-            HttpMethod.GET, taskXcomEntriesEndpoint, null, null, xcomEntriesErrMsg);
-
-    JsonNode entriesNode =
-        om.readValue(entriesResponse.getResponseBody().toString(), JsonNode.class);
+    return airflowApiClient.callAirflow(
+        HttpMethod.GET, taskXcomEntriesEndpoint, null, null, xcomEntriesErrMsg,
+        parser -> readXcomKeys(parser, taskXcomEntriesEndpoint));
+  }
 
-    JsonNode xcomEntries = entriesNode.get(XCOM_ENTRIES_ELEMENT);
-    ArrayList<String> xcomKeys = new ArrayList<>();
-    if (!xcomEntries.isArray()) {
+  private static List<String> readXcomKeys(JsonParser parser, String endpoint)
+      throws IOException {
+    if (!moveToField(parser, XCOM_ENTRIES_ELEMENT) || parser.nextToken() != JsonToken.START_ARRAY) {
       throw new AppException(
           HttpStatus.INTERNAL_SERVER_ERROR.value(),
           "Unexpected response format for Xcom keys request.",
-          "Airflow response:" + entriesResponse);
+          "Airflow response of " + endpoint);
     }
-    for (JsonNode xcomEntry : xcomEntries) {
-      xcomKeys.add(xcomEntry.get(KEY_ELEMENT).textValue());
+    List<String> xcomKeys = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      if (moveToField(parser, KEY_ELEMENT)) {
+        xcomKeys.add(readText(parser));
+        skipToObjectEnd(parser);
+      } else {
+        xcomKeys.add(null);
+      }
     }
     return xcomKeys;
   }
 
   private Map<String, String> getXcomKeyValues(
-      String dagName, String runId, String latestTaskId, List<String> xcomKeys)
-      throws JsonProcessingException {
+      String dagName, String runId, String latestTaskId, List<String> xcomKeys) {
     String xcomValErrMsg = format(GET_XCOM_VALUES_ERROR_MESSAGE, latestTaskId);
-    Map<String, String> xcomKeyVal = new HashMap<>();
-    for (String xcomKey : xcomKeys) {
-      String xcomValueEndpoint = format(XCOM_VALUES, dagName, runId, latestTaskId, xcomKey);
-      ClientResponse xcomValueResponse =
-          airflowApiClient.callAirflow(HttpMethod.GET, xcomValueEndpoint, null, null, xcomValErrMsg);
-      JsonNode xcomValue =
-          om.readValue(xcomValueResponse.getResponseBody().toString(), JsonNode.class);
-
-      xcomKeyVal.put(xcomKey, xcomValue.get(XCOM_VALUE).textValue());
+    // Pool threads get a request of their own, the servlet request is not safe to share
+    Map<String, String> headers = dpsHeaders.getHeaders();
+    AtomicBoolean abandoned = new AtomicBoolean();
+    Map<String, Future<String>> xcomValues = new LinkedHashMap<>();
+    try {
+      for (String xcomKey : xcomKeys) {
+        String xcomValueEndpoint = format(XCOM_VALUES, dagName, runId, latestTaskId, xcomKey);
+        xcomValues.put(xcomKey, airflowXcomExecutor.submit(() -> abandoned.get() ? null
+            : BackgroundRequestContext.call(headers, () -> getXcomValue(xcomValueEndpoint, xcomValErrMsg))));
+      }
+      Map<String, String> xcomKeyVal = new LinkedHashMap<>();
+      for (Map.Entry<String, Future<String>> xcomValue : xcomValues.entrySet()) {
+        xcomKeyVal.put(xcomValue.getKey(), xcomValue.getValue().get());
+      }
+      return xcomKeyVal;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+          "Interrupted", format(GET_XCOM_VALUES_ERROR_MESSAGE, latestTaskId));
+    } finally {
+      // After a failure the lookups not started yet are skipped, those in flight are waited for
+      abandoned.set(true);
+      awaitCompletion(xcomValues.values());
+    }
+  }
+
+  private static void awaitCompletion(Collection<Future<String>> futures) {
+    for (Future<String> future : futures) {
+      try {
+        Uninterruptibles.getUninterruptibly(future);
+      } catch (ExecutionException | CancellationException e) {
+        // the first failure is already reported to the caller
+      }
+    }
+  }
+
+  private String getXcomValue(String xcomValueEndpoint, String xcomValErrMsg) {
+    return airflowApiClient.callAirflow(HttpMethod.GET, xcomValueEndpoint, null, null,
+        xcomValErrMsg, parser -> moveToField(parser, XCOM_VALUE) ? readText(parser) : null);
+  }
+
+  // Advances the parser to the named field of the current object, skipping other members
+  private static boolean moveToField(JsonParser parser, String fieldName) throws IOException {
+    if (parser.currentToken() == null) {
+      parser.nextToken();
     }
-    return xcomKeyVal;
+    JsonToken token = parser.nextToken();
+    while (token == JsonToken.FIELD_NAME) {
+      if (fieldName.equals(parser.currentName())) {
+        return true;
+      }
+      parser.nextToken();
+      parser.skipChildren();
+      token = parser.nextToken();
+    }
+    return false;
   }
 
-  private static Map<String, String> findLatestTask(List<Map<String, String>> tasksMap) {
-    return tasksMap.stream()
+  private static void skipToObjectEnd(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    while (token != null && token != JsonToken.END_OBJECT) {
+      parser.skipChildren();
+      token = parser.nextToken();
+    }
+  }
+
+  private static String readText(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.VALUE_STRING) {
+      return parser.getText();
+    }
+    parser.skipChildren();
+    return null;
+  }
+
+  private static boolean isCompleted(List<ObjectNode> tasks) {
+    return !tasks.isEmpty() && tasks.stream()
+        .allMatch(task -> TERMINAL_TASK_STATES.contains(task.path(STATE_ELEMENT).asText()));
+  }
+
+  private static ObjectNode findLatestTask(List<ObjectNode> tasks) {
+    return tasks.stream()
         .max(
             Comparator.comparing(
-                map ->
+                task ->
                     LocalDateTime.parse(
-                        map.get(END_DATE_ELEMENT), DateTimeFormatter.ISO_OFFSET_DATE_TIME)))
+                        task.path(END_DATE_ELEMENT).textValue(), DateTimeFormatter.ISO_OFFSET_DATE_TIME)))
         .orElseThrow(
             () ->
                 new AppException(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
                     "Unable to locate latest task.",
-                    String.format("Provided tasks: %s", StringUtils.join(tasksMap))));
+                    String.format("Provided tasks: %s", StringUtils.join(tasks))));
+  }
+
+  private record RunKey(String dagName, String runId) {
   }
 }
@@ -19,21 +19,34 @@ package org.opengroup.osdu.workflow.service;
 
 import static java.lang.String.format;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import javax.ws.rs.HttpMethod;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
-import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.http.HttpStatus;
 
 @Slf4j
@@ -45,6 +58,9 @@ public class AirflowV2WorkflowEngineServiceImpl extends AbstractAirflowWorkflowE
   protected static final String TRIGGER_AIRFLOW_ENDPOINT_STABLE = "api/v1/dags/%s/dagRuns";
   protected static final String AIRFLOW_RUN_ENDPOINT_STABLE = "api/v1/dags/%s/dagRuns/%s";
   protected static final String AIRFLOW_VERSION_ENDPOINT = "api/v1/version";
+  protected static final String AIRFLOW_LIST_RUNS_ENDPOINT_STABLE = "api/v1/dags/~/dagRuns/list";
+  protected static final int LIST_RUNS_PAGE_LIMIT = 100;
+  protected static final int LIST_RUNS_MAX_PAGES = 5;
   protected static final String NOT_AVAILABLE = "N/A";
   protected static final String VERSION = "version";
   protected static final String KEY_USER_ID = "userId";
@@ -58,13 +74,77 @@ public class AirflowV2WorkflowEngineServiceImpl extends AbstractAirflowWorkflowE
     this.dpsHeaders = dpsHeaders;
   }
 
+  /**
+   * Writes the request body in a single pass: the payload entries, then the execution context
+   * field by field with the user id appended, so the execution context is never copied. The
+   * reserved user id key is rejected while the execution context is written.
+   */
   @Override
-  protected JSONObject getTriggerWorkflowRequestBody(
+  protected String getTriggerWorkflowRequestBody(
       WorkflowEngineRequest rq, Map<String, Object> context) {
-    final JSONObject requestBody = new JSONObject();
-    requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, context);
-    requestBody.put(RUN_ID_PARAMETER_NAME_STABLE, rq.getRunId());
-    return requestBody;
+    if (Objects.isNull(context)) {
+      throw new AppException(
+          HttpStatus.BAD_REQUEST.value(),
+          "Failed to trigger workflow run",
+          "data is null or empty");
+    }
+    final JsonNode executionContext = toExecutionContextNode(context.get(KEY_EXECUTION_CONTEXT));
+    final StringWriter body = new StringWriter();
+    try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(body)) {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart(AIRFLOW_PAYLOAD_PARAMETER_NAME);
+      for (Map.Entry<String, Object> entry : context.entrySet()) {
+        if (!KEY_EXECUTION_CONTEXT.equals(entry.getKey()) && entry.getValue() != null) {
+          generator.writeObjectField(entry.getKey(), entry.getValue());
+        }
+      }
+      generator.writeObjectFieldStart(KEY_EXECUTION_CONTEXT);
+      final Iterator<Map.Entry<String, JsonNode>> fields = executionContext.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        if (KEY_USER_ID.equals(field.getKey())) {
+          String errorMessage =
+              String.format(
+                  "Request to trigger workflow with name %s failed because execution context contains reserved key 'userId'",
+                  rq.getWorkflowName());
+          throw new AppException(400, "Failed to trigger workflow run", errorMessage);
+        }
+        generator.writeFieldName(field.getKey());
+        generator.writeTree(field.getValue());
+      }
+      log.debug("putting user email: {} in execution context", dpsHeaders.getUserEmail());
+      if (dpsHeaders.getUserEmail() != null) {
+        generator.writeStringField(KEY_USER_ID, dpsHeaders.getUserEmail());
+      }
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeStringField(RUN_ID_PARAMETER_NAME_STABLE, rq.getRunId());
+      generator.writeEndObject();
+    } catch (IOException e) {
+      final String error = "Unable to Process(Parse, Generate) JSON value";
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
+    }
+    return body.toString();
+  }
+
+  // Requests carry the execution context as a JSON tree, other callers may still pass a map.
+  private JsonNode toExecutionContextNode(Object executionContext) {
+    final JsonNode node = executionContext instanceof JsonNode
+        ? (JsonNode) executionContext
+        : OBJECT_MAPPER.valueToTree(executionContext);
+    if (Objects.isNull(node) || node.isNull()) {
+      throw new AppException(
+          HttpStatus.BAD_REQUEST.value(),
+          "Failed to trigger workflow run",
+          "execution_context is null or empty");
+    }
+    if (!node.isObject()) {
+      throw new AppException(
+          HttpStatus.BAD_REQUEST.value(),
+          "Failed to trigger workflow run",
+          "execution_context must be a JSON object");
+    }
+    return node;
   }
 
   @Override
@@ -73,25 +153,17 @@ public class AirflowV2WorkflowEngineServiceImpl extends AbstractAirflowWorkflowE
   }
 
   @Override
-  protected TriggerWorkflowResponse getTriggerWorkflowResponse(ClientResponse airflowResponse) {
-    try {
-      ObjectMapper om = new ObjectMapper();
-      String body = airflowResponse.getResponseBody().toString();
-      JsonNode jsonNode = om.readValue(body, JsonNode.class);
-      String executionDate = "";
-      String dagRunId = "";
-      if (jsonNode.has(EXECUTION_DATE_PARAMETER_NAME))
-        executionDate = jsonNode.get(EXECUTION_DATE_PARAMETER_NAME).asText();
-      if (jsonNode.has(RUN_ID_PARAMETER_NAME_STABLE))
-        dagRunId = jsonNode.get(RUN_ID_PARAMETER_NAME_STABLE).asText();
-
-      return new TriggerWorkflowResponse(executionDate, "", dagRunId);
-
-    } catch (JsonProcessingException e) {
-      log.info("Airflow response: {}.", airflowResponse);
-      final String error = "Unable to Process(Parse, Generate) JSON value";
-      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
+  protected TriggerWorkflowResponse getTriggerWorkflowResponse(JsonParser airflowResponse)
+      throws IOException {
+    TriggerWorkflowResponse response =
+        AirflowResponseReaders.TRIGGER_WORKFLOW_RESPONSE.readValue(airflowResponse);
+    if (Objects.isNull(response)) {
+      return new TriggerWorkflowResponse("", "", "");
     }
+    return new TriggerWorkflowResponse(
+        Objects.toString(response.getExecutionDate(), ""),
+        "",
+        Objects.toString(response.getRunId(), ""));
   }
 
   @Override
@@ -99,62 +171,99 @@ public class AirflowV2WorkflowEngineServiceImpl extends AbstractAirflowWorkflowE
     return format(AIRFLOW_RUN_ENDPOINT_STABLE, rq.getDagName(), rq.getRunId());
   }
 
+  /**
+   * Resolves statuses with the batch dagRuns/list endpoint, filtered by DAG and by the window
+   * of the runs' execution dates. Runs without execution date, runs outside the pages read and
+   * all runs when the endpoint fails are left to single lookups.
+   */
   @Override
-  public TriggerWorkflowResponse triggerWorkflow(
-      WorkflowEngineRequest rq, Map<String, Object> context) {
-    addUserIdToExecutionContext(context, rq);
-    return super.triggerWorkflow(rq, context);
+  public Map<String, WorkflowStatusType> getWorkflowRunStatuses(List<WorkflowEngineRequest> rqs) {
+    final Map<String, List<WorkflowEngineRequest>> rqsByDag = new HashMap<>();
+    for (WorkflowEngineRequest rq : rqs) {
+      if (parseExecutionDate(rq) != null) {
+        rqsByDag.computeIfAbsent(rq.getDagName(), dag -> new ArrayList<>()).add(rq);
+      }
+    }
+    final Map<String, WorkflowStatusType> statuses = new HashMap<>();
+    rqsByDag.forEach((dagName, dagRqs) -> statuses.putAll(listWorkflowRunStatuses(dagName, dagRqs)));
+    return statuses;
   }
 
-  @Override
-  public Optional<String> getVersion() {
-    ClientResponse clientResponse =
-        getAirflowApiClient().callAirflow(HttpMethod.GET, AIRFLOW_VERSION_ENDPOINT, null, null, null);
+  private Map<String, WorkflowStatusType> listWorkflowRunStatuses(
+      String dagName, List<WorkflowEngineRequest> rqs) {
+    final Set<String> runIds = new HashSet<>();
+    OffsetDateTime from = null;
+    OffsetDateTime to = null;
+    for (WorkflowEngineRequest rq : rqs) {
+      final OffsetDateTime executionDate = parseExecutionDate(rq);
+      runIds.add(rq.getRunId());
+      from = from == null || executionDate.isBefore(from) ? executionDate : from;
+      to = to == null || executionDate.isAfter(to) ? executionDate : to;
+    }
+
+    final Map<String, WorkflowStatusType> statuses = new HashMap<>();
     try {
-      ObjectMapper om = new ObjectMapper();
-      String body = clientResponse.getResponseBody().toString();
-      JsonNode jsonNode = om.readValue(body, JsonNode.class);
-      if (jsonNode.has(VERSION)) {
-        return Optional.of(jsonNode.get(VERSION).asText());
-      } else {
-        log.error(
-            "Unable to locate version in Airflow response. Airflow response: {}.", clientResponse);
-        return Optional.of(NOT_AVAILABLE);
+      int offset = 0;
+      for (int page = 0; page < LIST_RUNS_MAX_PAGES && statuses.size() < runIds.size(); page++) {
+        final JSONObject requestBody = new JSONObject();
+        requestBody.put("dag_ids", Collections.singletonList(dagName));
+        requestBody.put("execution_date_gte", from.toString());
+        requestBody.put("execution_date_lte", to.toString());
+        requestBody.put("page_offset", offset);
+        requestBody.put("page_limit", LIST_RUNS_PAGE_LIMIT);
+        final JsonNode jsonNode = getAirflowApiClient().callAirflow(
+            HttpMethod.POST, AIRFLOW_LIST_RUNS_ENDPOINT_STABLE, requestBody.toString(), null,
+            format("Unable to list runs of DAG %s", dagName),
+            AirflowResponseReaders.JSON_TREE::readTree);
+        final JsonNode dagRuns = jsonNode.path("dag_runs");
+        for (JsonNode dagRun : dagRuns) {
+          final String runId = dagRun.path(RUN_ID_PARAMETER_NAME_STABLE).asText();
+          if (runIds.contains(runId) && dagRun.hasNonNull("state")) {
+            statuses.put(runId,
+                OBJECT_MAPPER.convertValue(dagRun.get("state"), WorkflowStatusType.class));
+          }
+        }
+        offset += dagRuns.size();
+        if (dagRuns.isEmpty() || offset >= jsonNode.path("total_entries").asInt()) {
+          break;
+        }
       }
-    } catch (JsonProcessingException e) {
-      log.error(
-          "Unable to Process(Parse, Generate) JSON value. Airflow response: {}.", clientResponse);
-      return Optional.of(NOT_AVAILABLE);
+    } catch (AppException | IllegalArgumentException e) {
+      log.warn("Unable to list runs of DAG {}, statuses are looked up one by one. {}",
+          dagName, e.getMessage());
     }
+    return statuses;
   }
 
-  protected void addUserIdToExecutionContext(
-      Map<String, Object> inputData, WorkflowEngineRequest rq) {
-    if (Objects.isNull(inputData)) {
-      throw new AppException(
-          HttpStatus.BAD_REQUEST.value(),
-          "Failed to trigger workflow run",
-          "data is null or empty");
+  private OffsetDateTime parseExecutionDate(WorkflowEngineRequest rq) {
+    if (Objects.isNull(rq.getWorkflowEngineExecutionDate())
+        || rq.getWorkflowEngineExecutionDate().isEmpty()) {
+      return null;
     }
-    ObjectMapper objectMapper = new ObjectMapper();
-    Map<String, Object> executionContext =
-        objectMapper.convertValue(inputData.get(KEY_EXECUTION_CONTEXT), Map.class);
-    if (Objects.isNull(executionContext)) {
-      throw new AppException(
-          HttpStatus.BAD_REQUEST.value(),
-          "Failed to trigger workflow run",
-          "execution_context is null or empty");
+    try {
+      return OffsetDateTime.parse(rq.getWorkflowEngineExecutionDate());
+    } catch (DateTimeParseException e) {
+      return null;
     }
-    if (executionContext.containsKey(KEY_USER_ID)) {
-      String errorMessage =
-          String.format(
-              "Request to trigger workflow with name %s failed because execution context contains reserved key 'userId'",
-              rq.getWorkflowName());
-      throw new AppException(400, "Failed to trigger workflow run", errorMessage);
+  }
+
+  @Override
+  public Optional<String> getVersion() {
+    return Optional.of(getAirflowApiClient().callAirflow(
+        HttpMethod.GET, AIRFLOW_VERSION_ENDPOINT, null, null, null, this::readVersion));
+  }
+
+  private String readVersion(JsonParser parser) throws IOException {
+    try {
+      JsonNode jsonNode = AirflowResponseReaders.JSON_TREE.readTree(parser);
+      if (Objects.nonNull(jsonNode) && jsonNode.has(VERSION)) {
+        return jsonNode.get(VERSION).asText();
+      }
+      log.error("Unable to locate version in Airflow response. Airflow response: {}.", jsonNode);
+    } catch (JsonProcessingException e) {
+      log.error(
+          "Unable to Process(Parse, Generate) JSON value. Airflow response: {}.", e.getMessage());
     }
-    log.debug("putting user email: {} in execution context", dpsHeaders.getUserEmail());
-    executionContext.put(KEY_USER_ID, dpsHeaders.getUserEmail());
-    inputData.put(KEY_EXECUTION_CONTEXT, executionContext);
+    return NOT_AVAILABLE;
   }
 }
-
@@ -19,16 +19,17 @@ package org.opengroup.osdu.workflow.service;
 
 import static java.lang.String.format;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.opengroup.osdu.core.common.model.http.AppException;
-import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.http.HttpStatus;
 
 @Slf4j
@@ -44,13 +45,27 @@ public class AirflowWorkflowEngineServiceImpl extends AbstractAirflowWorkflowEng
   }
 
   @Override
-  protected JSONObject getTriggerWorkflowRequestBody(
+  protected String getTriggerWorkflowRequestBody(
       WorkflowEngineRequest rq, Map<String, Object> context) {
-    final JSONObject requestBody = new JSONObject();
+    final Map<String, Object> requestBody = new LinkedHashMap<>();
     requestBody.put(RUN_ID_PARAMETER_NAME, rq.getRunId());
-    requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, context);
+    if (context != null) {
+      // null entries of the payload are left out of the request body
+      final Map<String, Object> conf = new LinkedHashMap<>();
+      context.forEach((key, value) -> {
+        if (value != null) {
+          conf.put(key, value);
+        }
+      });
+      requestBody.put(AIRFLOW_PAYLOAD_PARAMETER_NAME, conf);
+    }
     requestBody.put(EXECUTION_DATE_PARAMETER_NAME, executionDate(rq.getExecutionTimeStamp()));
-    return requestBody;
+    try {
+      return OBJECT_MAPPER.writeValueAsString(requestBody);
+    } catch (JsonProcessingException e) {
+      final String error = "Unable to Process(Parse, Generate) JSON value";
+      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
+    }
   }
 
   @Override
@@ -59,16 +74,9 @@ public class AirflowWorkflowEngineServiceImpl extends AbstractAirflowWorkflowEng
   }
 
   @Override
-  protected TriggerWorkflowResponse getTriggerWorkflowResponse(ClientResponse airflowResponse) {
-    try {
-      ObjectMapper om = new ObjectMapper();
-      String body = airflowResponse.getResponseBody().toString();
-      return om.readValue(body, TriggerWorkflowResponse.class);
-    } catch (JsonProcessingException e) {
-      log.info("Airflow response: {}.", airflowResponse);
-      final String error = "Unable to Process(Parse, Generate) JSON value";
-      throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), error, e.getMessage());
-    }
+  protected TriggerWorkflowResponse getTriggerWorkflowResponse(JsonParser airflowResponse)
+      throws IOException {
+    return AirflowResponseReaders.TRIGGER_WORKFLOW_RESPONSE.readValue(airflowResponse);
   }
 
   @Override
@@ -23,6 +23,8 @@ import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientHandlerException;
 import com.sun.jersey.api.client.UniformInterfaceException;
 import com.sun.jersey.api.client.WebResource;
+import java.io.IOException;
+import java.io.InputStream;
 import javax.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,10 +33,15 @@ import org.opengroup.osdu.workflow.config.AirflowConfig;
 import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnProperty(
+    name = "osdu.airflow.http-client.pooled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class BasicAuthAirflowApiClient implements IAirflowApiClient {
@@ -48,6 +55,42 @@ public class BasicAuthAirflowApiClient implements IAirflowApiClient {
       String body,
       WorkflowEngineRequest rq,
       String errorMessage) {
+    com.sun.jersey.api.client.ClientResponse response =
+        execute(httpMethod, apiEndpoint, body, errorMessage);
+
+    return ClientResponse.builder()
+        .contentType(String.valueOf(response.getType()))
+        .responseBody(response.getEntity(String.class))
+        .status(HttpStatus.OK)
+        .statusCode(response.getStatus())
+        .statusMessage(response.getStatusInfo().getReasonPhrase())
+        .build();
+  }
+
+  @Override
+  public <T> T callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest rq,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    com.sun.jersey.api.client.ClientResponse response =
+        execute(httpMethod, apiEndpoint, body, errorMessage);
+
+    try (InputStream entity = response.getEntityInputStream()) {
+      return AirflowResponseReaders.read(entity, reader);
+    } catch (IOException e) {
+      throw new AppException(
+          HttpStatus.INTERNAL_SERVER_ERROR.value(),
+          "Error calling airflow",
+          "Error calling airflow: %s".formatted(e.getMessage()),
+          e);
+    }
+  }
+
+  private com.sun.jersey.api.client.ClientResponse execute(
+      String httpMethod, String apiEndpoint, String body, String errorMessage) {
     String url = format("%s/%s", airflowConfig.getUrl(), apiEndpoint);
     log.info("Calling airflow endpoint {} with method {}", url, httpMethod);
 
@@ -74,13 +117,6 @@ public class BasicAuthAirflowApiClient implements IAirflowApiClient {
       String responseBody = response.getEntity(String.class);
       throw new AppException(status, responseBody, errorMessage);
     }
-
-    return ClientResponse.builder()
-        .contentType(String.valueOf(response.getType()))
-        .responseBody(response.getEntity(String.class))
-        .status(HttpStatus.OK)
-        .statusCode(response.getStatus())
-        .statusMessage(response.getStatusInfo().getReasonPhrase())
-        .build();
+    return response;
   }
 }
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.CompletedWorkflowRunCacheConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps workflow runs that reached a completed status, per data partition. Such runs are
+ * no longer updated, so reads can be served without going to the workflow run repository.
+ * Hits, misses and evictions are published as the {@code workflow.completed-runs} cache meters.
+ */
+@Component
+public class CompletedWorkflowRunCache implements MeterBinder {
+
+  private final DpsHeaders dpsHeaders;
+
+  private final CompletedWorkflowRunCacheConfig cacheConfig;
+
+  private final Cache<Key, WorkflowRun> cache;
+
+  public CompletedWorkflowRunCache(DpsHeaders dpsHeaders, CompletedWorkflowRunCacheConfig cacheConfig) {
+    this.dpsHeaders = dpsHeaders;
+    this.cacheConfig = cacheConfig;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(cacheConfig.getMaximumSize())
+        .expireAfterWrite(cacheConfig.getTtlSeconds(), TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, "workflow.completed-runs");
+  }
+
+  /**
+   * Returns a completed run of the current data partition if it is cached.
+   * @param workflowName Name of the workflow.
+   * @param runId Id of the workflow run.
+   * @return The cached run, empty if the run is unknown or not completed yet.
+   */
+  public Optional<WorkflowRun> get(final String workflowName, final String runId) {
+    if (!cacheConfig.isEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(cache.getIfPresent(new Key(dpsHeaders.getPartitionId(), workflowName, runId)));
+  }
+
+  /**
+   * Caches the run if it has a completed status, other runs are ignored.
+   * @param workflowRun Run read from the repository or the workflow engine.
+   */
+  public void put(final WorkflowRun workflowRun) {
+    if (cacheConfig.isEnabled() && workflowRun != null
+        && WorkflowStatusType.getCompletedStatusTypes().contains(workflowRun.getStatus())) {
+      cache.put(new Key(dpsHeaders.getPartitionId(), workflowRun.getWorkflowName(), workflowRun.getRunId()),
+          workflowRun);
+    }
+  }
+
+  /**
+   * Drops the cached runs of a workflow in the current data partition.
+   * @param workflowName Name of the workflow whose runs were deleted.
+   */
+  public void invalidateWorkflow(final String workflowName) {
+    final String partitionId = dpsHeaders.getPartitionId();
+    cache.asMap().keySet().removeIf(key ->
+        key.workflowName().equals(workflowName) && Objects.equals(key.partitionId(), partitionId));
+  }
+
+  private record Key(String partitionId, String workflowName, String runId) {
+  }
+}
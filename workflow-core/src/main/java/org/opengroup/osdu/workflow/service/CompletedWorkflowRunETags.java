@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues the ETags of completed workflow runs. The ETag is a hash of the data partition, the
+ * workflow name and the run content, so every replica issues the same ETag for the same run and
+ * a run recreated under the same id gets a new one. An If-None-Match is answered without reading
+ * the run only while the run is held by the {@link CompletedWorkflowRunCache} of this replica.
+ */
+@Component
+public class CompletedWorkflowRunETags {
+
+  private static final String WEAK_PREFIX = "W/";
+
+  private final DpsHeaders dpsHeaders;
+
+  private final CompletedWorkflowRunCache completedWorkflowRunCache;
+
+  public CompletedWorkflowRunETags(DpsHeaders dpsHeaders, CompletedWorkflowRunCache completedWorkflowRunCache) {
+    this.dpsHeaders = dpsHeaders;
+    this.completedWorkflowRunCache = completedWorkflowRunCache;
+  }
+
+  /**
+   * Returns the ETag of a completed run. Does not touch the request, so it can be called
+   * once the run has been read on another thread.
+   * @param partitionId Data partition of the run.
+   * @param workflowName Name of the workflow.
+   * @param workflowRun Completed run returned to the client.
+   * @return Quoted strong ETag.
+   */
+  public String getETag(final String partitionId, final String workflowName, final WorkflowRunResponse workflowRun) {
+    return getETag(partitionId, workflowName, workflowRun.getRunId(), workflowRun.getStartTimeStamp(),
+        workflowRun.getEndTimeStamp(), workflowRun.getStatus());
+  }
+
+  /**
+   * Returns the ETag of a completed run of the current data partition if this replica has
+   * the run cached. Must be called on the request thread.
+   * @param workflowName Name of the workflow.
+   * @param runId Id of the workflow run.
+   * @return ETag of the cached run, empty if the run is not cached.
+   */
+  public Optional<String> getCachedETag(final String workflowName, final String runId) {
+    return completedWorkflowRunCache.get(workflowName, runId)
+        .map(workflowRun -> getETag(dpsHeaders.getPartitionId(), workflowName, workflowRun.getRunId(),
+            workflowRun.getStartTimeStamp(), workflowRun.getEndTimeStamp(), workflowRun.getStatus()));
+  }
+
+  /**
+   * Checks whether an If-None-Match header holds an ETag.
+   * @param ifNoneMatch Value of the If-None-Match header, may be null.
+   * @param eTag Quoted ETag of the run.
+   * @return {@code true} if one of the listed ETags is the given one.
+   */
+  public static boolean matches(final String ifNoneMatch, final String eTag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmed = candidate.trim();
+      if (trimmed.startsWith(WEAK_PREFIX)) {
+        trimmed = trimmed.substring(WEAK_PREFIX.length());
+      }
+      // "*" would match any existing run, which the cache alone cannot tell
+      if (trimmed.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String getETag(final String partitionId, final String workflowName, final String runId,
+      final Long startTimeStamp, final Long endTimeStamp, final WorkflowStatusType status) {
+    final String content = String.join(":", partitionId, workflowName, runId,
+        Objects.toString(startTimeStamp), Objects.toString(endTimeStamp), Objects.toString(status));
+    return "\"" + Hashing.sha256().hashString(content, StandardCharsets.UTF_8) + "\"";
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineExtension;
+
+/** Runs every call of an external Airflow engine extension through the instance's guard. */
+public class GuardedWorkflowEngineExtension implements IWorkflowEngineExtension {
+
+  private final IWorkflowEngineExtension delegate;
+  private final AirflowInstanceGuard guard;
+
+  public GuardedWorkflowEngineExtension(IWorkflowEngineExtension delegate,
+                                        AirflowInstanceGuard guard) {
+    this.delegate = delegate;
+    this.guard = guard;
+  }
+
+  @Override
+  public Object getLatestTaskDetails(String dagName, String runId) {
+    return guard.call(() -> delegate.getLatestTaskDetails(dagName, runId));
+  }
+}
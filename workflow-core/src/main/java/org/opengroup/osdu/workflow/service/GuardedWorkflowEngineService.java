@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
+
+/** Runs every call of an external Airflow engine through the {@link AirflowInstanceGuard}. */
+public class GuardedWorkflowEngineService implements IWorkflowEngineService {
+
+  private final IWorkflowEngineService delegate;
+  private final AirflowInstanceGuard guard;
+
+  public GuardedWorkflowEngineService(IWorkflowEngineService delegate,
+                                      AirflowInstanceGuard guard) {
+    this.delegate = delegate;
+    this.guard = guard;
+  }
+
+  @Override
+  public void createWorkflow(WorkflowEngineRequest rq,
+                             Map<String, Object> registrationInstruction) {
+    guard.call(() -> {
+      delegate.createWorkflow(rq, registrationInstruction);
+      return null;
+    });
+  }
+
+  @Override
+  public void deleteWorkflow(WorkflowEngineRequest rq) {
+    guard.call(() -> {
+      delegate.deleteWorkflow(rq);
+      return null;
+    });
+  }
+
+  @Override
+  public void saveCustomOperator(String customOperatorDefinition, String fileName) {
+    guard.call(() -> {
+      delegate.saveCustomOperator(customOperatorDefinition, fileName);
+      return null;
+    });
+  }
+
+  @Override
+  public TriggerWorkflowResponse triggerWorkflow(WorkflowEngineRequest rq,
+                                                 Map<String, Object> context) {
+    return guard.call(() -> delegate.triggerWorkflow(rq, context));
+  }
+
+  @Override
+  public WorkflowStatusType getWorkflowRunStatus(WorkflowEngineRequest rq) {
+    return guard.call(() -> delegate.getWorkflowRunStatus(rq));
+  }
+
+  @Override
+  public boolean supportsAsync() {
+    return delegate.supportsAsync();
+  }
+
+  @Override
+  public CompletableFuture<TriggerWorkflowResponse> triggerWorkflowAsync(
+      WorkflowEngineRequest rq, Map<String, Object> context) {
+    return guard.callAsync(() -> delegate.triggerWorkflowAsync(rq, context));
+  }
+
+  @Override
+  public CompletableFuture<WorkflowStatusType> getWorkflowRunStatusAsync(
+      WorkflowEngineRequest rq) {
+    return guard.callAsync(() -> delegate.getWorkflowRunStatusAsync(rq));
+  }
+
+  @Override
+  public Map<String, WorkflowStatusType> getWorkflowRunStatuses(List<WorkflowEngineRequest> rqs) {
+    return guard.call(() -> delegate.getWorkflowRunStatuses(rqs));
+  }
+
+  /** Reports no version instead of failing while the instance is not called. */
+  @Override
+  public Optional<String> getVersion() {
+    try {
+      return guard.call(delegate::getVersion);
+    } catch (RetryAfterException e) {
+      return Optional.empty();
+    }
+  }
+}
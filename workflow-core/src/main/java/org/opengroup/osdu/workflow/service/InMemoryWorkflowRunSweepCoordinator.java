@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
+
+/**
+ * Sweep coordinator that keeps leases and sweep times in memory of a single replica.
+ *
+ * <p>Used when the provider does not supply a shared coordinator (Azure uses Redis). It is only
+ * correct for a single replica: with more replicas every replica sweeps every partition, and a
+ * replica serves runs from the store based on its own sweeps only. Enable the reconciler on
+ * multi-replica deployments of such providers only after providing a shared coordinator.
+ */
+public class InMemoryWorkflowRunSweepCoordinator implements IWorkflowRunSweepCoordinator {
+
+  private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+  private final Map<String, Long> completedSweeps = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean tryAcquireLease(String partitionId, String ownerId, Duration leaseDuration) {
+    long now = System.currentTimeMillis();
+    Lease lease = leases.compute(partitionId, (key, current) ->
+        current == null || current.ownerId.equals(ownerId) || current.expiresAt <= now
+            ? new Lease(ownerId, now + leaseDuration.toMillis())
+            : current);
+    return lease.ownerId.equals(ownerId);
+  }
+
+  @Override
+  public void releaseLease(String partitionId, String ownerId) {
+    leases.computeIfPresent(partitionId,
+        (key, current) -> current.ownerId.equals(ownerId) ? null : current);
+  }
+
+  @Override
+  public void recordCompletedSweep(String partitionId, long sweepStartTimestamp) {
+    completedSweeps.merge(partitionId, sweepStartTimestamp, Math::max);
+  }
+
+  @Override
+  public Long getLastCompletedSweep(String partitionId) {
+    return completedSweeps.get(partitionId);
+  }
+
+  private record Lease(String ownerId, long expiresAt) {
+  }
+}
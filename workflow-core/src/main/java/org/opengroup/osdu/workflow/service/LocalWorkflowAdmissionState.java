@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState;
+
+/**
+ * Admission state kept in memory of a single replica. Limits apply to each replica on its own;
+ * deployments running more than one replica should provide a state backed by a shared store.
+ * A bucket that has refilled to capacity is the same as a new one, so such buckets are dropped,
+ * as are the weights of partitions holding no slot.
+ */
+public class LocalWorkflowAdmissionState implements IWorkflowAdmissionState {
+
+  private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+  private final long sweepIntervalNanos;
+
+  private final Map<String, Bucket> buckets = new HashMap<>();
+
+  // permit id to lease expiry, per partition
+  private final Map<String, Map<String, Long>> slots = new HashMap<>();
+
+  private final Map<String, Integer> weights = new HashMap<>();
+
+  private long sweptAt = System.nanoTime();
+
+  public LocalWorkflowAdmissionState() {
+    this(SWEEP_INTERVAL);
+  }
+
+  LocalWorkflowAdmissionState(Duration sweepInterval) {
+    this.sweepIntervalNanos = sweepInterval.toNanos();
+  }
+
+  @Override
+  public synchronized long tryTakeTokens(List<TokenBucket> tokenBuckets) {
+    final long now = System.nanoTime();
+    if (now - sweptAt >= sweepIntervalNanos) {
+      buckets.values().removeIf(bucket -> bucket.isFullAt(now));
+      sweptAt = now;
+    }
+    long waitNanos = 0;
+    for (TokenBucket tokenBucket : tokenBuckets) {
+      final Bucket bucket = buckets.computeIfAbsent(tokenBucket.key(),
+          key -> new Bucket(tokenBucket.capacity(), now));
+      bucket.refill(tokenBucket, now);
+      if (bucket.tokens < 1) {
+        waitNanos = Math.max(waitNanos,
+            (long) Math.ceil((1 - bucket.tokens) / tokenBucket.tokensPerSecond() * 1e9));
+      }
+    }
+    if (waitNanos > 0) {
+      return Math.max(1, Duration.ofNanos(waitNanos).toMillis());
+    }
+    tokenBuckets.forEach(tokenBucket -> buckets.get(tokenBucket.key()).tokens--);
+    return 0;
+  }
+
+  @Override
+  public synchronized boolean tryAcquireSlot(String partitionId, int weight, int globalLimit,
+                                             String permitId, Duration lease) {
+    final long now = System.currentTimeMillis();
+    slots.values().forEach(leases -> leases.values().removeIf(expiresAt -> expiresAt <= now));
+    slots.values().removeIf(Map::isEmpty);
+    weights.keySet().retainAll(slots.keySet());
+
+    final int inFlight = slots.values().stream().mapToInt(Map::size).sum();
+    if (inFlight >= globalLimit) {
+      return false;
+    }
+    int activeWeight = slots.containsKey(partitionId) ? 0 : weight;
+    for (String active : slots.keySet()) {
+      activeWeight += weights.getOrDefault(active, 1);
+    }
+    final int share = Math.max(1, (int) ((long) globalLimit * weight / activeWeight));
+    final Map<String, Long> leases = slots.computeIfAbsent(partitionId, key -> new HashMap<>());
+    if (leases.size() >= share) {
+      if (leases.isEmpty()) {
+        slots.remove(partitionId);
+      }
+      return false;
+    }
+    weights.put(partitionId, weight);
+    leases.put(permitId, now + lease.toMillis());
+    return true;
+  }
+
+  @Override
+  public synchronized void releaseSlot(String partitionId, String permitId) {
+    final Map<String, Long> leases = slots.get(partitionId);
+    if (leases != null) {
+      leases.remove(permitId);
+      if (leases.isEmpty()) {
+        slots.remove(partitionId);
+        weights.remove(partitionId);
+      }
+    }
+  }
+
+  synchronized int size() {
+    return buckets.size() + weights.size();
+  }
+
+  private static final class Bucket {
+    private double tokens;
+    private long refilledAt;
+    private int capacity;
+    private double tokensPerSecond;
+
+    private Bucket(double tokens, long refilledAt) {
+      this.tokens = tokens;
+      this.refilledAt = refilledAt;
+    }
+
+    private void refill(TokenBucket tokenBucket, long now) {
+      tokens = Math.min(tokenBucket.capacity(),
+          tokens + (now - refilledAt) / 1e9 * tokenBucket.tokensPerSecond());
+      refilledAt = now;
+      capacity = tokenBucket.capacity();
+      tokensPerSecond = tokenBucket.tokensPerSecond();
+    }
+
+    private boolean isFullAt(long now) {
+      return tokens + (now - refilledAt) / 1e9 * tokensPerSecond >= capacity;
+    }
+  }
+}
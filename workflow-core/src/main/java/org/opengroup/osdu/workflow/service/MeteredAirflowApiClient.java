@@ -0,0 +1,217 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.logging.RequestTimings;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+
+/**
+ * Records every call to an Airflow instance in the {@value #LATENCY_TIMER} timer, tagged with
+ * the instance, HTTP method, endpoint template and response status. Dag, run, task and XCom
+ * ids are replaced with placeholders in the endpoint tag to keep the number of series bounded.
+ * Calls are also added to the {@link RequestTimings} of the request that made them.
+ */
+public class MeteredAirflowApiClient implements IAirflowApiClient {
+
+  public static final String LATENCY_TIMER = "workflow.airflow.latency";
+
+  private static final String UNKNOWN = "unknown";
+  private static final String EXCEPTION = "EXCEPTION";
+  // decoded responses are only returned for a successful status
+  private static final String OK = "200";
+  private static final Map<String, String> PATH_PARAMETERS = Map.of(
+      "dags", "{dag_id}",
+      "dagRuns", "{dag_run_id}",
+      "dag_runs", "{execution_date}",
+      "taskInstances", "{task_id}",
+      "xcomEntries", "{xcom_key}");
+
+  private final IAirflowApiClient delegate;
+  private final MeterRegistry meterRegistry;
+  private final String instance;
+
+  public MeteredAirflowApiClient(IAirflowApiClient delegate, MeterRegistry meterRegistry,
+                                 AirflowConfig airflowConfig) {
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.instance = getInstance(airflowConfig);
+  }
+
+  @Override
+  public boolean supportsAsync() {
+    return delegate.supportsAsync();
+  }
+
+  @Override
+  public ClientResponse callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage) {
+    long start = System.nanoTime();
+    String status = EXCEPTION;
+    try {
+      ClientResponse response =
+          delegate.callAirflow(httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage);
+      status = String.valueOf(response.getStatusCode());
+      return response;
+    } catch (AppException e) {
+      status = String.valueOf(e.getError().getCode());
+      throw e;
+    } finally {
+      record(RequestTimings.current(), httpMethod, apiEndpoint, status, start);
+    }
+  }
+
+  @Override
+  public CompletableFuture<ClientResponse> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage) {
+    long start = System.nanoTime();
+    // the response completes on a client thread, outside of the request
+    RequestTimings timings = RequestTimings.current();
+    CompletableFuture<ClientResponse> response;
+    try {
+      response = delegate.callAirflowAsync(
+          httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage);
+    } catch (RuntimeException e) {
+      record(timings, httpMethod, apiEndpoint, getStatus(e), start);
+      throw e;
+    }
+    return response.whenComplete((r, e) -> record(timings, httpMethod, apiEndpoint,
+        Objects.nonNull(e) ? getStatus(e) : String.valueOf(r.getStatusCode()), start));
+  }
+
+  @Override
+  public <T> T callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    long start = System.nanoTime();
+    String status = EXCEPTION;
+    try {
+      T result = delegate.callAirflow(
+          httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage, reader);
+      status = OK;
+      return result;
+    } catch (AppException e) {
+      status = String.valueOf(e.getError().getCode());
+      throw e;
+    } finally {
+      record(RequestTimings.current(), httpMethod, apiEndpoint, status, start);
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<T> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    long start = System.nanoTime();
+    RequestTimings timings = RequestTimings.current();
+    CompletableFuture<T> result;
+    try {
+      result = delegate.callAirflowAsync(
+          httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage, reader);
+    } catch (RuntimeException e) {
+      record(timings, httpMethod, apiEndpoint, getStatus(e), start);
+      throw e;
+    }
+    return result.whenComplete((r, e) -> record(timings, httpMethod, apiEndpoint,
+        Objects.nonNull(e) ? getStatus(e) : OK, start));
+  }
+
+  private void record(RequestTimings timings, String httpMethod, String apiEndpoint,
+                      String status, long start) {
+    long end = System.nanoTime();
+    timer(httpMethod, apiEndpoint, status).record(end - start, TimeUnit.NANOSECONDS);
+    if (Objects.nonNull(timings)) {
+      timings.add(RequestTimings.Phase.AIRFLOW,
+          httpMethod + " " + toEndpointTemplate(apiEndpoint), start, end);
+    }
+  }
+
+  private Timer timer(String httpMethod, String apiEndpoint, String status) {
+    return Timer.builder(LATENCY_TIMER)
+        .description("Latency of calls to Airflow")
+        .tag("instance", instance)
+        .tag("method", String.valueOf(httpMethod))
+        .tag("endpoint", toEndpointTemplate(apiEndpoint))
+        .tag("status", status)
+        .register(meterRegistry);
+  }
+
+  static String toEndpointTemplate(String apiEndpoint) {
+    if (Objects.isNull(apiEndpoint)) {
+      return UNKNOWN;
+    }
+    int queryStart = apiEndpoint.indexOf('?');
+    String[] segments =
+        (queryStart < 0 ? apiEndpoint : apiEndpoint.substring(0, queryStart)).split("/", -1);
+    for (int i = 1; i < segments.length; i++) {
+      String parameter = PATH_PARAMETERS.get(segments[i - 1]);
+      // dagRuns/list is the batch endpoint, not a run id
+      if (parameter != null && !segments[i].isEmpty() && !"list".equals(segments[i])) {
+        segments[i] = parameter;
+      }
+    }
+    return String.join("/", segments);
+  }
+
+  private static String getStatus(Throwable e) {
+    Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause())
+        ? e.getCause() : e;
+    return cause instanceof AppException appException
+        ? String.valueOf(appException.getError().getCode()) : EXCEPTION;
+  }
+
+  private static String getInstance(AirflowConfig airflowConfig) {
+    if (Objects.isNull(airflowConfig) || Objects.isNull(airflowConfig.getUrl())) {
+      return UNKNOWN;
+    }
+    try {
+      String authority = URI.create(airflowConfig.getUrl()).getAuthority();
+      return Objects.isNull(authority) ? UNKNOWN : authority;
+    } catch (IllegalArgumentException e) {
+      return UNKNOWN;
+    }
+  }
+}
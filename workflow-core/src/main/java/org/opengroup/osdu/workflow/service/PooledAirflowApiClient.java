@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowHttpClientConfig;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * Basic auth Airflow client backed by its own {@link HttpClient}, so every Airflow instance
+ * gets a separate keep-alive connection pool, bounded connect and request timeouts and HTTP/2
+ * over TLS where the server negotiates it. At most {@code maxConcurrentRequests} calls are in
+ * flight at a time; callers that cannot get a slot within the request timeout receive 503.
+ */
+@Slf4j
+public class PooledAirflowApiClient implements IAirflowApiClient {
+  private final AirflowConfig airflowConfig;
+  private final HttpClient httpClient;
+  private final Duration requestTimeout;
+  private final Semaphore permits;
+
+  public PooledAirflowApiClient(
+      AirflowConfig airflowConfig, AirflowHttpClientConfig httpClientConfig) {
+    this.airflowConfig = airflowConfig;
+    boolean https = Objects.nonNull(airflowConfig.getUrl())
+        && airflowConfig.getUrl().toLowerCase().startsWith("https://");
+    this.httpClient = HttpClient.newBuilder()
+        .version(https && httpClientConfig.isHttp2()
+            ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(httpClientConfig.getConnectTimeoutMillis()))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+    this.requestTimeout = Duration.ofMillis(httpClientConfig.getRequestTimeoutMillis());
+    this.permits = new Semaphore(httpClientConfig.getMaxConcurrentRequests(), true);
+  }
+
+  @Override
+  public ClientResponse callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest rq,
+      String errorMessage) {
+    HttpRequest request = buildRequest(httpMethod, apiEndpoint, body);
+    return send(request, HttpResponse.BodyHandlers.ofString(),
+        response -> toClientResponse(response, errorMessage));
+  }
+
+  /**
+   * Decodes the body from the response stream, so a successful response is never held as a
+   * String. The concurrency slot is kept until the body has been read.
+   */
+  @Override
+  public <T> T callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest rq,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    HttpRequest request = buildRequest(httpMethod, apiEndpoint, body);
+    return send(request, HttpResponse.BodyHandlers.ofInputStream(),
+        response -> decode(response, errorMessage, reader));
+  }
+
+  @Override
+  public boolean supportsAsync() {
+    return true;
+  }
+
+  /**
+   * Sends the request with {@link HttpClient#sendAsync}, so no caller thread is parked while
+   * Airflow answers. A concurrency slot is only taken if one is free right away; otherwise the
+   * returned future fails with 503 instead of blocking.
+   */
+  @Override
+  public CompletableFuture<ClientResponse> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest rq,
+      String errorMessage) {
+    HttpRequest request = buildRequest(httpMethod, apiEndpoint, body);
+    return sendAsync(request, HttpResponse.BodyHandlers.ofString(),
+        response -> toClientResponse(response, errorMessage));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest rq,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    HttpRequest request = buildRequest(httpMethod, apiEndpoint, body);
+    return sendAsync(request, HttpResponse.BodyHandlers.ofInputStream(),
+        response -> decode(response, errorMessage, reader));
+  }
+
+  private <B, T> CompletableFuture<T> sendAsync(
+      HttpRequest request,
+      HttpResponse.BodyHandler<B> bodyHandler,
+      Function<HttpResponse<B>, T> handler) {
+    if (!permits.tryAcquire()) {
+      return CompletableFuture.failedFuture(busy());
+    }
+    CompletableFuture<HttpResponse<B>> response;
+    try {
+      response = httpClient.sendAsync(request, bodyHandler);
+    } catch (RuntimeException e) {
+      permits.release();
+      return CompletableFuture.failedFuture(e);
+    }
+    return response
+        .handle((r, e) -> {
+          if (Objects.nonNull(e)) {
+            Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause())
+                ? e.getCause() : e;
+            if (cause instanceof IOException ioException) {
+              throw toAppException(ioException);
+            }
+            throw cause instanceof RuntimeException runtimeException
+                ? runtimeException : new CompletionException(cause);
+          }
+          return handler.apply(r);
+        })
+        .whenComplete((r, e) -> permits.release());
+  }
+
+  private HttpRequest buildRequest(String httpMethod, String apiEndpoint, String body) {
+    String url = format("%s/%s", airflowConfig.getUrl(), apiEndpoint);
+    log.info("Calling airflow endpoint {} with method {}", url, httpMethod);
+
+    return HttpRequest.newBuilder(URI.create(url))
+        .timeout(requestTimeout)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.AUTHORIZATION, "Basic " + airflowConfig.getAppKey())
+        .method(httpMethod, Objects.isNull(body)
+            ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private ClientResponse toClientResponse(HttpResponse<String> response, String errorMessage) {
+    final int status = response.statusCode();
+    log.info("Received response status: {}.", status);
+
+    if (status != HttpStatus.OK.value()) {
+      throw new AppException(status, response.body(), errorMessage);
+    }
+
+    return ClientResponse.builder()
+        .contentType(String.valueOf(
+            response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null)))
+        .responseBody(response.body())
+        .status(HttpStatus.OK)
+        .statusCode(status)
+        .statusMessage(HttpStatus.OK.getReasonPhrase())
+        .build();
+  }
+
+  private <T> T decode(
+      HttpResponse<InputStream> response, String errorMessage, IAirflowResponseReader<T> reader) {
+    final int status = response.statusCode();
+    log.info("Received response status: {}.", status);
+
+    try (InputStream body = response.body()) {
+      if (status != HttpStatus.OK.value()) {
+        // only error bodies are buffered, to be reported
+        throw new AppException(
+            status, new String(body.readAllBytes(), StandardCharsets.UTF_8), errorMessage);
+      }
+      return AirflowResponseReaders.read(body, reader);
+    } catch (IOException e) {
+      throw toAppException(e);
+    }
+  }
+
+  private <B, T> T send(
+      HttpRequest request,
+      HttpResponse.BodyHandler<B> bodyHandler,
+      Function<HttpResponse<B>, T> handler) {
+    boolean acquired = false;
+    try {
+      acquired = permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      if (!acquired) {
+        throw busy();
+      }
+      return handler.apply(httpClient.send(request, bodyHandler));
+    } catch (IOException e) {
+      throw toAppException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AppException(
+          HttpStatus.INTERNAL_SERVER_ERROR.value(),
+          "Error calling airflow",
+          "Interrupted while calling airflow",
+          e);
+    } finally {
+      if (acquired) {
+        permits.release();
+      }
+    }
+  }
+
+  private AppException busy() {
+    return new AppException(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        "Airflow is busy",
+        "Too many concurrent requests to airflow: %s".formatted(airflowConfig.getUrl()));
+  }
+
+  private AppException toAppException(IOException e) {
+    if (e instanceof HttpTimeoutException) {
+      return new AppException(
+          HttpStatus.GATEWAY_TIMEOUT.value(),
+          "Airflow request timed out",
+          "Airflow request timed out: %s".formatted(e.getMessage()),
+          e);
+    }
+    return new AppException(
+        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+        "Error calling airflow",
+        "Error calling airflow: %s".formatted(e.getMessage()),
+        e);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+
+/**
+ * Repeats failed calls of an Airflow client as allowed by the shared {@link AirflowRetryPolicy}.
+ * It wraps the metered client, so every attempt is recorded.
+ */
+public class RetryingAirflowApiClient implements IAirflowApiClient {
+
+  private final IAirflowApiClient delegate;
+  private final AirflowRetryPolicy retryPolicy;
+
+  public RetryingAirflowApiClient(IAirflowApiClient delegate, AirflowRetryPolicy retryPolicy) {
+    this.delegate = delegate;
+    this.retryPolicy = retryPolicy;
+  }
+
+  @Override
+  public boolean supportsAsync() {
+    return delegate.supportsAsync();
+  }
+
+  @Override
+  public ClientResponse callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage) {
+    return retryPolicy.execute(httpMethod, apiEndpoint, getRunId(workflowEngineRequest),
+        () -> delegate.callAirflow(
+            httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage));
+  }
+
+  @Override
+  public CompletableFuture<ClientResponse> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage) {
+    return retryPolicy.executeAsync(httpMethod, apiEndpoint, getRunId(workflowEngineRequest),
+        () -> delegate.callAirflowAsync(
+            httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage));
+  }
+
+  @Override
+  public <T> T callAirflow(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    return retryPolicy.execute(httpMethod, apiEndpoint, getRunId(workflowEngineRequest),
+        () -> delegate.callAirflow(
+            httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage, reader));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> callAirflowAsync(
+      String httpMethod,
+      String apiEndpoint,
+      String body,
+      WorkflowEngineRequest workflowEngineRequest,
+      String errorMessage,
+      IAirflowResponseReader<T> reader) {
+    return retryPolicy.executeAsync(httpMethod, apiEndpoint, getRunId(workflowEngineRequest),
+        () -> delegate.callAirflowAsync(
+            httpMethod, apiEndpoint, body, workflowEngineRequest, errorMessage, reader));
+  }
+
+  private static String getRunId(WorkflowEngineRequest workflowEngineRequest) {
+    return Objects.isNull(workflowEngineRequest) ? null : workflowEngineRequest.getRunId();
+  }
+}
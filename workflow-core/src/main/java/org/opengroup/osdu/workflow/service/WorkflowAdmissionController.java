@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.workflow.config.WorkflowAdmissionConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState.TokenBucket;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits workflow triggers within the per-partition and per-workflow rates and the partition's
+ * fair share of concurrent triggers, see {@link WorkflowAdmissionConfig}. Other triggers are
+ * rejected with 429 and a {@code Retry-After} of the time until a token is available, or of the
+ * average time a trigger holds its slot. If the admission state cannot be reached the trigger
+ * is admitted, so an outage of a shared store does not stop ingestion.
+ */
+@Slf4j
+@Component
+public class WorkflowAdmissionController {
+
+  public static final String REJECTIONS_COUNTER = "workflow.admission.rejections";
+  public static final String STATE_ERRORS_COUNTER = "workflow.admission.state.errors";
+
+  private static final String TOO_MANY_TRIGGERS = "Too many workflow triggers";
+
+  private final WorkflowAdmissionConfig config;
+  private final IWorkflowAdmissionState state;
+  private final MeterRegistry meterRegistry;
+  // smoothed time a trigger holds its slot, telling rejected clients when one frees up
+  private final AtomicLong averageHoldMillis = new AtomicLong(1000);
+
+  @Autowired
+  public WorkflowAdmissionController(WorkflowAdmissionConfig config, IWorkflowAdmissionState state,
+                                     ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this(config, state, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public WorkflowAdmissionController(WorkflowAdmissionConfig config, IWorkflowAdmissionState state,
+                                     MeterRegistry meterRegistry) {
+    this.config = config;
+    this.state = state;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Admits a trigger of a workflow. The returned admission must be released when the trigger
+   * has reached the workflow engine or failed.
+   * @throws RetryAfterException with 429 status if the trigger is not admitted.
+   */
+  public Admission admit(String partitionId, String workflowName) {
+    if (!config.isEnabled()) {
+      return Admission.NONE;
+    }
+    final String permitId = UUID.randomUUID().toString();
+    boolean acquired = false;
+    final long waitMillis;
+    try {
+      acquired = state.tryAcquireSlot(partitionId,
+          config.getPartitionWeights().getOrDefault(partitionId, 1),
+          config.getMaxConcurrentTriggers(), permitId,
+          Duration.ofMillis(config.getSlotLeaseMillis()));
+      // tokens are only taken once the slot is held, so triggers rejected for concurrency
+      // do not use up the rate
+      waitMillis = acquired ? state.tryTakeTokens(List.of(
+          new TokenBucket("workflow:" + partitionId + ":" + workflowName,
+              config.getWorkflowBurst(), config.getWorkflowRatePerSecond()),
+          new TokenBucket("partition:" + partitionId,
+              config.getPartitionBurst(), config.getPartitionRatePerSecond()))) : 0;
+    } catch (RuntimeException e) {
+      log.warn("Admitting trigger of workflow {} without admission control", workflowName, e);
+      Counter.builder(STATE_ERRORS_COUNTER)
+          .description("Triggers admitted because the admission state could not be reached")
+          .register(meterRegistry)
+          .increment();
+      // a slot that was acquired is still released with the admission
+      return acquired ? new Admission(this, partitionId, permitId) : Admission.NONE;
+    }
+    if (!acquired) {
+      throw reject(partitionId, "concurrency", averageHoldMillis.get(),
+          "Partition %s is using its share of concurrent workflow triggers".formatted(partitionId));
+    }
+    if (waitMillis > 0) {
+      releaseSlot(partitionId, permitId);
+      throw reject(partitionId, "rate", waitMillis,
+          "Trigger rate limit of workflow %s in partition %s is reached"
+              .formatted(workflowName, partitionId));
+    }
+    return new Admission(this, partitionId, permitId);
+  }
+
+  private void release(Admission admission) {
+    final long heldMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - admission.admittedAt);
+    averageHoldMillis.accumulateAndGet(heldMillis,
+        (average, sample) -> average + (sample - average) / 8);
+    releaseSlot(admission.partitionId, admission.permitId);
+  }
+
+  private void releaseSlot(String partitionId, String permitId) {
+    try {
+      state.releaseSlot(partitionId, permitId);
+    } catch (RuntimeException e) {
+      log.warn("Failed to release trigger slot {}, it is freed when its lease expires",
+          permitId, e);
+    }
+  }
+
+  private RetryAfterException reject(String partitionId, String reason, long retryAfterMillis,
+                                     String message) {
+    Counter.builder(REJECTIONS_COUNTER)
+        .description("Workflow triggers rejected by admission control")
+        .tag("partition", partitionId)
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+    return new RetryAfterException(HttpStatus.TOO_MANY_REQUESTS.value(), TOO_MANY_TRIGGERS,
+        message, Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999)));
+  }
+
+  /** Slot of an admitted trigger. Releasing it more than once has no effect. */
+  public static final class Admission {
+
+    static final Admission NONE = new Admission(null, null, null);
+
+    private final WorkflowAdmissionController controller;
+    private final String partitionId;
+    private final String permitId;
+    private final long admittedAt = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Admission(WorkflowAdmissionController controller, String partitionId,
+                      String permitId) {
+      this.controller = controller;
+      this.partitionId = partitionId;
+      this.permitId = permitId;
+    }
+
+    public void release() {
+      if (controller != null && released.compareAndSet(false, true)) {
+        controller.release(this);
+      }
+    }
+  }
+}
@@ -6,7 +6,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.exception.BadRequestException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
-import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
 import org.opengroup.osdu.workflow.logging.AuditLogger;
 import org.opengroup.osdu.workflow.model.CreateWorkflowRequest;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
@@ -36,6 +35,8 @@ public class WorkflowManagerServiceImpl implements IWorkflowManagerService {
 
   private final AuditLogger auditLogger;
 
+  private final WorkflowMetadataCache workflowMetadataCache;
+
   @Override
   public WorkflowMetadata createWorkflow(final CreateWorkflowRequest request) {
     return createWorkflowCommon(request, false);
@@ -46,15 +47,9 @@ public class WorkflowManagerServiceImpl implements IWorkflowManagerService {
     return createWorkflowCommon(request, true);
   }
 
-  // The same logic is also used in WorkflowRunServiceImpl
-  // hence WorkflowRunServiceImpl needs to be changed as well in case the below logic changes
   @Override
   public WorkflowMetadata getWorkflowByName(final String workflowName) {
-    try {
-      return workflowMetadataRepository.getWorkflow(workflowName);
-    } catch (WorkflowNotFoundException e) {
-      return workflowSystemMetadataRepository.getSystemWorkflow(workflowName);
-    }
+    return workflowMetadataCache.getWorkflowByName(workflowName);
   }
 
   @Override
@@ -103,8 +98,10 @@ public class WorkflowManagerServiceImpl implements IWorkflowManagerService {
     WorkflowMetadata savedMetadata;
     if (!isSystemWorkflow) {
       savedMetadata = workflowMetadataRepository.createWorkflow(workflowMetadata);
+      workflowMetadataCache.invalidate(workflowMetadata.getWorkflowName());
     } else {
       savedMetadata = workflowSystemMetadataRepository.createSystemWorkflow(workflowMetadata);
+      workflowMetadataCache.invalidateSystemWorkflow(workflowMetadata.getWorkflowName());
     }
     final WorkflowEngineRequest rq =
         WorkflowEngineRequest.builder()
@@ -132,8 +129,10 @@ public class WorkflowManagerServiceImpl implements IWorkflowManagerService {
     airflowResolver.getWorkflowEngineService(workflowMetadata).deleteWorkflow(rq);
     if (!isSystemWorkflow) {
       workflowMetadataRepository.deleteWorkflow(workflowName);
+      workflowMetadataCache.invalidate(workflowName);
     } else {
       workflowSystemMetadataRepository.deleteSystemWorkflow(workflowName);
+      workflowMetadataCache.invalidateSystemWorkflow(workflowName);
     }
     auditLogger.workflowDeleteEvent(Collections.singletonList(workflowName));
   }
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowMetadataCacheConfig;
+import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves workflow metadata by name, looking up tenant workflows first and system workflows
+ * second, and caches the result per data partition.
+ *
+ * <p>Concurrent lookups of the same workflow wait for a single load. Names that resolve to
+ * no workflow are cached for a shorter time than found workflows. Hits, misses and evictions
+ * are published as the {@code workflow.metadata} cache meters.
+ */
+@Component
+public class WorkflowMetadataCache implements MeterBinder {
+
+  private final IWorkflowMetadataRepository workflowMetadataRepository;
+
+  private final IWorkflowSystemMetadataRepository workflowSystemMetadataRepository;
+
+  private final DpsHeaders dpsHeaders;
+
+  private final WorkflowMetadataCacheConfig cacheConfig;
+
+  private final Cache<Key, Entry> cache;
+
+  public WorkflowMetadataCache(IWorkflowMetadataRepository workflowMetadataRepository,
+                               IWorkflowSystemMetadataRepository workflowSystemMetadataRepository,
+                               DpsHeaders dpsHeaders, WorkflowMetadataCacheConfig cacheConfig) {
+    this.workflowMetadataRepository = workflowMetadataRepository;
+    this.workflowSystemMetadataRepository = workflowSystemMetadataRepository;
+    this.dpsHeaders = dpsHeaders;
+    this.cacheConfig = cacheConfig;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(cacheConfig.getMaximumSize())
+        .expireAfterWrite(cacheConfig.getTtlSeconds(), TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, "workflow.metadata");
+  }
+
+  /**
+   * Returns metadata of a tenant or system workflow.
+   * @param workflowName Name of the workflow.
+   * @return Workflow metadata
+   * @throws WorkflowNotFoundException if neither a tenant nor a system workflow has the name.
+   */
+  public WorkflowMetadata getWorkflowByName(final String workflowName) {
+    if (!cacheConfig.isEnabled()) {
+      return load(workflowName).get();
+    }
+    final Key key = new Key(dpsHeaders.getPartitionId(), workflowName);
+    final boolean[] loaded = new boolean[1];
+    final Entry entry = getOrLoad(key, loaded);
+    if (!loaded[0] && entry.isExpired()) {
+      cache.asMap().remove(key, entry);
+      return getOrLoad(key, loaded).get();
+    }
+    return entry.get();
+  }
+
+  /**
+   * Drops the cached tenant workflow of the current data partition.
+   * @param workflowName Name of the created or deleted workflow.
+   */
+  public void invalidate(final String workflowName) {
+    cache.invalidate(new Key(dpsHeaders.getPartitionId(), workflowName));
+  }
+
+  /**
+   * Drops the cached workflow of every data partition, as system workflows are shared by all of them.
+   * @param workflowName Name of the created or deleted system workflow.
+   */
+  public void invalidateSystemWorkflow(final String workflowName) {
+    cache.asMap().keySet().removeIf(key -> key.workflowName().equals(workflowName));
+  }
+
+  private Entry getOrLoad(final Key key, final boolean[] loaded) {
+    try {
+      return cache.get(key, () -> {
+        loaded[0] = true;
+        return load(key.workflowName());
+      });
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private Entry load(final String workflowName) {
+    try {
+      return Entry.found(workflowMetadataRepository.getWorkflow(workflowName));
+    } catch (WorkflowNotFoundException e) {
+      try {
+        return Entry.found(workflowSystemMetadataRepository.getSystemWorkflow(workflowName));
+      } catch (WorkflowNotFoundException notFound) {
+        return Entry.notFound(notFound.getMessage(),
+            System.nanoTime() + TimeUnit.SECONDS.toNanos(cacheConfig.getNotFoundTtlSeconds()));
+      }
+    }
+  }
+
+  private record Key(String partitionId, String workflowName) {
+  }
+
+  private record Entry(WorkflowMetadata workflowMetadata, String notFoundMessage, long expiresAt) {
+
+    static Entry found(WorkflowMetadata workflowMetadata) {
+      return new Entry(workflowMetadata, null, Long.MAX_VALUE);
+    }
+
+    static Entry notFound(String message, long expiresAt) {
+      return new Entry(null, message, expiresAt);
+    }
+
+    boolean isExpired() {
+      return workflowMetadata == null && System.nanoTime() - expiresAt > 0;
+    }
+
+    WorkflowMetadata get() {
+      if (workflowMetadata == null) {
+        throw new WorkflowNotFoundException(notFoundMessage);
+      }
+      return workflowMetadata;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.WorkflowRunDispatchConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process queue of workflow runs waiting to be sent to the workflow engine.
+ *
+ * <p>Exposes {@code workflow.dispatch.queue.depth}, {@code workflow.dispatch.latency} (time from
+ * enqueue until the dispatch finished), {@code workflow.dispatch.rejected} and
+ * {@code workflow.dispatch.failed} metrics.
+ */
+@Slf4j
+@Component
+public class WorkflowRunDispatcher {
+
+  private static final String QUEUE_FULL_REASON = "Workflow run dispatch queue is full";
+
+  private final WorkflowRunDispatchConfig dispatchConfig;
+
+  private final ThreadPoolExecutor executor;
+
+  private final Timer dispatchLatency;
+
+  private final Counter rejectedDispatches;
+
+  private final Counter failedDispatches;
+
+  public WorkflowRunDispatcher(WorkflowRunDispatchConfig dispatchConfig,
+                               ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this.dispatchConfig = dispatchConfig;
+    this.executor = new ThreadPoolExecutor(dispatchConfig.getWorkers(), dispatchConfig.getWorkers(),
+        0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(dispatchConfig.getQueueCapacity()),
+        new ThreadFactoryBuilder().setNameFormat("workflow-run-dispatch-%d").setDaemon(true).build());
+
+    MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    Gauge.builder("workflow.dispatch.queue.depth", executor, e -> e.getQueue().size())
+        .description("Workflow runs waiting to be dispatched to the workflow engine")
+        .register(meterRegistry);
+    this.dispatchLatency = Timer.builder("workflow.dispatch.latency")
+        .description("Time from enqueue until the workflow run dispatch finished")
+        .register(meterRegistry);
+    this.rejectedDispatches = Counter.builder("workflow.dispatch.rejected")
+        .description("Workflow runs rejected because the dispatch queue was full")
+        .register(meterRegistry);
+    this.failedDispatches = Counter.builder("workflow.dispatch.failed")
+        .description("Workflow runs marked as failed after all dispatch attempts or dropped at shutdown")
+        .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return dispatchConfig.isEnabled();
+  }
+
+  /**
+   * Fails fast before anything is persisted when no more runs can be queued.
+   */
+  public void checkCapacity() {
+    if (executor.getQueue().remainingCapacity() == 0) {
+      rejectedDispatches.increment();
+      throw new AppException(503, QUEUE_FULL_REASON,
+          "Too many workflow runs are waiting to be triggered, retry later");
+    }
+  }
+
+  /**
+   * Queues dispatch of a workflow run.
+   * @param runId Id of the workflow run.
+   * @param dispatch Work that sends the run to the workflow engine.
+   * @param onDropped Work that gives up the run if shutdown drops it from the queue.
+   * @throws AppException with 503 status if the queue is full.
+   */
+  public void dispatch(String runId, Runnable dispatch, Runnable onDropped) {
+    try {
+      executor.execute(new DispatchTask(runId, dispatch, onDropped, System.nanoTime()));
+    } catch (RejectedExecutionException e) {
+      rejectedDispatches.increment();
+      throw new AppException(503, QUEUE_FULL_REASON,
+          "Too many workflow runs are waiting to be triggered, retry later", e);
+    }
+  }
+
+  public void recordFailedDispatch() {
+    failedDispatches.increment();
+  }
+
+  /**
+   * Waits for queued runs to be dispatched. Runs still queued when the timeout runs out are
+   * handed to their onDropped work, so they do not stay submitted without ever reaching the
+   * workflow engine.
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(dispatchConfig.getShutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
+      final List<Runnable> droppedTasks = executor.shutdownNow();
+      log.warn("{} workflow runs were not dispatched before shutdown", droppedTasks.size());
+      for (Runnable droppedTask : droppedTasks) {
+        if (droppedTask instanceof DispatchTask dispatchTask) {
+          dispatchTask.drop();
+        }
+      }
+    }
+  }
+
+  private class DispatchTask implements Runnable {
+
+    private final String runId;
+
+    private final Runnable dispatch;
+
+    private final Runnable onDropped;
+
+    private final long enqueuedAt;
+
+    DispatchTask(String runId, Runnable dispatch, Runnable onDropped, long enqueuedAt) {
+      this.runId = runId;
+      this.dispatch = dispatch;
+      this.onDropped = onDropped;
+      this.enqueuedAt = enqueuedAt;
+    }
+
+    @Override
+    public void run() {
+      try {
+        dispatch.run();
+      } catch (RuntimeException e) {
+        log.error("Dispatch of workflow run {} failed", runId, e);
+      } finally {
+        dispatchLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    void drop() {
+      failedDispatches.increment();
+      try {
+        onDropped.run();
+      } catch (RuntimeException e) {
+        log.error("Failed to give up workflow run {} dropped at shutdown", runId, e);
+      }
+    }
+  }
+}
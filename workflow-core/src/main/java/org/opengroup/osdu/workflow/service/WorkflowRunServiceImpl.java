@@ -31,35 +31,67 @@ import static org.opengroup.osdu.workflow.logging.LoggerUtils.getTruncatedData;
 import static org.opengroup.osdu.workflow.model.WorkflowStatusType.getActiveStatusTypes;
 import static org.opengroup.osdu.workflow.model.WorkflowStatusType.getCompletedStatusTypes;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowRunBatchConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunDispatchConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunReconcilerConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunStatusConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
 import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
 import org.opengroup.osdu.workflow.exception.WorkflowRunCompletedException;
 import org.opengroup.osdu.workflow.gsm.WorkflowStatusPublisher;
 import org.opengroup.osdu.workflow.logging.AuditLogger;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchItemResponse;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchRequest;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.model.WorkflowMetadata;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackItem;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackItemResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResolver;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
-import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
-import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
+import org.opengroup.osdu.workflow.service.WorkflowAdmissionController.Admission;
+import org.opengroup.osdu.workflow.util.BackgroundRequestContext;
+import org.opengroup.osdu.workflow.util.SingleFlight;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -74,10 +106,11 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
   private static final String KEY_AUTH_TOKEN = "authToken";
   private static final String KEY_DAG_NAME = "dagName";
   private static final Integer WORKFLOW_RUN_LIMIT = 100;
+  private static final String BATCH_QUEUE_FULL_REASON = "Workflow run batch queue is full";
 
-  private final IWorkflowMetadataRepository workflowMetadataRepository;
+  private final WorkflowMetadataCache workflowMetadataCache;
 
-  private final IWorkflowSystemMetadataRepository workflowSystemMetadataRepository;
+  private final CompletedWorkflowRunCache completedWorkflowRunCache;
 
   private final IWorkflowRunRepository workflowRunRepository;
 
@@ -89,7 +122,29 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
 
   private final IAirflowResolver airflowResolver;
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private final WorkflowRunReconcilerConfig reconcilerConfig;
+
+  private final IWorkflowRunSweepCoordinator sweepCoordinator;
+
+  private final WorkflowRunBatchConfig batchConfig;
+
+  private final ExecutorService workflowRunBatchExecutor;
+
+  private final WorkflowRunDispatchConfig dispatchConfig;
+
+  private final WorkflowRunDispatcher workflowRunDispatcher;
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  private final WorkflowRunStatusConfig statusConfig;
+
+  private final WorkflowAdmissionController admissionController;
+
+  // Concurrent refreshes of one run share a single engine call and repository write
+  private final SingleFlight<RefreshKey, WorkflowRun> statusRefreshes = new SingleFlight<>();
+
+  private record RefreshKey(String partitionId, String workflowName, String runId) {
+  }
 
   @Override
   public WorkflowRunResponse triggerWorkflow(final String workflowName, final TriggerWorkflowRequest request) {
@@ -104,15 +159,349 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
         .dagName(getDagName(workflowMetadata))
         .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
         .build();
-    TriggerWorkflowResponse rs = triggerWorkflowEngine(rq, request, workflowMetadata);
+    final Admission admission = admissionController.admit(dpsHeaders.getPartitionId(), workflowName);
+    final TriggerWorkflowResponse rs;
+    try {
+      rs = triggerWorkflowEngine(rq, request, workflowMetadata);
+    } finally {
+      admission.release();
+    }
+    return saveTriggeredWorkflowRun(rq, request, rs);
+  }
+
+  @Override
+  public CompletableFuture<WorkflowRunResponse> triggerWorkflowAsync(final String workflowName,
+                                                                     final TriggerWorkflowRequest request) {
+    final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowName);
+    final IWorkflowEngineService workflowEngineService = getWorkflowEngineService(workflowMetadata);
+    if (!workflowEngineService.supportsAsync()) {
+      // A blocking engine would only hand back a completed future, so call it directly
+      return CompletableFuture.completedFuture(triggerWorkflow(workflowName, request));
+    }
+    final String runId = request.getRunId() != null ? request.getRunId() : UUID.randomUUID().toString();
+
+    final WorkflowEngineRequest rq = WorkflowEngineRequest.builder()
+        .runId(runId)
+        .workflowId(workflowMetadata.getWorkflowId())
+        .workflowName(workflowName)
+        .dagName(getDagName(workflowMetadata))
+        .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
+        .build();
+    final Map<String, Object> context =
+        createWorkflowPayload(workflowName, runId, dpsHeaders.getCorrelationId(), request);
+    // The engine may answer on one of its own threads, after the servlet request scope is gone.
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+    final Admission admission = admissionController.admit(dpsHeaders.getPartitionId(), workflowName);
+    final CompletableFuture<TriggerWorkflowResponse> trigger;
+    try {
+      trigger = workflowEngineService.triggerWorkflowAsync(rq, context);
+    } catch (RuntimeException e) {
+      admission.release();
+      throw e;
+    }
+    return trigger
+        .whenComplete((rs, e) -> admission.release())
+        .thenApply(rs -> BackgroundRequestContext.call(headers,
+            () -> saveTriggeredWorkflowRun(rq, request, rs)));
+  }
+
+  private WorkflowRunResponse saveTriggeredWorkflowRun(final WorkflowEngineRequest rq,
+                                                       final TriggerWorkflowRequest request,
+                                                       final TriggerWorkflowResponse rs) {
     final WorkflowRun workflowRun = buildWorkflowRun(rq, rs);
     auditLogger.workflowRunEvent(Collections.singletonList(getTruncatedData(request.toString())));
     final WorkflowRunResponse workflowRunResponse = buildWorkflowRunResponse(workflowRunRepository.saveWorkflowRun(workflowRun));
-    statusPublisher.publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUBMITTED, SUBMITTED);
+    statusPublisher.publishStatusWithNoErrors(rq.getRunId(), dpsHeaders, WORKFLOW_SUBMITTED, SUBMITTED);
 
     return workflowRunResponse;
   }
 
+  @Override
+  public WorkflowRunResponse submitWorkflow(final String workflowName, final TriggerWorkflowRequest request) {
+    if (!workflowRunDispatcher.isEnabled()) {
+      return triggerWorkflow(workflowName, request);
+    }
+    workflowRunDispatcher.checkCapacity();
+
+    final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowName);
+    final String runId = request.getRunId() != null ? request.getRunId() : UUID.randomUUID().toString();
+    final WorkflowEngineRequest rq = WorkflowEngineRequest.builder()
+        .runId(runId)
+        .workflowId(workflowMetadata.getWorkflowId())
+        .workflowName(workflowName)
+        .dagName(getDagName(workflowMetadata))
+        .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
+        .build();
+    final Map<String, Object> context =
+        createWorkflowPayload(workflowName, runId, dpsHeaders.getCorrelationId(), request);
+    // The slot is held until the dispatcher has sent the run to the engine.
+    final Admission admission = admissionController.admit(dpsHeaders.getPartitionId(), workflowName);
+    final WorkflowRun workflowRun;
+    try {
+      auditLogger.workflowRunEvent(Collections.singletonList(getTruncatedData(request.toString())));
+      final WorkflowRun submittedRun = buildWorkflowRun(rq, null);
+      submittedRun.setDispatchPending(true);
+      workflowRun = workflowRunRepository.saveWorkflowRun(submittedRun);
+      statusPublisher.publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUBMITTED, SUBMITTED);
+    } catch (RuntimeException e) {
+      admission.release();
+      throw e;
+    }
+
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+    try {
+      workflowRunDispatcher.dispatch(runId, () -> {
+        try {
+          BackgroundRequestContext.run(headers, () -> dispatchWorkflowRun(workflowMetadata, rq, context));
+        } finally {
+          admission.release();
+        }
+      }, () -> {
+        try {
+          BackgroundRequestContext.run(headers, () -> markDispatchFailed(workflowRun));
+        } finally {
+          admission.release();
+        }
+      });
+    } catch (AppException e) {
+      admission.release();
+      markDispatchFailed(workflowRun);
+      throw e;
+    }
+    return buildWorkflowRunResponse(workflowRun);
+  }
+
+  private void dispatchWorkflowRun(WorkflowMetadata workflowMetadata, WorkflowEngineRequest rq,
+                                   Map<String, Object> context) {
+    final IWorkflowEngineService workflowEngineService = getWorkflowEngineService(workflowMetadata);
+    RuntimeException lastError = null;
+    for (int attempt = 1; attempt <= dispatchConfig.getMaxAttempts(); attempt++) {
+      try {
+        TriggerWorkflowResponse rs = workflowEngineService.triggerWorkflow(rq, context);
+        markDispatched(rq, rs != null ? rs.getExecutionDate() : null);
+        return;
+      } catch (AppException e) {
+        int status = e.getError().getCode();
+        // A conflict after a failed attempt means the earlier attempt reached the engine.
+        if (status == 409 && attempt > 1) {
+          markDispatched(rq, null);
+          return;
+        }
+        lastError = e;
+        if (status >= 400 && status < 500 && status != 429) {
+          break;
+        }
+      } catch (RuntimeException e) {
+        lastError = e;
+      }
+      if (attempt < dispatchConfig.getMaxAttempts() && !sleepBeforeRetry(attempt)) {
+        break;
+      }
+    }
+    log.error("Failed to dispatch workflow run {} of workflow {}", rq.getRunId(), rq.getWorkflowName(), lastError);
+    workflowRunDispatcher.recordFailedDispatch();
+    markDispatchFailed(workflowRunRepository.getWorkflowRun(rq.getWorkflowName(), rq.getRunId()));
+  }
+
+  private void markDispatched(WorkflowEngineRequest rq, String executionDate) {
+    WorkflowRun workflowRun = workflowRunRepository.getWorkflowRun(rq.getWorkflowName(), rq.getRunId());
+    if (executionDate != null) {
+      workflowRun.setWorkflowEngineExecutionDate(executionDate);
+    }
+    workflowRun.setDispatchPending(null);
+    workflowRunRepository.updateWorkflowRun(workflowRun);
+  }
+
+  // Runs waiting in a dispatch queue, on any replica, are not known to the workflow engine yet.
+  private boolean isAwaitingDispatch(WorkflowRun workflowRun) {
+    return Boolean.TRUE.equals(workflowRun.getDispatchPending());
+  }
+
+  private boolean sleepBeforeRetry(int attempt) {
+    try {
+      Thread.sleep(dispatchConfig.getRetryBackoffMillis() << (attempt - 1));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void markDispatchFailed(WorkflowRun workflowRun) {
+    workflowRunRepository.updateWorkflowRun(
+        buildUpdatedWorkflowRun(workflowRun, WorkflowStatusType.FAILED, System.currentTimeMillis()));
+    statusPublisher.publishStatusWithUnexpectedErrors(workflowRun.getRunId(), dpsHeaders, WORKFLOW_FAILED, FAILED);
+  }
+
+  @Override
+  public TriggerWorkflowBatchResponse triggerWorkflows(final String workflowName,
+                                                       final TriggerWorkflowBatchRequest batchRequest) {
+    final List<TriggerWorkflowRequest> requests = batchRequest.getWorkflowRuns();
+    if (requests == null || requests.isEmpty() || requests.size() > batchConfig.getMaxSize()) {
+      throw new AppException(400, "Invalid batch size",
+          String.format("Batch must contain from 1 to %d workflow runs", batchConfig.getMaxSize()));
+    }
+
+    final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowName);
+    final IWorkflowEngineService workflowEngineService = getWorkflowEngineService(workflowMetadata);
+    final String dagName = getDagName(workflowMetadata);
+    final TriggerWorkflowBatchItemResponse[] results = new TriggerWorkflowBatchItemResponse[requests.size()];
+    final WorkflowEngineRequest[] engineRequests = new WorkflowEngineRequest[requests.size()];
+    final List<Future<TriggerWorkflowResponse>> triggers = new ArrayList<>();
+    final Set<String> runIds = new HashSet<>();
+    // Pool threads get a request of their own, the servlet request is not safe to share
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+
+    for (int i = 0; i < requests.size(); i++) {
+      final TriggerWorkflowRequest request = requests.get(i);
+      final String runId = request.getRunId() != null ? request.getRunId() : UUID.randomUUID().toString();
+      if (!runIds.add(runId)) {
+        results[i] = buildFailedBatchItem(i, runId, 400, "Duplicate run id",
+            String.format("Run id %s is used more than once in the batch", runId));
+        triggers.add(null);
+        continue;
+      }
+      final WorkflowEngineRequest rq = WorkflowEngineRequest.builder()
+          .runId(runId)
+          .workflowId(workflowMetadata.getWorkflowId())
+          .workflowName(workflowName)
+          .dagName(dagName)
+          .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
+          .build();
+      final Map<String, Object> context =
+          createWorkflowPayload(workflowName, runId, dpsHeaders.getCorrelationId(), request);
+      final Admission admission;
+      try {
+        admission = admissionController.admit(dpsHeaders.getPartitionId(), workflowName);
+      } catch (RetryAfterException e) {
+        results[i] = buildFailedBatchItem(i, runId, e);
+        triggers.add(null);
+        continue;
+      }
+      try {
+        triggers.add(workflowRunBatchExecutor.submit(() -> BackgroundRequestContext.call(headers, () -> {
+          try {
+            return workflowEngineService.triggerWorkflow(rq, context);
+          } finally {
+            admission.release();
+          }
+        })));
+      } catch (RejectedExecutionException e) {
+        admission.release();
+        results[i] = buildFailedBatchItem(i, runId, 503, BATCH_QUEUE_FULL_REASON,
+            "Too many workflow runs are waiting to be triggered, retry later");
+        triggers.add(null);
+        continue;
+      } catch (RuntimeException e) {
+        admission.release();
+        results[i] = buildFailedBatchItem(i, runId, e);
+        triggers.add(null);
+        continue;
+      }
+      engineRequests[i] = rq;
+    }
+
+    final List<WorkflowRun> triggeredRuns = new ArrayList<>();
+    final Map<String, Integer> triggeredIndexes = new HashMap<>();
+    for (int i = 0; i < triggers.size(); i++) {
+      if (triggers.get(i) == null) {
+        continue;
+      }
+      try {
+        triggeredRuns.add(buildWorkflowRun(engineRequests[i], triggers.get(i).get()));
+        triggeredIndexes.put(engineRequests[i].getRunId(), i);
+      } catch (ExecutionException e) {
+        results[i] = buildFailedBatchItem(i, engineRequests[i].getRunId(), e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        results[i] = buildFailedBatchItem(i, engineRequests[i].getRunId(), e);
+      }
+    }
+
+    saveTriggeredWorkflowRuns(triggeredRuns, triggeredIndexes, requests, results);
+    return buildBatchResponse(results);
+  }
+
+  private void saveTriggeredWorkflowRuns(List<WorkflowRun> triggeredRuns, Map<String, Integer> triggeredIndexes,
+                                         List<TriggerWorkflowRequest> requests,
+                                         TriggerWorkflowBatchItemResponse[] results) {
+    if (triggeredRuns.isEmpty()) {
+      return;
+    }
+    List<WorkflowRunSaveResult> saveResults;
+    try {
+      saveResults = workflowRunRepository.saveWorkflowRuns(triggeredRuns);
+    } catch (RuntimeException e) {
+      log.error("Failed to save {} triggered workflow runs", triggeredRuns.size(), e);
+      saveResults = Collections.emptyList();
+    }
+
+    final List<String> savedRunIds = new ArrayList<>();
+    final List<String> auditResources = new ArrayList<>();
+    for (WorkflowRunSaveResult saveResult : saveResults) {
+      final Integer index = triggeredIndexes.remove(saveResult.getRunId());
+      if (index == null) {
+        continue;
+      }
+      if (saveResult.getError() != null) {
+        results[index] = buildFailedBatchItem(index, saveResult.getRunId(), saveResult.getError().getCode(),
+            saveResult.getError().getReason(), saveResult.getError().getMessage());
+        continue;
+      }
+      final WorkflowRun savedRun = saveResult.getWorkflowRun();
+      results[index] = TriggerWorkflowBatchItemResponse.builder()
+          .index(index)
+          .runId(savedRun.getRunId())
+          .code(200)
+          .workflowRun(buildWorkflowRunResponse(savedRun))
+          .build();
+      savedRunIds.add(savedRun.getRunId());
+      auditResources.add(getTruncatedData(requests.get(index).toString()));
+    }
+    triggeredIndexes.forEach((runId, index) -> results[index] = buildFailedBatchItem(index, runId, 500,
+        "Failed to save workflow run", "Workflow run was triggered but its details failed to persist"));
+
+    if (!savedRunIds.isEmpty()) {
+      auditLogger.workflowRunEvent(auditResources);
+      statusPublisher.publishStatusesWithNoErrors(savedRunIds, dpsHeaders, WORKFLOW_SUBMITTED, SUBMITTED);
+    }
+  }
+
+  private TriggerWorkflowBatchResponse buildBatchResponse(TriggerWorkflowBatchItemResponse[] results) {
+    int succeeded = 0;
+    for (TriggerWorkflowBatchItemResponse result : results) {
+      if (result.getWorkflowRun() != null) {
+        succeeded++;
+      }
+    }
+    return TriggerWorkflowBatchResponse.builder()
+        .succeeded(succeeded)
+        .failed(results.length - succeeded)
+        .results(List.of(results))
+        .build();
+  }
+
+  private TriggerWorkflowBatchItemResponse buildFailedBatchItem(int index, String runId, Throwable cause) {
+    if (cause instanceof AppException) {
+      AppException appException = (AppException) cause;
+      return buildFailedBatchItem(index, runId, appException.getError().getCode(),
+          appException.getError().getReason(), appException.getError().getMessage());
+    }
+    log.error("Failed to trigger workflow run {}", runId, cause);
+    return buildFailedBatchItem(index, runId, 500, "Failed to trigger workflow run", cause.getMessage());
+  }
+
+  private TriggerWorkflowBatchItemResponse buildFailedBatchItem(int index, String runId, int code,
+                                                                String reason, String message) {
+    return TriggerWorkflowBatchItemResponse.builder()
+        .index(index)
+        .runId(runId)
+        .code(code)
+        .reason(reason)
+        .message(message)
+        .build();
+  }
+
   protected TriggerWorkflowResponse triggerWorkflowEngine(
       WorkflowEngineRequest rq, TriggerWorkflowRequest request, WorkflowMetadata workflowMetadata) {
     final Map<String, Object> context =
@@ -124,27 +513,198 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
 
   @Override
   public WorkflowRunResponse getWorkflowRunByName(final String workflowName, final String runId) {
+    return getWorkflowRunByName(workflowName, runId, null);
+  }
+
+  @Override
+  public WorkflowRunResponse getWorkflowRunByName(final String workflowName, final String runId,
+                                                  final Long maxStalenessSeconds) {
+    final long stalenessBudgetMillis = getStalenessBudgetMillis(maxStalenessSeconds);
+    final Optional<WorkflowRun> completedWorkflowRun = completedWorkflowRunCache.get(workflowName, runId);
+    if (completedWorkflowRun.isPresent()) {
+      return buildWorkflowRunResponse(completedWorkflowRun.get());
+    }
     WorkflowRun workflowRun = workflowRunRepository.getWorkflowRun(workflowName, runId);
-    return buildWorkflowRunResponse(fetchAndUpdateWorkflowRunStatus(workflowRun));
+    if (!isReconciledWithinStalenessBound() && !isStatusCheckedWithin(workflowRun, stalenessBudgetMillis)) {
+      workflowRun = refreshWorkflowRunStatus(workflowRun, stalenessBudgetMillis > 0);
+    }
+    completedWorkflowRunCache.put(workflowRun);
+    return buildWorkflowRunResponse(workflowRun);
+  }
+
+  @Override
+  public CompletableFuture<WorkflowRunResponse> getWorkflowRunByNameAsync(final String workflowName,
+                                                                          final String runId,
+                                                                          final Long maxStalenessSeconds) {
+    return pollWorkflowRunAsync(workflowName, runId, getStalenessBudgetMillis(maxStalenessSeconds));
+  }
+
+  @Override
+  public CompletableFuture<WorkflowRunResponse> pollWorkflowRunAsync(final String workflowName,
+                                                                     final String runId,
+                                                                     final long stalenessBudgetMillis) {
+    final Optional<WorkflowRun> completedWorkflowRun = completedWorkflowRunCache.get(workflowName, runId);
+    if (completedWorkflowRun.isPresent()) {
+      return CompletableFuture.completedFuture(buildWorkflowRunResponse(completedWorkflowRun.get()));
+    }
+    final WorkflowRun workflowRun = workflowRunRepository.getWorkflowRun(workflowName, runId);
+    if (isReconciledWithinStalenessBound() || isStatusCheckedWithin(workflowRun, stalenessBudgetMillis)) {
+      completedWorkflowRunCache.put(workflowRun);
+      return CompletableFuture.completedFuture(buildWorkflowRunResponse(workflowRun));
+    }
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+    return refreshWorkflowRunStatusAsync(workflowRun, stalenessBudgetMillis > 0, headers)
+        .thenApply(refreshedWorkflowRun -> BackgroundRequestContext.call(headers, () -> {
+          completedWorkflowRunCache.put(refreshedWorkflowRun);
+          return buildWorkflowRunResponse(refreshedWorkflowRun);
+        }));
+  }
+
+  @Override
+  public WorkflowRunBatchGetResponse getWorkflowRuns(final String workflowName,
+                                                     final WorkflowRunBatchGetRequest request,
+                                                     final boolean refresh) {
+    final List<String> requestedRunIds = request.getRunIds();
+    if (requestedRunIds == null || requestedRunIds.isEmpty()
+        || requestedRunIds.size() > batchConfig.getMaxSize()) {
+      throw new AppException(400, "Invalid batch size",
+          String.format("Batch must contain from 1 to %d run ids", batchConfig.getMaxSize()));
+    }
+    final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowName);
+    final List<String> runIds = new ArrayList<>(new LinkedHashSet<>(requestedRunIds));
+
+    final Map<String, WorkflowRun> workflowRuns = new HashMap<>();
+    for (WorkflowRun workflowRun : workflowRunRepository.getWorkflowRuns(workflowName, runIds)) {
+      workflowRuns.put(workflowRun.getRunId(), workflowRun);
+    }
+    if (refresh && !isReconciledWithinStalenessBound()) {
+      refreshWorkflowRunStatuses(workflowMetadata, workflowRuns);
+    }
+
+    final List<WorkflowRunResponse> responses = new ArrayList<>();
+    final List<String> notFound = new ArrayList<>();
+    for (String runId : runIds) {
+      final WorkflowRun workflowRun = workflowRuns.get(runId);
+      if (workflowRun == null) {
+        notFound.add(runId);
+      } else {
+        responses.add(buildWorkflowRunResponse(workflowRun));
+      }
+    }
+    return WorkflowRunBatchGetResponse.builder().workflowRuns(responses).notFound(notFound).build();
+  }
+
+  // Statuses the engine resolves in bulk are applied directly, the remaining active runs are
+  // refreshed one by one in parallel. A run that fails to refresh keeps its stored status.
+  private void refreshWorkflowRunStatuses(WorkflowMetadata workflowMetadata,
+                                          Map<String, WorkflowRun> workflowRuns) {
+    final List<WorkflowRun> activeRuns = workflowRuns.values().stream()
+        .filter(workflowRun -> getActiveStatusTypes().contains(workflowRun.getStatus()))
+        .filter(workflowRun -> !isAwaitingDispatch(workflowRun))
+        .filter(workflowRun -> !isStatusReportedWithinTrust(workflowRun))
+        .toList();
+    if (activeRuns.isEmpty()) {
+      return;
+    }
+    final Map<String, WorkflowStatusType> statuses = getWorkflowEngineService(workflowMetadata)
+        .getWorkflowRunStatuses(activeRuns.stream()
+            .map(workflowRun -> buildWorkflowRunStatusRequest(workflowRun, workflowMetadata))
+            .toList());
+
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+    final Map<String, Future<WorkflowRun>> refreshes = new HashMap<>();
+    for (WorkflowRun workflowRun : activeRuns) {
+      final WorkflowStatusType currentStatusType = statuses.get(workflowRun.getRunId());
+      if (currentStatusType != null) {
+        workflowRuns.put(workflowRun.getRunId(),
+            applyWorkflowRunStatus(workflowRun, currentStatusType, false));
+      } else {
+        try {
+          refreshes.put(workflowRun.getRunId(), workflowRunBatchExecutor.submit(
+              () -> BackgroundRequestContext.call(headers, () -> refreshWorkflowRunStatus(workflowRun))));
+        } catch (RejectedExecutionException e) {
+          log.warn("Skipped refreshing status of workflow run {}, the batch queue is full",
+              workflowRun.getRunId());
+        }
+      }
+    }
+    for (Map.Entry<String, Future<WorkflowRun>> refresh : refreshes.entrySet()) {
+      try {
+        workflowRuns.put(refresh.getKey(), refresh.getValue().get());
+      } catch (ExecutionException e) {
+        log.warn("Failed to refresh status of workflow run {}: {}", refresh.getKey(),
+            e.getCause().getMessage());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Interrupted while refreshing status of workflow run {}", refresh.getKey());
+      }
+    }
+  }
+
+  private long getStalenessBudgetMillis(Long maxStalenessSeconds) {
+    if (maxStalenessSeconds == null) {
+      return statusConfig.getDefaultMaxStalenessSeconds() * 1000;
+    }
+    if (maxStalenessSeconds < 0) {
+      throw new AppException(400, "Invalid maxStaleness",
+          "maxStaleness must not be negative");
+    }
+    return maxStalenessSeconds * 1000;
+  }
+
+  private boolean isStatusCheckedWithin(WorkflowRun workflowRun, long stalenessBudgetMillis) {
+    return stalenessBudgetMillis > 0
+        && workflowRun != null
+        && workflowRun.getLastStatusCheckTimestamp() != null
+        && System.currentTimeMillis() - workflowRun.getLastStatusCheckTimestamp() <= stalenessBudgetMillis;
+  }
+
+  // The workflow engine reports every status change of a run through the status callback once it
+  // used it for the run, so the stored status is current until the trust period has passed.
+  // A trust period of 0 disables the trust, -1 never lets it expire.
+  private boolean isStatusReportedWithinTrust(WorkflowRun workflowRun) {
+    final long trustSeconds = statusConfig.getCallbackTrustSeconds();
+    if (workflowRun.getStatusCallbackTimestamp() == null || trustSeconds == 0) {
+      return false;
+    }
+    return trustSeconds < 0
+        || System.currentTimeMillis() - workflowRun.getStatusCallbackTimestamp() <= trustSeconds * 1000;
   }
 
   @Override
   public void deleteWorkflowRunsByWorkflowName(String workflowName) {
-    List<WorkflowRun> workflowRuns = getAllWorkflowRuns(workflowName);
-    if(!isActiveRunsPresent(workflowRuns)) {
+    if (isActiveRunsPresent(workflowName)) {
+      String errorMessage = String.format("Active workflow runs found for %s", workflowName);
+      throw new AppException(412, "Failed to delete workflow runs", errorMessage);
+    }
+
+    // Runs are deleted one page at a time so that memory use does not grow with the number of runs.
+    final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    final Counter deletedRuns = meterRegistry.counter("workflow.run.delete.deleted");
+    final Timer pageLatency = meterRegistry.timer("workflow.run.delete.page.latency");
+    final long startedAt = System.nanoTime();
+    long deletedCount = 0;
+    String cursor = null;
+    do {
+      WorkflowRunsPage workflowRunsPage = workflowRunRepository
+          .getWorkflowRunsByWorkflowName(workflowName, WORKFLOW_RUN_LIMIT, cursor);
       List<String> runIdsToDelete = new ArrayList<>();
-      for (WorkflowRun workflowRun : workflowRuns) {
+      for (WorkflowRun workflowRun : workflowRunsPage.getItems()) {
         runIdsToDelete.add(workflowRun.getRunId());
       }
       if (!runIdsToDelete.isEmpty()) {
-        workflowRunRepository.deleteWorkflowRuns(workflowName, runIdsToDelete);
+        pageLatency.record(() -> workflowRunRepository.deleteWorkflowRuns(workflowName, runIdsToDelete));
+        deletedRuns.increment(runIdsToDelete.size());
+        deletedCount += runIdsToDelete.size();
+        log.info("Deleted {} workflow runs of workflow {} in {} ms", deletedCount, workflowName,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
       }
-    } else {
-      String errorMessage = String.format("Active workflow runs found for %s", workflowName);
-      throw new AppException(412, "Failed to delete workflow runs", errorMessage);
-    }
+      cursor = workflowRunsPage.getCursor();
+    } while (cursor != null);
+    completedWorkflowRunCache.invalidateWorkflow(workflowName);
   }
 
+
   @Override
   public List<WorkflowRun> getAllRunInstancesOfWorkflow(String workflowName,
                                                         Map<String, Object> params)
@@ -170,13 +730,122 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
         result = buildWorkflowRunResponse(workflowRunRepository.updateWorkflowRun(
             buildUpdatedWorkflowRun(workflowRun, status, System.currentTimeMillis())));
       }
-        logUpdatedStatus(status, oldStatus, runId);
+        logUpdatedStatus(status, oldStatus, runId, USER_MADE_CHANGE);
 
       return result;
     }
   }
 
-  private void logUpdatedStatus(WorkflowStatusType newStatus, WorkflowStatusType oldStatus, String runId) {
+  @Override
+  public WorkflowRunStatusCallbackResponse updateWorkflowRunStatuses(final String workflowName,
+                                                                     final WorkflowRunStatusCallbackRequest request) {
+    final List<WorkflowRunStatusCallbackItem> items = request.getWorkflowRuns();
+    if (items == null || items.isEmpty() || items.size() > batchConfig.getMaxSize()) {
+      throw new AppException(400, "Invalid batch size",
+          String.format("Batch must contain from 1 to %d workflow runs", batchConfig.getMaxSize()));
+    }
+    getWorkflowByName(workflowName);
+
+    final List<String> runIds = items.stream()
+        .map(WorkflowRunStatusCallbackItem::getRunId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    final Map<String, WorkflowRun> workflowRuns = new HashMap<>();
+    if (!runIds.isEmpty()) {
+      for (WorkflowRun workflowRun : workflowRunRepository.getWorkflowRuns(workflowName, runIds)) {
+        workflowRuns.put(workflowRun.getRunId(), workflowRun);
+      }
+    }
+
+    final List<WorkflowRunStatusCallbackItemResponse> results = new ArrayList<>();
+    final Set<String> reportedRunIds = new HashSet<>();
+    int succeeded = 0;
+    for (int i = 0; i < items.size(); i++) {
+      final WorkflowRunStatusCallbackItem item = items.get(i);
+      final WorkflowRunStatusCallbackItemResponse result;
+      if (item.getRunId() == null || item.getStatus() == null) {
+        result = buildFailedCallbackItem(i, item.getRunId(), 400, "Invalid status update",
+            "Both runId and status are required");
+      } else if (!reportedRunIds.add(item.getRunId())) {
+        result = buildFailedCallbackItem(i, item.getRunId(), 400, "Duplicate run id",
+            String.format("Run id %s is used more than once in the batch", item.getRunId()));
+      } else if (!workflowRuns.containsKey(item.getRunId())) {
+        result = buildFailedCallbackItem(i, item.getRunId(), 404, "Workflow run not found",
+            String.format("Workflow run %s of workflow %s not found", item.getRunId(), workflowName));
+      } else {
+        result = applyReportedWorkflowRunStatus(i, workflowRuns.get(item.getRunId()), item);
+      }
+      if (result.getWorkflowRun() != null) {
+        succeeded++;
+      }
+      results.add(result);
+    }
+    return WorkflowRunStatusCallbackResponse.builder()
+        .succeeded(succeeded)
+        .failed(results.size() - succeeded)
+        .results(results)
+        .build();
+  }
+
+  // A completed run keeps its status, reporting the same status again is accepted so that the
+  // workflow engine may safely retry a callback.
+  private WorkflowRunStatusCallbackItemResponse applyReportedWorkflowRunStatus(
+      int index, WorkflowRun workflowRun, WorkflowRunStatusCallbackItem item) {
+    final WorkflowStatusType oldStatus = workflowRun.getStatus();
+    if (getCompletedStatusTypes().contains(oldStatus)) {
+      if (oldStatus == item.getStatus()) {
+        return buildSucceededCallbackItem(index, workflowRun);
+      }
+      return buildFailedCallbackItem(index, workflowRun.getRunId(), 409, "Workflow run already completed",
+          String.format(WorkflowRunCompletedException.WORKFLOW_RUN_ENDED_MESSAGE,
+              workflowRun.getWorkflowName(), workflowRun.getRunId()));
+    }
+
+    final long reportedAt = System.currentTimeMillis();
+    final Long endTimeStamp = getCompletedStatusTypes().contains(item.getStatus())
+        ? Optional.ofNullable(item.getEndTimeStamp()).orElse(reportedAt)
+        : null;
+    final WorkflowRun reportedWorkflowRun = buildUpdatedWorkflowRun(workflowRun, item.getStatus(), endTimeStamp);
+    reportedWorkflowRun.setStatusCallbackTimestamp(reportedAt);
+    final WorkflowRun updatedWorkflowRun;
+    try {
+      updatedWorkflowRun = workflowRunRepository.updateWorkflowRun(reportedWorkflowRun);
+    } catch (AppException e) {
+      return buildFailedCallbackItem(index, workflowRun.getRunId(), e.getError().getCode(),
+          e.getError().getReason(), e.getError().getMessage());
+    } catch (RuntimeException e) {
+      log.error("Failed to update status of workflow run {}", workflowRun.getRunId(), e);
+      return buildFailedCallbackItem(index, workflowRun.getRunId(), 500,
+          "Failed to update workflow run", e.getMessage());
+    }
+    logUpdatedStatus(item.getStatus(), oldStatus, workflowRun.getRunId(), "");
+    completedWorkflowRunCache.put(updatedWorkflowRun);
+    return buildSucceededCallbackItem(index, updatedWorkflowRun);
+  }
+
+  private WorkflowRunStatusCallbackItemResponse buildSucceededCallbackItem(int index, WorkflowRun workflowRun) {
+    return WorkflowRunStatusCallbackItemResponse.builder()
+        .index(index)
+        .runId(workflowRun.getRunId())
+        .code(200)
+        .workflowRun(buildWorkflowRunResponse(workflowRun))
+        .build();
+  }
+
+  private WorkflowRunStatusCallbackItemResponse buildFailedCallbackItem(int index, String runId, int code,
+                                                                        String reason, String message) {
+    return WorkflowRunStatusCallbackItemResponse.builder()
+        .index(index)
+        .runId(runId)
+        .code(code)
+        .reason(reason)
+        .message(message)
+        .build();
+  }
+
+  private void logUpdatedStatus(WorkflowStatusType newStatus, WorkflowStatusType oldStatus, String runId,
+                                String change) {
     if (newStatus.equals(oldStatus)) {
       return;
     }
@@ -184,33 +853,46 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
     switch (newStatus) {
       case SUBMITTED:
         statusPublisher
-            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUBMITTED + USER_MADE_CHANGE, SUBMITTED);
+            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUBMITTED + change, SUBMITTED);
         break;
       case RUNNING:
         statusPublisher
-            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_IN_PROGRESS + USER_MADE_CHANGE, IN_PROGRESS);
+            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_IN_PROGRESS + change, IN_PROGRESS);
         break;
       case FINISHED:
         statusPublisher
-            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_FINISHED + USER_MADE_CHANGE, SUCCESS);
+            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_FINISHED + change, SUCCESS);
         break;
       case FAILED:
         statusPublisher
-            .publishStatusWithUnexpectedErrors(runId, dpsHeaders, WORKFLOW_FAILED + USER_MADE_CHANGE, FAILED);
+            .publishStatusWithUnexpectedErrors(runId, dpsHeaders, WORKFLOW_FAILED + change, FAILED);
         break;
       case SUCCESS:
         statusPublisher
-            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUCCESS + USER_MADE_CHANGE, SUCCESS);
+            .publishStatusWithNoErrors(runId, dpsHeaders, WORKFLOW_SUCCESS + change, SUCCESS);
         break;
       default:
         break;
     }
   }
 
+  private boolean isActiveRunsPresent(String workflowName) {
+    String cursor = null;
+    do {
+      WorkflowRunsPage workflowRunsPage = workflowRunRepository
+          .getWorkflowRunsByWorkflowName(workflowName, WORKFLOW_RUN_LIMIT, cursor);
+      if (isActiveRunsPresent(workflowRunsPage.getItems())) {
+        return true;
+      }
+      cursor = workflowRunsPage.getCursor();
+    } while (cursor != null);
+    return false;
+  }
+
   private boolean isActiveRunsPresent(List<WorkflowRun> workflowRuns) {
     List<WorkflowStatusType> activeStatusTypes = WorkflowStatusType.getActiveStatusTypes();
     for (WorkflowRun workflowRun : workflowRuns) {
-      WorkflowRun updatedWorkflowRun = fetchAndUpdateWorkflowRunStatus(workflowRun);
+      WorkflowRun updatedWorkflowRun = refreshWorkflowRunStatus(workflowRun);
       if (activeStatusTypes.contains(updatedWorkflowRun.getStatus()))
         return true;
     }
@@ -220,59 +902,102 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
   // The below code is borrowed from WorkflowManagerServiceImpl
   // Can't directly consume WorkflowManagerServiceImpl here as it will lead to cyclic dependency
   private WorkflowMetadata getWorkflowByName(String workflowName) {
-    try {
-      return workflowMetadataRepository.getWorkflow(workflowName);
-    } catch (WorkflowNotFoundException e) {
-      return workflowSystemMetadataRepository.getSystemWorkflow(workflowName);
-    }
+    return workflowMetadataCache.getWorkflowByName(workflowName);
   }
 
-  private List<WorkflowRun> getAllWorkflowRuns(String workflowName) {
-    String cursor = null;
-    List<WorkflowRun> workflowRuns = new ArrayList<>();
-
-    do {
-      WorkflowRunsPage workflowRunsPage = workflowRunRepository
-          .getWorkflowRunsByWorkflowName(workflowName, WORKFLOW_RUN_LIMIT, cursor);
-      workflowRuns.addAll(workflowRunsPage.getItems());
-      cursor = workflowRunsPage.getCursor();
-    } while (cursor != null);
-
-    return workflowRuns;
-  }
 
-  private Map<String, Object> createWorkflowPayload(final String workflowName,
-                                                    final String runId,
-                                                    final String correlationId,
-                                                    final TriggerWorkflowRequest request) {
+  protected Map<String, Object> createWorkflowPayload(final String workflowName,
+                                                      final String runId,
+                                                      final String correlationId,
+                                                      final TriggerWorkflowRequest request) {
     final Map<String, Object> payload = new HashMap<>();
     payload.put(KEY_RUN_ID, runId);
     payload.put(KEY_WORKFLOW_NAME, workflowName);
     payload.put(KEY_AUTH_TOKEN, dpsHeaders.getAuthorization());
     payload.put(KEY_CORRELATION_ID, correlationId);
-    payload.put(KEY_EXECUTION_CONTEXT, OBJECT_MAPPER.convertValue(request.getExecutionContext(), Map.class));
+    // The engine writes the execution context as is, so it is not copied into a map here
+    payload.put(KEY_EXECUTION_CONTEXT, request.getExecutionContext());
     return payload;
   }
 
-  private WorkflowRun fetchAndUpdateWorkflowRunStatus(final WorkflowRun workflowRun) {
+  // Active runs of partitions swept by the background reconciler are already refreshed,
+  // so reads within the staleness bound do not need to call the workflow engine.
+  private boolean isReconciledWithinStalenessBound() {
+    if (!reconcilerConfig.isEnabled()) {
+      return false;
+    }
+    Long lastSweep = sweepCoordinator.getLastCompletedSweep(dpsHeaders.getPartitionId());
+    return lastSweep != null
+        && System.currentTimeMillis() - lastSweep <= reconcilerConfig.getStalenessSeconds() * 1000;
+  }
+
+  @Override
+  public WorkflowRun refreshWorkflowRunStatus(final WorkflowRun workflowRun) {
+    return refreshWorkflowRunStatus(workflowRun, false);
+  }
+
+  // With recordUnchangedCheck the check timestamp is persisted even if the status did not
+  // change, so that reads with a staleness budget can skip the engine afterwards.
+  private WorkflowRun refreshWorkflowRunStatus(final WorkflowRun workflowRun,
+                                               final boolean recordUnchangedCheck) {
     List<WorkflowStatusType> activeStatusTypes = WorkflowStatusType.getActiveStatusTypes();
-    if (activeStatusTypes.contains(workflowRun.getStatus())) {
+    if (activeStatusTypes.contains(workflowRun.getStatus())
+        && !isAwaitingDispatch(workflowRun)
+        && !isStatusReportedWithinTrust(workflowRun)) {
+      final RefreshKey key = new RefreshKey(
+          dpsHeaders.getPartitionId(), workflowRun.getWorkflowName(), workflowRun.getRunId());
+      return statusRefreshes.execute(key,
+          () -> fetchAndUpdateWorkflowRunStatus(workflowRun, recordUnchangedCheck));
+    }
+    return workflowRun;
+  }
+
+  private WorkflowRun fetchAndUpdateWorkflowRunStatus(final WorkflowRun workflowRun,
+                                                      final boolean recordUnchangedCheck) {
+    final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowRun.getWorkflowName());
+
+    final WorkflowStatusType currentStatusType = getWorkflowStatusType(workflowRun, workflowMetadata);
+    return applyWorkflowRunStatus(workflowRun, currentStatusType, recordUnchangedCheck);
+  }
+
+  private CompletableFuture<WorkflowRun> refreshWorkflowRunStatusAsync(final WorkflowRun workflowRun,
+                                                                      final boolean recordUnchangedCheck,
+                                                                      final Map<String, String> headers) {
+    if (!getActiveStatusTypes().contains(workflowRun.getStatus())
+        || isAwaitingDispatch(workflowRun)
+        || isStatusReportedWithinTrust(workflowRun)) {
+      return CompletableFuture.completedFuture(workflowRun);
+    }
+    final RefreshKey key = new RefreshKey(
+        dpsHeaders.getPartitionId(), workflowRun.getWorkflowName(), workflowRun.getRunId());
+    return statusRefreshes.executeAsync(key, () -> {
       final WorkflowMetadata workflowMetadata = getWorkflowByName(workflowRun.getWorkflowName());
+      final WorkflowEngineRequest rq = buildWorkflowRunStatusRequest(workflowRun, workflowMetadata);
+      return getWorkflowEngineService(workflowMetadata).getWorkflowRunStatusAsync(rq)
+          .thenApply(currentStatusType -> BackgroundRequestContext.call(headers,
+              () -> applyWorkflowRunStatus(workflowRun, currentStatusType, recordUnchangedCheck)));
+    });
+  }
 
-      final WorkflowStatusType currentStatusType = getWorkflowStatusType(workflowRun, workflowMetadata);
-      if (currentStatusType != workflowRun.getStatus() && currentStatusType != null) {
-        if (getCompletedStatusTypes().contains(currentStatusType)) {
-          // Setting EndTimeStamp with the timestamp of Instant when this API is called.
-          // Currently, no EndTimeStamp is returned in the response from Workflow engine.
-          // Going forward with the endTimeStamp response from airflow the value can be changed.
-          return workflowRunRepository.updateWorkflowRun(buildUpdatedWorkflowRun(workflowRun,
-              currentStatusType, System.currentTimeMillis()));
-        } else {
-          return workflowRunRepository.updateWorkflowRun(buildUpdatedWorkflowRun(workflowRun,
-              currentStatusType, null));
-        }
+  private WorkflowRun applyWorkflowRunStatus(final WorkflowRun workflowRun,
+                                             final WorkflowStatusType currentStatusType,
+                                             final boolean recordUnchangedCheck) {
+    if (currentStatusType != workflowRun.getStatus() && currentStatusType != null) {
+      if (getCompletedStatusTypes().contains(currentStatusType)) {
+        // Setting EndTimeStamp with the timestamp of Instant when this API is called.
+        // Currently, no EndTimeStamp is returned in the response from Workflow engine.
+        // Going forward with the endTimeStamp response from airflow the value can be changed.
+        return workflowRunRepository.updateWorkflowRun(buildUpdatedWorkflowRun(workflowRun,
+            currentStatusType, System.currentTimeMillis()));
+      } else {
+        return workflowRunRepository.updateWorkflowRun(buildUpdatedWorkflowRun(workflowRun,
+            currentStatusType, null));
       }
     }
+    if (recordUnchangedCheck) {
+      return workflowRunRepository.updateWorkflowRun(buildUpdatedWorkflowRun(workflowRun,
+          workflowRun.getStatus(), workflowRun.getEndTimeStamp()));
+    }
     return workflowRun;
   }
 
@@ -288,20 +1013,22 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
 
   protected WorkflowStatusType getWorkflowStatusType(
       WorkflowRun workflowRun, WorkflowMetadata workflowMetadata) {
-    final String workflowName = workflowMetadata.getWorkflowName();
-    final WorkflowEngineRequest rq =
-        WorkflowEngineRequest.builder()
-            .runId(workflowRun.getRunId())
-            .workflowName(workflowName)
-            .executionTimeStamp(workflowRun.getStartTimeStamp())
-            .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
-            .dagName(getDagName(workflowMetadata))
-            .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
-            .build();
-
+    final WorkflowEngineRequest rq = buildWorkflowRunStatusRequest(workflowRun, workflowMetadata);
     return getWorkflowEngineService(workflowMetadata).getWorkflowRunStatus(rq);
   }
 
+  protected WorkflowEngineRequest buildWorkflowRunStatusRequest(
+      WorkflowRun workflowRun, WorkflowMetadata workflowMetadata) {
+    return WorkflowEngineRequest.builder()
+        .runId(workflowRun.getRunId())
+        .workflowName(workflowMetadata.getWorkflowName())
+        .executionTimeStamp(workflowRun.getStartTimeStamp())
+        .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
+        .dagName(getDagName(workflowMetadata))
+        .isSystemWorkflow(workflowMetadata.isSystemWorkflow())
+        .build();
+  }
+
   protected String getDagName(WorkflowMetadata workflowMetadata) {
     Map<String, Object> instructions = workflowMetadata.getRegistrationInstructions();
     return instructions != null && instructions.get(KEY_DAG_NAME) != null
@@ -315,6 +1042,7 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
         .runId(rq.getRunId())
         .startTimeStamp(rq.getExecutionTimeStamp())
         .workflowEngineExecutionDate(rs != null ? rs.getExecutionDate() : null)
+        .lastStatusCheckTimestamp(System.currentTimeMillis())
         .submittedBy(dpsHeaders.getUserEmail())
         .status(WorkflowStatusType.SUBMITTED)
         .workflowId(rq.getWorkflowId())
@@ -346,6 +1074,8 @@ public class WorkflowRunServiceImpl implements IWorkflowRunService {
         .endTimeStamp(workflowRunEndTimeStamp)
         .submittedBy(workflowRun.getSubmittedBy())
         .workflowEngineExecutionDate(workflowRun.getWorkflowEngineExecutionDate())
+        .lastStatusCheckTimestamp(System.currentTimeMillis())
+        .statusCallbackTimestamp(workflowRun.getStatusCallbackTimestamp())
         .status(workflowStatusType)
         .workflowName(workflowRun.getWorkflowName())
         .build();
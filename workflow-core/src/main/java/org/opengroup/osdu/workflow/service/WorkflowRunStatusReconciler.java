@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.workflow.config.WorkflowRunReconcilerConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
+import org.opengroup.osdu.workflow.util.BackgroundRequestContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically refreshes status of active workflow runs so that run status reads can be served
+ * from the store instead of calling the workflow engine on every request.
+ *
+ * <p>Each partition is swept by the replica holding its lease. Sweeps run with the service
+ * account token of the partition, and refreshes of individual runs are bounded by
+ * {@code osdu.workflow.reconciler.max-concurrency}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "osdu.workflow.reconciler.enabled", havingValue = "true")
+public class WorkflowRunStatusReconciler {
+
+  private static final String CORRELATION_ID_PREFIX = "workflow-reconciler-";
+
+  private final WorkflowRunReconcilerConfig reconcilerConfig;
+
+  private final IWorkflowRunSweepCoordinator sweepCoordinator;
+
+  private final IServiceAccountJwtClient serviceAccountJwtClient;
+
+  private final IWorkflowRunRepository workflowRunRepository;
+
+  private final IWorkflowRunService workflowRunService;
+
+  private final String ownerId = UUID.randomUUID().toString();
+
+  private ScheduledExecutorService scheduler;
+
+  private ExecutorService refreshExecutor;
+
+  @PostConstruct
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("workflow-reconciler").setDaemon(true).build());
+    refreshExecutor = Executors.newFixedThreadPool(reconcilerConfig.getMaxConcurrency(),
+        new ThreadFactoryBuilder().setNameFormat("workflow-reconciler-refresh-%d").setDaemon(true).build());
+    long interval = reconcilerConfig.getSweepIntervalSeconds();
+    scheduler.scheduleWithFixedDelay(this::sweepPartitions, interval, interval, TimeUnit.SECONDS);
+    log.info("Workflow run status reconciler started for partitions {}", reconcilerConfig.getPartitions());
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+    refreshExecutor.shutdownNow();
+    for (String partitionId : reconcilerConfig.getPartitions()) {
+      sweepCoordinator.releaseLease(partitionId, ownerId);
+    }
+  }
+
+  public void sweepPartitions() {
+    for (String partitionId : reconcilerConfig.getPartitions()) {
+      try {
+        sweepPartition(partitionId);
+      } catch (Exception e) {
+        log.warn("Failed to sweep active workflow runs of partition {}", partitionId, e);
+      }
+    }
+  }
+
+  /**
+   * Refreshes all active runs of the partition if this replica holds the partition lease.
+   * @param partitionId Partition to sweep.
+   * @return true if every active run was refreshed and the sweep was recorded.
+   */
+  public boolean sweepPartition(String partitionId) throws InterruptedException {
+    if (!sweepCoordinator.tryAcquireLease(partitionId, ownerId,
+        Duration.ofSeconds(reconcilerConfig.getLeaseSeconds()))) {
+      log.debug("Sweep lease of partition {} is held by another replica", partitionId);
+      return false;
+    }
+
+    long sweepStartTimestamp = System.currentTimeMillis();
+    Map<String, String> headers = buildHeaders(partitionId);
+    List<WorkflowRun> activeRuns = BackgroundRequestContext.call(headers, this::getActiveWorkflowRuns);
+
+    List<Future<?>> refreshes = new ArrayList<>();
+    for (WorkflowRun workflowRun : activeRuns) {
+      refreshes.add(refreshExecutor.submit(() -> BackgroundRequestContext.run(headers,
+          () -> workflowRunService.refreshWorkflowRunStatus(workflowRun))));
+    }
+
+    int failedRefreshes = 0;
+    for (Future<?> refresh : refreshes) {
+      try {
+        refresh.get();
+      } catch (ExecutionException e) {
+        failedRefreshes++;
+        log.warn("Failed to refresh workflow run status in partition {}", partitionId, e.getCause());
+      }
+    }
+
+    if (failedRefreshes > 0) {
+      log.warn("Sweep of partition {} refreshed {} of {} active runs, reads keep calling the workflow engine",
+          partitionId, activeRuns.size() - failedRefreshes, activeRuns.size());
+      return false;
+    }
+    sweepCoordinator.recordCompletedSweep(partitionId, sweepStartTimestamp);
+    log.debug("Sweep of partition {} refreshed {} active runs in {} ms", partitionId,
+        activeRuns.size(), System.currentTimeMillis() - sweepStartTimestamp);
+    return true;
+  }
+
+  private List<WorkflowRun> getActiveWorkflowRuns() {
+    List<WorkflowRun> activeRuns = new ArrayList<>();
+    String cursor = null;
+    do {
+      WorkflowRunsPage workflowRunsPage =
+          workflowRunRepository.getActiveWorkflowRuns(reconcilerConfig.getPageSize(), cursor);
+      activeRuns.addAll(workflowRunsPage.getItems());
+      cursor = workflowRunsPage.getCursor();
+    } while (cursor != null);
+    return activeRuns;
+  }
+
+  private Map<String, String> buildHeaders(String partitionId) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(DpsHeaders.DATA_PARTITION_ID, partitionId);
+    headers.put(DpsHeaders.AUTHORIZATION, serviceAccountJwtClient.getIdToken(partitionId));
+    headers.put(DpsHeaders.CORRELATION_ID, CORRELATION_ID_PREFIX + UUID.randomUUID());
+    return headers;
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowRunStatusConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunWaitCondition;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.opengroup.osdu.workflow.util.BackgroundRequestContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds workflow run reads until the run reaches a status class or the wait times out.
+ *
+ * <p>All reads waiting for the same run share one watch, which checks the run status through
+ * {@link IWorkflowRunService} on a small scheduler. The check interval starts at
+ * {@code osdu.workflow.status.wait-initial-interval-millis} and doubles up to
+ * {@code wait-max-interval-millis} while the status does not change. A check accepts a stored
+ * status checked within the current interval, so the engine is called at most once per interval
+ * even when other readers refresh the run too. Waiting reads do not hold a thread, they are
+ * completed from the scheduler.
+ *
+ * <p>Exposes {@code workflow.run.wait.watches} and {@code workflow.run.wait.checks} metrics.
+ */
+@Slf4j
+@Component
+public class WorkflowRunStatusWatcher {
+
+  private final IWorkflowRunService workflowRunService;
+
+  private final DpsHeaders dpsHeaders;
+
+  private final WorkflowRunStatusConfig statusConfig;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final ConcurrentMap<WatchKey, Watch> watches = new ConcurrentHashMap<>();
+
+  private final Counter checks;
+
+  public WorkflowRunStatusWatcher(IWorkflowRunService workflowRunService, DpsHeaders dpsHeaders,
+                                  WorkflowRunStatusConfig statusConfig,
+                                  ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this.workflowRunService = workflowRunService;
+    this.dpsHeaders = dpsHeaders;
+    this.statusConfig = statusConfig;
+    this.scheduler = Executors.newScheduledThreadPool(statusConfig.getWaitWatcherThreads(),
+        new ThreadFactoryBuilder().setNameFormat("workflow-run-watcher-%d").setDaemon(true).build());
+
+    MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    Gauge.builder("workflow.run.wait.watches", watches, Map::size)
+        .description("Workflow runs watched for waiting status reads")
+        .register(meterRegistry);
+    this.checks = Counter.builder("workflow.run.wait.checks")
+        .description("Status checks of watched workflow runs")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Reads a workflow run and, if it does not meet the condition yet, waits for it.
+   * @param workflowName Name of the workflow the run belongs to.
+   * @param runId Id of the workflow run.
+   * @param waitFor Status class to wait for, see {@link WorkflowRunWaitCondition}.
+   * @param timeout Longest wait such as {@code 30s}, server default if absent.
+   * @param maxStalenessSeconds Accepted age of the stored status for the first read.
+   * @return Future of the run once it meets the condition, or of the last known run when the
+   * wait times out. It completes on a scheduler or HTTP client thread, so request-scoped values
+   * the caller needs afterwards must be read before waiting.
+   */
+  public CompletableFuture<WorkflowRunResponse> waitForWorkflowRun(final String workflowName,
+                                                                   final String runId,
+                                                                   final String waitFor,
+                                                                   final String timeout,
+                                                                   final Long maxStalenessSeconds) {
+    final WorkflowRunWaitCondition condition = WorkflowRunWaitCondition.fromValue(waitFor)
+        .orElseThrow(() -> new AppException(400, "Invalid waitFor",
+            String.format("waitFor must be one of: %s", Arrays.stream(WorkflowRunWaitCondition.values())
+                .map(WorkflowRunWaitCondition::getValue)
+                .collect(Collectors.joining(", ")))));
+    final long timeoutMillis = getWaitTimeoutMillis(timeout);
+    final WatchKey key = new WatchKey(dpsHeaders.getPartitionId(), workflowName, runId);
+    final Map<String, String> headers = dpsHeaders.getHeaders();
+    return workflowRunService.getWorkflowRunByNameAsync(workflowName, runId, maxStalenessSeconds)
+        .thenCompose(workflowRun -> condition.isMetBy(workflowRun.getStatus()) || timeoutMillis == 0
+            ? CompletableFuture.completedFuture(workflowRun)
+            : watch(key, headers, new Waiter(condition, workflowRun), timeoutMillis));
+  }
+
+  private long getWaitTimeoutMillis(final String timeout) {
+    final long maxWaitMillis = statusConfig.getMaxWaitSeconds() * 1000;
+    if (timeout == null) {
+      return Math.min(statusConfig.getDefaultWaitSeconds() * 1000, maxWaitMillis);
+    }
+    final Duration duration;
+    try {
+      duration = DurationStyle.detectAndParse(timeout, ChronoUnit.SECONDS);
+    } catch (IllegalArgumentException e) {
+      throw new AppException(400, "Invalid timeout", "timeout must be a duration such as 30s");
+    }
+    if (duration.isNegative()) {
+      throw new AppException(400, "Invalid timeout", "timeout must not be negative");
+    }
+    return Math.min(duration.toMillis(), maxWaitMillis);
+  }
+
+  private CompletableFuture<WorkflowRunResponse> watch(final WatchKey key, final Map<String, String> headers,
+                                                       final Waiter waiter, final long timeoutMillis) {
+    // A watch is closed and removed once its last waiter is gone, a new one is started then
+    Watch watch;
+    do {
+      watch = watches.computeIfAbsent(key, Watch::new);
+    } while (!watch.add(waiter, headers));
+    final Watch waiterWatch = watch;
+    try {
+      scheduler.schedule(() -> waiterWatch.expire(waiter), timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      waiterWatch.expire(waiter);
+    }
+    return waiter.future;
+  }
+
+  private void check(final Watch watch) {
+    final Map<String, String> headers = watch.getHeadersIfActive();
+    if (headers == null) {
+      return;
+    }
+    checks.increment();
+    final long stalenessBudgetMillis = watch.getIntervalMillis();
+    CompletableFuture<WorkflowRunResponse> read;
+    try {
+      read = BackgroundRequestContext.call(headers, () -> workflowRunService
+          .pollWorkflowRunAsync(watch.key.workflowName(), watch.key.runId(), stalenessBudgetMillis));
+    } catch (RuntimeException e) {
+      read = CompletableFuture.failedFuture(e);
+    }
+    read.whenComplete((workflowRun, e) -> {
+      if (e != null) {
+        log.warn("Failed to check status of watched workflow run {}: {}", watch.key.runId(), e.getMessage());
+        watch.update(null);
+      } else {
+        watch.update(workflowRun);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  private record WatchKey(String partitionId, String workflowName, String runId) {
+  }
+
+  private static final class Waiter {
+    private final WorkflowRunWaitCondition condition;
+    private final WorkflowRunResponse initialWorkflowRun;
+    private final CompletableFuture<WorkflowRunResponse> future = new CompletableFuture<>();
+
+    private Waiter(WorkflowRunWaitCondition condition, WorkflowRunResponse initialWorkflowRun) {
+      this.condition = condition;
+      this.initialWorkflowRun = initialWorkflowRun;
+    }
+  }
+
+  private final class Watch {
+    private final WatchKey key;
+    private final List<Waiter> waiters = new ArrayList<>();
+    private Map<String, String> headers;
+    private WorkflowRunResponse latestWorkflowRun;
+    private long intervalMillis = statusConfig.getWaitInitialIntervalMillis();
+    private boolean started;
+    private boolean closed;
+
+    private Watch(WatchKey key) {
+      this.key = key;
+    }
+
+    // The most recent waiter's headers are used for checks, so that its token is the freshest
+    private synchronized boolean add(Waiter waiter, Map<String, String> waiterHeaders) {
+      if (closed) {
+        return false;
+      }
+      waiters.add(waiter);
+      headers = waiterHeaders;
+      if (!started) {
+        started = true;
+        scheduleCheck();
+      }
+      return true;
+    }
+
+    private synchronized Map<String, String> getHeadersIfActive() {
+      return closeIfIdle() ? null : headers;
+    }
+
+    private synchronized long getIntervalMillis() {
+      return intervalMillis;
+    }
+
+    private void expire(Waiter waiter) {
+      final WorkflowRunResponse workflowRun;
+      synchronized (this) {
+        waiters.remove(waiter);
+        workflowRun = latestWorkflowRun;
+      }
+      waiter.future.complete(workflowRun != null ? workflowRun : waiter.initialWorkflowRun);
+    }
+
+    private void update(WorkflowRunResponse workflowRun) {
+      final List<Waiter> satisfied = new ArrayList<>();
+      synchronized (this) {
+        if (workflowRun != null) {
+          final boolean changed = latestWorkflowRun != null
+              && latestWorkflowRun.getStatus() != workflowRun.getStatus();
+          latestWorkflowRun = workflowRun;
+          for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext(); ) {
+            final Waiter waiter = iterator.next();
+            if (waiter.condition.isMetBy(workflowRun.getStatus())) {
+              satisfied.add(waiter);
+              iterator.remove();
+            }
+          }
+          intervalMillis = changed ? statusConfig.getWaitInitialIntervalMillis()
+              : Math.min(intervalMillis * 2, statusConfig.getWaitMaxIntervalMillis());
+        } else {
+          intervalMillis = Math.min(intervalMillis * 2, statusConfig.getWaitMaxIntervalMillis());
+        }
+        if (!closeIfIdle()) {
+          scheduleCheck();
+        }
+      }
+      satisfied.forEach(waiter -> waiter.future.complete(workflowRun));
+    }
+
+    private boolean closeIfIdle() {
+      if (waiters.isEmpty()) {
+        closed = true;
+        watches.remove(key, this);
+      }
+      return closed;
+    }
+
+    private void scheduleCheck() {
+      try {
+        scheduler.schedule(() -> check(this), intervalMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        log.debug("Watch of workflow run {} stopped, the watcher is shut down", key.runId());
+      }
+    }
+  }
+}
@@ -17,13 +17,20 @@
 
 package org.opengroup.osdu.workflow.service.factory;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.WorkflowMetricsConfig;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
+import org.opengroup.osdu.workflow.service.MeteredAirflowApiClient;
+import org.opengroup.osdu.workflow.service.RetryingAirflowApiClient;
 import org.opengroup.osdu.workflow.service.spi.IAirflowApiClientServiceProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -33,6 +40,9 @@ import org.springframework.stereotype.Service;
 public class AirflowApiClientFactory {
 
   private final List<IAirflowApiClientServiceProvider> providers;
+  private final WorkflowMetricsConfig metricsConfig;
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+  private final ObjectProvider<AirflowRetryPolicy> retryPolicyProvider;
 
   public IAirflowApiClient createAirflowApiClient(
       String airflowApiClientType, AirflowConfig airflowConfig) {
@@ -42,6 +52,11 @@ public class AirflowApiClientFactory {
         .filter(provider -> provider.supports(airflowApiClientType))
         .findFirst()
         .map(provider -> provider.create(airflowConfig))
+        .map(airflowApiClient -> metricsConfig.isEnabled()
+            ? new MeteredAirflowApiClient(airflowApiClient,
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry), airflowConfig)
+            : airflowApiClient)
+        .map(this::withRetries)
         .orElseThrow(
             () -> {
               log.error("Unsupported Airflow API client type: {}", airflowApiClientType);
@@ -51,4 +66,11 @@ public class AirflowApiClientFactory {
                   "Unsupported Airflow API client type: %s".formatted(airflowApiClientType));
             });
   }
+
+  private IAirflowApiClient withRetries(IAirflowApiClient airflowApiClient) {
+    AirflowRetryPolicy retryPolicy = retryPolicyProvider.getIfAvailable();
+    return retryPolicy != null && retryPolicy.isEnabled()
+        ? new RetryingAirflowApiClient(airflowApiClient, retryPolicy)
+        : airflowApiClient;
+  }
 }
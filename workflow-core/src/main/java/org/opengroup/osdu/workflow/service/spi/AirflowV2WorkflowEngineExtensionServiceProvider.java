@@ -17,7 +17,11 @@
 
 package org.opengroup.osdu.workflow.service.spi;
 
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.AirflowTaskDetailsConfig;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineExtension;
 import org.opengroup.osdu.workflow.service.AirflowV2WorkflowEngineExtension;
@@ -25,11 +29,16 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class AirflowV2WorkflowEngineExtensionServiceProvider
     implements IWorkflowEngineExtensionServiceProvider {
 
   private static final String V2 = "v2";
 
+  private final AirflowTaskDetailsConfig taskDetailsConfig;
+  private final ExecutorService airflowXcomExecutor;
+  private final DpsHeaders dpsHeaders;
+
   @Override
   public boolean supports(String version) {
     log.debug("Checking support for version: {}", version);
@@ -39,6 +48,7 @@ public class AirflowV2WorkflowEngineExtensionServiceProvider
   @Override
   public IWorkflowEngineExtension create(IAirflowApiClient airflowApiClient) {
     log.info("Creating Airflow V2 workflow engine extension");
-    return new AirflowV2WorkflowEngineExtension(airflowApiClient);
+    return new AirflowV2WorkflowEngineExtension(airflowApiClient, taskDetailsConfig, airflowXcomExecutor,
+        dpsHeaders);
   }
 }
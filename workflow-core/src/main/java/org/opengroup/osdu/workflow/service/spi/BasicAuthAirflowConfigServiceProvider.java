@@ -42,7 +42,9 @@ public class BasicAuthAirflowConfigServiceProvider implements IAirflowConfigServ
   @Override
   public boolean supports(String airflowApiClientType) {
     log.debug("Checking support for Airflow API client type: {}", airflowApiClientType);
-    return BASIC_AUTH.equalsIgnoreCase(airflowApiClientType);
+    return BASIC_AUTH.equalsIgnoreCase(airflowApiClientType)
+        || PooledBasicAuthAirflowApiClientServiceProvider.POOLED_BASIC_AUTH
+            .equalsIgnoreCase(airflowApiClientType);
   }
 
   @Override
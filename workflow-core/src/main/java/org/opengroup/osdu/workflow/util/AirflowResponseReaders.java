@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.model.AirflowGetDAGRunStatus;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Readers for the Airflow API responses. They are configured once and, unlike an
+ * {@link ObjectMapper} that is still being configured, safe to share between threads. Unknown
+ * properties are ignored, as Airflow adds fields to its responses between versions.
+ */
+public final class AirflowResponseReaders {
+
+  public static final String JSON_ERROR = "Unable to Process(Parse, Generate) JSON value";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  public static final ObjectReader JSON_TREE = OBJECT_MAPPER.readerFor(JsonNode.class);
+  public static final ObjectReader DAG_RUN_STATUS =
+      OBJECT_MAPPER.readerFor(AirflowGetDAGRunStatus.class);
+  public static final ObjectReader TRIGGER_WORKFLOW_RESPONSE =
+      OBJECT_MAPPER.readerFor(TriggerWorkflowResponse.class);
+  // Task instances and XCom entries are returned as they are, so they are read as trees
+  public static final ObjectReader TASK_INSTANCE = OBJECT_MAPPER.readerFor(ObjectNode.class);
+
+  private AirflowResponseReaders() {
+  }
+
+  /**
+   * Decodes a body while it is read from the stream. Malformed JSON is reported as 500, other
+   * I/O errors are left to the client, as they come from the connection.
+   */
+  public static <T> T read(InputStream body, IAirflowResponseReader<T> reader)
+      throws IOException {
+    try (JsonParser parser = JSON_TREE.createParser(body)) {
+      return reader.read(parser);
+    } catch (JsonProcessingException e) {
+      throw toAppException(e);
+    }
+  }
+
+  /** Decodes a body that the client has already buffered. */
+  public static <T> T read(ClientResponse response, IAirflowResponseReader<T> reader) {
+    try (JsonParser parser =
+             JSON_TREE.createParser(String.valueOf(response.getResponseBody()))) {
+      return reader.read(parser);
+    } catch (IOException e) {
+      throw toAppException(e);
+    }
+  }
+
+  public static AppException toAppException(IOException e) {
+    return new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(), JSON_ERROR, e.getMessage());
+  }
+}
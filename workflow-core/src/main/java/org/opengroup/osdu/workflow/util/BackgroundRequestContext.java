@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Runs work outside of an HTTP request with a request scope bound to the current thread.
+ *
+ * <p>Request scoped beans such as {@link org.opengroup.osdu.core.common.model.http.DpsHeaders}
+ * and the provider repositories resolve partition and credentials from the incoming request.
+ * Background jobs have no request, so a header-only request is bound for the duration of the
+ * work and the scope is completed afterwards, which releases every bean created inside it.
+ */
+public final class BackgroundRequestContext {
+
+  private BackgroundRequestContext() {
+  }
+
+  public static void run(final Map<String, String> headers, final Runnable work) {
+    call(headers, () -> {
+      work.run();
+      return null;
+    });
+  }
+
+  public static <T> T call(final Map<String, String> headers, final Supplier<T> work) {
+    final RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+    final ServletRequestAttributes attributes =
+        new ServletRequestAttributes(createRequest(headers));
+    RequestContextHolder.setRequestAttributes(attributes);
+    try {
+      return work.get();
+    } finally {
+      attributes.requestCompleted();
+      if (previous != null) {
+        RequestContextHolder.setRequestAttributes(previous);
+      } else {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    }
+  }
+
+  private static HttpServletRequest createRequest(final Map<String, String> headers) {
+    final Map<String, String> normalizedHeaders = new HashMap<>();
+    headers.forEach((name, value) -> normalizedHeaders.put(name.toLowerCase(Locale.ROOT), value));
+    final Map<String, Object> requestAttributes = new ConcurrentHashMap<>();
+
+    return (HttpServletRequest) Proxy.newProxyInstance(
+        BackgroundRequestContext.class.getClassLoader(),
+        new Class<?>[]{HttpServletRequest.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getHeader":
+              return normalizedHeaders.get(((String) args[0]).toLowerCase(Locale.ROOT));
+            case "getHeaders":
+              final String value = normalizedHeaders.get(((String) args[0]).toLowerCase(Locale.ROOT));
+              return value == null ? Collections.emptyEnumeration()
+                  : Collections.enumeration(Collections.singletonList(value));
+            case "getHeaderNames":
+              return Collections.enumeration(normalizedHeaders.keySet());
+            case "getAttribute":
+              return requestAttributes.get((String) args[0]);
+            case "setAttribute":
+              if (args[1] == null) {
+                requestAttributes.remove((String) args[0]);
+              } else {
+                requestAttributes.put((String) args[0], args[1]);
+              }
+              return null;
+            case "removeAttribute":
+              requestAttributes.remove((String) args[0]);
+              return null;
+            case "getAttributeNames":
+              return Collections.enumeration(requestAttributes.keySet());
+            case "getMethod":
+              return "GET";
+            case "getRequestURI":
+            case "getServletPath":
+            case "getContextPath":
+              return "";
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "equals":
+              return proxy == args[0];
+            case "toString":
+              return "BackgroundRequest" + normalizedHeaders.keySet();
+            default:
+              return defaultValue(method.getReturnType());
+          }
+        });
+  }
+
+  private static Object defaultValue(final Class<?> type) {
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == int.class) {
+      return 0;
+    }
+    if (type == long.class) {
+      return 0L;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same work. The first caller for a key runs the work;
+ * callers arriving while it is in flight wait for and share its result or exception. Nothing
+ * is cached: once the work completes, the next caller for the key runs it again.
+ *
+ * @param <K> key identifying the work
+ * @param <V> result of the work
+ */
+public final class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public V execute(final K key, final Supplier<V> work) {
+    final CompletableFuture<V> call = new CompletableFuture<>();
+    final CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      return await(running);
+    }
+    try {
+      final V result = work.get();
+      call.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #execute}. The work only starts the call; the key stays in
+   * flight until the returned future completes, and synchronous callers for the same key wait
+   * for it as well.
+   */
+  public CompletableFuture<V> executeAsync(final K key, final Supplier<CompletableFuture<V>> work) {
+    final CompletableFuture<V> call = new CompletableFuture<>();
+    final CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      return running.copy();
+    }
+    final CompletableFuture<V> started;
+    try {
+      started = work.get();
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, call);
+      call.completeExceptionally(e);
+      return call.copy();
+    }
+    started.whenComplete((result, e) -> {
+      inFlight.remove(key, call);
+      if (e != null) {
+        call.completeExceptionally(e);
+      } else {
+        call.complete(result);
+      }
+    });
+    return call.copy();
+  }
+
+  private V await(final CompletableFuture<V> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -1,9 +1,13 @@
 package org.opengroup.osdu.workflow.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.entitlements.AuthorizationResponse;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.provider.interfaces.IAuthorizationService;
@@ -11,11 +15,22 @@ import org.opengroup.osdu.workflow.exception.WorkflowRunCompletedException;
 import org.opengroup.osdu.workflow.exception.handler.RestExceptionHandler;
 import org.opengroup.osdu.workflow.model.UpdateWorkflowRunRequest;
 import org.opengroup.osdu.workflow.model.WorkflowRole;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackItemResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAdminAuthorizationService;
 import org.opengroup.osdu.workflow.security.AuthorizationFilter;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchItemResponse;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchRequest;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.opengroup.osdu.workflow.service.CompletedWorkflowRunCache;
+import org.opengroup.osdu.workflow.service.CompletedWorkflowRunETags;
+import org.opengroup.osdu.workflow.service.WorkflowRunStatusWatcher;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -40,16 +55,25 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -57,7 +81,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(WorkflowRunApi.class)
 @AutoConfigureMockMvc
-@Import({AuthorizationFilter.class, DpsHeaders.class})
+@Import({AuthorizationFilter.class, DpsHeaders.class, CompletedWorkflowRunETags.class})
 class WorkflowRunMvcTest {
   private static final String TEST_AUTH = "Bearer bla";
   private static final String PARTITION = "partition";
@@ -74,6 +98,14 @@ class WorkflowRunMvcTest {
       "    \"dataPartitionId\": \"someId\"\n" +
       "  }\n" +
       "}";
+  private static final String TRIGGER_WORKFLOW_BATCH_ENDPOINT = String
+      .format("/v1/workflow/%s/workflowRun:batch", WORKFLOW_NAME);
+  private static final String TRIGGER_WORKFLOW_BATCH_REQUEST = "{\n" +
+      "  \"workflowRuns\": [\n" +
+      "    {\"runId\": \"d13f7fd0-d27e-4176-8d60-6e9aad86e347\"},\n" +
+      "    {\"runId\": \"duplicate-run-id\"}\n" +
+      "  ]\n" +
+      "}";
   private static final String WORKFLOW_RUN_RESPONSE = "{\n" +
       "  \"workflowId\": \"2afccfb8-1351-41c6-9127-61f2d7f22ff8\",\n" +
       "  \"runId\": \"d13f7fd0-d27e-4176-8d60-6e9aad86e347\",\n" +
@@ -113,6 +145,10 @@ class WorkflowRunMvcTest {
   @MockBean
   private IWorkflowRunService workflowRunService;
   @MockBean
+  private WorkflowRunStatusWatcher workflowRunStatusWatcher;
+  @MockBean
+  private CompletedWorkflowRunCache completedWorkflowRunCache;
+  @MockBean
   private IAuthorizationService authorizationService;
   @MockBean
   private IAdminAuthorizationService adminAuthorizationService;
@@ -131,21 +167,24 @@ class WorkflowRunMvcTest {
         .readValue(TRIGGER_WORKFLOW_REQUEST, TriggerWorkflowRequest.class);
     final WorkflowRunResponse workflowRunResponse = mapper
         .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
-    when(workflowRunService.triggerWorkflow(eq(WORKFLOW_NAME), eq(request)))
-        .thenReturn(workflowRunResponse);
+    when(workflowRunService.triggerWorkflowAsync(eq(WORKFLOW_NAME), eq(request)))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
     when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
     when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
     when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
     when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
-    final MvcResult mvcResult = mockMvc.perform(
+    final MvcResult asyncResult = mockMvc.perform(
         post(TRIGGER_WORKFLOW_ENDPOINT)
             .contentType(MediaType.APPLICATION_JSON)
             .headers(getHttpHeaders())
             .with(SecurityMockMvcRequestPostProcessors.csrf())
             .content(TRIGGER_WORKFLOW_REQUEST))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    final MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
         .andExpect(status().isOk())
         .andReturn();
-    verify(workflowRunService, times(1)).triggerWorkflow(eq(WORKFLOW_NAME), eq(request));
+    verify(workflowRunService, times(1)).triggerWorkflowAsync(eq(WORKFLOW_NAME), eq(request));
     verify(authorizationService, times(1)).authorizeAny(any(), any());
     verify(dpsHeaders).getAuthorization();
     verify(dpsHeaders).getPartitionId();
@@ -154,33 +193,369 @@ class WorkflowRunMvcTest {
     assertThat(workflowRunResponse, equalTo(response));
   }
 
+  @Test
+  void testTriggerWorkflowApiReleasesServletThreadWhileEngineIsCalled() throws Exception {
+    final TriggerWorkflowRequest request = mapper
+        .readValue(TRIGGER_WORKFLOW_REQUEST, TriggerWorkflowRequest.class);
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    final CompletableFuture<WorkflowRunResponse> trigger = new CompletableFuture<>();
+    when(workflowRunService.triggerWorkflowAsync(eq(WORKFLOW_NAME), eq(request))).thenReturn(trigger);
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    final MvcResult asyncResult = mockMvc.perform(
+        post(TRIGGER_WORKFLOW_ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf())
+            .content(TRIGGER_WORKFLOW_REQUEST))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // the handler has returned while the engine call is still pending
+    assertThat(trigger.isDone(), equalTo(false));
+    assertThat(asyncResult.getResponse().getContentLength(), equalTo(0));
+    trigger.complete(workflowRunResponse);
+
+    final MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andReturn();
+    assertThat(mapper.readValue(mvcResult.getResponse().getContentAsByteArray(), WorkflowRunResponse.class),
+        equalTo(workflowRunResponse));
+  }
+
+  @Test
+  void testTriggerWorkflowBatchApiWithPartialFailure() throws Exception {
+    final TriggerWorkflowBatchRequest request = mapper
+        .readValue(TRIGGER_WORKFLOW_BATCH_REQUEST, TriggerWorkflowBatchRequest.class);
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    final TriggerWorkflowBatchResponse batchResponse = TriggerWorkflowBatchResponse.builder()
+        .succeeded(1)
+        .failed(1)
+        .results(Arrays.asList(
+            TriggerWorkflowBatchItemResponse.builder().index(0).runId(RUN_ID).code(200)
+                .workflowRun(workflowRunResponse).build(),
+            TriggerWorkflowBatchItemResponse.builder().index(1).runId("duplicate-run-id").code(409)
+                .reason("Conflict").message("Dag run already exists").build()))
+        .build();
+    when(workflowRunService.triggerWorkflows(eq(WORKFLOW_NAME), eq(request))).thenReturn(batchResponse);
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    mockMvc.perform(
+        post(TRIGGER_WORKFLOW_BATCH_ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf())
+            .content(TRIGGER_WORKFLOW_BATCH_REQUEST))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.results[0].workflowRun.runId").value(RUN_ID))
+        .andExpect(jsonPath("$.results[1].code").value(409))
+        .andExpect(jsonPath("$.results[1].reason").value("Conflict"));
+    verify(workflowRunService, times(1)).triggerWorkflows(eq(WORKFLOW_NAME), eq(request));
+    verify(authorizationService, times(1)).authorizeAny(any(), any());
+  }
+
   @Test
   void testGetWorkflowRunApiWithSuccess() throws Exception {
     final WorkflowRunResponse workflowRunResponse = mapper
         .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
-    when(workflowRunService.getWorkflowRunByName(eq(WORKFLOW_NAME), eq(RUN_ID)))
-        .thenReturn(workflowRunResponse);
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
     when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
     when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
     when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
     when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
-    final MvcResult mvcResult = mockMvc.perform(
+    final MvcResult asyncResult = mockMvc.perform(
         get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
             .contentType(MediaType.APPLICATION_JSON)
             .headers(getHttpHeaders())
             .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    final MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
         .andExpect(status().isOk())
         .andReturn();
-    verify(workflowRunService).getWorkflowRunByName(eq(WORKFLOW_NAME), eq(RUN_ID));
+    verify(workflowRunService).getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull());
     verify(authorizationService).authorizeAny(any(), any());
     verify(dpsHeaders).getAuthorization();
-    verify(dpsHeaders).getPartitionId();
+    verify(dpsHeaders, times(2)).getPartitionId();
     final WorkflowRunResponse responseWorkflowRun =
         mapper.readValue(mvcResult.getResponse().getContentAsByteArray(), WorkflowRunResponse.class);
     assertThat(workflowRunResponse, equalTo(responseWorkflowRun));
 
   }
 
+  @Test
+  void testGetWorkflowRunApiSetsCachingHeadersForCompletedRun() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = WorkflowRunResponse.builder()
+        .runId(RUN_ID).status(WorkflowStatusType.FINISHED).endTimeStamp(1600145420675L).build();
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    final MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"))
+        .andReturn();
+    final String eTag = mvcResult.getResponse().getHeader(HttpHeaders.ETAG);
+    assertTrue(eTag != null && eTag.startsWith("\""));
+
+    final MvcResult notModifiedResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(notModifiedResult))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"));
+    verify(workflowRunService, times(2)).getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull());
+  }
+
+  @Test
+  void testGetWorkflowRunApiAnswersMatchingETagOfCachedRunWithoutRead() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = WorkflowRunResponse.builder()
+        .runId(RUN_ID).status(WorkflowStatusType.FINISHED).endTimeStamp(1600145420675L).build();
+    final WorkflowRun cachedWorkflowRun = WorkflowRun.builder().workflowName(WORKFLOW_NAME)
+        .runId(RUN_ID).status(WorkflowStatusType.FINISHED).endTimeStamp(1600145420675L).build();
+    when(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).thenReturn(Optional.of(cachedWorkflowRun));
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final String eTag = new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache)
+        .getETag(PARTITION, WORKFLOW_NAME, workflowRunResponse);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"));
+    verify(workflowRunService, never()).getWorkflowRunByNameAsync(any(), any(), any());
+  }
+
+  @Test
+  void testGetWorkflowRunApiSetsETagForRunReadOnAnotherThread() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = WorkflowRunResponse.builder()
+        .runId(RUN_ID).status(WorkflowStatusType.FINISHED).endTimeStamp(1600145420675L).build();
+    final CompletableFuture<WorkflowRunResponse> readResponse = new CompletableFuture<>();
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(readResponse);
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenAnswer(invocation -> getRequestScopedPartitionId());
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    completeOnAnotherThread(readResponse, workflowRunResponse);
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, new CompletedWorkflowRunETags(dpsHeaders,
+            completedWorkflowRunCache).getETag(PARTITION, WORKFLOW_NAME, workflowRunResponse)));
+  }
+
+  @Test
+  void testGetWorkflowRunApiReadsRunForUnknownETag() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = WorkflowRunResponse.builder()
+        .runId(RUN_ID).status(WorkflowStatusType.FINISHED).endTimeStamp(1600145420675L).build();
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"unknown\"")
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG));
+    verify(workflowRunService).getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull());
+  }
+
+  @Test
+  void testGetWorkflowRunApiDoesNotSetETagForActiveRun() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+  }
+
+  @Test
+  void testGetWorkflowRunApiPassesMaxStaleness() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), eq(30L)))
+        .thenReturn(CompletableFuture.completedFuture(workflowRunResponse));
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .param("maxStaleness", "30")
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andReturn();
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk());
+    verify(workflowRunService).getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), eq(30L));
+  }
+
+  @Test
+  void testGetWorkflowRunApiWaitsForTerminalStatus() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(STATUS_FINISHED_WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    final CompletableFuture<WorkflowRunResponse> waitingResponse = new CompletableFuture<>();
+    when(workflowRunStatusWatcher.waitForWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID), eq("terminal"), eq("30s"), isNull()))
+        .thenReturn(waitingResponse);
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenAnswer(invocation -> getRequestScopedPartitionId());
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final MvcResult asyncResult = mockMvc.perform(
+        get("/v1/workflow/{workflow_name}/workflowRun/{runId}", WORKFLOW_NAME, RUN_ID)
+            .param("waitFor", "terminal")
+            .param("timeout", "30s")
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    completeOnAnotherThread(waitingResponse, workflowRunResponse);
+    mockMvc.perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("finished"))
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"));
+    verify(workflowRunService, never()).getWorkflowRunByNameAsync(any(), any(), any());
+  }
+
+  @Test
+  void testGetWorkflowRunsBatchApiWithMissingRun() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    final WorkflowRunBatchGetResponse batchResponse = WorkflowRunBatchGetResponse.builder()
+        .workflowRuns(Arrays.asList(workflowRunResponse))
+        .notFound(Arrays.asList("missing-run-id"))
+        .build();
+    when(workflowRunService.getWorkflowRuns(eq(WORKFLOW_NAME), any(), eq(true))).thenReturn(batchResponse);
+    when(authorizationService.authorizeAny(any(), any())).thenReturn(authorizationResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    mockMvc.perform(
+        post("/v1/workflow/{workflow_name}/workflowRun:batchGet", WORKFLOW_NAME)
+            .param("refresh", "true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf())
+            .content("{\"runIds\": [\"" + RUN_ID + "\", \"missing-run-id\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.workflowRuns[0].runId").value(RUN_ID))
+        .andExpect(jsonPath("$.notFound[0]").value("missing-run-id"));
+    verify(workflowRunService).getWorkflowRuns(eq(WORKFLOW_NAME),
+        argThat(request -> request.getRunIds().equals(Arrays.asList(RUN_ID, "missing-run-id"))), eq(true));
+  }
+
+  @Test
+  void testUpdateWorkflowRunStatusesCallbackApi() throws Exception {
+    final WorkflowRunResponse workflowRunResponse = mapper
+        .readValue(WORKFLOW_RUN_RESPONSE, WorkflowRunResponse.class);
+    final WorkflowRunStatusCallbackResponse callbackResponse = WorkflowRunStatusCallbackResponse.builder()
+        .succeeded(1)
+        .failed(0)
+        .results(Arrays.asList(WorkflowRunStatusCallbackItemResponse.builder()
+            .index(0).runId(RUN_ID).code(200).workflowRun(workflowRunResponse).build()))
+        .build();
+    when(workflowRunService.updateWorkflowRunStatuses(eq(WORKFLOW_NAME), any())).thenReturn(callbackResponse);
+    when(authorizationService.authorizeAny(any(), eq(WorkflowRole.ADMIN)))
+        .thenReturn(authorizationResponse);
+    when(adminAuthorizationService.isDomainAdminServiceAccount()).thenReturn(true);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    mockMvc.perform(
+        post("/v1/workflow/{workflow_name}/workflowRun:statusCallback", WORKFLOW_NAME)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf())
+            .content("{\"workflowRuns\": [{\"runId\": \"" + RUN_ID
+                + "\", \"status\": \"finished\", \"endTimeStamp\": 1236400}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.results[0].runId").value(RUN_ID));
+    verify(workflowRunService).updateWorkflowRunStatuses(eq(WORKFLOW_NAME), argThat(request ->
+        request.getWorkflowRuns().get(0).getStatus() == WorkflowStatusType.FINISHED
+            && request.getWorkflowRuns().get(0).getEndTimeStamp() == 1236400L));
+  }
+
+  @Test
+  void testUpdateWorkflowRunStatusesCallbackApiRejectsUserAccount() throws Exception {
+    when(authorizationService.authorizeAny(any(), eq(WorkflowRole.ADMIN)))
+        .thenReturn(authorizationResponse);
+    when(adminAuthorizationService.isDomainAdminServiceAccount()).thenReturn(false);
+    when(dpsHeaders.getAuthorization()).thenReturn(TEST_AUTH);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION);
+    final MvcResult mvcResult = mockMvc.perform(
+        post("/v1/workflow/{workflow_name}/workflowRun:statusCallback", WORKFLOW_NAME)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(getHttpHeaders())
+            .with(SecurityMockMvcRequestPostProcessors.csrf())
+            .content("{\"workflowRuns\": [{\"runId\": \"" + RUN_ID + "\", \"status\": \"finished\"}]}"))
+        .andReturn();
+    assertTrue(mvcResult.getResolvedException() instanceof AppException);
+    assertEquals(403, ((AppException) mvcResult.getResolvedException()).getError().getCode());
+    verify(adminAuthorizationService).isDomainAdminServiceAccount();
+    verify(workflowRunService, never()).updateWorkflowRunStatuses(any(), any());
+  }
+
   @Test
   public void testUpdateWorkflowRunStatusApiWithSuccessTypeRunning() throws Exception {
     final WorkflowRunResponse workflowRunResponse = mapper
@@ -207,7 +582,7 @@ class WorkflowRunMvcTest {
     verify(authorizationService).authorizeAny(any(), eq(WorkflowRole.VIEWER),
         eq(WorkflowRole.CREATOR));
     verify(dpsHeaders).getAuthorization();
-    verify(dpsHeaders).getPartitionId();
+    verify(dpsHeaders, times(2)).getPartitionId();
     final WorkflowRunResponse responseWorkflowRun =
         mapper.readValue(mvcResult.getResponse().getContentAsByteArray(), WorkflowRunResponse.class);
     assertThat(workflowRunResponse, equalTo(responseWorkflowRun));
@@ -239,7 +614,7 @@ class WorkflowRunMvcTest {
     verify(authorizationService).authorizeAny(any(), eq(WorkflowRole.VIEWER),
         eq(WorkflowRole.CREATOR));
     verify(dpsHeaders).getAuthorization();
-    verify(dpsHeaders).getPartitionId();
+    verify(dpsHeaders, times(2)).getPartitionId();
     final WorkflowRunResponse responseWorkflowRun =
         mapper.readValue(mvcResult.getResponse().getContentAsByteArray(), WorkflowRunResponse.class);
     assertThat(workflowRunResponse, equalTo(responseWorkflowRun));
@@ -280,6 +655,21 @@ class WorkflowRunMvcTest {
     return headers;
   }
 
+  // Fails like the request-scoped DpsHeaders proxy on a thread that is not bound to a request
+  private static String getRequestScopedPartitionId() {
+    if (RequestContextHolder.getRequestAttributes() == null) {
+      throw new IllegalStateException("No thread-bound request found");
+    }
+    return PARTITION;
+  }
+
+  private static <T> void completeOnAnotherThread(final CompletableFuture<T> future, final T value)
+      throws InterruptedException {
+    final Thread completer = new Thread(() -> future.complete(value));
+    completer.start();
+    completer.join();
+  }
+
   @TestConfiguration
   @EnableWebSecurity
   @EnableMethodSecurity
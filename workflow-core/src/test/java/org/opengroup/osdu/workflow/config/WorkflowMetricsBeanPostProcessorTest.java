@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
+import org.opengroup.osdu.workflow.service.MeteredAirflowApiClient;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowMetricsBeanPostProcessorTest {
+
+  private static final String WORKFLOW_NAME = "workflow-name";
+
+  @Mock private ObjectProvider<MeterRegistry> meterRegistryProvider;
+  @Mock private ObjectProvider<AirflowConfig> airflowConfigProvider;
+  @Mock private IWorkflowMetadataRepository workflowMetadataRepository;
+  @Mock private IAirflowApiClient airflowApiClient;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private WorkflowMetricsBeanPostProcessor postProcessor;
+
+  @BeforeEach
+  void setUp() {
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    postProcessor = new WorkflowMetricsBeanPostProcessor(meterRegistryProvider, airflowConfigProvider);
+  }
+
+  @Test
+  void shouldRecordRepositoryLatencyPerMethodAndOutcome() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME))
+        .thenReturn(workflowMetadata)
+        .thenThrow(new AppException(404, "Not Found", WORKFLOW_NAME));
+    IWorkflowMetadataRepository timed = (IWorkflowMetadataRepository)
+        postProcessor.postProcessAfterInitialization(workflowMetadataRepository, "repository");
+
+    assertThat(timed.getWorkflow(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+    AppException e = assertThrows(AppException.class, () -> timed.getWorkflow(WORKFLOW_NAME));
+
+    assertThat(e.getError().getCode()).isEqualTo(404);
+    assertThat(meterRegistry.get(WorkflowMetricsBeanPostProcessor.REPOSITORY_LATENCY_TIMER)
+        .tag("repository", "IWorkflowMetadataRepository")
+        .tag("method", "getWorkflow")
+        .tag("outcome", "success")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(WorkflowMetricsBeanPostProcessor.REPOSITORY_LATENCY_TIMER)
+        .tag("outcome", "error")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWrapAirflowApiClientOnce() {
+    Object metered = postProcessor.postProcessAfterInitialization(airflowApiClient, "client");
+
+    assertThat(metered).isInstanceOf(MeteredAirflowApiClient.class);
+    assertThat(postProcessor.postProcessAfterInitialization(metered, "client")).isSameAs(metered);
+  }
+}
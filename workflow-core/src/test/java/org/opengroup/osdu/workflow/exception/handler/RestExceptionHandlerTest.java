@@ -34,6 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.workflow.ReplaceCamelCase;
 import org.opengroup.osdu.workflow.exception.ResourceConflictException;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.WebRequest;
@@ -120,4 +122,15 @@ class RestExceptionHandlerTest {
       then(error.getConflictId()).isEqualTo(CONFLICT_ID);
     });
   }
+
+  @Test
+  void shouldSetRetryAfterHeaderForRetryAfterException() {
+    // when
+    ResponseEntity<Object> response = restExceptionHandler.handleAppException(
+        new RetryAfterException(503, "Airflow instance is unavailable", "suspended", 12));
+
+    // then
+    then(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    then(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("12");
+  }
 }
@@ -1,16 +1,23 @@
 package org.opengroup.osdu.workflow.gsm;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.exception.CoreException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.model.status.Message;
 import org.opengroup.osdu.core.common.model.status.Status;
 import org.opengroup.osdu.core.common.status.IEventPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
 
@@ -30,11 +37,18 @@ class WorkflowStatusPublisherTest {
   @Mock
   private DpsHeaders dpsHeaders;
 
+  @Mock
+  private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  private SimpleMeterRegistry meterRegistry;
+
   private WorkflowStatusPublisher publisher;
 
   @BeforeEach
   void setUp() {
-    publisher = new WorkflowStatusPublisher(statusEventPublisher);
+    meterRegistry = new SimpleMeterRegistry();
+    Mockito.when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    publisher = new WorkflowStatusPublisher(statusEventPublisher, meterRegistryProvider);
     Mockito.when(dpsHeaders.getCorrelationId()).thenReturn(TEST_CORRELATION_ID);
     Mockito.when(dpsHeaders.getUserEmail()).thenReturn(TEST_USER_EMAIL);
   }
@@ -65,6 +79,22 @@ class WorkflowStatusPublisherTest {
         .publish(any(), any());
   }
 
+  @Test
+  void shouldPublishStatusesOfManyRunsInOneMessageBatch() {
+    //given
+    ArgumentCaptor<Message[]> messagesCaptor = ArgumentCaptor.forClass(Message[].class);
+    Mockito.doNothing().when(statusEventPublisher).publish(messagesCaptor.capture(), any());
+
+    //when
+    publisher.publishStatusesWithNoErrors(Arrays.asList(TEST_RUN_ID, TEST_RUN_ID + "_2"), dpsHeaders,
+        WorkflowStatusPublisher.WORKFLOW_SUBMITTED, Status.SUBMITTED);
+
+    //then
+    Mockito.verify(statusEventPublisher, Mockito.times(1))
+        .publish(any(), any());
+    Assertions.assertEquals(2, messagesCaptor.getValue().length);
+  }
+
   @Test
   void shouldSuppressUnexpectedException() {
     //given
@@ -79,4 +109,20 @@ class WorkflowStatusPublisherTest {
     Mockito.verify(statusEventPublisher, Mockito.times(1))
         .publish(any(), any());
   }
+
+  @Test
+  void shouldRecordPublishLatencyByOutcome() {
+    //given
+    Mockito.doNothing().doThrow(CoreException.class).when(statusEventPublisher).publish(any(), any());
+
+    //when
+    publisher.publishStatusWithNoErrors(TEST_RUN_ID, dpsHeaders, WorkflowStatusPublisher.WORKFLOW_SUCCESS, Status.SUCCESS);
+    publisher.publishStatusWithNoErrors(TEST_RUN_ID, dpsHeaders, WorkflowStatusPublisher.WORKFLOW_SUCCESS, Status.SUCCESS);
+
+    //then
+    Assertions.assertEquals(1, meterRegistry.get("workflow.status.publish.latency")
+        .tag("outcome", "success").timer().count());
+    Assertions.assertEquals(1, meterRegistry.get("workflow.status.publish.latency")
+        .tag("outcome", "error").timer().count());
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.config.ServerTimingConfig;
+import org.opengroup.osdu.workflow.model.SlowRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ServerTimingFilterTest {
+
+  private static final String TOKEN = "secret-token";
+
+  private final ServerTimingConfig config = new ServerTimingConfig();
+
+  private final SlowRequestLog slowRequestLog = new SlowRequestLog(2);
+
+  private ServerTimingFilter filter;
+
+  private MockHttpServletRequest request;
+
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    filter = new ServerTimingFilter(config, slowRequestLog);
+    request = new MockHttpServletRequest("GET", "/v1/workflow/test/workflowRun/run-id");
+    response = new MockHttpServletResponse();
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void shouldAddServerTimingHeaderBeforeBodyIsWritten() throws Exception {
+    config.setEnabled(true);
+
+    filter.doFilter(request, response, (req, res) -> {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+      long start = System.nanoTime();
+      RequestTimings.record(RequestTimings.Phase.AUTHORIZATION, "hasPermission", start);
+      RequestTimings.record(RequestTimings.Phase.AIRFLOW, "GET api/v1/dags/{dag_id}", start);
+      RequestTimings.record(RequestTimings.Phase.AIRFLOW, "GET api/v1/dags/{dag_id}", start);
+      res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+      res.flushBuffer();
+      RequestTimings.record(RequestTimings.Phase.PUBLISH, "publishStatus", start);
+    });
+
+    assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+        .matches("auth;dur=[0-9.]+, airflow;dur=[0-9.]+;desc=\"2 calls\", total;dur=[0-9.]+");
+  }
+
+  @Test
+  void shouldAddServerTimingHeaderToResponseWithoutBody() throws Exception {
+    config.setEnabled(true);
+
+    filter.doFilter(request, response,
+        (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NO_CONTENT));
+
+    assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).startsWith("total;dur=");
+  }
+
+  @Test
+  void shouldAddServerTimingHeaderOnlyForValidToken() throws Exception {
+    config.setHeaderToken(TOKEN);
+    request.addHeader(ServerTimingFilter.TOKEN_HEADER, "wrong-token");
+
+    filter.doFilter(request, response, noop());
+
+    assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+
+    MockHttpServletRequest privilegedRequest = new MockHttpServletRequest("GET", "/v1/workflow");
+    privilegedRequest.addHeader(ServerTimingFilter.TOKEN_HEADER, TOKEN);
+    MockHttpServletResponse privilegedResponse = new MockHttpServletResponse();
+
+    filter.doFilter(privilegedRequest, privilegedResponse, noop());
+
+    assertThat(privilegedResponse.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNotNull();
+  }
+
+  @Test
+  void shouldNotCollectTimingsWhenDisabled() throws Exception {
+    config.setSlowRequestThresholdMillis(0);
+
+    filter.doFilter(request, response, noop());
+
+    assertThat(request.getAttribute(RequestTimings.ATTRIBUTE)).isNull();
+    assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+  }
+
+  @Test
+  void shouldCaptureSlowRequestsInBoundedLog() throws Exception {
+    config.setSlowRequestThresholdMillis(1);
+    FilterChain slowChain = (req, res) -> {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((MockHttpServletRequest) req));
+      long start = System.nanoTime();
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      RequestTimings.record(RequestTimings.Phase.REPOSITORY, "IWorkflowRunRepository.getWorkflowRun", start);
+      ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_OK);
+    };
+
+    for (int i = 0; i < 3; i++) {
+      filter.doFilter(new MockHttpServletRequest("GET", "/run-" + i), new MockHttpServletResponse(), slowChain);
+    }
+
+    assertThat(slowRequestLog.getRequests()).extracting(SlowRequest::getUri)
+        .containsExactly("/run-2", "/run-1");
+    SlowRequest slowRequest = slowRequestLog.getRequests().get(0);
+    assertThat(slowRequest.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    assertThat(slowRequest.getPhases()).containsOnlyKeys("repository");
+    assertThat(slowRequest.getEntries()).singleElement()
+        .satisfies(entry -> assertThat(entry.getOperation()).isEqualTo("IWorkflowRunRepository.getWorkflowRun"));
+    assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+  }
+
+  private static FilterChain noop() {
+    return (req, res) -> {
+    };
+  }
+}
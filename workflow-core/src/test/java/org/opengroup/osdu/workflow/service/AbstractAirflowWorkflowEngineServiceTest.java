@@ -18,15 +18,22 @@
 package org.opengroup.osdu.workflow.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.ws.rs.HttpMethod;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +69,11 @@ class AbstractAirflowWorkflowEngineServiceTest {
   @BeforeEach
   void setup() {
     service = new TestWorkflowEngineService(airflowApiClient);
+    // responses are decoded from the buffered body, as by clients without a streaming transport
+    lenient().when(airflowApiClient.callAirflow(any(), any(), any(), any(), any(), any()))
+        .thenCallRealMethod();
+    lenient().when(airflowApiClient.callAirflowAsync(any(), any(), any(), any(), any(), any()))
+        .thenCallRealMethod();
   }
 
   @Test
@@ -118,14 +130,74 @@ class AbstractAirflowWorkflowEngineServiceTest {
     assertEquals(EXPECTED_NO_WORKFLOW_EXECUTED_ERROR_MESSAGE, errorMessageCaptor.getValue());
   }
 
+  @Test
+  void should_TriggerWorkflowAsync_and_ReturnResponse_when_AirflowApiSucceeds() {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getWorkflowId()).thenReturn(TEST_WORKFLOW_ID);
+    when(request.getWorkflowName()).thenReturn(TEST_WORKFLOW_NAME);
+
+    TriggerWorkflowResponse expectedResponse = mock(TriggerWorkflowResponse.class);
+    service.triggerWorkflowResponse = expectedResponse;
+
+    CompletableFuture<ClientResponse> airflowResponse = new CompletableFuture<>();
+    when(airflowApiClient.callAirflowAsync(
+            eq(HttpMethod.POST), eq(URL), any(), eq(request),
+            eq(EXPECTED_FAILED_TO_TRIGGER_ERROR_MESSAGE)))
+        .thenReturn(airflowResponse);
+
+    CompletableFuture<TriggerWorkflowResponse> result =
+        service.triggerWorkflowAsync(request, TEST_CONTEXT);
+
+    assertFalse(result.isDone());
+    airflowResponse.complete(mock(ClientResponse.class));
+    assertEquals(expectedResponse, result.join());
+    verify(airflowApiClient, never()).callAirflow(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void should_ReturnWorkflowStatusTypeAsync_when_AirflowApiReturnsValidStatus() {
+    ClientResponse response = mock(ClientResponse.class);
+    when(response.getResponseBody()).thenReturn("{\"state\": \"running\"}");
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getWorkflowName()).thenReturn(TEST_WORKFLOW_NAME);
+    when(request.getExecutionTimeStamp()).thenReturn(TEST_EXECUTION_TIMESTAMP);
+
+    when(airflowApiClient.callAirflowAsync(
+            eq(HttpMethod.GET), eq(STATUS_URL), any(), eq(request),
+            eq(EXPECTED_NO_WORKFLOW_EXECUTED_ERROR_MESSAGE)))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    assertEquals(WorkflowStatusType.RUNNING, service.getWorkflowRunStatusAsync(request).join());
+  }
+
+  @Test
+  void should_FailStatusFuture_when_AsyncAirflowCallFails() {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getWorkflowName()).thenReturn(TEST_WORKFLOW_NAME);
+    when(request.getExecutionTimeStamp()).thenReturn(TEST_EXECUTION_TIMESTAMP);
+    AppException notFound = new AppException(HttpStatus.NOT_FOUND.value(), "Not Found", "missing");
+    when(airflowApiClient.callAirflowAsync(eq(HttpMethod.GET), any(), any(), eq(request), any()))
+        .thenReturn(CompletableFuture.failedFuture(notFound));
+
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> service.getWorkflowRunStatusAsync(request).join());
+
+    assertEquals(notFound, exception.getCause());
+  }
+
   @Test
   void should_ThrowAppException_when_getAirflowGetDAGRunStatus_invalidJson() {
     ClientResponse response = mock(ClientResponse.class);
     when(response.getResponseBody()).thenReturn("invalid-json");
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getExecutionTimeStamp()).thenReturn(TEST_EXECUTION_TIMESTAMP);
+    when(airflowApiClient.callAirflow(eq(HttpMethod.GET), any(), any(), eq(request), any()))
+        .thenReturn(response);
 
     AppException exception =
-        assertThrows(AppException.class, () -> service.getAirflowGetDAGRunStatus(response));
+        assertThrows(AppException.class, () -> service.getWorkflowRunStatus(request));
     assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getError().getCode());
+    assertEquals("Failed to Get Status from Airflow", exception.getError().getReason());
   }
 
   static class TestWorkflowEngineService extends AbstractAirflowWorkflowEngineService {
@@ -136,9 +208,9 @@ class AbstractAirflowWorkflowEngineServiceTest {
     }
 
     @Override
-    protected JSONObject getTriggerWorkflowRequestBody(
+    protected String getTriggerWorkflowRequestBody(
         WorkflowEngineRequest rq, Map<String, Object> context) {
-      return new JSONObject(TEST_CONTEXT);
+      return new JSONObject(TEST_CONTEXT).toString();
     }
 
     @Override
@@ -147,7 +219,7 @@ class AbstractAirflowWorkflowEngineServiceTest {
     }
 
     @Override
-    protected TriggerWorkflowResponse getTriggerWorkflowResponse(ClientResponse airflowResponse) {
+    protected TriggerWorkflowResponse getTriggerWorkflowResponse(JsonParser airflowResponse) {
       return triggerWorkflowResponse;
     }
 
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowCircuitBreakerConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+
+class AirflowInstanceGuardTest {
+
+  private static final String INSTANCE = "secret-id";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AirflowCircuitBreakerConfig config = new AirflowCircuitBreakerConfig();
+
+  @BeforeEach
+  void setUp() {
+    config.setFailureThreshold(2);
+  }
+
+  @Test
+  void shouldOpenAfterConsecutiveServerErrors() {
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+
+    fail(guard, 504);
+    fail(guard, 500);
+    RetryAfterException e =
+        assertThrows(RetryAfterException.class, () -> guard.call(() -> "not called"));
+
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.OPEN);
+    assertThat(e.getRetryAfterSeconds()).isEqualTo(30);
+    assertThat(meterRegistry.get(AirflowInstanceGuard.STATE_GAUGE)
+        .tag("instance", INSTANCE).gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get(AirflowInstanceGuard.REJECTIONS_COUNTER)
+        .tag("reason", "open").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCountClientErrorsAsFailures() {
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+
+    fail(guard, 503);
+    fail(guard, 404);
+    fail(guard, 503);
+
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.CLOSED);
+  }
+
+  @Test
+  void shouldCloseWhenTrialCallSucceeds() {
+    config.setOpenDurationMillis(0);
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+    fail(guard, 502);
+    fail(guard, 502);
+
+    assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.CLOSED);
+  }
+
+  @Test
+  void shouldReopenWhenTrialCallFails() {
+    config.setOpenDurationMillis(0);
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+    fail(guard, 502);
+    fail(guard, 502);
+
+    fail(guard, 502);
+
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.OPEN);
+  }
+
+  @Test
+  void shouldProbeAgainWhenTrialCallThrowsError() {
+    config.setOpenDurationMillis(0);
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+    fail(guard, 502);
+    fail(guard, 502);
+
+    assertThrows(StackOverflowError.class, () -> guard.call(() -> {
+      throw new StackOverflowError();
+    }));
+    assertThrows(StackOverflowError.class, () -> guard.callAsync(() -> {
+      throw new StackOverflowError();
+    }));
+
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.HALF_OPEN);
+    assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    assertThat(guard.getState()).isEqualTo(AirflowInstanceGuard.State.CLOSED);
+  }
+
+  @Test
+  void shouldRejectCallsBeyondConcurrencyLimitUntilAsyncCallCompletes() {
+    config.setMaxConcurrentCalls(1);
+    AirflowInstanceGuard guard = new AirflowInstanceGuard(INSTANCE, config, meterRegistry);
+    CompletableFuture<String> pending = new CompletableFuture<>();
+
+    CompletableFuture<String> inFlight = guard.callAsync(() -> pending);
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> guard.callAsync(() -> CompletableFuture.completedFuture("rejected")).join());
+    pending.complete("done");
+
+    assertThat(e.getCause()).isInstanceOf(RetryAfterException.class);
+    assertThat(inFlight.join()).isEqualTo("done");
+    assertThat(guard.call(() -> "admitted")).isEqualTo("admitted");
+    assertThat(guard.getRejectedCalls()).isEqualTo(1);
+    assertThat(meterRegistry.get(AirflowInstanceGuard.REJECTIONS_COUNTER)
+        .tag("reason", "busy").counter().count()).isEqualTo(1);
+  }
+
+  private static void fail(AirflowInstanceGuard guard, int status) {
+    assertThrows(AppException.class, () -> guard.call(() -> {
+      throw new AppException(status, "reason", "message");
+    }));
+  }
+}
@@ -18,11 +18,16 @@
 package org.opengroup.osdu.workflow.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -32,10 +37,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.model.info.ConnectedOuterService;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowCircuitBreakerConfig;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.opengroup.osdu.workflow.model.AirflowConnectedOuterService;
 import org.opengroup.osdu.workflow.model.ExternalAirflowConfig;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.model.WorkflowMetadata;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.provider.interfaces.IExternalAirflowConfigService;
@@ -45,6 +56,7 @@ import org.opengroup.osdu.workflow.service.factory.AirflowApiClientFactory;
 import org.opengroup.osdu.workflow.service.factory.ExternalAirflowConfigFactory;
 import org.opengroup.osdu.workflow.service.factory.WorkflowEngineExtensionServiceFactory;
 import org.opengroup.osdu.workflow.service.factory.WorkflowEngineServiceFactory;
+import org.springframework.beans.factory.ObjectProvider;
 
 @ExtendWith(MockitoExtension.class)
 class AirflowResolverImplTest {
@@ -65,6 +77,8 @@ class AirflowResolverImplTest {
   @Mock private ExternalAirflowConfigFactory externalAirflowConfigFactory;
   @Mock private IExternalAirflowConfigService externalAirflowConfigService;
   @Mock private IAirflowApiClient airflowApiClient;
+  @Mock private ObjectProvider<MeterRegistry> meterRegistryProvider;
+  @Spy private AirflowCircuitBreakerConfig circuitBreakerConfig = new AirflowCircuitBreakerConfig();
 
   @InjectMocks private AirflowResolverImpl airflowResolver;
 
@@ -110,6 +124,8 @@ class AirflowResolverImplTest {
     assertThat(result.get(0).getVersion()).isEqualTo(INTERNAL_AIRFLOW_VERSION);
     assertThat(result.get(1).getName()).isEqualTo(EXTERNAL_AIRFLOW + SECRET_ID);
     assertThat(result.get(1).getVersion()).isEqualTo(EXTERNAL_AIRFLOW_VERSION);
+    assertThat(((AirflowConnectedOuterService) result.get(1)).getCircuitBreakerState())
+        .isEqualTo("CLOSED");
   }
 
   @Test
@@ -153,7 +169,7 @@ class AirflowResolverImplTest {
     IWorkflowEngineService result = airflowResolver.getWorkflowEngineService(workflowMetadata);
 
     // then
-    assertThat(result).isEqualTo(externalWorkflowEngineService);
+    assertThat(result).isInstanceOf(GuardedWorkflowEngineService.class);
     verify(externalAirflowConfigService).getExternalAirflowConfig(SECRET_ID);
   }
 
@@ -170,11 +186,11 @@ class AirflowResolverImplTest {
         .thenReturn(externalWorkflowEngineService);
 
     // when
-    airflowResolver.getWorkflowEngineService(workflowMetadata);
+    IWorkflowEngineService first = airflowResolver.getWorkflowEngineService(workflowMetadata);
     IWorkflowEngineService result = airflowResolver.getWorkflowEngineService(workflowMetadata);
 
     // then
-    assertThat(result).isEqualTo(externalWorkflowEngineService);
+    assertThat(result).isSameAs(first);
     verify(externalAirflowConfigService, times(1)).getExternalAirflowConfig(SECRET_ID);
   }
 
@@ -219,7 +235,7 @@ class AirflowResolverImplTest {
     IWorkflowEngineExtension result = airflowResolver.getWorkflowEngineExtension(workflowMetadata);
 
     // then
-    assertThat(result).isEqualTo(externalWorkflowEngineExtension);
+    assertThat(result).isInstanceOf(GuardedWorkflowEngineExtension.class);
     verify(externalAirflowConfigService).getExternalAirflowConfig(SECRET_ID);
   }
 
@@ -235,14 +251,73 @@ class AirflowResolverImplTest {
         .thenReturn(externalWorkflowEngineExtension);
 
     // when
-    airflowResolver.getWorkflowEngineExtension(workflowMetadata);
+    IWorkflowEngineExtension first = airflowResolver.getWorkflowEngineExtension(workflowMetadata);
     IWorkflowEngineExtension result = airflowResolver.getWorkflowEngineExtension(workflowMetadata);
 
     // then
-    assertThat(result).isEqualTo(externalWorkflowEngineExtension);
+    assertThat(result).isSameAs(first);
     verify(externalAirflowConfigService, times(1)).getExternalAirflowConfig(SECRET_ID);
   }
 
+  @Test
+  void should_returnUnguardedExternalWorkflowEngineService_when_circuitBreakerDisabled() {
+    // given
+    circuitBreakerConfig.setEnabled(false);
+    WorkflowMetadata workflowMetadata =
+        getWorkflowMetadataForExternalAirflowAndPrepareAirflowApiClient();
+    IWorkflowEngineService externalWorkflowEngineService = mock(IWorkflowEngineService.class);
+    when(workflowEngineServiceFactory.createWorkflowEngineService(
+        EXTERNAL_AIRFLOW_VERSION, airflowApiClient))
+        .thenReturn(externalWorkflowEngineService);
+
+    // when
+    IWorkflowEngineService result = airflowResolver.getWorkflowEngineService(workflowMetadata);
+
+    // then
+    assertThat(result).isEqualTo(externalWorkflowEngineService);
+  }
+
+  @Test
+  void should_failFastAndReportOpenCircuit_when_externalAirflowKeepsFailing() {
+    // given
+    circuitBreakerConfig.setFailureThreshold(2);
+    WorkflowMetadata workflowMetadata =
+        getWorkflowMetadataForExternalAirflowAndPrepareAirflowApiClient();
+    WorkflowEngineRequest rq = WorkflowEngineRequest.builder().runId("run-id").build();
+    IWorkflowEngineService externalWorkflowEngineService = mock(IWorkflowEngineService.class);
+    IWorkflowEngineExtension externalWorkflowEngineExtension = mock(IWorkflowEngineExtension.class);
+    when(workflowEngineServiceFactory.createWorkflowEngineService(
+        EXTERNAL_AIRFLOW_VERSION, airflowApiClient))
+        .thenReturn(externalWorkflowEngineService);
+    when(workflowEngineExtensionServiceFactory.createWorkflowEngineExtension(
+        EXTERNAL_AIRFLOW_VERSION, airflowApiClient))
+        .thenReturn(externalWorkflowEngineExtension);
+    when(externalWorkflowEngineService.getWorkflowRunStatus(rq))
+        .thenThrow(new AppException(502, "Bad Gateway", "airflow is down"));
+    when(internalWorkflowEngineService.getVersion())
+        .thenReturn(Optional.of(INTERNAL_AIRFLOW_VERSION));
+    IWorkflowEngineService service = airflowResolver.getWorkflowEngineService(workflowMetadata);
+    IWorkflowEngineExtension extension =
+        airflowResolver.getWorkflowEngineExtension(workflowMetadata);
+    assertThrows(AppException.class, () -> service.getWorkflowRunStatus(rq));
+    assertThrows(AppException.class, () -> service.getWorkflowRunStatus(rq));
+
+    // when
+    RetryAfterException e = assertThrows(RetryAfterException.class,
+        () -> extension.getLatestTaskDetails("dag", "run-id"));
+    List<ConnectedOuterService> result =
+        airflowResolver.getConnectedWorkflowEngineServicesVersions();
+
+    // then
+    assertThat(e.getError().getCode()).isEqualTo(503);
+    assertThat(e.getRetryAfterSeconds()).isPositive();
+    verify(externalWorkflowEngineService, times(2)).getWorkflowRunStatus(rq);
+    AirflowConnectedOuterService external = (AirflowConnectedOuterService) result.get(1);
+    assertThat(external.getVersion()).isEqualTo("N/A");
+    assertThat(external.getCircuitBreakerState()).isEqualTo("OPEN");
+    assertThat(external.getRejectedCalls()).isEqualTo(2);
+  }
+
   private WorkflowMetadata getWorkflowMetadataForExternalAirflowAndPrepareAirflowApiClient() {
     Map<String, Object> registrationInstructions = new HashMap<>();
     registrationInstructions.put(EXTERNAL_AIRFLOW_SECRET, SECRET_ID);
@@ -265,6 +340,8 @@ class AirflowResolverImplTest {
 
     when(airflowApiClientFactory.createAirflowApiClient(API_CLIENT_TYPE, airflowConfig))
         .thenReturn(airflowApiClient);
+    lenient().when(meterRegistryProvider.getIfAvailable(any()))
+        .thenReturn(new SimpleMeterRegistry());
 
     return workflowMetadata;
   }
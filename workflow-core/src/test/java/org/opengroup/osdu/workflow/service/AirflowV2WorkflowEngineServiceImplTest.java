@@ -18,17 +18,32 @@
 package org.opengroup.osdu.workflow.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import javax.ws.rs.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,7 +52,9 @@ import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,8 +77,15 @@ class AirflowV2WorkflowEngineServiceImplTest {
           RESPONSE_EXECUTION_DATE,
           AirflowV2WorkflowEngineServiceImpl.RUN_ID_PARAMETER_NAME_STABLE,
           RESPONSE_DAG_RUN_ID);
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private static final String EXECUTION_CONTEXT = "execution_context";
   private static final String KEY_USER_ID = "userId";
+  private static final String OTHER_RUN_ID = "4c2a8c7d-7f3b-4b61-9f0e-3d4b2b1b8e11";
+  private static final String LIST_RUNS_RESPONSE_JSON =
+      String.format(
+          "{\"dag_runs\":[{\"dag_run_id\":\"%s\",\"state\":\"success\"},"
+              + "{\"dag_run_id\":\"unrelated\",\"state\":\"failed\"}],\"total_entries\":2}",
+          TEST_RUN_ID);
 
   @Mock private IAirflowApiClient airflowApiClient;
   @Mock private DpsHeaders dpsHeaders;
@@ -69,6 +93,13 @@ class AirflowV2WorkflowEngineServiceImplTest {
 
   @InjectMocks private AirflowV2WorkflowEngineServiceImpl service;
 
+  @BeforeEach
+  void setUp() {
+    // responses are decoded from the buffered body, as by clients without a streaming transport
+    lenient().when(airflowApiClient.callAirflow(any(), any(), any(), any(), any(), any()))
+        .thenCallRealMethod();
+  }
+
   @Test
   void should_ReturnTriggerWorkflowUrl_when_GetTriggerWorkflowUrlCalled() {
     WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
@@ -99,85 +130,127 @@ class AirflowV2WorkflowEngineServiceImplTest {
   }
 
   @Test
-  void should_ReturnTriggerWorkflowResponse_when_GetTriggerWorkflowResponseWithValidJson() {
-    when(clientResponse.getResponseBody()).thenReturn(RESPONSE_JSON);
-
-    TriggerWorkflowResponse resp = service.getTriggerWorkflowResponse(clientResponse);
+  void should_ReturnTriggerWorkflowResponse_when_GetTriggerWorkflowResponseWithValidJson()
+      throws Exception {
+    TriggerWorkflowResponse resp = service.getTriggerWorkflowResponse(
+        AirflowResponseReaders.JSON_TREE.createParser(RESPONSE_JSON));
 
     assertEquals(RESPONSE_EXECUTION_DATE, resp.getExecutionDate());
     assertEquals(RESPONSE_DAG_RUN_ID, resp.getRunId());
   }
 
+  @Test
+  void should_ReturnEmptyValues_when_GetTriggerWorkflowResponseWithoutRunFields()
+      throws Exception {
+    TriggerWorkflowResponse resp = service.getTriggerWorkflowResponse(
+        AirflowResponseReaders.JSON_TREE.createParser("{\"state\":\"queued\"}"));
+
+    assertEquals("", resp.getExecutionDate());
+    assertEquals("", resp.getMessage());
+    assertEquals("", resp.getRunId());
+  }
+
   @Test
   void should_ThrowAppException_when_GetTriggerWorkflowResponseWithInvalidJson() {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getRunId()).thenReturn(TEST_RUN_ID);
+    Map<String, Object> context = new HashMap<>();
+    context.put(EXECUTION_CONTEXT, JsonNodeFactory.instance.objectNode());
     when(clientResponse.getResponseBody()).thenReturn(INVALID_JSON);
+    when(airflowApiClient.callAirflow(any(), any(), any(), any(), any()))
+        .thenReturn(clientResponse);
 
     AppException exception =
-        assertThrows(AppException.class, () -> service.getTriggerWorkflowResponse(clientResponse));
+        assertThrows(AppException.class, () -> service.triggerWorkflow(request, context));
     assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getError().getCode());
     assertEquals("Unable to Process(Parse, Generate) JSON value", exception.getError().getReason());
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void should_AddUserIdToExecutionContext_when_TriggerWorkflowCalledAndInputIsValid() {
+  void should_AddUserIdToExecutionContext_when_TriggerWorkflowCalledAndInputIsValid()
+      throws Exception {
     WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
     when(request.getDagName()).thenReturn(TEST_DAG_NAME);
     when(request.getRunId()).thenReturn(TEST_RUN_ID);
-    when(request.getWorkflowName()).thenReturn(TEST_WORKFLOW_NAME);
 
     when(dpsHeaders.getUserEmail()).thenReturn(TEST_USER_EMAIL);
 
-    Map<String, Object> executionContext = new HashMap<>();
     Map<String, Object> context = new HashMap<>();
-    context.put(EXECUTION_CONTEXT, executionContext);
+    context.put(EXECUTION_CONTEXT, JsonNodeFactory.instance.objectNode());
 
-    when(clientResponse.getResponseBody()).thenReturn(VERSION_RESPONSE_JSON);
+    when(clientResponse.getResponseBody()).thenReturn(RESPONSE_JSON);
     when(airflowApiClient.callAirflow(any(), any(), any(), any(), any()))
         .thenReturn(clientResponse);
 
     service.triggerWorkflow(request, context);
 
-    assertEquals(
-        TEST_USER_EMAIL, ((Map<String, Object>) context.get(EXECUTION_CONTEXT)).get(KEY_USER_ID));
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(airflowApiClient).callAirflow(any(), any(), body.capture(), any(), any());
+    JsonNode sent = OBJECT_MAPPER.readTree(body.getValue());
+    assertEquals(TEST_USER_EMAIL, sent.at("/conf/execution_context/userId").asText());
+    assertEquals(TEST_RUN_ID, sent.get("dag_run_id").asText());
   }
 
   @Test
-  void should_ThrowAppException_when_AddUserIdToExecutionContextWithNullContext() {
+  void should_PassExecutionContextThrough_when_GetTriggerWorkflowRequestBodyCalled()
+      throws Exception {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getRunId()).thenReturn(TEST_RUN_ID);
+    when(dpsHeaders.getUserEmail()).thenReturn(TEST_USER_EMAIL);
+
+    ObjectNode executionContext = JsonNodeFactory.instance.objectNode();
+    executionContext.putObject("acl").putArray("owners").add("owner@osdu.group");
+    executionContext.putNull("optional");
+    Map<String, Object> context = new HashMap<>();
+    context.put(EXECUTION_CONTEXT, executionContext);
+    context.put("workflow_name", TEST_WORKFLOW_NAME);
+
+    JsonNode sent = OBJECT_MAPPER.readTree(service.getTriggerWorkflowRequestBody(request, context));
+
+    JsonNode sentContext = sent.at("/conf/execution_context");
+    assertEquals("owner@osdu.group", sentContext.at("/acl/owners/0").asText());
+    assertTrue(sentContext.get("optional").isNull());
+    assertEquals(TEST_USER_EMAIL, sentContext.get(KEY_USER_ID).asText());
+    assertEquals(TEST_WORKFLOW_NAME, sent.at("/conf/workflow_name").asText());
+    assertFalse(executionContext.has(KEY_USER_ID));
+  }
+
+  @Test
+  void should_ThrowAppException_when_GetTriggerWorkflowRequestBodyWithNullContext() {
     Map<String, Object> nullMap = null;
     WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
 
     AppException ex =
         assertThrows(
-            AppException.class, () -> service.addUserIdToExecutionContext(nullMap, request));
+            AppException.class, () -> service.getTriggerWorkflowRequestBody(request, nullMap));
     assertEquals(HttpStatus.BAD_REQUEST.value(), ex.getError().getCode());
     assertEquals("Failed to trigger workflow run", ex.getError().getReason());
   }
 
   @Test
-  void should_ThrowAppException_when_AddUserIdToExecutionContextWithNullExecContext() {
+  void should_ThrowAppException_when_GetTriggerWorkflowRequestBodyWithNullExecContext() {
     Map<String, Object> map = new HashMap<>();
     map.put(EXECUTION_CONTEXT, null);
     WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
 
     AppException ex =
-        assertThrows(AppException.class, () -> service.addUserIdToExecutionContext(map, request));
+        assertThrows(
+            AppException.class, () -> service.getTriggerWorkflowRequestBody(request, map));
     assertEquals(HttpStatus.BAD_REQUEST.value(), ex.getError().getCode());
     assertEquals("execution_context is null or empty", ex.getMessage());
   }
 
   @Test
-  void should_ThrowAppException_when_AddUserIdToExecutionContextWhenUserIdAlreadyPresent() {
+  void should_ThrowAppException_when_GetTriggerWorkflowRequestBodyWhenUserIdAlreadyPresent() {
     Map<String, Object> executionContext = new HashMap<>();
     executionContext.put(KEY_USER_ID, TEST_USER_EMAIL);
     Map<String, Object> map = new HashMap<>();
     map.put(EXECUTION_CONTEXT, executionContext);
 
     WorkflowEngineRequest req = mock(WorkflowEngineRequest.class);
-    when(req.getWorkflowName()).thenReturn(TEST_WORKFLOW_NAME);
 
     AppException ex =
-        assertThrows(AppException.class, () -> service.addUserIdToExecutionContext(map, req));
+        assertThrows(AppException.class, () -> service.getTriggerWorkflowRequestBody(req, map));
     assertEquals(400, ex.getError().getCode());
   }
 
@@ -216,4 +289,49 @@ class AirflowV2WorkflowEngineServiceImplTest {
     assertTrue(version.isPresent());
     assertEquals(AirflowV2WorkflowEngineServiceImpl.NOT_AVAILABLE, version.get());
   }
+
+  @Test
+  void should_ReturnRequestedStatuses_when_GetWorkflowRunStatusesListsDagRuns() {
+    WorkflowEngineRequest request = mockStatusRequest(TEST_RUN_ID, RESPONSE_EXECUTION_DATE);
+    WorkflowEngineRequest otherRequest = mockStatusRequest(OTHER_RUN_ID, "2025-05-30T08:00:00Z");
+    when(clientResponse.getResponseBody()).thenReturn(LIST_RUNS_RESPONSE_JSON);
+    when(airflowApiClient.callAirflow(eq(HttpMethod.POST),
+        eq(AirflowV2WorkflowEngineServiceImpl.AIRFLOW_LIST_RUNS_ENDPOINT_STABLE), any(), any(), any()))
+        .thenReturn(clientResponse);
+
+    Map<String, WorkflowStatusType> statuses =
+        service.getWorkflowRunStatuses(Arrays.asList(request, otherRequest));
+
+    assertEquals(Collections.singletonMap(TEST_RUN_ID, WorkflowStatusType.SUCCESS), statuses);
+  }
+
+  @Test
+  void should_ReturnEmptyStatuses_when_GetWorkflowRunStatusesListCallFails() {
+    WorkflowEngineRequest request = mockStatusRequest(TEST_RUN_ID, RESPONSE_EXECUTION_DATE);
+    when(airflowApiClient.callAirflow(any(), any(), any(), any(), any()))
+        .thenThrow(new AppException(HttpStatus.NOT_FOUND.value(), "Not Found", "Not Found"));
+
+    Map<String, WorkflowStatusType> statuses = service.getWorkflowRunStatuses(List.of(request));
+
+    assertTrue(statuses.isEmpty());
+  }
+
+  @Test
+  void should_SkipListCall_when_GetWorkflowRunStatusesWithoutExecutionDates() {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getWorkflowEngineExecutionDate()).thenReturn(null);
+
+    Map<String, WorkflowStatusType> statuses = service.getWorkflowRunStatuses(List.of(request));
+
+    assertTrue(statuses.isEmpty());
+    verify(airflowApiClient, never()).callAirflow(any(), any(), any(), any(), any());
+  }
+
+  private WorkflowEngineRequest mockStatusRequest(String runId, String executionDate) {
+    WorkflowEngineRequest request = mock(WorkflowEngineRequest.class);
+    when(request.getDagName()).thenReturn(TEST_DAG_NAME);
+    when(request.getRunId()).thenReturn(runId);
+    when(request.getWorkflowEngineExecutionDate()).thenReturn(executionDate);
+    return request;
+  }
 }
@@ -23,12 +23,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientHandlerException;
 import com.sun.jersey.api.client.UniformInterfaceException;
 import com.sun.jersey.api.client.WebResource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.junit.jupiter.api.Test;
@@ -40,6 +45,7 @@ import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
 import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -116,6 +122,32 @@ class BasicAuthAirflowApiClientTest {
         javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE.toString(), result.getContentType());
   }
 
+  @Test
+  void should_DecodeEntityStream_when_AirflowReturnsStatusOK() {
+    when(restClient.resource(anyString())).thenReturn(webResource);
+    when(webResource.type(MediaType.APPLICATION_JSON)).thenReturn(webResourceBuilder);
+    when(webResourceBuilder.header(anyString(), any())).thenReturn(webResourceBuilder);
+    when(webResourceBuilder.method(
+            anyString(), eq(com.sun.jersey.api.client.ClientResponse.class), eq(TEST_BODY)))
+        .thenReturn(apiClientResponse);
+
+    when(apiClientResponse.getStatus()).thenReturn(HTTP_OK);
+    when(apiClientResponse.getEntityInputStream())
+        .thenReturn(new ByteArrayInputStream(RESPONSE_OK_BODY.getBytes(StandardCharsets.UTF_8)));
+
+    JsonNode result =
+        apiClient.callAirflow(
+            TEST_HTTP_METHOD,
+            TEST_API_ENDPOINT,
+            TEST_BODY,
+            workflowEngineRequest,
+            TEST_ERROR_MESSAGE,
+            AirflowResponseReaders.JSON_TREE::readTree);
+
+    assertEquals("ok", result.path("result").asText());
+    verify(apiClientResponse, never()).getEntity(String.class);
+  }
+
   @Test
   void should_ThrowAppException_when_AirflowReturnsNotOkStatus() {
     when(restClient.resource(anyString())).thenReturn(webResource);
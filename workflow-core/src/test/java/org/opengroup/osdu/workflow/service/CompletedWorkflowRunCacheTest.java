@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.CompletedWorkflowRunCacheConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+
+@ExtendWith(MockitoExtension.class)
+class CompletedWorkflowRunCacheTest {
+
+  private static final String PARTITION_ID = "opendes";
+  private static final String OTHER_PARTITION_ID = "other";
+  private static final String WORKFLOW_NAME = "workflow-name";
+  private static final String RUN_ID = "run-id";
+
+  @Mock private DpsHeaders dpsHeaders;
+
+  private final CompletedWorkflowRunCacheConfig cacheConfig = new CompletedWorkflowRunCacheConfig();
+
+  private CompletedWorkflowRunCache completedWorkflowRunCache;
+
+  @BeforeEach
+  void setUp() {
+    completedWorkflowRunCache = new CompletedWorkflowRunCache(dpsHeaders, cacheConfig);
+  }
+
+  @Test
+  void shouldCacheCompletedRunPerPartition() {
+    WorkflowRun workflowRun = buildWorkflowRun(WorkflowStatusType.FINISHED);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID, PARTITION_ID, OTHER_PARTITION_ID);
+
+    completedWorkflowRunCache.put(workflowRun);
+
+    assertThat(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).containsSame(workflowRun);
+    assertThat(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreActiveRun() {
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+
+    completedWorkflowRunCache.put(buildWorkflowRun(WorkflowStatusType.RUNNING));
+
+    assertThat(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).isEmpty();
+  }
+
+  @Test
+  void shouldDropRunsOfInvalidatedWorkflow() {
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    completedWorkflowRunCache.put(buildWorkflowRun(WorkflowStatusType.FAILED));
+
+    completedWorkflowRunCache.invalidateWorkflow(WORKFLOW_NAME);
+
+    assertThat(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).isEmpty();
+  }
+
+  @Test
+  void shouldNotCacheWhenDisabled() {
+    cacheConfig.setEnabled(false);
+
+    completedWorkflowRunCache.put(buildWorkflowRun(WorkflowStatusType.SUCCESS));
+
+    assertThat(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).isEmpty();
+  }
+
+  private static WorkflowRun buildWorkflowRun(WorkflowStatusType status) {
+    return WorkflowRun.builder().workflowName(WORKFLOW_NAME).runId(RUN_ID).status(status).build();
+  }
+}
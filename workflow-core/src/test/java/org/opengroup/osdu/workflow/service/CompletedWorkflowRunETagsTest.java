@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+
+@ExtendWith(MockitoExtension.class)
+class CompletedWorkflowRunETagsTest {
+
+  private static final String PARTITION_ID = "opendes";
+  private static final String OTHER_PARTITION_ID = "other";
+  private static final String WORKFLOW_NAME = "workflow-name";
+  private static final String RUN_ID = "run-id";
+  private static final long START_TIMESTAMP = 1600145420675L;
+  private static final long END_TIMESTAMP = 1600145480675L;
+
+  @Mock private DpsHeaders dpsHeaders;
+  @Mock private CompletedWorkflowRunCache completedWorkflowRunCache;
+
+  @Test
+  void shouldIssueSameETagOnEveryReplica() {
+    String eTag = new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache)
+        .getETag(PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP));
+
+    String otherReplicaETag = new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache)
+        .getETag(PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP));
+
+    assertThat(eTag).startsWith("\"").endsWith("\"").isEqualTo(otherReplicaETag);
+  }
+
+  @Test
+  void shouldIssueNewETagForRecreatedRunOrOtherPartition() {
+    CompletedWorkflowRunETags completedWorkflowRunETags =
+        new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache);
+    String eTag = completedWorkflowRunETags.getETag(PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP));
+
+    assertThat(completedWorkflowRunETags.getETag(PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP + 1)))
+        .isNotEqualTo(eTag);
+    assertThat(completedWorkflowRunETags.getETag(OTHER_PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP)))
+        .isNotEqualTo(eTag);
+  }
+
+  @Test
+  void shouldIssueSameETagForCachedRun() {
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).thenReturn(Optional.of(WorkflowRun.builder()
+        .workflowName(WORKFLOW_NAME).runId(RUN_ID).startTimeStamp(START_TIMESTAMP).endTimeStamp(END_TIMESTAMP)
+        .status(WorkflowStatusType.FINISHED).build()));
+    CompletedWorkflowRunETags completedWorkflowRunETags =
+        new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache);
+
+    assertThat(completedWorkflowRunETags.getCachedETag(WORKFLOW_NAME, RUN_ID))
+        .contains(completedWorkflowRunETags.getETag(PARTITION_ID, WORKFLOW_NAME, buildResponse(END_TIMESTAMP)));
+  }
+
+  @Test
+  void shouldNotIssueETagForRunMissingFromCache() {
+    when(completedWorkflowRunCache.get(WORKFLOW_NAME, RUN_ID)).thenReturn(Optional.empty());
+
+    assertThat(new CompletedWorkflowRunETags(dpsHeaders, completedWorkflowRunCache)
+        .getCachedETag(WORKFLOW_NAME, RUN_ID)).isEmpty();
+  }
+
+  @Test
+  void shouldMatchListedOrWeakETag() {
+    String eTag = "\"abc\"";
+
+    assertThat(CompletedWorkflowRunETags.matches("\"other\", W/" + eTag, eTag)).isTrue();
+    assertThat(CompletedWorkflowRunETags.matches("\"other\"", eTag)).isFalse();
+    assertThat(CompletedWorkflowRunETags.matches("*", eTag)).isFalse();
+    assertThat(CompletedWorkflowRunETags.matches(null, eTag)).isFalse();
+  }
+
+  private static WorkflowRunResponse buildResponse(final long endTimeStamp) {
+    return WorkflowRunResponse.builder().runId(RUN_ID).startTimeStamp(START_TIMESTAMP)
+        .endTimeStamp(endTimeStamp).status(WorkflowStatusType.FINISHED).build();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState.TokenBucket;
+
+class LocalWorkflowAdmissionStateTest {
+
+  private static final String PARTITION = "opendes";
+
+  private final LocalWorkflowAdmissionState state =
+      new LocalWorkflowAdmissionState(Duration.ZERO);
+
+  @Test
+  void shouldDropBucketsRefilledToCapacity() throws InterruptedException {
+    assertThat(state.tryTakeTokens(List.of(new TokenBucket("fast", 1, 10)))).isZero();
+    assertThat(state.tryTakeTokens(List.of(new TokenBucket("slow", 1, 0.001)))).isZero();
+    assertThat(state.size()).isEqualTo(2);
+
+    Thread.sleep(200);
+    assertThat(state.tryTakeTokens(List.of(new TokenBucket("other", 5, 0.001)))).isZero();
+
+    assertThat(state.size()).isEqualTo(2);
+    assertThat(state.tryTakeTokens(List.of(new TokenBucket("slow", 1, 0.001)))).isPositive();
+  }
+
+  @Test
+  void shouldDropWeightOfPartitionWithoutSlots() {
+    assertThat(state.tryAcquireSlot(PARTITION, 2, 10, "permit-1", Duration.ofMinutes(1)))
+        .isTrue();
+    assertThat(state.size()).isEqualTo(1);
+
+    state.releaseSlot(PARTITION, "permit-1");
+
+    assertThat(state.size()).isZero();
+  }
+
+  @Test
+  void shouldDropWeightOfPartitionWithExpiredSlots() {
+    assertThat(state.tryAcquireSlot(PARTITION, 2, 10, "permit-1", Duration.ZERO)).isTrue();
+    assertThat(state.tryAcquireSlot("osdu", 1, 10, "permit-2", Duration.ofMinutes(1)))
+        .isTrue();
+
+    assertThat(state.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResponseReader;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredAirflowApiClientTest {
+
+  private static final String AIRFLOW_URL = "https://airflow.example.com:8080/airflow";
+  private static final String INSTANCE = "airflow.example.com:8080";
+  private static final String RUN_ENDPOINT = "api/v1/dags/dag-1/dagRuns/run-1";
+  private static final String RUN_ENDPOINT_TEMPLATE = "api/v1/dags/{dag_id}/dagRuns/{dag_run_id}";
+  private static final String ERROR_MESSAGE = "error";
+
+  @Mock private IAirflowApiClient delegate;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private MeteredAirflowApiClient meteredClient;
+
+  @BeforeEach
+  void setUp() {
+    AirflowConfig airflowConfig = new AirflowConfig();
+    airflowConfig.setUrl(AIRFLOW_URL);
+    meteredClient = new MeteredAirflowApiClient(delegate, meterRegistry, airflowConfig);
+  }
+
+  @Test
+  void shouldRecordLatencyTaggedWithEndpointTemplateAndStatus() {
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenReturn(ClientResponse.builder().statusCode(200).build());
+
+    meteredClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+
+    assertThat(meterRegistry.get(MeteredAirflowApiClient.LATENCY_TIMER)
+        .tag("instance", INSTANCE)
+        .tag("method", "GET")
+        .tag("endpoint", RUN_ENDPOINT_TEMPLATE)
+        .tag("status", "200")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordErrorStatusWhenCallFails() {
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenThrow(new AppException(504, "Gateway Timeout", ERROR_MESSAGE));
+
+    assertThrows(AppException.class,
+        () -> meteredClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE));
+
+    assertThat(meterRegistry.get(MeteredAirflowApiClient.LATENCY_TIMER)
+        .tag("status", "504").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPassReaderToDelegateAndRecordDecodedCall() {
+    IAirflowResponseReader<String> reader = parser -> "decoded";
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE, reader))
+        .thenReturn("decoded");
+
+    assertThat(meteredClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE, reader))
+        .isEqualTo("decoded");
+
+    assertThat(meterRegistry.get(MeteredAirflowApiClient.LATENCY_TIMER)
+        .tag("endpoint", RUN_ENDPOINT_TEMPLATE)
+        .tag("status", "200")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordLatencyWhenAsyncCallCompletes() {
+    CompletableFuture<ClientResponse> pending = new CompletableFuture<>();
+    when(delegate.callAirflowAsync("POST", "api/v1/dags/dag-1/dagRuns", "{}", null, ERROR_MESSAGE))
+        .thenReturn(pending);
+
+    CompletableFuture<ClientResponse> result =
+        meteredClient.callAirflowAsync("POST", "api/v1/dags/dag-1/dagRuns", "{}", null, ERROR_MESSAGE);
+    assertThat(meterRegistry.find(MeteredAirflowApiClient.LATENCY_TIMER).timer()).isNull();
+    pending.complete(ClientResponse.builder().statusCode(200).build());
+
+    assertThat(result).isCompleted();
+    assertThat(meterRegistry.get(MeteredAirflowApiClient.LATENCY_TIMER)
+        .tag("method", "POST")
+        .tag("endpoint", "api/v1/dags/{dag_id}/dagRuns")
+        .tag("status", "200")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReplaceIdentifiersWithPlaceholders() {
+    assertThat(MeteredAirflowApiClient.toEndpointTemplate(
+        "api/v1/dags/dag-1/dagRuns/run-1/taskInstances/task-1/xcomEntries/key-1"))
+        .isEqualTo("api/v1/dags/{dag_id}/dagRuns/{dag_run_id}/taskInstances/{task_id}/xcomEntries/{xcom_key}");
+    assertThat(MeteredAirflowApiClient.toEndpointTemplate("api/v1/dags/~/dagRuns/list"))
+        .isEqualTo("api/v1/dags/{dag_id}/dagRuns/list");
+    assertThat(MeteredAirflowApiClient.toEndpointTemplate("api/experimental/dags/dag-1/dag_runs/2020-01-01?x=1"))
+        .isEqualTo("api/experimental/dags/{dag_id}/dag_runs/{execution_date}");
+  }
+}
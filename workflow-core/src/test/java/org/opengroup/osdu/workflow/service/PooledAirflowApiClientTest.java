@@ -0,0 +1,309 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowHttpClientConfig;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
+import org.springframework.http.HttpStatus;
+
+class PooledAirflowApiClientTest {
+
+  private static final String TEST_API_ENDPOINT = "api/v1/dags/test_dag/dagRuns";
+  private static final String TEST_BODY = "{\"dag_run_id\": \"run-1\"}";
+  private static final String TEST_ERROR_MESSAGE = "Failed to trigger workflow";
+  private static final String RESPONSE_OK_BODY = "{\"state\": \"queued\"}";
+  private static final String RESPONSE_ERROR_BODY = "{\"detail\": \"DAG not found\"}";
+
+  private final AtomicInteger responseStatus = new AtomicInteger(HttpStatus.OK.value());
+  private final AtomicInteger responseDelayMillis = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final AtomicReference<String> receivedBody = new AtomicReference<>();
+  private final AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+
+  private HttpServer airflowStub;
+  private ExecutorService stubExecutor;
+  private AirflowConfig airflowConfig;
+  private AirflowHttpClientConfig httpClientConfig;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    stubExecutor = Executors.newFixedThreadPool(16);
+    airflowStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    airflowStub.createContext("/", this::handle);
+    airflowStub.setExecutor(stubExecutor);
+    airflowStub.start();
+
+    airflowConfig = new AirflowConfig();
+    airflowConfig.setUrl("http://localhost:" + airflowStub.getAddress().getPort());
+    airflowConfig.setUsername("airflow");
+    airflowConfig.setPassword("s3cret");
+
+    httpClientConfig = new AirflowHttpClientConfig();
+    httpClientConfig.setConnectTimeoutMillis(1000);
+    httpClientConfig.setRequestTimeoutMillis(2000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    airflowStub.stop(0);
+    stubExecutor.shutdownNow();
+  }
+
+  @Test
+  void should_ReturnClientResponse_when_AirflowReturnsStatusOK() {
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    ClientResponse response =
+        client.callAirflow("POST", TEST_API_ENDPOINT, TEST_BODY, null, TEST_ERROR_MESSAGE);
+
+    assertEquals(HttpStatus.OK, response.getStatus());
+    assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+    assertEquals("OK", response.getStatusMessage());
+    assertEquals("application/json", response.getContentType());
+    assertEquals(RESPONSE_OK_BODY, response.getResponseBody());
+    assertEquals(TEST_BODY, receivedBody.get());
+    assertEquals("Basic " + airflowConfig.getAppKey(), receivedAuthorization.get());
+  }
+
+  @Test
+  void should_ThrowAppExceptionWithAirflowStatus_when_AirflowReturnsError() {
+    responseStatus.set(HttpStatus.NOT_FOUND.value());
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    AppException exception = assertThrows(AppException.class,
+        () -> client.callAirflow("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE));
+
+    assertEquals(HttpStatus.NOT_FOUND.value(), exception.getError().getCode());
+    assertEquals(RESPONSE_ERROR_BODY, exception.getError().getReason());
+    assertEquals(TEST_ERROR_MESSAGE, exception.getError().getMessage());
+  }
+
+  @Test
+  void should_DecodeResponseStream_when_AirflowReturnsStatusOK() {
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    JsonNode response = client.callAirflow("POST", TEST_API_ENDPOINT, TEST_BODY, null,
+        TEST_ERROR_MESSAGE, AirflowResponseReaders.JSON_TREE::readTree);
+
+    assertEquals("queued", response.path("state").asText());
+    assertEquals(TEST_BODY, receivedBody.get());
+  }
+
+  @Test
+  void should_ReportErrorBody_when_DecodingAndAirflowReturnsError() {
+    responseStatus.set(HttpStatus.NOT_FOUND.value());
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    AppException exception = assertThrows(AppException.class,
+        () -> client.callAirflow("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE,
+            AirflowResponseReaders.JSON_TREE::readTree));
+
+    assertEquals(HttpStatus.NOT_FOUND.value(), exception.getError().getCode());
+    assertEquals(RESPONSE_ERROR_BODY, exception.getError().getReason());
+    assertEquals(TEST_ERROR_MESSAGE, exception.getError().getMessage());
+  }
+
+  @Test
+  void should_ThrowInternalServerError_when_ResponseCannotBeDecoded() {
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+    ObjectReader listReader = AirflowResponseReaders.JSON_TREE.forType(List.class);
+
+    AppException exception = assertThrows(AppException.class,
+        () -> client.callAirflow("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE,
+            listReader::readValue));
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getError().getCode());
+    assertEquals(AirflowResponseReaders.JSON_ERROR, exception.getError().getReason());
+  }
+
+  @Test
+  void should_DecodeResponseStreamAsync_when_AirflowReturnsStatusOK() {
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    JsonNode response = client.<JsonNode>callAirflowAsync("GET", TEST_API_ENDPOINT, null, null,
+        TEST_ERROR_MESSAGE, AirflowResponseReaders.JSON_TREE::readTree).join();
+
+    assertEquals("queued", response.path("state").asText());
+  }
+
+  @Test
+  void should_ThrowGatewayTimeout_when_AirflowDoesNotAnswerInTime() {
+    httpClientConfig.setRequestTimeoutMillis(200);
+    responseDelayMillis.set(1000);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    AppException exception = assertThrows(AppException.class,
+        () -> client.callAirflow("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE));
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), exception.getError().getCode());
+  }
+
+  @Test
+  void should_ThrowInternalServerError_when_AirflowIsUnreachable() {
+    airflowStub.stop(0);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    AppException exception = assertThrows(AppException.class,
+        () -> client.callAirflow("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE));
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getError().getCode());
+  }
+
+  @Test
+  void should_ServeConcurrentCallsWithinConcurrencyLimit() {
+    httpClientConfig.setMaxConcurrentRequests(4);
+    responseDelayMillis.set(20);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+    ExecutorService callers = Executors.newFixedThreadPool(16);
+    try {
+      List<CompletableFuture<ClientResponse>> calls = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        calls.add(CompletableFuture.supplyAsync(() -> client.callAirflow(
+            "POST", TEST_API_ENDPOINT, TEST_BODY, null, TEST_ERROR_MESSAGE), callers));
+      }
+
+      calls.forEach(call -> assertEquals(HttpStatus.OK, call.join().getStatus()));
+      assertTrue(maxInFlight.get() <= 4);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_NotHoldCallerThread_when_CallingAirflowAsync() {
+    httpClientConfig.setMaxConcurrentRequests(32);
+    responseDelayMillis.set(200);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    List<CompletableFuture<ClientResponse>> calls = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      calls.add(client.callAirflowAsync(
+          "POST", TEST_API_ENDPOINT, TEST_BODY, null, TEST_ERROR_MESSAGE));
+    }
+
+    assertTrue(calls.stream().noneMatch(CompletableFuture::isDone));
+    calls.forEach(call -> assertEquals(HttpStatus.OK, call.join().getStatus()));
+    assertTrue(maxInFlight.get() > 1);
+  }
+
+  @Test
+  void should_FailAsyncCallWithAirflowStatus_when_AirflowReturnsError() {
+    responseStatus.set(HttpStatus.NOT_FOUND.value());
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> client.callAirflowAsync("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE)
+            .join());
+
+    AppException cause = assertInstanceOf(AppException.class, exception.getCause());
+    assertEquals(HttpStatus.NOT_FOUND.value(), cause.getError().getCode());
+    assertEquals(TEST_ERROR_MESSAGE, cause.getError().getMessage());
+  }
+
+  @Test
+  void should_FailAsyncCallWithGatewayTimeout_when_AirflowDoesNotAnswerInTime() {
+    httpClientConfig.setRequestTimeoutMillis(200);
+    responseDelayMillis.set(1000);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> client.callAirflowAsync("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE)
+            .join());
+
+    AppException cause = assertInstanceOf(AppException.class, exception.getCause());
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), cause.getError().getCode());
+  }
+
+  @Test
+  void should_FailAsyncCallWithServiceUnavailable_when_NoConcurrencySlotIsFree() {
+    httpClientConfig.setMaxConcurrentRequests(1);
+    responseDelayMillis.set(300);
+    PooledAirflowApiClient client = new PooledAirflowApiClient(airflowConfig, httpClientConfig);
+
+    CompletableFuture<ClientResponse> first =
+        client.callAirflowAsync("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE);
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> client.callAirflowAsync("GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE)
+            .join());
+
+    AppException cause = assertInstanceOf(AppException.class, exception.getCause());
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), cause.getError().getCode());
+    assertEquals(HttpStatus.OK, first.join().getStatus());
+    assertEquals(HttpStatus.OK, client.callAirflowAsync(
+        "GET", TEST_API_ENDPOINT, null, null, TEST_ERROR_MESSAGE).join().getStatus());
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    int current = inFlight.incrementAndGet();
+    maxInFlight.accumulateAndGet(current, Math::max);
+    boolean counted = true;
+    try {
+      receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+      if (responseDelayMillis.get() > 0) {
+        Thread.sleep(responseDelayMillis.get());
+      }
+      // the client releases its permit as soon as it has read the response
+      inFlight.decrementAndGet();
+      counted = false;
+      int status = responseStatus.get();
+      byte[] response = (status == HttpStatus.OK.value() ? RESPONSE_OK_BODY : RESPONSE_ERROR_BODY)
+          .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, response.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(response);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (counted) {
+        inFlight.decrementAndGet();
+      }
+      exchange.close();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.config.AirflowRetryConfig;
+import org.opengroup.osdu.workflow.model.ClientResponse;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingAirflowApiClientTest {
+
+  private static final String RUN_ENDPOINT = "api/v1/dags/dag-1/dagRuns/run-1";
+  private static final String TRIGGER_ENDPOINT = "api/v1/dags/dag-1/dagRuns";
+  private static final String LIST_ENDPOINT = "api/v1/dags/~/dagRuns/list";
+  private static final String BODY = "{}";
+  private static final String ERROR_MESSAGE = "error";
+  private static final ClientResponse OK = ClientResponse.builder().statusCode(200).build();
+  private static final WorkflowEngineRequest TRIGGER_REQUEST =
+      WorkflowEngineRequest.builder().runId("run-1").workflowName("dag-1").build();
+
+  @Mock private IAirflowApiClient delegate;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AirflowRetryConfig retryConfig = new AirflowRetryConfig();
+
+  private RetryingAirflowApiClient retryingClient;
+
+  @BeforeEach
+  void setUp() {
+    retryConfig.setInitialBackoffMillis(1);
+    retryConfig.setMaxBackoffMillis(5);
+    createClient();
+  }
+
+  @Test
+  void shouldRetryReadUntilItSucceeds() {
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenThrow(error(503), error(502))
+        .thenReturn(OK);
+
+    assertThat(retryingClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .isSameAs(OK);
+
+    verify(delegate, times(3)).callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+    assertThat(meterRegistry.get(AirflowRetryPolicy.RETRY_COUNTER)
+        .tag("result", "retried").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRetryListQueryOnTransportError() {
+    AppException transportError = new AppException(500, "Error calling airflow",
+        "Error calling airflow: reset", new IOException("Connection reset"));
+    when(delegate.callAirflow("POST", LIST_ENDPOINT, BODY, null, ERROR_MESSAGE))
+        .thenThrow(transportError)
+        .thenReturn(OK);
+
+    assertThat(retryingClient.callAirflow("POST", LIST_ENDPOINT, BODY, null, ERROR_MESSAGE))
+        .isSameAs(OK);
+  }
+
+  @Test
+  void shouldGiveUpAfterMaxAttempts() {
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenThrow(error(503));
+
+    AppException e = assertThrows(AppException.class,
+        () -> retryingClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE));
+
+    assertThat(e.getError().getCode()).isEqualTo(503);
+    verify(delegate, times(3)).callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+  }
+
+  @Test
+  void shouldNotRetryClientErrors() {
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenThrow(error(404));
+
+    assertThrows(AppException.class,
+        () -> retryingClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE));
+
+    verify(delegate).callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+  }
+
+  @Test
+  void shouldRetryTriggerWithRunIdOnlyWhenAirflowRejectedIt() {
+    when(delegate.callAirflow("POST", TRIGGER_ENDPOINT, BODY, TRIGGER_REQUEST, ERROR_MESSAGE))
+        .thenThrow(error(429), error(502));
+
+    AppException e = assertThrows(AppException.class, () -> retryingClient.callAirflow(
+        "POST", TRIGGER_ENDPOINT, BODY, TRIGGER_REQUEST, ERROR_MESSAGE));
+
+    assertThat(e.getError().getCode()).isEqualTo(502);
+    verify(delegate, times(2))
+        .callAirflow("POST", TRIGGER_ENDPOINT, BODY, TRIGGER_REQUEST, ERROR_MESSAGE);
+  }
+
+  @Test
+  void shouldNotRetryTriggerWithoutRunId() {
+    WorkflowEngineRequest request = WorkflowEngineRequest.builder().workflowName("dag-1").build();
+    when(delegate.callAirflow("POST", TRIGGER_ENDPOINT, BODY, request, ERROR_MESSAGE))
+        .thenThrow(error(503));
+
+    assertThrows(AppException.class, () -> retryingClient.callAirflow(
+        "POST", TRIGGER_ENDPOINT, BODY, request, ERROR_MESSAGE));
+
+    verify(delegate).callAirflow("POST", TRIGGER_ENDPOINT, BODY, request, ERROR_MESSAGE);
+  }
+
+  @Test
+  void shouldStopRetryingWhenBudgetIsExhausted() {
+    retryConfig.setBudgetMaxTokens(4);
+    createClient();
+    when(delegate.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenThrow(error(503));
+
+    assertThrows(AppException.class,
+        () -> retryingClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE));
+    assertThrows(AppException.class,
+        () -> retryingClient.callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE));
+
+    // 4 tokens allow a single retry: the budget drops to half after the second failure
+    verify(delegate, times(3)).callAirflow("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+    assertThat(meterRegistry.get(AirflowRetryPolicy.RETRY_COUNTER)
+        .tag("result", "throttled").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRetryAsyncRead() {
+    when(delegate.callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenReturn(CompletableFuture.failedFuture(error(503)))
+        .thenReturn(CompletableFuture.completedFuture(OK));
+
+    assertThat(retryingClient.callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE)
+        .join()).isSameAs(OK);
+
+    verify(delegate, times(2)).callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+  }
+
+  @Test
+  void shouldFailAsyncCallWithLastError() {
+    retryConfig.setEnabled(false);
+    createClient();
+    when(delegate.callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE))
+        .thenReturn(CompletableFuture.failedFuture(error(503)));
+
+    CompletionException e = assertThrows(CompletionException.class, () -> retryingClient
+        .callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE).join());
+
+    assertThat(e.getCause()).isInstanceOf(AppException.class);
+    verify(delegate).callAirflowAsync("GET", RUN_ENDPOINT, null, null, ERROR_MESSAGE);
+  }
+
+  private void createClient() {
+    retryingClient = new RetryingAirflowApiClient(
+        delegate, new AirflowRetryPolicy(retryConfig, meterRegistry));
+  }
+
+  private static AppException error(int status) {
+    return new AppException(status, "reason", ERROR_MESSAGE);
+  }
+}
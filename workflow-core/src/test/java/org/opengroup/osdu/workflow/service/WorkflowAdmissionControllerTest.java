@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.config.WorkflowAdmissionConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowAdmissionState;
+import org.opengroup.osdu.workflow.service.WorkflowAdmissionController.Admission;
+
+class WorkflowAdmissionControllerTest {
+
+  private static final String PARTITION = "opendes";
+  private static final String OTHER_PARTITION = "osdu";
+  private static final String WORKFLOW = "csv-ingestion";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowAdmissionConfig config = new WorkflowAdmissionConfig();
+  private WorkflowAdmissionController controller;
+
+  @BeforeEach
+  void setUp() {
+    config.setEnabled(true);
+    config.setPartitionRatePerSecond(0.001);
+    config.setPartitionBurst(100);
+    config.setWorkflowRatePerSecond(0.001);
+    config.setWorkflowBurst(100);
+    controller = new WorkflowAdmissionController(config, new LocalWorkflowAdmissionState(),
+        meterRegistry);
+  }
+
+  @Test
+  void shouldRejectWithRetryAfterWhenPartitionRateIsExceeded() {
+    config.setPartitionRatePerSecond(0.5);
+    config.setPartitionBurst(2);
+
+    controller.admit(PARTITION, WORKFLOW).release();
+    controller.admit(PARTITION, "other-workflow").release();
+    RetryAfterException e = assertThrows(RetryAfterException.class,
+        () -> controller.admit(PARTITION, WORKFLOW));
+
+    assertThat(e.getError().getCode()).isEqualTo(429);
+    assertThat(e.getRetryAfterSeconds()).isEqualTo(2);
+    assertThat(meterRegistry.get(WorkflowAdmissionController.REJECTIONS_COUNTER)
+        .tag("partition", PARTITION).tag("reason", "rate").counter().count()).isEqualTo(1);
+    controller.admit(OTHER_PARTITION, WORKFLOW).release();
+  }
+
+  @Test
+  void shouldLimitEachWorkflowWithinPartition() {
+    config.setWorkflowBurst(1);
+
+    controller.admit(PARTITION, WORKFLOW).release();
+
+    assertThrows(RetryAfterException.class, () -> controller.admit(PARTITION, WORKFLOW));
+    controller.admit(PARTITION, "other-workflow").release();
+  }
+
+  @Test
+  void shouldShareConcurrentTriggersByPartitionWeight() {
+    config.setMaxConcurrentTriggers(4);
+    config.setPartitionWeights(Map.of(PARTITION, 3));
+
+    Admission busy = controller.admit(OTHER_PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+    RetryAfterException e = assertThrows(RetryAfterException.class,
+        () -> controller.admit(OTHER_PARTITION, WORKFLOW));
+
+    assertThat(e.getError().getCode()).isEqualTo(429);
+    assertThat(meterRegistry.get(WorkflowAdmissionController.REJECTIONS_COUNTER)
+        .tag("reason", "concurrency").counter().count()).isEqualTo(1);
+    busy.release();
+    busy.release();
+    controller.admit(OTHER_PARTITION, WORKFLOW);
+  }
+
+  @Test
+  void shouldNotLetOnePartitionTakeAllSlots() {
+    config.setMaxConcurrentTriggers(6);
+
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(OTHER_PARTITION, WORKFLOW);
+
+    assertThrows(RetryAfterException.class, () -> controller.admit(PARTITION, WORKFLOW));
+  }
+
+  @Test
+  void shouldNotTakeTokensOfTriggersRejectedForConcurrency() {
+    config.setMaxConcurrentTriggers(1);
+    config.setWorkflowBurst(2);
+
+    Admission busy = controller.admit(PARTITION, WORKFLOW);
+    assertThrows(RetryAfterException.class, () -> controller.admit(PARTITION, WORKFLOW));
+    busy.release();
+
+    controller.admit(PARTITION, WORKFLOW).release();
+  }
+
+  @Test
+  void shouldReleaseSlotOfTriggerRejectedForRate() {
+    config.setMaxConcurrentTriggers(1);
+    config.setWorkflowBurst(1);
+
+    controller.admit(PARTITION, WORKFLOW).release();
+    assertThrows(RetryAfterException.class, () -> controller.admit(PARTITION, WORKFLOW));
+
+    controller.admit(PARTITION, "other-workflow").release();
+  }
+
+  @Test
+  void shouldAdmitWhenStateFails() {
+    IWorkflowAdmissionState state = mock(IWorkflowAdmissionState.class);
+    when(state.tryAcquireSlot(any(), anyInt(), anyInt(), any(), any()))
+        .thenThrow(new IllegalStateException("Redis is down"));
+    controller = new WorkflowAdmissionController(config, state, meterRegistry);
+
+    controller.admit(PARTITION, WORKFLOW).release();
+
+    assertThat(meterRegistry.get(WorkflowAdmissionController.STATE_ERRORS_COUNTER)
+        .counter().count()).isEqualTo(1);
+    verify(state, never()).releaseSlot(any(), any());
+  }
+
+  @Test
+  void shouldReleaseAcquiredSlotWhenTakingTokensFails() {
+    IWorkflowAdmissionState state = mock(IWorkflowAdmissionState.class);
+    when(state.tryAcquireSlot(any(), anyInt(), anyInt(), any(), any())).thenReturn(true);
+    when(state.tryTakeTokens(any())).thenThrow(new IllegalStateException("Redis is down"));
+    controller = new WorkflowAdmissionController(config, state, meterRegistry);
+
+    controller.admit(PARTITION, WORKFLOW).release();
+
+    verify(state).releaseSlot(eq(PARTITION), any());
+  }
+
+  @Test
+  void shouldAdmitEverythingWhenDisabled() {
+    config.setEnabled(false);
+    config.setMaxConcurrentTriggers(0);
+
+    controller.admit(PARTITION, WORKFLOW);
+    controller.admit(PARTITION, WORKFLOW);
+  }
+}
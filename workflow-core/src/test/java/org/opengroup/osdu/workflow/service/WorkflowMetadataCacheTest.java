@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowMetadataCacheConfig;
+import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowMetadataCacheTest {
+
+  private static final String PARTITION_ID = "opendes";
+  private static final String OTHER_PARTITION_ID = "other";
+  private static final String WORKFLOW_NAME = "workflow-name";
+  private static final String SYSTEM_WORKFLOW_NAME = "system-workflow-name";
+
+  @Mock private IWorkflowMetadataRepository workflowMetadataRepository;
+  @Mock private IWorkflowSystemMetadataRepository workflowSystemMetadataRepository;
+  @Mock private DpsHeaders dpsHeaders;
+
+  private final WorkflowMetadataCacheConfig cacheConfig = new WorkflowMetadataCacheConfig();
+
+  private WorkflowMetadataCache workflowMetadataCache;
+
+  @BeforeEach
+  void setUp() {
+    workflowMetadataCache = new WorkflowMetadataCache(workflowMetadataRepository,
+        workflowSystemMetadataRepository, dpsHeaders, cacheConfig);
+  }
+
+  @Test
+  void shouldCacheWorkflowPerPartition() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID, PARTITION_ID, OTHER_PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME)).thenReturn(workflowMetadata);
+
+    assertThat(workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+    assertThat(workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+    assertThat(workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+
+    verify(workflowMetadataRepository, times(2)).getWorkflow(WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldCacheSystemWorkflowWithoutRepeatingTenantLookup() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder()
+        .workflowName(SYSTEM_WORKFLOW_NAME).isSystemWorkflow(true).build();
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(SYSTEM_WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"));
+    when(workflowSystemMetadataRepository.getSystemWorkflow(SYSTEM_WORKFLOW_NAME)).thenReturn(workflowMetadata);
+
+    workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME);
+    assertThat(workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME)).isSameAs(workflowMetadata);
+
+    verify(workflowMetadataRepository).getWorkflow(SYSTEM_WORKFLOW_NAME);
+    verify(workflowSystemMetadataRepository).getSystemWorkflow(SYSTEM_WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldCacheMissingWorkflowUntilNotFoundTtlExpires() {
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"));
+    when(workflowSystemMetadataRepository.getSystemWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("Workflow: workflow-name not found"));
+
+    WorkflowNotFoundException exception = assertThrows(WorkflowNotFoundException.class,
+        () -> workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME));
+    assertThrows(WorkflowNotFoundException.class, () -> workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME));
+    assertThat(exception.getMessage()).isEqualTo("Workflow: workflow-name not found");
+    verify(workflowMetadataRepository, times(1)).getWorkflow(WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldReloadMissingWorkflowAfterNotFoundTtl() throws Exception {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    cacheConfig.setNotFoundTtlSeconds(0);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"))
+        .thenReturn(workflowMetadata);
+    when(workflowSystemMetadataRepository.getSystemWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"));
+
+    assertThrows(WorkflowNotFoundException.class, () -> workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME));
+    TimeUnit.MILLISECONDS.sleep(1);
+
+    assertThat(workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+    verify(workflowMetadataRepository, times(2)).getWorkflow(WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldReloadWorkflowAfterInvalidation() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"))
+        .thenReturn(workflowMetadata);
+    when(workflowSystemMetadataRepository.getSystemWorkflow(WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"));
+
+    assertThrows(WorkflowNotFoundException.class, () -> workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME));
+    workflowMetadataCache.invalidate(WORKFLOW_NAME);
+
+    assertThat(workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)).isSameAs(workflowMetadata);
+  }
+
+  @Test
+  void shouldInvalidateSystemWorkflowInEveryPartition() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder()
+        .workflowName(SYSTEM_WORKFLOW_NAME).isSystemWorkflow(true).build();
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID, OTHER_PARTITION_ID, PARTITION_ID, OTHER_PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(SYSTEM_WORKFLOW_NAME))
+        .thenThrow(new WorkflowNotFoundException("not found"));
+    when(workflowSystemMetadataRepository.getSystemWorkflow(SYSTEM_WORKFLOW_NAME)).thenReturn(workflowMetadata);
+
+    workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME);
+    workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME);
+    workflowMetadataCache.invalidateSystemWorkflow(SYSTEM_WORKFLOW_NAME);
+    workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME);
+    workflowMetadataCache.getWorkflowByName(SYSTEM_WORKFLOW_NAME);
+
+    verify(workflowSystemMetadataRepository, times(4)).getSystemWorkflow(SYSTEM_WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldLoadOnceForConcurrentMisses() throws Exception {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME)).thenAnswer(invocation -> {
+      loadStarted.countDown();
+      releaseLoad.await(5, TimeUnit.SECONDS);
+      return workflowMetadata;
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<WorkflowMetadata>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME)));
+      }
+      assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      releaseLoad.countDown();
+      for (Future<WorkflowMetadata> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(workflowMetadata);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(workflowMetadataRepository, times(1)).getWorkflow(WORKFLOW_NAME);
+  }
+
+  @Test
+  void shouldBypassCacheWhenDisabled() {
+    WorkflowMetadata workflowMetadata = WorkflowMetadata.builder().workflowName(WORKFLOW_NAME).build();
+    cacheConfig.setEnabled(false);
+    when(workflowMetadataRepository.getWorkflow(WORKFLOW_NAME)).thenReturn(workflowMetadata);
+
+    workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME);
+    workflowMetadataCache.getWorkflowByName(WORKFLOW_NAME);
+
+    verify(workflowMetadataRepository, times(2)).getWorkflow(WORKFLOW_NAME);
+    verify(dpsHeaders, never()).getPartitionId();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.config.WorkflowRunDispatchConfig;
+import org.springframework.beans.factory.ObjectProvider;
+
+class WorkflowRunDispatcherTest {
+
+  private final WorkflowRunDispatchConfig dispatchConfig = new WorkflowRunDispatchConfig();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private WorkflowRunDispatcher dispatcher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    dispatchConfig.setWorkers(1);
+    dispatchConfig.setQueueCapacity(10);
+    dispatchConfig.setShutdownTimeoutSeconds(0);
+    ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    dispatcher = new WorkflowRunDispatcher(dispatchConfig, meterRegistryProvider);
+  }
+
+  @Test
+  void shouldGiveUpRunsStillQueuedAtShutdown() throws Exception {
+    CountDownLatch dispatching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> dropped = new CopyOnWriteArrayList<>();
+    dispatcher.dispatch("run-1", () -> {
+      dispatching.countDown();
+      awaitQuietly(release);
+    }, () -> dropped.add("run-1"));
+    assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+    dispatcher.dispatch("run-2", () -> { }, () -> dropped.add("run-2"));
+    dispatcher.dispatch("run-3", () -> { }, () -> dropped.add("run-3"));
+
+    dispatcher.shutdown();
+    release.countDown();
+
+    assertThat(dropped).containsExactly("run-2", "run-3");
+    assertThat(meterRegistry.get("workflow.dispatch.failed").counter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void shouldNotGiveUpRunsDispatchedBeforeShutdown() throws Exception {
+    dispatchConfig.setShutdownTimeoutSeconds(5);
+    List<String> dispatched = new CopyOnWriteArrayList<>();
+    List<String> dropped = new CopyOnWriteArrayList<>();
+    dispatcher.dispatch("run-1", () -> dispatched.add("run-1"), () -> dropped.add("run-1"));
+
+    dispatcher.shutdown();
+
+    assertThat(dispatched).containsExactly("run-1");
+    assertThat(dropped).isEmpty();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.workflow.config.WorkflowRunReconcilerConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowRunStatusReconcilerTest {
+
+  private static final String PARTITION_ID = "opendes";
+  private static final String WORKFLOW_NAME = "workflow-name";
+  private static final String SYSTEM_WORKFLOW_NAME = "system-workflow-name";
+  private static final String TOKEN = "Bearer token";
+  private static final String CURSOR = "cursor";
+
+  @Mock private WorkflowRunReconcilerConfig reconcilerConfig;
+  @Mock private IWorkflowRunSweepCoordinator sweepCoordinator;
+  @Mock private IServiceAccountJwtClient serviceAccountJwtClient;
+  @Mock private IWorkflowRunRepository workflowRunRepository;
+  @Mock private IWorkflowRunService workflowRunService;
+
+  @InjectMocks private WorkflowRunStatusReconciler reconciler;
+
+  @BeforeEach
+  void setUp() {
+    when(reconcilerConfig.getMaxConcurrency()).thenReturn(2);
+    when(reconcilerConfig.getSweepIntervalSeconds()).thenReturn(3600L);
+    reconciler.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    reconciler.stop();
+  }
+
+  @Test
+  void sweepPartitionRefreshesActiveRunsAndRecordsSweep() throws Exception {
+    WorkflowRun running = buildWorkflowRun(WORKFLOW_NAME, "run-1", WorkflowStatusType.RUNNING);
+    WorkflowRun submitted = buildWorkflowRun(SYSTEM_WORKFLOW_NAME, "run-3", WorkflowStatusType.SUBMITTED);
+    AtomicReference<String> partitionInRefresh = new AtomicReference<>();
+
+    when(reconcilerConfig.getLeaseSeconds()).thenReturn(180L);
+    when(reconcilerConfig.getPageSize()).thenReturn(1);
+    when(sweepCoordinator.tryAcquireLease(eq(PARTITION_ID), anyString(), eq(Duration.ofSeconds(180))))
+        .thenReturn(true);
+    when(serviceAccountJwtClient.getIdToken(PARTITION_ID)).thenReturn(TOKEN);
+    when(workflowRunRepository.getActiveWorkflowRuns(1, null))
+        .thenReturn(new WorkflowRunsPage(Collections.singletonList(running), CURSOR));
+    when(workflowRunRepository.getActiveWorkflowRuns(1, CURSOR))
+        .thenReturn(new WorkflowRunsPage(Collections.singletonList(submitted), null));
+    when(workflowRunService.refreshWorkflowRunStatus(any(WorkflowRun.class))).thenAnswer(invocation -> {
+      ServletRequestAttributes attributes =
+          (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+      partitionInRefresh.set(attributes.getRequest().getHeader("data-partition-id"));
+      return invocation.getArgument(0);
+    });
+
+    boolean swept = reconciler.sweepPartition(PARTITION_ID);
+
+    assertThat(swept).isTrue();
+    verify(workflowRunService).refreshWorkflowRunStatus(running);
+    verify(workflowRunService).refreshWorkflowRunStatus(submitted);
+    verify(workflowRunRepository, never()).getWorkflowRunsByWorkflowName(anyString(), any(), any());
+    verify(sweepCoordinator).recordCompletedSweep(eq(PARTITION_ID), anyLong());
+    assertThat(partitionInRefresh.get()).isEqualTo(PARTITION_ID);
+    assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+  }
+
+  @Test
+  void sweepPartitionDoesNotRecordSweepWhenRefreshFails() throws Exception {
+    List<WorkflowRun> runs = Arrays.asList(
+        buildWorkflowRun(WORKFLOW_NAME, "run-1", WorkflowStatusType.RUNNING),
+        buildWorkflowRun(WORKFLOW_NAME, "run-2", WorkflowStatusType.QUEUED));
+
+    when(reconcilerConfig.getLeaseSeconds()).thenReturn(180L);
+    when(reconcilerConfig.getPageSize()).thenReturn(100);
+    when(sweepCoordinator.tryAcquireLease(eq(PARTITION_ID), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    when(serviceAccountJwtClient.getIdToken(PARTITION_ID)).thenReturn(TOKEN);
+    when(workflowRunRepository.getActiveWorkflowRuns(100, null))
+        .thenReturn(new WorkflowRunsPage(runs, null));
+    when(workflowRunService.refreshWorkflowRunStatus(runs.get(0))).thenReturn(runs.get(0));
+    when(workflowRunService.refreshWorkflowRunStatus(runs.get(1)))
+        .thenThrow(new IllegalStateException("Airflow is unavailable"));
+
+    boolean swept = reconciler.sweepPartition(PARTITION_ID);
+
+    assertThat(swept).isFalse();
+    verify(workflowRunService, times(2)).refreshWorkflowRunStatus(any(WorkflowRun.class));
+    verify(sweepCoordinator, never()).recordCompletedSweep(anyString(), anyLong());
+  }
+
+  @Test
+  void sweepPartitionSkipsPartitionLeasedByAnotherReplica() throws Exception {
+    when(reconcilerConfig.getLeaseSeconds()).thenReturn(180L);
+    when(sweepCoordinator.tryAcquireLease(eq(PARTITION_ID), anyString(), any(Duration.class)))
+        .thenReturn(false);
+
+    boolean swept = reconciler.sweepPartition(PARTITION_ID);
+
+    assertThat(swept).isFalse();
+    verifyNoInteractions(serviceAccountJwtClient, workflowRunRepository, workflowRunService);
+  }
+
+  @Test
+  void inMemoryCoordinatorGrantsLeaseToSingleOwnerUntilExpired() {
+    InMemoryWorkflowRunSweepCoordinator coordinator = new InMemoryWorkflowRunSweepCoordinator();
+
+    assertThat(coordinator.tryAcquireLease(PARTITION_ID, "owner-1", Duration.ofMinutes(1))).isTrue();
+    assertThat(coordinator.tryAcquireLease(PARTITION_ID, "owner-2", Duration.ofMinutes(1))).isFalse();
+    assertThat(coordinator.tryAcquireLease(PARTITION_ID, "owner-1", Duration.ZERO)).isTrue();
+    assertThat(coordinator.tryAcquireLease(PARTITION_ID, "owner-2", Duration.ofMinutes(1))).isTrue();
+    coordinator.releaseLease(PARTITION_ID, "owner-2");
+    assertThat(coordinator.tryAcquireLease(PARTITION_ID, "owner-1", Duration.ofMinutes(1))).isTrue();
+
+    coordinator.recordCompletedSweep(PARTITION_ID, 20L);
+    coordinator.recordCompletedSweep(PARTITION_ID, 10L);
+    assertThat(coordinator.getLastCompletedSweep(PARTITION_ID)).isEqualTo(20L);
+  }
+
+  private WorkflowRun buildWorkflowRun(String workflowName, String runId, WorkflowStatusType status) {
+    return WorkflowRun.builder().workflowName(workflowName).runId(runId).status(status).build();
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowRunStatusConfig;
+import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
+import org.springframework.beans.factory.ObjectProvider;
+
+class WorkflowRunStatusWatcherTest {
+
+  private static final String WORKFLOW_NAME = "csv-ingestion";
+  private static final String RUN_ID = "run-id";
+
+  private final IWorkflowRunService workflowRunService = mock(IWorkflowRunService.class);
+  private final DpsHeaders dpsHeaders = mock(DpsHeaders.class);
+  private final WorkflowRunStatusConfig statusConfig = new WorkflowRunStatusConfig();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private WorkflowRunStatusWatcher watcher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    statusConfig.setWaitInitialIntervalMillis(100);
+    statusConfig.setWaitMaxIntervalMillis(200);
+    when(dpsHeaders.getPartitionId()).thenReturn("opendes");
+    when(dpsHeaders.getHeaders()).thenReturn(Map.of(DpsHeaders.DATA_PARTITION_ID, "opendes"));
+    ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    watcher = new WorkflowRunStatusWatcher(workflowRunService, dpsHeaders, statusConfig, meterRegistryProvider);
+  }
+
+  @AfterEach
+  void tearDown() {
+    watcher.stop();
+  }
+
+  @Test
+  void shouldReturnWithoutWatchingWhenConditionIsAlreadyMet() {
+    when(workflowRunService.getWorkflowRunByNameAsync(WORKFLOW_NAME, RUN_ID, null))
+        .thenReturn(completed(WorkflowStatusType.RUNNING));
+
+    CompletableFuture<WorkflowRunResponse> response =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "started", "30s", null);
+
+    assertThat(response.join().getStatus()).isEqualTo(WorkflowStatusType.RUNNING);
+    assertThat(meterRegistry.get("workflow.run.wait.watches").gauge().value()).isZero();
+  }
+
+  @Test
+  void shouldShareOneWatchBetweenWaitersOfTheSameRun() throws Exception {
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(completed(WorkflowStatusType.RUNNING));
+    when(workflowRunService.pollWorkflowRunAsync(eq(WORKFLOW_NAME), eq(RUN_ID), anyLong()))
+        .thenReturn(completed(WorkflowStatusType.FINISHED));
+
+    CompletableFuture<WorkflowRunResponse> first =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "10s", null);
+    CompletableFuture<WorkflowRunResponse> second =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "TERMINAL", null, null);
+
+    assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WorkflowStatusType.FINISHED);
+    assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WorkflowStatusType.FINISHED);
+    verify(workflowRunService, times(2)).getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull());
+    verify(workflowRunService, times(1)).pollWorkflowRunAsync(WORKFLOW_NAME, RUN_ID, 100L);
+    assertThat(meterRegistry.get("workflow.run.wait.checks").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("workflow.run.wait.watches").gauge().value()).isZero();
+  }
+
+  @Test
+  void shouldReturnLastKnownRunWhenWaitTimesOut() throws Exception {
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(completed(WorkflowStatusType.SUBMITTED));
+    when(workflowRunService.pollWorkflowRunAsync(eq(WORKFLOW_NAME), eq(RUN_ID), anyLong()))
+        .thenReturn(completed(WorkflowStatusType.RUNNING));
+
+    CompletableFuture<WorkflowRunResponse> response =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "250ms", null);
+
+    assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WorkflowStatusType.RUNNING);
+  }
+
+  @Test
+  void shouldCompleteWaitWithoutRequestScope() throws Exception {
+    CompletableFuture<WorkflowRunResponse> initialRead = new CompletableFuture<>();
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(initialRead);
+    when(workflowRunService.pollWorkflowRunAsync(eq(WORKFLOW_NAME), eq(RUN_ID), anyLong()))
+        .thenReturn(completed(WorkflowStatusType.FINISHED));
+
+    CompletableFuture<WorkflowRunResponse> response =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "10s", null);
+    // The request has ended by the time the first read completes on another thread
+    when(dpsHeaders.getPartitionId()).thenThrow(new IllegalStateException("No thread-bound request found"));
+    when(dpsHeaders.getHeaders()).thenThrow(new IllegalStateException("No thread-bound request found"));
+    Thread reader = new Thread(() -> initialRead.complete(completed(WorkflowStatusType.RUNNING).join()));
+    reader.start();
+    reader.join();
+
+    assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WorkflowStatusType.FINISHED);
+  }
+
+  @Test
+  void shouldCallEngineOncePerCheckWithinTheCurrentInterval() throws Exception {
+    // The service calls the engine only if the stored status is older than the budget
+    final AtomicLong lastStatusCheck = new AtomicLong(System.currentTimeMillis());
+    final AtomicInteger engineCalls = new AtomicInteger();
+    final List<Long> budgets = new CopyOnWriteArrayList<>();
+    when(workflowRunService.getWorkflowRunByNameAsync(eq(WORKFLOW_NAME), eq(RUN_ID), isNull()))
+        .thenReturn(completed(WorkflowStatusType.RUNNING));
+    when(workflowRunService.pollWorkflowRunAsync(eq(WORKFLOW_NAME), eq(RUN_ID), anyLong()))
+        .thenAnswer(invocation -> {
+          final long budget = invocation.getArgument(2);
+          final long now = System.currentTimeMillis();
+          budgets.add(budget);
+          if (now - lastStatusCheck.get() > budget) {
+            engineCalls.incrementAndGet();
+            lastStatusCheck.set(now);
+          }
+          return completed(WorkflowStatusType.RUNNING);
+        });
+
+    final List<CompletableFuture<WorkflowRunResponse>> waiters = List.of(
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "550ms", null),
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "550ms", null),
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "550ms", null));
+    for (CompletableFuture<WorkflowRunResponse> waiter : waiters) {
+      assertThat(waiter.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WorkflowStatusType.RUNNING);
+    }
+
+    final long checkCount = (long) meterRegistry.get("workflow.run.wait.checks").counter().count();
+    assertThat(budgets).hasSize((int) checkCount);
+    assertThat(budgets.get(0)).isEqualTo(100L);
+    assertThat(budgets.subList(1, budgets.size())).containsOnly(200L);
+    assertThat(engineCalls.get()).isLessThanOrEqualTo((int) checkCount);
+    assertThat(checkCount).isBetween(2L, 3L);
+  }
+
+  @Test
+  void shouldCapTimeoutAtMaxWait() throws Exception {
+    statusConfig.setMaxWaitSeconds(0);
+    when(workflowRunService.getWorkflowRunByNameAsync(WORKFLOW_NAME, RUN_ID, null))
+        .thenReturn(completed(WorkflowStatusType.RUNNING));
+
+    CompletableFuture<WorkflowRunResponse> response =
+        watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "1h", null);
+
+    assertThat(response.isDone()).isTrue();
+    assertThat(response.join().getStatus()).isEqualTo(WorkflowStatusType.RUNNING);
+  }
+
+  @Test
+  void shouldRejectInvalidWaitParameters() {
+    AppException invalidCondition = assertThrows(AppException.class,
+        () -> watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "forever", null, null));
+    AppException invalidTimeout = assertThrows(AppException.class,
+        () -> watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "soon", null));
+    AppException negativeTimeout = assertThrows(AppException.class,
+        () -> watcher.waitForWorkflowRun(WORKFLOW_NAME, RUN_ID, "terminal", "-5s", null));
+
+    assertThat(invalidCondition.getError().getCode()).isEqualTo(400);
+    assertThat(invalidTimeout.getError().getCode()).isEqualTo(400);
+    assertThat(negativeTimeout.getError().getCode()).isEqualTo(400);
+  }
+
+  private static CompletableFuture<WorkflowRunResponse> completed(WorkflowStatusType status) {
+    return CompletableFuture.completedFuture(WorkflowRunResponse.builder()
+        .runId(RUN_ID)
+        .status(status)
+        .build());
+  }
+}
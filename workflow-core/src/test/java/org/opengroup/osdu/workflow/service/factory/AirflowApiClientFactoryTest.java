@@ -19,10 +19,13 @@ package org.opengroup.osdu.workflow.service.factory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +34,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowRetryConfig;
+import org.opengroup.osdu.workflow.config.WorkflowMetricsConfig;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.service.AirflowRetryPolicy;
+import org.opengroup.osdu.workflow.service.MeteredAirflowApiClient;
+import org.opengroup.osdu.workflow.service.RetryingAirflowApiClient;
 import org.opengroup.osdu.workflow.service.spi.IAirflowApiClientServiceProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +54,8 @@ class AirflowApiClientFactoryTest {
   @Mock private IAirflowApiClientServiceProvider provider1;
   @Mock private IAirflowApiClientServiceProvider provider2;
   @Mock private IAirflowApiClient expectedClient;
+  @Mock private ObjectProvider<MeterRegistry> meterRegistryProvider;
+  @Mock private ObjectProvider<AirflowRetryPolicy> retryPolicyProvider;
 
   @InjectMocks private AirflowApiClientFactory factory;
 
@@ -54,7 +65,9 @@ class AirflowApiClientFactoryTest {
     when(provider1.supports(SUPPORTED_TYPE)).thenReturn(false);
     when(provider2.supports(SUPPORTED_TYPE)).thenReturn(true);
     when(provider2.create(MOCK_AIRFLOW_CONFIG)).thenReturn(expectedClient);
-    factory = new AirflowApiClientFactory(List.of(provider1, provider2));
+    factory = new AirflowApiClientFactory(
+        List.of(provider1, provider2), metricsConfig(false), meterRegistryProvider,
+        retryPolicyProvider);
 
     // when
     IAirflowApiClient result = factory.createAirflowApiClient(SUPPORTED_TYPE, MOCK_AIRFLOW_CONFIG);
@@ -64,12 +77,49 @@ class AirflowApiClientFactoryTest {
     verify(provider2).create(MOCK_AIRFLOW_CONFIG);
   }
 
+  @Test
+  void should_WrapAirflowApiClientWithMetrics_when_MetricsEnabled() {
+    // given
+    when(provider1.supports(SUPPORTED_TYPE)).thenReturn(true);
+    when(provider1.create(MOCK_AIRFLOW_CONFIG)).thenReturn(expectedClient);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+    factory = new AirflowApiClientFactory(
+        List.of(provider1, provider2), metricsConfig(true), meterRegistryProvider,
+        retryPolicyProvider);
+
+    // when
+    IAirflowApiClient result = factory.createAirflowApiClient(SUPPORTED_TYPE, MOCK_AIRFLOW_CONFIG);
+
+    // then
+    assertThat(result).isInstanceOf(MeteredAirflowApiClient.class);
+  }
+
+  @Test
+  void should_WrapAirflowApiClientWithRetries_when_RetriesEnabled() {
+    // given
+    when(provider1.supports(SUPPORTED_TYPE)).thenReturn(true);
+    when(provider1.create(MOCK_AIRFLOW_CONFIG)).thenReturn(expectedClient);
+    when(retryPolicyProvider.getIfAvailable())
+        .thenReturn(new AirflowRetryPolicy(new AirflowRetryConfig(), new SimpleMeterRegistry()));
+    factory = new AirflowApiClientFactory(
+        List.of(provider1, provider2), metricsConfig(false), meterRegistryProvider,
+        retryPolicyProvider);
+
+    // when
+    IAirflowApiClient result = factory.createAirflowApiClient(SUPPORTED_TYPE, MOCK_AIRFLOW_CONFIG);
+
+    // then
+    assertThat(result).isInstanceOf(RetryingAirflowApiClient.class);
+  }
+
   @Test
   void should_ThrowException_when_NoProviderSupportsType() {
     // given
     when(provider1.supports(UNSUPPORTED_TYPE)).thenReturn(false);
     when(provider2.supports(UNSUPPORTED_TYPE)).thenReturn(false);
-    factory = new AirflowApiClientFactory(List.of(provider1, provider2));
+    factory = new AirflowApiClientFactory(
+        List.of(provider1, provider2), metricsConfig(true), meterRegistryProvider,
+        retryPolicyProvider);
 
     // when & then
     AppException ex =
@@ -80,4 +130,10 @@ class AirflowApiClientFactoryTest {
     assertThat(ex.getMessage()).contains("Unsupported Airflow API client type");
     assertThat(ex.getError().getMessage()).contains(UNSUPPORTED_TYPE);
   }
+
+  private static WorkflowMetricsConfig metricsConfig(boolean enabled) {
+    WorkflowMetricsConfig metricsConfig = new WorkflowMetricsConfig();
+    metricsConfig.setEnabled(enabled);
+    return metricsConfig;
+  }
 }
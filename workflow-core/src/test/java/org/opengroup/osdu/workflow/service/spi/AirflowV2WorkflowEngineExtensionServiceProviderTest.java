@@ -19,11 +19,14 @@ package org.opengroup.osdu.workflow.service.spi;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.AirflowTaskDetailsConfig;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineExtension;
 
@@ -36,6 +39,15 @@ class AirflowV2WorkflowEngineExtensionServiceProviderTest {
   @Mock
   private IAirflowApiClient airflowApiClient;
 
+  @Mock
+  private AirflowTaskDetailsConfig taskDetailsConfig;
+
+  @Mock
+  private ExecutorService airflowXcomExecutor;
+
+  @Mock
+  private DpsHeaders dpsHeaders;
+
   @InjectMocks
   private AirflowV2WorkflowEngineExtensionServiceProvider provider;
 
@@ -48,6 +48,7 @@ class BasicAuthAirflowConfigServiceProviderTest {
   private static final String BASIC_AUTH1 = "BasicAuth";
   private static final String BASIC_AUTH2 = "basicauth";
   private static final String BASIC_AUTH3 = "BASICAUTH";
+  private static final String POOLED_BASIC_AUTH = "PooledBasicAuth";
   private static final String OTHER_AUTH = "OtherAuth";
 
   @Mock
@@ -62,6 +63,11 @@ class BasicAuthAirflowConfigServiceProviderTest {
     assertThat(provider.supports(BASIC_AUTH3)).isTrue();
   }
 
+  @Test
+  void should_ReturnTrue_when_SupportsPooledBasicAuthType() {
+    assertThat(provider.supports(POOLED_BASIC_AUTH)).isTrue();
+  }
+
   @Test
   void should_ReturnFalse_when_SupportsNotBasicAuthType() {
     assertThat(provider.supports(null)).isFalse();
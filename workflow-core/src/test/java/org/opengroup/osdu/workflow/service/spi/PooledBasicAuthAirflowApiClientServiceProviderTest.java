@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.service.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowHttpClientConfig;
+import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
+import org.opengroup.osdu.workflow.service.PooledAirflowApiClient;
+
+class PooledBasicAuthAirflowApiClientServiceProviderTest {
+
+  private static final String POOLED_BASIC_AUTH = "PooledBasicAuth";
+
+  private final PooledBasicAuthAirflowApiClientServiceProvider provider =
+      new PooledBasicAuthAirflowApiClientServiceProvider(new AirflowHttpClientConfig());
+
+  @Test
+  void should_DoSupport_when_AuthTypeIsPooledBasicAuthCaseInsensitive() {
+    assertThat(provider.supports(POOLED_BASIC_AUTH)).isTrue();
+    assertThat(provider.supports(POOLED_BASIC_AUTH.toLowerCase())).isTrue();
+    assertThat(provider.supports(POOLED_BASIC_AUTH.toUpperCase())).isTrue();
+  }
+
+  @Test
+  void should_NotSupport_when_AuthTypeIsIncorrect() {
+    assertThat(provider.supports("BasicAuth")).isFalse();
+    assertThat(provider.supports("")).isFalse();
+    assertThat(provider.supports(null)).isFalse();
+  }
+
+  @Test
+  void should_CreatePooledAirflowApiClient_when_AirflowConfigIsProvided() {
+    AirflowConfig airflowConfig = new AirflowConfig();
+    airflowConfig.setUrl("https://airflow.com");
+
+    IAirflowApiClient apiClient = provider.create(airflowConfig);
+
+    assertThat(apiClient).isInstanceOf(PooledAirflowApiClient.class);
+  }
+}
@@ -19,7 +19,15 @@ package org.opengroup.osdu.workflow.services;
 
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opengroup.osdu.workflow.service.AirflowV2WorkflowEngineExtension.GET_RUN_TASKS_ERROR_MESSAGE;
 import static org.opengroup.osdu.workflow.service.AirflowV2WorkflowEngineExtension.GET_TASKS_XCOM_ERROR_MESSAGE;
 import static org.opengroup.osdu.workflow.service.AirflowV2WorkflowEngineExtension.GET_XCOM_VALUES_ERROR_MESSAGE;
@@ -36,22 +44,33 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.ws.rs.HttpMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.workflow.config.AirflowConfig;
+import org.opengroup.osdu.workflow.config.AirflowTaskDetailsConfig;
 import org.opengroup.osdu.workflow.model.ClientResponse;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowApiClient;
 import org.opengroup.osdu.workflow.service.AirflowV2WorkflowEngineExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 public class IWorkflowEngineExtensionTest {
 
   public static final String WORKFLOW_NAME = "test_workflow";
+  public static final String PARTITION_ID = "opendes";
   public static final String DAG_RUN_ID = "test_id";
   public static final String LAST_TASK_ID = "update_status_finished";
   public static final String SAVED_RECORDS_XCOM_KEY = "saved_record_ids";
@@ -75,13 +94,96 @@ public class IWorkflowEngineExtensionTest {
 
   @Mock IAirflowApiClient airflowApiClient;
 
-  @InjectMocks AirflowV2WorkflowEngineExtension engineExtension;
+  private ExecutorService airflowXcomExecutor;
+
+  private AirflowV2WorkflowEngineExtension engineExtension;
+
+  @BeforeEach
+  void setUp() {
+    airflowXcomExecutor = Executors.newFixedThreadPool(2);
+    engineExtension = new AirflowV2WorkflowEngineExtension(
+        airflowApiClient, new AirflowTaskDetailsConfig(), airflowXcomExecutor, dpsHeaders);
+    lenient().when(dpsHeaders.getHeaders()).thenReturn(Map.of(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+    // responses are decoded from the buffered body, as by clients without a streaming transport
+    lenient().when(airflowApiClient.callAirflow(any(), any(), any(), any(), any(), any()))
+        .thenCallRealMethod();
+  }
+
+  @AfterEach
+  void tearDown() {
+    airflowXcomExecutor.shutdownNow();
+  }
 
   @Test
   void testGetLastDetails() throws JsonProcessingException {
+    stubAirflowResponses(readRespBodyFromFile(AIRFLOW_RESPONSES_TASK_INSTANCES_JSON));
+
+    Object lastDetails = engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    Object expectedResponse = readRespBodyFromFile(AIRFLOW_RESPONSES_EXPECTED_RESP_JSON);
+    JsonNode expectedValue = objectMapper.readValue(expectedResponse.toString(), ObjectNode.class);
+
+    assertEquals(expectedValue, lastDetails);
+  }
+
+  @Test
+  void testGetLastDetailsOfCompletedRunIsCached() {
+    stubAirflowResponses(readRespBodyFromFile(AIRFLOW_RESPONSES_TASK_INSTANCES_JSON));
+
+    Object firstDetails = engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
+    Object secondDetails = engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
+
+    assertEquals(firstDetails, secondDetails);
+    verify(airflowApiClient, times(4)).callAirflow(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testGetLastDetailsOfRunningRunIsNotCached() {
+    stubAirflowResponses(readRespBodyFromFile(AIRFLOW_RESPONSES_TASK_INSTANCES_JSON).toString()
+        .replaceFirst("\"state\": \"success\"", "\"state\": \"running\""));
+
+    engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
+    engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
+
+    verify(airflowApiClient, times(8)).callAirflow(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testGetLastDetailsWaitsForXcomLookupsInFlightOnFailure() {
+    stubAirflowResponses(readRespBodyFromFile(AIRFLOW_RESPONSES_TASK_INSTANCES_JSON));
+    String xcomValErrMsg = format(GET_XCOM_VALUES_ERROR_MESSAGE, LAST_TASK_ID);
+    doThrow(new AppException(502, "Bad Gateway", xcomValErrMsg))
+        .when(airflowApiClient)
+        .callAirflow(HttpMethod.GET,
+            format(XCOM_VALUES, WORKFLOW_NAME, DAG_RUN_ID, LAST_TASK_ID, SAVED_RECORDS_XCOM_KEY),
+            null, null, xcomValErrMsg);
+    AtomicReference<String> lookupPartitionId = new AtomicReference<>();
+    AtomicBoolean lookupFinished = new AtomicBoolean();
+    doAnswer(invocation -> {
+      Thread.sleep(200);
+      lookupPartitionId.set(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+          .getRequest().getHeader(DpsHeaders.DATA_PARTITION_ID));
+      lookupFinished.set(true);
+      return ClientResponse.builder()
+          .responseBody(readRespBodyFromFile(AIRFLOW_RESPONSES_XCOM_SKIPPED_IDS_JSON))
+          .build();
+    })
+        .when(airflowApiClient)
+        .callAirflow(HttpMethod.GET,
+            format(XCOM_VALUES, WORKFLOW_NAME, DAG_RUN_ID, LAST_TASK_ID, SKIPPED_RECORDS_XCOM_KEY),
+            null, null, xcomValErrMsg);
+
+    assertThrows(AppException.class, () -> engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID));
+
+    assertTrue(lookupFinished.get());
+    assertEquals(PARTITION_ID, lookupPartitionId.get());
+  }
+
+  private void stubAirflowResponses(Object taskInstances) {
     ClientResponse tasksResponse =
         ClientResponse.builder()
-            .responseBody(readRespBodyFromFile(AIRFLOW_RESPONSES_TASK_INSTANCES_JSON))
+            .responseBody(taskInstances)
             .build();
 
     String endpoint = format(TASK_INSTANCES, WORKFLOW_NAME, DAG_RUN_ID);
@@ -128,13 +230,6 @@ public class IWorkflowEngineExtensionTest {
         .when(airflowApiClient)
         .callAirflow(HttpMethod.GET, skippedRecordIds, null, null, xcomValErrMsg);
 
-    Object lastDetails = engineExtension.getLatestTaskDetails(WORKFLOW_NAME, DAG_RUN_ID);
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    Object expectedResponse = readRespBodyFromFile(AIRFLOW_RESPONSES_EXPECTED_RESP_JSON);
-    JsonNode expectedValue = objectMapper.readValue(expectedResponse.toString(), ObjectNode.class);
-
-    assertEquals(expectedValue, lastDetails);
   }
 
   private Object readRespBodyFromFile(String fileName) {
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.opengroup.osdu.workflow.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+
+class IWorkflowRunRepositoryTest {
+
+  private IWorkflowRunRepository workflowRunRepository;
+
+  @BeforeEach
+  void setUp() {
+    workflowRunRepository = mock(IWorkflowRunRepository.class, CALLS_REAL_METHODS);
+  }
+
+  @Test
+  void testSaveWorkflowRunsReturnsClientErrorOfRejectedRun() {
+    //given
+    doAnswer(invocation -> {
+      WorkflowRun workflowRun = invocation.getArgument(0);
+      if ("run-2".equals(workflowRun.getRunId())) {
+        throw new AppException(409, "Conflict", "Workflow run run-2 already exists");
+      }
+      return workflowRun;
+    }).when(workflowRunRepository).saveWorkflowRun(any(WorkflowRun.class));
+
+    //when
+    List<WorkflowRunSaveResult> results = workflowRunRepository.saveWorkflowRuns(
+        Arrays.asList(workflowRun("run-1"), workflowRun("run-2"), workflowRun("run-3")));
+
+    //then
+    assertThat(results.size(), equalTo(3));
+    assertThat(results.get(0).getWorkflowRun().getRunId(), equalTo("run-1"));
+    assertThat(results.get(0).getError(), nullValue());
+    assertThat(results.get(1).getRunId(), equalTo("run-2"));
+    assertThat(results.get(1).getWorkflowRun(), nullValue());
+    assertThat(results.get(1).getError().getCode(), equalTo(409));
+    assertThat(results.get(2).getWorkflowRun().getRunId(), equalTo("run-3"));
+  }
+
+  @Test
+  void testSaveWorkflowRunsReturnsServerErrorOfFailedRunOnly() {
+    //given
+    doAnswer(invocation -> {
+      WorkflowRun workflowRun = invocation.getArgument(0);
+      if ("run-1".equals(workflowRun.getRunId())) {
+        throw new AppException(500, "data save operation failed", "Workflow details failed to persist");
+      }
+      if ("run-2".equals(workflowRun.getRunId())) {
+        throw new IllegalStateException("Store unavailable");
+      }
+      return workflowRun;
+    }).when(workflowRunRepository).saveWorkflowRun(any(WorkflowRun.class));
+
+    //when
+    List<WorkflowRunSaveResult> results = workflowRunRepository.saveWorkflowRuns(
+        Arrays.asList(workflowRun("run-1"), workflowRun("run-2"), workflowRun("run-3")));
+
+    //then
+    verify(workflowRunRepository, times(3)).saveWorkflowRun(any(WorkflowRun.class));
+    assertThat(results.get(0).getError().getCode(), equalTo(500));
+    assertThat(results.get(1).getError().getCode(), equalTo(500));
+    assertThat(results.get(1).getWorkflowRun(), nullValue());
+    assertThat(results.get(2).getWorkflowRun().getRunId(), equalTo("run-3"));
+    assertThat(results.get(2).getError(), nullValue());
+  }
+
+  private static WorkflowRun workflowRun(String runId) {
+    return WorkflowRun.builder().runId(runId).build();
+  }
+}
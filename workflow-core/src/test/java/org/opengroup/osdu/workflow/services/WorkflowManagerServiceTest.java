@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -25,6 +26,7 @@ import org.opengroup.osdu.core.common.exception.BadRequestException;
 import org.opengroup.osdu.core.common.exception.CoreException;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.config.WorkflowMetadataCacheConfig;
 import org.opengroup.osdu.workflow.exception.ResourceConflictException;
 import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
 import org.opengroup.osdu.workflow.logging.AuditLogger;
@@ -36,7 +38,9 @@ import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunService;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+import org.opengroup.osdu.workflow.service.WorkflowMetadataCache;
 import org.opengroup.osdu.workflow.service.WorkflowManagerServiceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /** Tests for {@link WorkflowManagerServiceImpl} */
 @ExtendWith(MockitoExtension.class)
@@ -100,6 +104,14 @@ class WorkflowManagerServiceTest {
   @InjectMocks
   private WorkflowManagerServiceImpl workflowManagerService;
 
+  @BeforeEach
+  void setUp() {
+    WorkflowMetadataCacheConfig metadataCacheConfig = new WorkflowMetadataCacheConfig();
+    metadataCacheConfig.setEnabled(false);
+    ReflectionTestUtils.setField(workflowManagerService, "workflowMetadataCache", new WorkflowMetadataCache(
+        workflowMetadataRepository, workflowSystemMetadataRepository, dpsHeaders, metadataCacheConfig));
+  }
+
   @Test
   void testCreateWorkflowWithValidData() throws Exception {
     // given
@@ -14,12 +14,26 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -27,29 +41,53 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.exception.CoreException;
+import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.status.Status;
+import org.opengroup.osdu.workflow.config.WorkflowAdmissionConfig;
+import org.opengroup.osdu.workflow.config.WorkflowMetadataCacheConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunBatchConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunDispatchConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunReconcilerConfig;
+import org.opengroup.osdu.workflow.config.WorkflowRunStatusConfig;
+import org.opengroup.osdu.workflow.exception.RetryAfterException;
 import org.opengroup.osdu.workflow.exception.WorkflowNotFoundException;
 import org.opengroup.osdu.workflow.exception.WorkflowRunCompletedException;
 import org.opengroup.osdu.workflow.exception.WorkflowRunNotFoundException;
 import org.opengroup.osdu.workflow.gsm.WorkflowStatusPublisher;
 import org.opengroup.osdu.workflow.logging.AuditLogger;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchItemResponse;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchRequest;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowBatchResponse;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
 import org.opengroup.osdu.workflow.model.TriggerWorkflowResponse;
 import org.opengroup.osdu.workflow.model.UpdateWorkflowRunRequest;
 import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
 import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunBatchGetResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunSaveResult;
 import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackRequest;
+import org.opengroup.osdu.workflow.model.WorkflowRunStatusCallbackResponse;
 import org.opengroup.osdu.workflow.model.WorkflowRunsPage;
 import org.opengroup.osdu.workflow.model.WorkflowStatusType;
 import org.opengroup.osdu.workflow.provider.interfaces.IAirflowResolver;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowEngineService;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowMetadataRepository;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunRepository;
+import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowRunSweepCoordinator;
 import org.opengroup.osdu.workflow.provider.interfaces.IWorkflowSystemMetadataRepository;
+import org.opengroup.osdu.workflow.service.CompletedWorkflowRunCache;
+import org.opengroup.osdu.workflow.service.LocalWorkflowAdmissionState;
+import org.opengroup.osdu.workflow.service.WorkflowAdmissionController;
+import org.opengroup.osdu.workflow.service.WorkflowMetadataCache;
+import org.opengroup.osdu.workflow.service.WorkflowRunDispatcher;
 import org.opengroup.osdu.workflow.service.WorkflowRunServiceImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Tests for {@link WorkflowRunServiceImpl}
@@ -68,6 +106,7 @@ class WorkflowRunServiceTest {
   private static final String CORRELATION_ID = "some-correlation-id";
   private static final String RUN_ID = "d13f7fd0-d27e-4176-8d60-6e9aad86e347";
   private static final String USER_EMAIL = "user@email.com";
+  private static final String PARTITION_ID = "opendes";
   private static final String TEST_CURSOR = "test-cursor";
   private static final String EXECUTION_DATE = "2021-01-05T11:36:45+00:00";
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -137,6 +176,14 @@ class WorkflowRunServiceTest {
       "  \"status\": \"finished\"\n" +
       "}";
 
+  private static final String WORKFLOW_TRIGGER_BATCH_REQUEST_DATA = "{\n" +
+      "  \"workflowRuns\": [\n" +
+      "    {\"runId\": \"run-1\", \"executionContext\": {\"key\": \"value-1\"}},\n" +
+      "    {\"runId\": \"run-2\", \"executionContext\": {\"key\": \"value-2\"}},\n" +
+      "    {\"runId\": \"run-1\", \"executionContext\": {\"key\": \"value-3\"}},\n" +
+      "    {\"runId\": \"run-3\", \"executionContext\": {\"key\": \"value-4\"}}\n" +
+      "  ]\n" +
+      "}";
   private static final String WORKFLOW_TRIGGER_RESPONSE = "{\n" +
       "  \"execution_date\": \"2021-01-05T11:36:45+00:00\",\n" +
       "  \"message\": \"Created <DagRun HelloWorld @ 2021-01-05 11:36:45+00:00: d13f7fd0-d27e-4176-8d60-6e9aad86e347, externally triggered: True>\",\n" +
@@ -167,9 +214,69 @@ class WorkflowRunServiceTest {
   @Mock
   private IAirflowResolver airflowResolver;
 
+  @Mock
+  private WorkflowRunReconcilerConfig reconcilerConfig;
+
+  @Mock
+  private IWorkflowRunSweepCoordinator sweepCoordinator;
+
+  @Mock
+  private WorkflowRunBatchConfig batchConfig;
+
+  @Mock
+  private ExecutorService workflowRunBatchExecutor;
+
+  @Mock
+  private WorkflowRunDispatchConfig dispatchConfig;
+
+  @Mock
+  private WorkflowRunDispatcher workflowRunDispatcher;
+
+  @Mock
+  private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  @Mock
+  private WorkflowRunStatusConfig statusConfig;
+
+  @Mock
+  private CompletedWorkflowRunCache completedWorkflowRunCache;
+
+  private final WorkflowAdmissionConfig admissionConfig = new WorkflowAdmissionConfig();
+
   @InjectMocks
   private WorkflowRunServiceImpl workflowRunService;
 
+  @BeforeEach
+  void setUp() {
+    WorkflowMetadataCacheConfig metadataCacheConfig = new WorkflowMetadataCacheConfig();
+    metadataCacheConfig.setEnabled(false);
+    ReflectionTestUtils.setField(workflowRunService, "workflowMetadataCache", new WorkflowMetadataCache(
+        workflowMetadataRepository, workflowSystemMetadataRepository, dpsHeaders, metadataCacheConfig));
+    ReflectionTestUtils.setField(workflowRunService, "admissionController",
+        new WorkflowAdmissionController(admissionConfig, new LocalWorkflowAdmissionState(),
+            new SimpleMeterRegistry()));
+  }
+
+  @Test
+  void testTriggerWorkflowRejectedWhenPartitionRateExceeded() throws Exception {
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    admissionConfig.setEnabled(true);
+    admissionConfig.setPartitionBurst(0);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(dpsHeaders.getPartitionId()).thenReturn("opendes");
+
+    RetryAfterException exception = Assertions.assertThrows(RetryAfterException.class,
+        () -> workflowRunService.triggerWorkflow(WORKFLOW_NAME, request));
+
+    assertThat(exception.getError().getCode(), equalTo(429));
+    assertThat(exception.getRetryAfterSeconds() >= 1, equalTo(true));
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+    verify(workflowRunRepository, never()).saveWorkflowRun(any());
+  }
+
   @Test
   void testTriggerWorkflowWithExistingWorkflowId() throws Exception {
     //given
@@ -224,6 +331,77 @@ class WorkflowRunServiceTest {
         equalTo(WorkflowStatusType.SUBMITTED));
   }
 
+  @Test
+  void testTriggerWorkflowAsyncSavesRunWhenEngineAccepts() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowResponse triggerWorkflowResponse = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_RESPONSE, TriggerWorkflowResponse.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    final CompletableFuture<TriggerWorkflowResponse> engineResponse = new CompletableFuture<>();
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.supportsAsync()).thenReturn(true);
+    when(workflowEngineService.triggerWorkflowAsync(any(WorkflowEngineRequest.class),
+        eq(createWorkflowPayload(RUN_ID, request)))).thenReturn(engineResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(AUTH_TOKEN);
+    when(dpsHeaders.getUserEmail()).thenReturn(USER_EMAIL);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor
+        .forClass(WorkflowRun.class);
+    final WorkflowRun responseWorkflowRun = mock(WorkflowRun.class);
+    when(workflowRunRepository.saveWorkflowRun(workflowRunArgumentCaptor.capture()))
+        .thenReturn(responseWorkflowRun);
+
+    //when
+    final CompletableFuture<WorkflowRunResponse> returnedWorkflowRun = workflowRunService
+        .triggerWorkflowAsync(WORKFLOW_NAME, request);
+
+    //then
+    assertThat(returnedWorkflowRun.isDone(), equalTo(false));
+    verify(workflowRunRepository, never()).saveWorkflowRun(any(WorkflowRun.class));
+    engineResponse.complete(triggerWorkflowResponse);
+    assertThat(returnedWorkflowRun.join(), equalTo(buildWorkflowRunResponse(responseWorkflowRun)));
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+    verify(statusPublisher).publishStatusWithNoErrors(eq(RUN_ID), any(DpsHeaders.class), any(String.class), any(Status.class));
+    assertThat(workflowRunArgumentCaptor.getValue().getRunId(), equalTo(RUN_ID));
+    assertThat(workflowRunArgumentCaptor.getValue().getSubmittedBy(), equalTo(USER_EMAIL));
+    assertThat(workflowRunArgumentCaptor.getValue().getWorkflowEngineExecutionDate(), equalTo(EXECUTION_DATE));
+  }
+
+  @Test
+  void testTriggerWorkflowAsyncCallsBlockingEngineDirectly() throws Exception {
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowResponse triggerWorkflowResponse = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_RESPONSE, TriggerWorkflowResponse.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.supportsAsync()).thenReturn(false);
+    when(workflowEngineService.triggerWorkflow(any(WorkflowEngineRequest.class),
+        eq(createWorkflowPayload(RUN_ID, request)))).thenReturn(triggerWorkflowResponse);
+    when(dpsHeaders.getAuthorization()).thenReturn(AUTH_TOKEN);
+    when(dpsHeaders.getUserEmail()).thenReturn(USER_EMAIL);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    final WorkflowRun responseWorkflowRun = mock(WorkflowRun.class);
+    when(workflowRunRepository.saveWorkflowRun(any(WorkflowRun.class))).thenReturn(responseWorkflowRun);
+
+    final CompletableFuture<WorkflowRunResponse> returnedWorkflowRun = workflowRunService
+        .triggerWorkflowAsync(WORKFLOW_NAME, request);
+
+    assertThat(returnedWorkflowRun.isDone(), equalTo(true));
+    assertThat(returnedWorkflowRun.join(), equalTo(buildWorkflowRunResponse(responseWorkflowRun)));
+    verify(workflowEngineService).triggerWorkflow(any(WorkflowEngineRequest.class), any());
+    verify(workflowEngineService, never()).triggerWorkflowAsync(any(), any());
+  }
+
   @Test
   void testTriggerWorkflowWithExistingSystemWorkflowId() throws Exception {
     final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
@@ -333,6 +511,271 @@ class WorkflowRunServiceTest {
     verify(workflowRunRepository, never()).saveWorkflowRun(any());
   }
 
+  @Test
+  void testTriggerWorkflowsReturnsResultOfEveryItem() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowResponse triggerWorkflowResponse = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_RESPONSE, TriggerWorkflowResponse.class);
+    final TriggerWorkflowBatchRequest batchRequest = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_BATCH_REQUEST_DATA, TriggerWorkflowBatchRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowRunBatchExecutor.submit(any(Callable.class))).thenAnswer(invocation -> {
+      FutureTask<?> task = new FutureTask<>(invocation.<Callable<?>>getArgument(0));
+      task.run();
+      return task;
+    });
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(dpsHeaders.getUserEmail()).thenReturn(USER_EMAIL);
+    when(workflowEngineService.triggerWorkflow(any(WorkflowEngineRequest.class), any()))
+        .thenAnswer(invocation -> {
+          WorkflowEngineRequest rq = invocation.getArgument(0);
+          if ("run-2".equals(rq.getRunId())) {
+            throw new AppException(409, "Conflict", "Dag run already exists");
+          }
+          return triggerWorkflowResponse;
+        });
+    final ArgumentCaptor<List<WorkflowRun>> workflowRunsCaptor = ArgumentCaptor.forClass(List.class);
+    when(workflowRunRepository.saveWorkflowRuns(workflowRunsCaptor.capture()))
+        .thenAnswer(invocation -> {
+          List<WorkflowRun> workflowRuns = invocation.getArgument(0);
+          return Arrays.asList(
+              WorkflowRunSaveResult.builder().runId("run-1").workflowRun(workflowRuns.get(0)).build(),
+              WorkflowRunSaveResult.builder().runId("run-3")
+                  .error(AppError.builder().code(409).reason("Conflict")
+                      .message("Workflow run run-3 already exists").build()).build());
+        });
+
+    //when
+    final TriggerWorkflowBatchResponse response =
+        workflowRunService.triggerWorkflows(WORKFLOW_NAME, batchRequest);
+
+    //then
+    verify(workflowMetadataRepository).getWorkflow(eq(WORKFLOW_NAME));
+    verify(airflowResolver).getWorkflowEngineService(workflowMetadata);
+    verify(workflowEngineService, times(3)).triggerWorkflow(any(WorkflowEngineRequest.class), any());
+    assertThat(workflowRunsCaptor.getValue().size(), equalTo(2));
+    assertThat(workflowRunsCaptor.getValue().get(0).getSubmittedBy(), equalTo(USER_EMAIL));
+    assertThat(workflowRunsCaptor.getValue().get(0).getWorkflowEngineExecutionDate(), equalTo(EXECUTION_DATE));
+    verify(statusPublisher).publishStatusesWithNoErrors(eq(Arrays.asList("run-1")), any(DpsHeaders.class),
+        any(String.class), eq(Status.SUBMITTED));
+    verify(workflowRunRepository, never()).saveWorkflowRun(any(WorkflowRun.class));
+
+    assertThat(response.getSucceeded(), equalTo(1));
+    assertThat(response.getFailed(), equalTo(3));
+    List<TriggerWorkflowBatchItemResponse> results = response.getResults();
+    assertThat(results.get(0).getCode(), equalTo(200));
+    assertThat(results.get(0).getWorkflowRun().getStatus(), equalTo(WorkflowStatusType.SUBMITTED));
+    assertThat(results.get(1).getCode(), equalTo(409));
+    assertThat(results.get(1).getRunId(), equalTo("run-2"));
+    assertThat(results.get(2).getCode(), equalTo(400));
+    assertThat(results.get(2).getRunId(), equalTo("run-1"));
+    assertThat(results.get(3).getCode(), equalTo(409));
+    assertThat(results.get(3).getRunId(), equalTo("run-3"));
+    assertThat(results.get(3).getReason(), equalTo("Conflict"));
+  }
+
+  @Test
+  void testTriggerWorkflowsSavesEarlierRunsWhenSubmitIsRejected() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowResponse triggerWorkflowResponse = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_RESPONSE, TriggerWorkflowResponse.class);
+    final TriggerWorkflowBatchRequest batchRequest = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_BATCH_REQUEST_DATA, TriggerWorkflowBatchRequest.class);
+    final AtomicInteger submits = new AtomicInteger();
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowRunBatchExecutor.submit(any(Callable.class))).thenAnswer(invocation -> {
+      if (submits.incrementAndGet() == 2) {
+        throw new RejectedExecutionException("queue full");
+      }
+      FutureTask<?> task = new FutureTask<>(invocation.<Callable<?>>getArgument(0));
+      task.run();
+      return task;
+    });
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.triggerWorkflow(any(WorkflowEngineRequest.class), any()))
+        .thenReturn(triggerWorkflowResponse);
+    final ArgumentCaptor<List<WorkflowRun>> workflowRunsCaptor = ArgumentCaptor.forClass(List.class);
+    when(workflowRunRepository.saveWorkflowRuns(workflowRunsCaptor.capture()))
+        .thenAnswer(invocation -> invocation.<List<WorkflowRun>>getArgument(0).stream()
+            .map(workflowRun -> WorkflowRunSaveResult.builder().runId(workflowRun.getRunId())
+                .workflowRun(workflowRun).build())
+            .toList());
+
+    //when
+    final TriggerWorkflowBatchResponse response =
+        workflowRunService.triggerWorkflows(WORKFLOW_NAME, batchRequest);
+
+    //then
+    verify(workflowEngineService, times(2)).triggerWorkflow(any(WorkflowEngineRequest.class), any());
+    assertThat(workflowRunsCaptor.getValue().stream().map(WorkflowRun::getRunId).toList(),
+        equalTo(Arrays.asList("run-1", "run-3")));
+    assertThat(response.getSucceeded(), equalTo(2));
+    List<TriggerWorkflowBatchItemResponse> results = response.getResults();
+    assertThat(results.get(0).getCode(), equalTo(200));
+    assertThat(results.get(1).getCode(), equalTo(503));
+    assertThat(results.get(1).getRunId(), equalTo("run-2"));
+    assertThat(results.get(2).getCode(), equalTo(400));
+    assertThat(results.get(3).getCode(), equalTo(200));
+  }
+
+  @Test
+  void testTriggerWorkflowsWhenBatchIsTooLarge() throws Exception {
+    //given
+    final TriggerWorkflowBatchRequest batchRequest = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_BATCH_REQUEST_DATA, TriggerWorkflowBatchRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(2);
+
+    //when and then
+    AppException exception = Assertions.assertThrows(AppException.class,
+        () -> workflowRunService.triggerWorkflows(WORKFLOW_NAME, batchRequest));
+    assertThat(exception.getError().getCode(), equalTo(400));
+    verify(workflowMetadataRepository, never()).getWorkflow(any());
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+  }
+
+  @Test
+  void testSubmitWorkflowDispatchesTriggerInBackground() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowResponse triggerWorkflowResponse = OBJECT_MAPPER
+        .readValue(WORKFLOW_TRIGGER_RESPONSE, TriggerWorkflowResponse.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    submittedWorkflowRun.setWorkflowEngineExecutionDate(null);
+    when(workflowRunDispatcher.isEnabled()).thenReturn(true);
+    when(dispatchConfig.getMaxAttempts()).thenReturn(3);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(dpsHeaders.getAuthorization()).thenReturn(AUTH_TOKEN);
+    when(dpsHeaders.getCorrelationId()).thenReturn(CORRELATION_ID);
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor.forClass(WorkflowRun.class);
+    when(workflowRunRepository.saveWorkflowRun(workflowRunArgumentCaptor.capture()))
+        .thenReturn(submittedWorkflowRun);
+    when(workflowRunRepository.getWorkflowRun(WORKFLOW_NAME, RUN_ID)).thenReturn(submittedWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.triggerWorkflow(any(WorkflowEngineRequest.class),
+        eq(createWorkflowPayload(RUN_ID, request)))).thenReturn(triggerWorkflowResponse);
+    final ArgumentCaptor<Runnable> dispatchArgumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    //when
+    final WorkflowRunResponse response = workflowRunService.submitWorkflow(WORKFLOW_NAME, request);
+
+    //then
+    verify(workflowRunDispatcher).dispatch(eq(RUN_ID), dispatchArgumentCaptor.capture(), any(Runnable.class));
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+    assertThat(response.getStatus(), equalTo(WorkflowStatusType.SUBMITTED));
+    assertThat(workflowRunArgumentCaptor.getValue().getWorkflowEngineExecutionDate(), equalTo(null));
+    assertThat(workflowRunArgumentCaptor.getValue().getDispatchPending(), equalTo(true));
+    verify(statusPublisher).publishStatusWithNoErrors(eq(RUN_ID), any(DpsHeaders.class), any(String.class), any(Status.class));
+
+    dispatchArgumentCaptor.getValue().run();
+
+    verify(workflowEngineService).triggerWorkflow(any(WorkflowEngineRequest.class),
+        eq(createWorkflowPayload(RUN_ID, request)));
+    verify(workflowRunRepository).updateWorkflowRun(submittedWorkflowRun);
+    assertThat(submittedWorkflowRun.getWorkflowEngineExecutionDate(), equalTo(EXECUTION_DATE));
+    assertThat(submittedWorkflowRun.getDispatchPending(), equalTo(null));
+    verify(workflowRunDispatcher, never()).recordFailedDispatch();
+  }
+
+  @Test
+  void testSubmitWorkflowMarksRunFailedWhenShutdownDropsIt() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    when(workflowRunDispatcher.isEnabled()).thenReturn(true);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+    when(workflowRunRepository.saveWorkflowRun(any(WorkflowRun.class))).thenReturn(submittedWorkflowRun);
+    final ArgumentCaptor<Runnable> droppedArgumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor.forClass(WorkflowRun.class);
+
+    //when
+    workflowRunService.submitWorkflow(WORKFLOW_NAME, request);
+    verify(workflowRunDispatcher).dispatch(eq(RUN_ID), any(Runnable.class), droppedArgumentCaptor.capture());
+    droppedArgumentCaptor.getValue().run();
+
+    //then
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+    verify(workflowRunRepository).updateWorkflowRun(workflowRunArgumentCaptor.capture());
+    assertThat(workflowRunArgumentCaptor.getValue().getStatus(), equalTo(WorkflowStatusType.FAILED));
+  }
+
+  @Test
+  void testSubmitWorkflowMarksRunFailedWhenDispatchKeepsFailing() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    when(workflowRunDispatcher.isEnabled()).thenReturn(true);
+    when(dispatchConfig.getMaxAttempts()).thenReturn(2);
+    when(dispatchConfig.getRetryBackoffMillis()).thenReturn(0L);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+    when(workflowRunRepository.saveWorkflowRun(any(WorkflowRun.class))).thenReturn(submittedWorkflowRun);
+    when(workflowRunRepository.getWorkflowRun(WORKFLOW_NAME, RUN_ID)).thenReturn(submittedWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.triggerWorkflow(any(WorkflowEngineRequest.class), any()))
+        .thenThrow(new AppException(502, "Bad Gateway", "Airflow is unavailable"));
+    final ArgumentCaptor<Runnable> dispatchArgumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor.forClass(WorkflowRun.class);
+
+    //when
+    workflowRunService.submitWorkflow(WORKFLOW_NAME, request);
+    verify(workflowRunDispatcher).dispatch(eq(RUN_ID), dispatchArgumentCaptor.capture(), any(Runnable.class));
+    dispatchArgumentCaptor.getValue().run();
+
+    //then
+    verify(workflowEngineService, times(2)).triggerWorkflow(any(WorkflowEngineRequest.class), any());
+    verify(workflowRunDispatcher).recordFailedDispatch();
+    verify(workflowRunRepository).updateWorkflowRun(workflowRunArgumentCaptor.capture());
+    assertThat(workflowRunArgumentCaptor.getValue().getStatus(), equalTo(WorkflowStatusType.FAILED));
+    verify(statusPublisher).publishStatusWithUnexpectedErrors(eq(RUN_ID), any(DpsHeaders.class), any(String.class), any(Status.class));
+  }
+
+  @Test
+  void testSubmitWorkflowMarksRunFailedWhenQueueRejectsIt() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final TriggerWorkflowRequest request =
+        OBJECT_MAPPER.readValue(WORKFLOW_TRIGGER_REQUEST_DATA, TriggerWorkflowRequest.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    when(workflowRunDispatcher.isEnabled()).thenReturn(true);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.saveWorkflowRun(any(WorkflowRun.class))).thenReturn(submittedWorkflowRun);
+    doThrow(new AppException(503, "Service Unavailable", "Workflow run dispatch queue is full"))
+        .when(workflowRunDispatcher).dispatch(eq(RUN_ID), any(Runnable.class), any(Runnable.class));
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor.forClass(WorkflowRun.class);
+
+    //when
+    AppException exception = Assertions.assertThrows(AppException.class,
+        () -> workflowRunService.submitWorkflow(WORKFLOW_NAME, request));
+
+    //then
+    assertThat(exception.getError().getCode(), equalTo(503));
+    verify(workflowRunRepository).updateWorkflowRun(workflowRunArgumentCaptor.capture());
+    assertThat(workflowRunArgumentCaptor.getValue().getStatus(), equalTo(WorkflowStatusType.FAILED));
+    verify(workflowEngineService, never()).triggerWorkflow(any(), any());
+  }
+
   @Test
   void testGetWorkflowRunByIdWhenExistingWorkflowRunFinished() throws Exception {
     //given
@@ -384,6 +827,25 @@ class WorkflowRunServiceTest {
         equalTo(WorkflowStatusType.FINISHED));
   }
 
+  @Test
+  void testGetWorkflowRunByIdSkipsEngineWhileRunAwaitsDispatch() throws Exception {
+    //given
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    submittedWorkflowRun.setDispatchPending(true);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(submittedWorkflowRun);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse = workflowRunService.
+        getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(workflowEngineService, never()).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    verify(workflowRunRepository, never()).updateWorkflowRun(any(WorkflowRun.class));
+    assertThat(returnedWorkflowRunResponse.getStatus(), equalTo(WorkflowStatusType.SUBMITTED));
+  }
+
   @Test
   void testGetWorkflowRunByIdWhenExistingWorkflowRunRunning() throws Exception {
     //given
@@ -439,6 +901,189 @@ class WorkflowRunServiceTest {
         equalTo(WorkflowStatusType.RUNNING));
   }
 
+  @Test
+  void testGetWorkflowRunByIdAsyncAppliesStatusWhenEngineAnswers() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER
+        .readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final CompletableFuture<WorkflowStatusType> engineStatus = new CompletableFuture<>();
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(submittedWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatusAsync(any(WorkflowEngineRequest.class)))
+        .thenReturn(engineStatus);
+    when(workflowRunRepository.updateWorkflowRun(any(WorkflowRun.class))).thenReturn(runningWorkflowRun);
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+
+    //when
+    final CompletableFuture<WorkflowRunResponse> returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByNameAsync(WORKFLOW_NAME, RUN_ID, null);
+
+    //then
+    assertThat(returnedWorkflowRunResponse.isDone(), equalTo(false));
+    verify(workflowRunRepository, never()).updateWorkflowRun(any(WorkflowRun.class));
+    engineStatus.complete(WorkflowStatusType.RUNNING);
+    assertThat(returnedWorkflowRunResponse.join(), equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+    verify(workflowEngineService, never()).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    verify(workflowRunRepository).updateWorkflowRun(any(WorkflowRun.class));
+    verify(completedWorkflowRunCache).put(runningWorkflowRun);
+  }
+
+  @Test
+  void testConcurrentGetWorkflowRunByIdSharesOneStatusRefresh() throws Exception {
+    //given
+    final int callers = 16;
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun submittedWorkflowRun = OBJECT_MAPPER
+        .readValue(SUBMITTED_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER
+        .readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final CountDownLatch engineEntered = new CountDownLatch(1);
+    final CountDownLatch releaseEngine = new CountDownLatch(1);
+    final AtomicInteger engineCalls = new AtomicInteger();
+
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(submittedWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenAnswer(invocation -> {
+          engineCalls.incrementAndGet();
+          engineEntered.countDown();
+          releaseEngine.await(10, TimeUnit.SECONDS);
+          return WorkflowStatusType.RUNNING;
+        });
+    when(workflowRunRepository.updateWorkflowRun(any(WorkflowRun.class)))
+        .thenReturn(runningWorkflowRun);
+
+    //when
+    final List<WorkflowRunResponse> responses = Collections.synchronizedList(new ArrayList<>());
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < callers; i++) {
+      Thread thread = new Thread(() ->
+          responses.add(workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID)));
+      threads.add(thread);
+      thread.start();
+    }
+    assertThat(engineEntered.await(10, TimeUnit.SECONDS), equalTo(true));
+    // every caller is parked either in the engine call or waiting for its result
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING
+        && thread.getState() != Thread.State.TIMED_WAITING)
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    releaseEngine.countDown();
+    for (Thread thread : threads) {
+      thread.join(10_000);
+    }
+
+    //then
+    assertThat(engineCalls.get(), equalTo(1));
+    verify(workflowRunRepository).updateWorkflowRun(any(WorkflowRun.class));
+    assertThat(responses.size(), equalTo(callers));
+    responses.forEach(response ->
+        assertThat(response, equalTo(buildWorkflowRunResponse(runningWorkflowRun))));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdSkipsEngineWhenStatusCheckedWithinMaxStaleness() throws Exception {
+    //given
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER
+        .readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setLastStatusCheckTimestamp(System.currentTimeMillis() - 5_000);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(runningWorkflowRun);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID, 30L);
+
+    //then
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+    verify(workflowRunRepository, never()).updateWorkflowRun(any(WorkflowRun.class));
+  }
+
+  @Test
+  void testPollWorkflowRunCallsEngineOnlyWhenStatusIsOlderThanBudget() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER
+        .readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setLastStatusCheckTimestamp(System.currentTimeMillis() - 500);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(runningWorkflowRun);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatusAsync(any(WorkflowEngineRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(WorkflowStatusType.RUNNING));
+    when(workflowRunRepository.updateWorkflowRun(any(WorkflowRun.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.DATA_PARTITION_ID, PARTITION_ID));
+
+    //when
+    workflowRunService.pollWorkflowRunAsync(WORKFLOW_NAME, RUN_ID, 10_000).join();
+    workflowRunService.pollWorkflowRunAsync(WORKFLOW_NAME, RUN_ID, 100).join();
+
+    //then
+    verify(workflowEngineService, times(1)).getWorkflowRunStatusAsync(any(WorkflowEngineRequest.class));
+    verify(workflowRunRepository, times(1)).updateWorkflowRun(any(WorkflowRun.class));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdUsesDefaultMaxStalenessAndRecordsUnchangedCheck() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER
+        .readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER
+        .readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final long lastCheck = System.currentTimeMillis() - 60_000;
+    runningWorkflowRun.setLastStatusCheckTimestamp(lastCheck);
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor
+        .forClass(WorkflowRun.class);
+    when(statusConfig.getDefaultMaxStalenessSeconds()).thenReturn(30L);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(runningWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata))
+        .thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenReturn(WorkflowStatusType.RUNNING);
+    when(workflowRunRepository.updateWorkflowRun(workflowRunArgumentCaptor.capture()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(workflowEngineService).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    assertThat(returnedWorkflowRunResponse.getStatus(), equalTo(WorkflowStatusType.RUNNING));
+    WorkflowRun updatedWorkflowRun = workflowRunArgumentCaptor.getValue();
+    assertThat(updatedWorkflowRun.getStatus(), equalTo(WorkflowStatusType.RUNNING));
+    assertThat(updatedWorkflowRun.getLastStatusCheckTimestamp() > lastCheck, equalTo(true));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdRejectsNegativeMaxStaleness() {
+    AppException exception = Assertions.assertThrows(AppException.class, () ->
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID, -1L));
+
+    assertThat(exception.getError().getCode(), equalTo(400));
+    verify(workflowRunRepository, never()).getWorkflowRun(any(), any());
+  }
+
   @Test
   public void testGetWorkflowRunByIdWhenWorkflowRunStatusUpToDate() throws Exception {
     //given
@@ -490,6 +1135,36 @@ class WorkflowRunServiceTest {
 	  assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(finishedWorkflowRun)));
   }
 
+  @Test
+  void testGetWorkflowRunByIdServedFromCompletedRunCache() throws Exception {
+    //given
+    final WorkflowRun finishedWorkflowRun = OBJECT_MAPPER.readValue(FINISHED_WORKFLOW_RUN, WorkflowRun.class);
+    when(completedWorkflowRunCache.get(eq(WORKFLOW_NAME), eq(finishedWorkflowRun.getRunId())))
+        .thenReturn(Optional.of(finishedWorkflowRun));
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, finishedWorkflowRun.getRunId());
+
+    //then
+    verify(workflowRunRepository, never()).getWorkflowRun(any(), any());
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(finishedWorkflowRun)));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdCachesRunReadFromRepository() throws Exception {
+    //given
+    final WorkflowRun finishedWorkflowRun = OBJECT_MAPPER.readValue(FINISHED_WORKFLOW_RUN, WorkflowRun.class);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(finishedWorkflowRun.getRunId())))
+        .thenReturn(finishedWorkflowRun);
+
+    //when
+    workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, finishedWorkflowRun.getRunId());
+
+    //then
+    verify(completedWorkflowRunCache).put(finishedWorkflowRun);
+  }
+
   @Test
   void testGetWorkflowRunByIdWhenNonExistingWorkflowRun() {
     //given
@@ -503,6 +1178,286 @@ class WorkflowRunServiceTest {
     verify(workflowRunRepository).getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID));
   }
 
+  @Test
+  void testGetWorkflowRunByIdWhenPartitionRecentlyReconciled() throws Exception {
+    //given
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(runningWorkflowRun);
+    when(reconcilerConfig.isEnabled()).thenReturn(true);
+    when(reconcilerConfig.getStalenessSeconds()).thenReturn(120L);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(sweepCoordinator.getLastCompletedSweep(PARTITION_ID))
+        .thenReturn(System.currentTimeMillis() - 1000);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+    verify(workflowRunRepository, never()).updateWorkflowRun(any(WorkflowRun.class));
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdWhenPartitionReconciliationIsStale() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID)))
+        .thenReturn(runningWorkflowRun);
+    when(reconcilerConfig.isEnabled()).thenReturn(true);
+    when(reconcilerConfig.getStalenessSeconds()).thenReturn(120L);
+    when(dpsHeaders.getPartitionId()).thenReturn(PARTITION_ID);
+    when(sweepCoordinator.getLastCompletedSweep(PARTITION_ID))
+        .thenReturn(System.currentTimeMillis() - 600_000);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenReturn(WorkflowStatusType.RUNNING);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(workflowEngineService).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+  }
+
+  @Test
+  void testGetWorkflowRunsKeepsRequestOrderAndReportsMissingRuns() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun finishedWorkflowRun = OBJECT_MAPPER.readValue(FINISHED_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRunBatchGetRequest request = OBJECT_MAPPER.readValue(
+        "{\"runIds\": [\"missing-run\", \"" + finishedWorkflowRun.getRunId() + "\", \"missing-run\"]}", WorkflowRunBatchGetRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRuns(eq(WORKFLOW_NAME), eq(Arrays.asList("missing-run", finishedWorkflowRun.getRunId()))))
+        .thenReturn(Collections.singletonList(finishedWorkflowRun));
+
+    //when
+    final WorkflowRunBatchGetResponse response = workflowRunService.getWorkflowRuns(WORKFLOW_NAME, request, true);
+
+    //then
+    assertThat(response.getWorkflowRuns(), equalTo(Collections.singletonList(buildWorkflowRunResponse(finishedWorkflowRun))));
+    assertThat(response.getNotFound(), equalTo(Collections.singletonList("missing-run")));
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+  }
+
+  @Test
+  void testGetWorkflowRunsWhenBatchIsTooLarge() throws Exception {
+    //given
+    final WorkflowRunBatchGetRequest request = OBJECT_MAPPER.readValue(
+        "{\"runIds\": [\"run-1\", \"run-2\", \"run-3\"]}", WorkflowRunBatchGetRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(2);
+
+    //when and then
+    AppException exception = Assertions.assertThrows(AppException.class,
+        () -> workflowRunService.getWorkflowRuns(WORKFLOW_NAME, request, false));
+    assertThat(exception.getError().getCode(), equalTo(400));
+    verify(workflowRunRepository, never()).getWorkflowRuns(any(), any());
+  }
+
+  @Test
+  void testGetWorkflowRunsAppliesBulkStatusesFromEngine() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRunBatchGetRequest request = OBJECT_MAPPER.readValue(
+        "{\"runIds\": [\"" + runningWorkflowRun.getRunId() + "\"]}", WorkflowRunBatchGetRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRuns(eq(WORKFLOW_NAME), any()))
+        .thenReturn(Collections.singletonList(runningWorkflowRun));
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatuses(any()))
+        .thenReturn(Collections.singletonMap(runningWorkflowRun.getRunId(), WorkflowStatusType.FINISHED));
+    when(workflowRunRepository.updateWorkflowRun(any(WorkflowRun.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    final WorkflowRunBatchGetResponse response = workflowRunService.getWorkflowRuns(WORKFLOW_NAME, request, true);
+
+    //then
+    verify(workflowEngineService, never()).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    verify(workflowRunBatchExecutor, never()).submit(any(Callable.class));
+    assertThat(response.getWorkflowRuns().get(0).getStatus(), equalTo(WorkflowStatusType.FINISHED));
+    assertThat(response.getNotFound().isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void testGetWorkflowRunsRefreshesRunsUnresolvedInBulkOneByOne() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRunBatchGetRequest request = OBJECT_MAPPER.readValue(
+        "{\"runIds\": [\"" + runningWorkflowRun.getRunId() + "\"]}", WorkflowRunBatchGetRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRuns(eq(WORKFLOW_NAME), any()))
+        .thenReturn(Collections.singletonList(runningWorkflowRun));
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatuses(any())).thenReturn(Collections.emptyMap());
+    when(workflowRunBatchExecutor.submit(any(Callable.class))).thenAnswer(invocation -> {
+      FutureTask<?> task = new FutureTask<>(invocation.<Callable<?>>getArgument(0));
+      task.run();
+      return task;
+    });
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenReturn(WorkflowStatusType.FAILED);
+    when(workflowRunRepository.updateWorkflowRun(any(WorkflowRun.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    final WorkflowRunBatchGetResponse response = workflowRunService.getWorkflowRuns(WORKFLOW_NAME, request, true);
+
+    //then
+    verify(workflowEngineService).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+    assertThat(response.getWorkflowRuns().get(0).getStatus(), equalTo(WorkflowStatusType.FAILED));
+  }
+
+  @Test
+  void testUpdateWorkflowRunStatusesAppliesReportedStatuses() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRunStatusCallbackRequest request = OBJECT_MAPPER.readValue(
+        "{\"workflowRuns\": [{\"runId\": \"" + runningWorkflowRun.getRunId()
+            + "\", \"status\": \"finished\", \"endTimeStamp\": 1236400}, "
+            + "{\"runId\": \"missing-run\", \"status\": \"failed\"}, {\"status\": \"failed\"}]}",
+        WorkflowRunStatusCallbackRequest.class);
+    final ArgumentCaptor<WorkflowRun> workflowRunArgumentCaptor = ArgumentCaptor.forClass(WorkflowRun.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRuns(eq(WORKFLOW_NAME),
+        eq(Arrays.asList(runningWorkflowRun.getRunId(), "missing-run"))))
+        .thenReturn(Collections.singletonList(runningWorkflowRun));
+    when(workflowRunRepository.updateWorkflowRun(workflowRunArgumentCaptor.capture()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    final WorkflowRunStatusCallbackResponse response =
+        workflowRunService.updateWorkflowRunStatuses(WORKFLOW_NAME, request);
+
+    //then
+    assertThat(response.getSucceeded(), equalTo(1));
+    assertThat(response.getFailed(), equalTo(2));
+    assertThat(response.getResults().get(0).getWorkflowRun().getStatus(), equalTo(WorkflowStatusType.FINISHED));
+    assertThat(response.getResults().get(1).getCode(), equalTo(404));
+    assertThat(response.getResults().get(2).getCode(), equalTo(400));
+    final WorkflowRun updatedWorkflowRun = workflowRunArgumentCaptor.getValue();
+    assertThat(updatedWorkflowRun.getEndTimeStamp(), equalTo(1236400L));
+    assertThat(updatedWorkflowRun.getStatusCallbackTimestamp() != null, equalTo(true));
+    verify(statusPublisher).publishStatusWithNoErrors(eq(runningWorkflowRun.getRunId()), any(DpsHeaders.class),
+        any(String.class), any(Status.class));
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+  }
+
+  @Test
+  void testUpdateWorkflowRunStatusesKeepsStatusOfCompletedRun() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun finishedWorkflowRun = OBJECT_MAPPER.readValue(FINISHED_WORKFLOW_RUN, WorkflowRun.class);
+    final WorkflowRunStatusCallbackRequest request = OBJECT_MAPPER.readValue(
+        "{\"workflowRuns\": [{\"runId\": \"" + finishedWorkflowRun.getRunId() + "\", \"status\": \"failed\"}, "
+            + "{\"runId\": \"" + finishedWorkflowRun.getRunId() + "\", \"status\": \"finished\"}]}",
+        WorkflowRunStatusCallbackRequest.class);
+    when(batchConfig.getMaxSize()).thenReturn(10);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRuns(eq(WORKFLOW_NAME), any()))
+        .thenReturn(Collections.singletonList(finishedWorkflowRun));
+
+    //when
+    final WorkflowRunStatusCallbackResponse response =
+        workflowRunService.updateWorkflowRunStatuses(WORKFLOW_NAME, request);
+
+    //then
+    assertThat(response.getResults().get(0).getCode(), equalTo(409));
+    assertThat(response.getResults().get(1).getCode(), equalTo(400));
+    verify(workflowRunRepository, never()).updateWorkflowRun(any(WorkflowRun.class));
+    verify(statusPublisher, never()).publishStatusWithUnexpectedErrors(any(), any(DpsHeaders.class),
+        any(String.class), any(Status.class));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdSkipsEngineWhenStatusReportedByCallback() throws Exception {
+    //given
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setStatusCallbackTimestamp(System.currentTimeMillis() - 5_000);
+    when(statusConfig.getCallbackTrustSeconds()).thenReturn(3600L);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID))).thenReturn(runningWorkflowRun);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdChecksEngineWhenReportedStatusIsNoLongerTrusted() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setStatusCallbackTimestamp(System.currentTimeMillis() - 7_200_000);
+    when(statusConfig.getCallbackTrustSeconds()).thenReturn(3600L);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID))).thenReturn(runningWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenReturn(WorkflowStatusType.RUNNING);
+
+    //when
+    workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(workflowEngineService).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdChecksEngineWhenCallbackTrustIsDisabled() throws Exception {
+    //given
+    final WorkflowMetadata workflowMetadata = OBJECT_MAPPER.readValue(WORKFLOW_METADATA, WorkflowMetadata.class);
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setStatusCallbackTimestamp(System.currentTimeMillis() - 1_000);
+    when(statusConfig.getCallbackTrustSeconds()).thenReturn(0L);
+    when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID))).thenReturn(runningWorkflowRun);
+    when(airflowResolver.getWorkflowEngineService(workflowMetadata)).thenReturn(workflowEngineService);
+    when(workflowEngineService.getWorkflowRunStatus(any(WorkflowEngineRequest.class)))
+        .thenReturn(WorkflowStatusType.RUNNING);
+
+    //when
+    workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    verify(workflowEngineService).getWorkflowRunStatus(any(WorkflowEngineRequest.class));
+  }
+
+  @Test
+  void testGetWorkflowRunByIdTrustsCallbackWithoutLimit() throws Exception {
+    //given
+    final WorkflowRun runningWorkflowRun = OBJECT_MAPPER.readValue(RUNNING_WORKFLOW_RUN, WorkflowRun.class);
+    runningWorkflowRun.setStatusCallbackTimestamp(System.currentTimeMillis() - 30L * 24 * 3_600_000);
+    when(statusConfig.getCallbackTrustSeconds()).thenReturn(-1L);
+    when(workflowRunRepository.getWorkflowRun(eq(WORKFLOW_NAME), eq(RUN_ID))).thenReturn(runningWorkflowRun);
+
+    //when
+    final WorkflowRunResponse returnedWorkflowRunResponse =
+        workflowRunService.getWorkflowRunByName(WORKFLOW_NAME, RUN_ID);
+
+    //then
+    assertThat(returnedWorkflowRunResponse, equalTo(buildWorkflowRunResponse(runningWorkflowRun)));
+    verify(airflowResolver, never()).getWorkflowEngineService(any(WorkflowMetadata.class));
+  }
+
   @Test
   public void testUpdateWorkflowRunStatusRunningWithExistingWorkflowRun() throws Exception {
     //given
@@ -582,18 +1537,22 @@ class WorkflowRunServiceTest {
     ArgumentCaptor<List<String>> runIdListCaptor = ArgumentCaptor.forClass(List.class);
     doNothing().when(workflowRunRepository).deleteWorkflowRuns(eq(WORKFLOW_NAME),
         runIdListCaptor.capture());
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
 
     //when
     workflowRunService.deleteWorkflowRunsByWorkflowName(WORKFLOW_NAME);
 
     //then
-    verify(workflowRunRepository)
+    verify(workflowRunRepository, times(2))
         .getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null));
     verify(workflowRunRepository).deleteWorkflowRuns(eq(WORKFLOW_NAME), any(List.class));
     List<String> capturedRunIds = runIdListCaptor.getValue();
     for (String capturedRunId : capturedRunIds) {
       Assertions.assertEquals(finishedWorkflowRun.getRunId(), capturedRunId);
     }
+    assertThat(meterRegistry.counter("workflow.run.delete.deleted").count(), equalTo(2.0));
+    verify(completedWorkflowRunCache).invalidateWorkflow(WORKFLOW_NAME);
   }
 
   @Test
@@ -614,9 +1573,6 @@ class WorkflowRunServiceTest {
     when(workflowRunRepository.getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null)))
         .thenReturn(new WorkflowRunsPage(Arrays.asList(finishedWorkflowRun, submittedWorkflowRun),
             TEST_CURSOR));
-    when(workflowRunRepository.getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(),
-        eq(TEST_CURSOR))).thenReturn(new WorkflowRunsPage(Arrays.asList(submittedWorkflowRun),
-        null));
     when(workflowMetadataRepository.getWorkflow(eq(WORKFLOW_NAME))).thenReturn(workflowMetadata);
     when(workflowEngineService.getWorkflowRunStatus(requestArgumentCaptor.capture()))
         .thenReturn(WorkflowStatusType.RUNNING);
@@ -638,7 +1594,7 @@ class WorkflowRunServiceTest {
     Assertions.assertTrue(isExceptionThrown);
 
     verify(workflowRunRepository).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null));
-    verify(workflowRunRepository).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(),
+    verify(workflowRunRepository, never()).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(),
         eq(TEST_CURSOR));
     verify(workflowRunRepository, times(0)).deleteWorkflowRuns(eq(WORKFLOW_NAME), any(List.class));
     verify(workflowMetadataRepository).getWorkflow(eq(WORKFLOW_NAME));
@@ -690,15 +1646,16 @@ class WorkflowRunServiceTest {
         runIdListCaptor.capture());
     when(airflowResolver.getWorkflowEngineService(workflowMetadata))
         .thenReturn(workflowEngineService);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
 
     //when
     workflowRunService.deleteWorkflowRunsByWorkflowName(WORKFLOW_NAME);
 
     //then
-    verify(workflowRunRepository).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null));
-    verify(workflowRunRepository).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(),
+    verify(workflowRunRepository, times(2)).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null));
+    verify(workflowRunRepository, times(2)).getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(),
         eq(TEST_CURSOR));
-    verify(workflowRunRepository).deleteWorkflowRuns(eq(WORKFLOW_NAME), any(List.class));
+    verify(workflowRunRepository, times(2)).deleteWorkflowRuns(eq(WORKFLOW_NAME), any(List.class));
     verify(workflowMetadataRepository, times(2)).getWorkflow(eq(WORKFLOW_NAME));
     verify(workflowEngineService, times(2))
         .getWorkflowRunStatus(any(WorkflowEngineRequest.class));
@@ -729,12 +1686,13 @@ class WorkflowRunServiceTest {
     //given
     when(workflowRunRepository.getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null)))
         .thenReturn(new WorkflowRunsPage(new ArrayList<>(), null));
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
 
     //when
     workflowRunService.deleteWorkflowRunsByWorkflowName(WORKFLOW_NAME);
 
     //then
-    verify(workflowRunRepository)
+    verify(workflowRunRepository, times(2))
         .getWorkflowRunsByWorkflowName(eq(WORKFLOW_NAME), anyInt(), eq(null));
     verify(workflowRunRepository, times(0)).deleteWorkflowRuns(eq(WORKFLOW_NAME), any(List.class));
   }
@@ -777,12 +1735,12 @@ class WorkflowRunServiceTest {
 
   private Map<String, Object> createWorkflowPayload(final String runId,
                                                     final TriggerWorkflowRequest request) {
-    final Map<String, Object> executionContext = request.getExecutionContext();
+    final ObjectNode executionContext = request.getExecutionContext();
     executionContext.put(KEY_USER_ID, USER_ID);
     final Map<String, Object> payload = new HashMap<>();
     payload.put(KEY_RUN_ID, runId);
     payload.put(KEY_AUTH_TOKEN, AUTH_TOKEN);
-    payload.put(KEY_EXECUTION_CONTEXT, OBJECT_MAPPER.convertValue(executionContext, Map.class));
+    payload.put(KEY_EXECUTION_CONTEXT, executionContext);
     payload.put(KEY_WORKFLOW_NAME, WORKFLOW_NAME);
     payload.put(KEY_CORRELATION_ID, CORRELATION_ID);
     return payload;
@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.aws.util.dynamodb.converters;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.workflow.model.WorkflowMetadata;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion between the workflow models and the DynamoDB documents, done on every repository
+ * read and write of the AWS provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowDocConverterBenchmark {
+
+  private static final String DATA_PARTITION_ID = "opendes";
+
+  private WorkflowRun workflowRun;
+  private WorkflowRunDoc workflowRunDoc;
+  private WorkflowMetadata workflowMetadata;
+  private WorkflowMetadataDoc workflowMetadataDoc;
+
+  @Setup
+  public void setUp() {
+    long now = System.currentTimeMillis();
+    workflowRun = WorkflowRun.builder()
+        .workflowId(UUID.randomUUID().toString())
+        .workflowName("benchmark_workflow")
+        .runId(UUID.randomUUID().toString())
+        .startTimeStamp(now)
+        .status(WorkflowStatusType.RUNNING)
+        .submittedBy("benchmark@example.com")
+        .workflowEngineExecutionDate("2025-01-01T00:00:00+00:00")
+        .lastStatusCheckTimestamp(now)
+        .build();
+    workflowRunDoc = WorkflowRunDoc.create(workflowRun, DATA_PARTITION_ID);
+    workflowMetadata = WorkflowMetadata.builder()
+        .workflowId(UUID.randomUUID().toString())
+        .workflowName("benchmark_workflow")
+        .description("Workflow used by the microbenchmarks")
+        .createdBy("benchmark@example.com")
+        .creationTimestamp(now)
+        .version(now)
+        .build();
+    workflowMetadataDoc = WorkflowMetadataDoc.create(workflowMetadata, DATA_PARTITION_ID);
+  }
+
+  @Benchmark
+  public WorkflowRunDoc createWorkflowRunDoc() {
+    return WorkflowRunDoc.create(workflowRun, DATA_PARTITION_ID);
+  }
+
+  @Benchmark
+  public WorkflowRun convertToWorkflowRun() {
+    return workflowRunDoc.convertToWorkflowRun();
+  }
+
+  @Benchmark
+  public WorkflowMetadataDoc createWorkflowMetadataDoc() {
+    return WorkflowMetadataDoc.create(workflowMetadata, DATA_PARTITION_ID);
+  }
+
+  @Benchmark
+  public WorkflowMetadata convertToWorkflowMetadata() {
+    return workflowMetadataDoc.convertToWorkflowMetadata();
+  }
+}
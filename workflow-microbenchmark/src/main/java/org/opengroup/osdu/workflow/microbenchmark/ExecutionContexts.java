@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.microbenchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution contexts of the sizes sent by clients: a few settings, or a manifest with records
+ * as sent by manifest based ingestion.
+ */
+public final class ExecutionContexts {
+
+  public static final String SMALL = "small";
+  public static final String MANIFEST = "manifest";
+
+  private static final int MANIFEST_RECORDS = 50;
+
+  private ExecutionContexts() {
+  }
+
+  public static Map<String, Object> create(String size) {
+    Map<String, Object> context = new LinkedHashMap<>();
+    context.put("Payload", Map.of("AppKey", "benchmark", "data-partition-id", "opendes"));
+    context.put("id", "opendes:dataset--File.Generic:benchmark");
+    context.put("kind", "osdu:wks:dataset--File.Generic:1.0.0");
+    if (MANIFEST.equals(size)) {
+      context.put("manifest", manifest());
+    } else if (!SMALL.equals(size)) {
+      throw new IllegalArgumentException("Unknown execution context size: " + size);
+    }
+    return context;
+  }
+
+  private static Map<String, Object> manifest() {
+    List<Object> records = new ArrayList<>();
+    for (int i = 0; i < MANIFEST_RECORDS; i++) {
+      Map<String, Object> data = new LinkedHashMap<>();
+      data.put("FacilityName", "Well " + i);
+      data.put("FacilityID", "well-" + i);
+      data.put("SpatialLocation", Map.of(
+          "Wgs84Coordinates", Map.of(
+              "type", "FeatureCollection",
+              "features", List.of(Map.of(
+                  "type", "Feature",
+                  "geometry", Map.of("type", "Point", "coordinates", List.of(5.98 + i, 58.57)))))));
+      data.put("VerticalMeasurements", List.of(
+          Map.of("VerticalMeasurementID", "KB", "VerticalMeasurement", 25.5 + i),
+          Map.of("VerticalMeasurementID", "GL", "VerticalMeasurement", 0.0)));
+
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("id", "opendes:master-data--Well:" + i);
+      record.put("kind", "osdu:wks:master-data--Well:1.0.0");
+      record.put("acl", Map.of(
+          "viewers", List.of("data.default.viewers@opendes.example.com"),
+          "owners", List.of("data.default.owners@opendes.example.com")));
+      record.put("legal", Map.of(
+          "legaltags", List.of("opendes-public-usa-dataset"),
+          "otherRelevantDataCountries", List.of("US")));
+      record.put("data", data);
+      records.add(record);
+    }
+    Map<String, Object> manifest = new LinkedHashMap<>();
+    manifest.put("kind", "osdu:wks:Manifest:1.0.0");
+    manifest.put("ReferenceData", List.of());
+    manifest.put("MasterData", records);
+    return manifest;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.microbenchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the microbenchmarks with the GC profiler, so that allocation per operation is reported
+ * next to the time per operation, and writes the results as JSON for comparison between runs.
+ * Accepts the usual JMH command line options, e.g. a regular expression selecting benchmarks.
+ */
+public final class WorkflowMicrobenchmarks {
+
+  static final String RESULT_FILE = "target/jmh-result.json";
+
+  private WorkflowMicrobenchmarks() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+        || commandLineOptions.shouldListProfilers()) {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+    Path result = Path.of(commandLineOptions.getResult().orElse(RESULT_FILE)).toAbsolutePath();
+    Files.createDirectories(result.getParent());
+    Options options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+        .result(result.toString())
+        .build();
+    new Runner(options).run();
+  }
+}
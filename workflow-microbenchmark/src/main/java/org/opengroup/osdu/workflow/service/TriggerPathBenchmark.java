@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.workflow.microbenchmark.ExecutionContexts;
+import org.opengroup.osdu.workflow.model.AirflowGetDAGRunStatus;
+import org.opengroup.osdu.workflow.model.TriggerWorkflowRequest;
+import org.opengroup.osdu.workflow.model.WorkflowEngineRequest;
+import org.opengroup.osdu.workflow.util.AirflowResponseReaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per request work of triggering a workflow run and reading its status from Airflow 2, from the
+ * payload built by {@link WorkflowRunServiceImpl} to the body sent to Airflow. Lives in the
+ * service package to reach the protected steps of the trigger path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriggerPathBenchmark {
+
+  private static final String WORKFLOW_NAME = "benchmark_workflow";
+  private static final String DAG_RUN_STATUS = "{\"conf\":{},\"dag_id\":\"benchmark_workflow\","
+      + "\"dag_run_id\":\"7bc2bc3c-3b3b-4bbd-9d0d-f3b4b5a6f9a1\",\"end_date\":null,"
+      + "\"execution_date\":\"2025-01-01T00:00:00.000000+00:00\",\"external_trigger\":true,"
+      + "\"start_date\":\"2025-01-01T00:00:01.000000+00:00\",\"state\":\"running\"}";
+
+  @Param({ExecutionContexts.SMALL, ExecutionContexts.MANIFEST})
+  public String executionContext;
+
+  private WorkflowRunServiceImpl workflowRunService;
+  private AirflowV2WorkflowEngineServiceImpl workflowEngineService;
+  private TriggerWorkflowRequest request;
+  private WorkflowEngineRequest engineRequest;
+  private Map<String, Object> payload;
+  private byte[] dagRunStatusResponse;
+  private String runId;
+
+  @Setup
+  public void setUp() throws Exception {
+    DpsHeaders dpsHeaders = new DpsHeaders();
+    dpsHeaders.put(DpsHeaders.AUTHORIZATION, "Bearer benchmark");
+    dpsHeaders.put(DpsHeaders.USER_EMAIL, "benchmark@example.com");
+    dpsHeaders.put(DpsHeaders.CORRELATION_ID, UUID.randomUUID().toString());
+    // only the request headers are used by the steps under measurement
+    workflowRunService = new WorkflowRunServiceImpl(null, null, null, dpsHeaders, null, null,
+        null, null, null, null, null, null, null, null, null, null);
+    workflowEngineService = new AirflowV2WorkflowEngineServiceImpl(null, dpsHeaders);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("executionContext", ExecutionContexts.create(executionContext));
+    request = objectMapper.readValue(
+        objectMapper.writeValueAsString(body), TriggerWorkflowRequest.class);
+    runId = UUID.randomUUID().toString();
+    engineRequest = WorkflowEngineRequest.builder()
+        .runId(runId)
+        .workflowName(WORKFLOW_NAME)
+        .dagName(WORKFLOW_NAME)
+        .build();
+
+    payload = createWorkflowPayload();
+    dagRunStatusResponse = DAG_RUN_STATUS.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Map<String, Object> createWorkflowPayload() {
+    return workflowRunService.createWorkflowPayload(
+        WORKFLOW_NAME, runId, "correlation-id", request);
+  }
+
+  @Benchmark
+  public String getTriggerWorkflowRequestBody() {
+    return workflowEngineService.getTriggerWorkflowRequestBody(engineRequest, payload);
+  }
+
+  @Benchmark
+  public String triggerRequestBody() {
+    return workflowEngineService.getTriggerWorkflowRequestBody(
+        engineRequest, createWorkflowPayload());
+  }
+
+  @Benchmark
+  public AirflowGetDAGRunStatus getAirflowGetDAGRunStatus() throws IOException {
+    // decoded from a stream, as the response is read from the connection
+    return AirflowResponseReaders.read(new ByteArrayInputStream(dagRunStatusResponse),
+        workflowEngineService::getAirflowGetDAGRunStatus);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.opengroup.osdu.workflow.model.WorkflowRun;
+import org.opengroup.osdu.workflow.model.WorkflowRunResponse;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of a workflow run to the API response and to its updated state after a status change,
+ * done by {@link WorkflowRunServiceImpl} on every run read and status refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowRunMappingBenchmark {
+
+  private WorkflowRunServiceImpl workflowRunService;
+  private WorkflowRun workflowRun;
+
+  @Setup
+  public void setUp() {
+    // the mapping does not use any collaborator of the service
+    workflowRunService = new WorkflowRunServiceImpl(null, null, null, null, null, null,
+        null, null, null, null, null, null, null, null, null, null);
+    long now = System.currentTimeMillis();
+    workflowRun = WorkflowRun.builder()
+        .workflowId(UUID.randomUUID().toString())
+        .workflowName("benchmark_workflow")
+        .runId(UUID.randomUUID().toString())
+        .startTimeStamp(now)
+        .status(WorkflowStatusType.RUNNING)
+        .submittedBy("benchmark@example.com")
+        .workflowEngineExecutionDate("2025-01-01T00:00:00+00:00")
+        .lastStatusCheckTimestamp(now)
+        .build();
+  }
+
+  @Benchmark
+  public WorkflowRunResponse buildWorkflowRunResponse() {
+    return workflowRunService.buildWorkflowRunResponse(workflowRun);
+  }
+
+  @Benchmark
+  public WorkflowRun buildUpdatedWorkflowRun() {
+    return workflowRunService.buildUpdatedWorkflowRun(
+        workflowRun, WorkflowStatusType.FINISHED, System.currentTimeMillis());
+  }
+}
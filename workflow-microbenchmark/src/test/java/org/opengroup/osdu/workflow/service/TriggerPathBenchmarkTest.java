@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2020-2025 Google LLC
+ *  Copyright 2020-2025 EPAM Systems, Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.opengroup.osdu.workflow.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opengroup.osdu.workflow.microbenchmark.ExecutionContexts;
+import org.opengroup.osdu.workflow.model.WorkflowStatusType;
+
+class TriggerPathBenchmarkTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {ExecutionContexts.SMALL, ExecutionContexts.MANIFEST})
+  void shouldRunTriggerPathSteps(String executionContext) throws Exception {
+    TriggerPathBenchmark benchmark = new TriggerPathBenchmark();
+    benchmark.executionContext = executionContext;
+    benchmark.setUp();
+
+    Map<String, Object> payload = benchmark.createWorkflowPayload();
+    JsonNode requestBody = new ObjectMapper().readTree(benchmark.getTriggerWorkflowRequestBody());
+
+    assertFalse(((ObjectNode) payload.get("execution_context")).has("userId"));
+    assertEquals("benchmark@example.com",
+        requestBody.at("/conf/execution_context/userId").asText());
+    assertTrue(requestBody.has("dag_run_id"));
+    assertEquals(benchmark.triggerRequestBody(), benchmark.triggerRequestBody());
+    assertEquals(WorkflowStatusType.RUNNING,
+        benchmark.getAirflowGetDAGRunStatus().getStatusType());
+  }
+}